@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.app"
@@ -47,6 +48,14 @@ dependencies {
     implementation("org.redisson:redisson-spring-boot-starter:3.45.0")
     //Jedis
     implementation("redis.clients:jedis")
+    //Lucene
+    implementation("org.apache.lucene:lucene-core:9.12.0")
+    implementation("org.apache.lucene:lucene-analysis-common:9.12.0")
+    //RoaringBitmap
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+    //Hibernate 2차 캐시(JCache + Ehcache)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.ehcache:ehcache::jakarta")
 
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
@@ -69,6 +78,7 @@ dependencies {
     // monitoring
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("org.hibernate.orm:hibernate-micrometer")
 
     // RabbitMQ
     implementation("org.springframework.boot:spring-boot-starter-amqp")
@@ -89,6 +99,13 @@ dependencies {
     implementation("org.springframework.kafka:spring-kafka")
 }
 
+//JMH
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+}
+
 tasks.withType<Test> {
     useJUnitPlatform {
         val includeTags = project.findProperty("includeTags") as String?
@@ -0,0 +1,87 @@
+package com.app.backend.global.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 정상 상태(캐시 적중)에서의 락 키 생성 비용 측정
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LockKeyGeneratorBenchmark {
+
+    private static final String GROUP_KEY        = "'group:' + #groupId";
+    private static final String GROUP_MEMBER_KEY = "'group:' + #groupId + '-member:' + #memberId";
+
+    private ProceedingJoinPoint groupJoinPoint;
+    private ProceedingJoinPoint groupMemberJoinPoint;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Method modifyGroup  = Target.class.getDeclaredMethod("modifyGroup", Long.class);
+        Method approveGroup = Target.class.getDeclaredMethod("approveJoining", Long.class, Long.class);
+
+        groupJoinPoint = createJoinPoint(modifyGroup, new String[]{"groupId"}, new Object[]{1L});
+        groupMemberJoinPoint = createJoinPoint(approveGroup, new String[]{"groupId", "memberId"}, new Object[]{1L, 2L});
+    }
+
+    @Benchmark
+    public String groupKey() {
+        return LockKeyGenerator.generateLockKey(groupJoinPoint, GROUP_KEY);
+    }
+
+    @Benchmark
+    public String groupMemberKey() {
+        return LockKeyGenerator.generateLockKey(groupMemberJoinPoint, GROUP_MEMBER_KEY);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private static ProceedingJoinPoint createJoinPoint(final Method method,
+                                                       final String[] parameterNames,
+                                                       final Object[] args) {
+        MethodSignature signature = (MethodSignature) Proxy.newProxyInstance(
+                MethodSignature.class.getClassLoader(),
+                new Class<?>[]{MethodSignature.class},
+                (proxy, m, a) -> switch (m.getName()) {
+                    case "getMethod" -> method;
+                    case "getParameterNames" -> parameterNames;
+                    case "getName" -> method.getName();
+                    default -> throw new UnsupportedOperationException(m.getName());
+                }
+        );
+        return (ProceedingJoinPoint) Proxy.newProxyInstance(
+                ProceedingJoinPoint.class.getClassLoader(),
+                new Class<?>[]{ProceedingJoinPoint.class},
+                (proxy, m, a) -> switch (m.getName()) {
+                    case "getSignature" -> signature;
+                    case "getArgs" -> args;
+                    default -> throw new UnsupportedOperationException(m.getName());
+                }
+        );
+    }
+
+    static class Target {
+
+        void modifyGroup(Long groupId) {
+        }
+
+        void approveJoining(Long groupId, Long memberId) {
+        }
+
+    }
+
+}
@@ -1,17 +1,29 @@
 package com.app.backend.domain.category.repository;
 
 import com.app.backend.domain.category.entity.Category;
+import com.app.backend.global.entity.CacheRegion;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     boolean existsByName(String name);
 
     Category findByName(String name);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegion.CATEGORY_QUERY)
+    })
     Page<Category> findByDisabledFalse(Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegion.CATEGORY_QUERY)
+    })
     Optional<Category> findByNameAndDisabled(String name, Boolean disabled);
 }
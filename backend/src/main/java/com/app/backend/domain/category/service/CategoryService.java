@@ -13,6 +13,8 @@ import com.app.backend.domain.category.entity.Category;
 import com.app.backend.domain.category.exception.CategoryErrorCode;
 import com.app.backend.domain.category.exception.CategoryException;
 import com.app.backend.domain.category.repository.CategoryRepository;
+import com.app.backend.global.entity.CacheRegion;
+import com.app.backend.global.util.EntityCacheEvictor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
+	private final EntityCacheEvictor entityCacheEvictor;
 
 	@Transactional
 	public Category create(String name) {
@@ -32,7 +35,10 @@ public class CategoryService {
 			.name(name)
 			.build();
 
-		return categoryRepository.save(category);
+		Category savedCategory = categoryRepository.save(category);
+		entityCacheEvictor.evictQueryRegion(CacheRegion.CATEGORY_QUERY);
+
+		return savedCategory;
 	}
 
 	// 카테고리 목록 페이지로 조회
@@ -80,6 +86,10 @@ public class CategoryService {
 		validateCategoryName(newName); // 입력값 검증
 
 		category.modifyName(newName);
+
+		// 컨트롤러에서 조회한 분리(detached) 엔티티이므로 병합하여 반영
+		categoryRepository.save(category);
+		evictCache(category.getId());
 	}
 
 	@Transactional
@@ -90,5 +100,12 @@ public class CategoryService {
 		category.softDelete();
 
 		categoryRepository.save(category);
+		evictCache(id);
+	}
+
+	// 변경된 카테고리와 카테고리 조회 쿼리 캐시 제거
+	private void evictCache(Long id) {
+		entityCacheEvictor.evictEntity(Category.class, id);
+		entityCacheEvictor.evictQueryRegion(CacheRegion.CATEGORY_QUERY);
 	}
 }
@@ -13,6 +13,7 @@ import com.app.backend.domain.chat.message.dto.response.ResponseMessage;
 import com.app.backend.domain.chat.message.service.MessageService;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,4 +38,13 @@ public class MessageController {
 		Page<MessageResponse> messages = messageService.getMessagesByChatRoomId(id, page, size);
 		return ApiResponse.of(true, HttpStatus.OK, ResponseMessage.READ_CHAT_MESSAGES_SUCCESS.getMessage(), messages);
 	}
+
+	@GetMapping("/{id}/messages/cursor")
+	public ApiResponse<CursorResponse<MessageResponse>> getMessagesByChatRoomIdWithCursor(@PathVariable Long id,
+		@RequestParam(required = false) String before, @RequestParam(required = false) String after,
+		@RequestParam(defaultValue = "20") int size) {
+		CursorResponse<MessageResponse> messages = messageService.getMessagesByChatRoomIdWithCursor(id, before, after,
+			size);
+		return ApiResponse.of(true, HttpStatus.OK, ResponseMessage.READ_CHAT_MESSAGES_SUCCESS.getMessage(), messages);
+	}
 }
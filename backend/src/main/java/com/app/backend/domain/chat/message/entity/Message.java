@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -16,6 +17,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "messages")
+@CompoundIndex(name = "idx_chat_room_id_id", def = "{'chat_room_id': 1, '_id': -1}")
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -1,6 +1,9 @@
 package com.app.backend.domain.chat.message.repository;
 
+import java.util.List;
+
 import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -10,4 +13,12 @@ import com.app.backend.domain.chat.message.entity.Message;
 public interface MessageRepository extends MongoRepository<Message, ObjectId> {
 
 	Page<Message> findByChatRoomIdAndDisabledFalse(Long chatRoomId, Pageable pageable);
+
+	long countByChatRoomIdAndDisabledFalse(Long chatRoomId);
+
+	List<Message> findByChatRoomIdAndDisabledFalseOrderByIdDesc(Long chatRoomId, Limit limit);
+
+	List<Message> findByChatRoomIdAndDisabledFalseAndIdLessThanOrderByIdDesc(Long chatRoomId, ObjectId before, Limit limit);
+
+	List<Message> findByChatRoomIdAndDisabledFalseAndIdGreaterThanOrderByIdAsc(Long chatRoomId, ObjectId after, Limit limit);
 }
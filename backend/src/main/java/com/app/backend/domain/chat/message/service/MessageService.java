@@ -1,5 +1,12 @@
 package com.app.backend.domain.chat.message.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -8,7 +15,12 @@ import org.springframework.stereotype.Service;
 
 import com.app.backend.domain.chat.message.dto.request.MessageRequest;
 import com.app.backend.domain.chat.message.dto.response.MessageResponse;
+import com.app.backend.domain.chat.message.entity.Message;
 import com.app.backend.domain.chat.message.repository.MessageRepository;
+import com.app.backend.domain.chat.room.summary.ChatRoomSummaryStore;
+import com.app.backend.global.dto.response.CursorResponse;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,14 +28,69 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class MessageService {
 
-	private final MessageRepository messageRepository;
+	private static final int MAX_CURSOR_SIZE = 100;
+
+	private final MessageRepository                    messageRepository;
+	private final ObjectProvider<ChatRoomSummaryStore> chatRoomSummaryStore;
 
 	public Page<MessageResponse> getMessagesByChatRoomId(Long chatRoomId, int page, int size) {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt")));
 		return messageRepository.findByChatRoomIdAndDisabledFalse(chatRoomId, pageable).map(MessageResponse::from);
 	}
 
+	/**
+	 * ObjectId 커서 기반 메세지 조회, (chat_room_id, _id) 인덱스를 따라 skip/count 없이 조회
+	 * 응답은 항상 최신 메세지가 먼저 오도록 정렬
+	 *
+	 * @param chatRoomId 채팅방 ID
+	 * @param before     이 ID 보다 이전(오래된) 메세지 조회
+	 * @param after      이 ID 보다 이후(최신) 메세지 조회
+	 * @param size       조회할 메세지 수(1 ~ MAX_CURSOR_SIZE)
+	 * @return 메세지 목록과 같은 방향의 다음 커서
+	 */
+	public CursorResponse<MessageResponse> getMessagesByChatRoomIdWithCursor(Long chatRoomId, String before,
+		String after, int size) {
+		if (before != null && after != null)
+			throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+		if (size < 1 || size > MAX_CURSOR_SIZE)
+			throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+		Limit limit = Limit.of(size + 1);
+		List<Message> messages;
+		if (after != null)
+			messages = messageRepository.findByChatRoomIdAndDisabledFalseAndIdGreaterThanOrderByIdAsc(chatRoomId,
+				toObjectId(after), limit);
+		else if (before != null)
+			messages = messageRepository.findByChatRoomIdAndDisabledFalseAndIdLessThanOrderByIdDesc(chatRoomId,
+				toObjectId(before), limit);
+		else
+			messages = messageRepository.findByChatRoomIdAndDisabledFalseOrderByIdDesc(chatRoomId, limit);
+
+		boolean hasNext = messages.size() > size;
+		List<Message> content = new ArrayList<>(hasNext ? messages.subList(0, size) : messages);
+		String nextCursor = content.isEmpty() ? null : content.get(content.size() - 1).getId().toHexString();
+
+		if (after != null)
+			Collections.reverse(content);
+
+		return CursorResponse.of(content.stream().map(MessageResponse::from).toList(), nextCursor, hasNext);
+	}
+
+	/**
+	 * 메세지 저장 후 채팅방 요약(마지막 메세지, 누적 메세지 수)에 반영
+	 *
+	 * @param messageRequest 메세지 요청 DTO
+	 * @return 저장된 메세지
+	 */
 	public MessageResponse saveMessage(MessageRequest messageRequest) {
-		return MessageResponse.from(messageRepository.save(messageRequest.toEntity()));
+		Message message = messageRepository.save(messageRequest.toEntity());
+		chatRoomSummaryStore.ifAvailable(summaryStore -> summaryStore.recordMessage(message));
+		return MessageResponse.from(message);
+	}
+
+	private ObjectId toObjectId(String id) {
+		if (!ObjectId.isValid(id))
+			throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+		return new ObjectId(id);
 	}
 }
@@ -1,7 +1,9 @@
 package com.app.backend.domain.chat.room.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.app.backend.domain.chat.room.dto.response.ChatRoomDetailResponse;
 import com.app.backend.domain.chat.room.dto.response.ChatRoomResponseMessage;
 import com.app.backend.domain.chat.room.service.ChatRoomService;
+import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.dto.response.ApiResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -31,4 +34,15 @@ public class ChatRoomController {
 		);
 	}
 
+	@PatchMapping("/{id}/read")
+	public ApiResponse<Void> markAsRead(@PathVariable final Long id,
+		@AuthenticationPrincipal MemberDetails memberDetails) {
+		chatRoomService.markAsRead(id, memberDetails.getId());
+		return ApiResponse.of(
+			true,
+			HttpStatus.OK,
+			ChatRoomResponseMessage.MARK_CHAT_ROOM_READ_SUCCESS.getMessage()
+		);
+	}
+
 }
@@ -1,11 +1,21 @@
 package com.app.backend.domain.chat.room.dto.response;
 
+import java.time.LocalDateTime;
+
 import com.app.backend.domain.chat.room.entity.ChatRoom;
 
 import lombok.Builder;
 
 @Builder
-public record ChatRoomListResponse(Long chatRoomId, Long groupId, String groupName, Long participant) {
+public record ChatRoomListResponse(Long chatRoomId, Long groupId, String groupName, Long participant,
+								   String lastMessage, LocalDateTime lastMessageAt, Long unreadCount) {
+
+	/**
+	 * DB 조회용 생성자, 마지막 메세지와 읽지 않은 메세지 수는 채팅방 요약에서 채움
+	 */
+	public ChatRoomListResponse(Long chatRoomId, Long groupId, String groupName, Long participant) {
+		this(chatRoomId, groupId, groupName, participant, null, null, 0L);
+	}
 
 	public static ChatRoomListResponse from(ChatRoom chatRoom, Long participant) {
 		return ChatRoomListResponse.builder()
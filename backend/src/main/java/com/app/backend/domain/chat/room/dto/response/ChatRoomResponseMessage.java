@@ -7,7 +7,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum ChatRoomResponseMessage {
 	READ_CHAT_ROOMS_SUCCESS("채팅방 목록 조회 성공"),
-	READ_CHAT_ROOM_SUCCESS("채팅방 상세 조회 성공");
+	READ_CHAT_ROOM_SUCCESS("채팅방 상세 조회 성공"),
+	MARK_CHAT_ROOM_READ_SUCCESS("채팅방 읽음 처리 성공");
 
 	private final String message;
 }
@@ -1,9 +1,12 @@
 package com.app.backend.domain.chat.room.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.app.backend.domain.chat.room.entity.ChatRoom;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
 
+	Optional<ChatRoom> findByGroupIdAndDisabled(Long groupId, Boolean disabled);
 }
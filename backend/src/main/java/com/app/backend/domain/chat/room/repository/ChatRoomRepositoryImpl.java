@@ -15,7 +15,6 @@ import com.app.backend.domain.group.entity.QGroupMembership;
 import com.app.backend.domain.member.dto.response.MemberChatResponseDto;
 import com.app.backend.domain.member.entity.QMember;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +27,7 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 
 	/**
 	 * 멤버 Id로 참여중인 모임의 채팅방 조회
+	 * 참여 인원은 모임의 비정규화된 가입 승인 회원 수를 사용하여 상관 서브쿼리와 groupBy 없이 조회
 	 *
 	 * @param memberId - 멤버 ID
 	 * @return 채팅방 목록
@@ -43,18 +43,16 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
 				chatRoom.id,
 				group.id,
 				group.name,
-				// APPROVED 상태만 카운트
-				JPAExpressions
-					.select(groupMembership.countDistinct())
-					.from(groupMembership)
-					.where(groupMembership.group.id.eq(group.id)
-						.and(groupMembership.status.eq(MembershipStatus.APPROVED)))
+				group.approvedMemberCount.longValue()
 			))
 			.from(chatRoom)
 			.join(chatRoom.group, group)
 			.join(groupMembership).on(groupMembership.group.id.eq(group.id))
-			.where(groupMembership.member.id.eq(memberId)) // 현재 멤버가 속한 그룹만
-			.groupBy(chatRoom.id, group.id, group.name)
+			.where(groupMembership.member.id.eq(memberId) // 현재 멤버가 가입 승인된 그룹만
+				.and(groupMembership.status.eq(MembershipStatus.APPROVED))
+				.and(groupMembership.disabled.eq(false))
+				.and(chatRoom.disabled.eq(false)))
+			.orderBy(chatRoom.id.asc())
 			.fetch();
 	}
 
@@ -2,6 +2,7 @@ package com.app.backend.domain.chat.room.service;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +11,7 @@ import com.app.backend.domain.chat.room.dto.response.ChatRoomListResponse;
 import com.app.backend.domain.chat.room.exception.ChatRoomErrorCode;
 import com.app.backend.domain.chat.room.exception.ChatRoomException;
 import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.chat.room.summary.ChatRoomSummaryStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,10 +20,33 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ChatRoomService {
 
-	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomRepository                   chatRoomRepository;
+	private final ObjectProvider<ChatRoomSummaryStore> chatRoomSummaryStore;
 
+	/**
+	 * 회원이 참여 중인 채팅방 목록 조회
+	 * Redis 채팅방 요약을 우선 조회하고, 요약이 없는 경우 DB 조회 결과로 요약을 채움
+	 *
+	 * @param memberId - 회원 ID
+	 * @return 채팅방 목록(참여 인원, 마지막 메세지, 읽지 않은 메세지 수)
+	 */
 	public List<ChatRoomListResponse> getChatRoomsByMemberId(Long memberId) {
-		return chatRoomRepository.findAllByMemberId(memberId);
+		ChatRoomSummaryStore summaryStore = chatRoomSummaryStore.getIfAvailable();
+		if (summaryStore == null)
+			return chatRoomRepository.findAllByMemberId(memberId);
+
+		return summaryStore.findAllByMemberId(memberId)
+			.orElseGet(() -> summaryStore.initialize(memberId, chatRoomRepository.findAllByMemberId(memberId)));
+	}
+
+	/**
+	 * 회원이 채팅방의 메세지를 모두 읽은 것으로 처리
+	 *
+	 * @param chatRoomId - 채팅방 ID
+	 * @param memberId   - 회원 ID
+	 */
+	public void markAsRead(Long chatRoomId, Long memberId) {
+		chatRoomSummaryStore.ifAvailable(summaryStore -> summaryStore.markAsRead(chatRoomId, memberId));
 	}
 
 	public ChatRoomDetailResponse getChatRoomDetailsWithApprovedMembers(Long chatRoomId) {
@@ -0,0 +1,20 @@
+package com.app.backend.domain.chat.room.summary;
+
+import java.util.List;
+
+/**
+ * 모임 채팅방 참여 회원 변경 이벤트, 커밋 후 채팅방 요약의 참여 인원과 회원별 채팅방 목록에 반영
+ *
+ * @param groupId   - 모임 ID
+ * @param memberIds - 가입 승인/탈퇴 등으로 멤버십이 변경된 회원 ID 목록
+ */
+public record ChatRoomMembershipEvent(Long groupId, List<Long> memberIds) {
+
+	public static ChatRoomMembershipEvent of(final Long groupId, final List<Long> memberIds) {
+		return new ChatRoomMembershipEvent(groupId, List.copyOf(memberIds));
+	}
+
+	public static ChatRoomMembershipEvent of(final Long groupId, final Long memberId) {
+		return new ChatRoomMembershipEvent(groupId, List.of(memberId));
+	}
+}
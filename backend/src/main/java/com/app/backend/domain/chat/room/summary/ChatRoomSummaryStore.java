@@ -0,0 +1,395 @@
+package com.app.backend.domain.chat.room.summary;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.backend.domain.chat.message.entity.Message;
+import com.app.backend.domain.chat.message.repository.MessageRepository;
+import com.app.backend.domain.chat.room.dto.response.ChatRoomListResponse;
+import com.app.backend.domain.chat.room.entity.ChatRoom;
+import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.repository.GroupMembershipRepository;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.search.GroupIndexEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 채팅방 목록 요약(참여 인원, 마지막 메세지, 읽지 않은 메세지 수)을 Redis 해시로 유지
+ * <p>
+ * chatroom:summary:{채팅방 ID} 해시에 모임 정보와 마지막 메세지, 누적 메세지 수를 보관하고,
+ * chatroom:member:{회원 ID} 해시에 참여 중인 채팅방별로 마지막으로 읽은 시점의 누적 메세지 수를 보관
+ * 읽지 않은 메세지 수는 (누적 메세지 수 - 읽은 메세지 수)이며, 목록 조회는 회원 해시 조회 후 요약 해시를 파이프라인으로 한 번에 조회
+ * 회원 해시가 없거나(최초 조회, 만료) 요약이 비어있는 경우(만료 포함) DB 조회 결과로 다시 채움
+ * 두 해시는 Redis Cluster 에서 서로 다른 슬롯에 속할 수 있으므로 모든 스크립트는 하나의 키만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.summary.enabled", havingValue = "true", matchIfMissing = true)
+public class ChatRoomSummaryStore {
+
+	private static final String   SUMMARY_KEY_PREFIX = "chatroom:summary:";
+	private static final String   MEMBER_KEY_PREFIX  = "chatroom:member:";
+	private static final String   INITIALIZED_FIELD  = "_";
+	private static final int      PREVIEW_LENGTH     = 50;
+	private static final Duration MEMBER_TTL         = Duration.ofDays(7);
+	private static final Duration SUMMARY_TTL        = Duration.ofDays(7);
+
+	//채팅방 요약 해시에서 목록 응답에 사용하는 필드
+	private static final String[] SUMMARY_FIELDS = {
+		"groupId", "groupName", "participant", "lastMessage", "lastMessageAt", "messageCount"
+	};
+
+	//요약이 있는 채팅방만 누적 메세지 수와 마지막 메세지를 갱신
+	private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		local count = redis.call('HINCRBY', KEYS[1], 'messageCount', 1)
+		redis.call('HSET', KEYS[1], 'lastMessage', ARGV[1], 'lastMessageAt', ARGV[2])
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return count
+		""", Long.class);
+
+	//회원 해시에 채팅방이 있는 경우 읽은 메세지 수를 더 큰 값으로만 변경(동시에 처리된 읽음 처리가 되돌아가지 않음)
+	private static final RedisScript<Long> ADVANCE_READ_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('HGET', KEYS[1], ARGV[1])
+		if not current then
+			return 0
+		end
+		if tonumber(current) < tonumber(ARGV[2]) then
+			redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+		end
+		return 1
+		""", Long.class);
+
+	//회원 해시가 있는 경우에만 채팅방 추가, 가입 이전 메세지는 읽은 것으로 처리
+	private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return 0
+		end
+		return redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2])
+		""", Long.class);
+
+	//모임 정보는 덮어쓰고 누적 메세지 수와 마지막 메세지는 없는 경우에만 채움, 동시에 반영된 메세지 수를 덮어쓰지 않음
+	private static final RedisScript<Long> WRITE_SUMMARY_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('HSET', KEYS[1], 'groupId', ARGV[1], 'groupName', ARGV[2], 'participant', ARGV[3])
+		if ARGV[4] ~= '' then
+			redis.call('HSETNX', KEYS[1], 'messageCount', ARGV[4])
+		end
+		if ARGV[5] ~= '' then
+			redis.call('HSETNX', KEYS[1], 'lastMessage', ARGV[5])
+		end
+		if ARGV[6] ~= '' then
+			redis.call('HSETNX', KEYS[1], 'lastMessageAt', ARGV[6])
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[7])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate       redisTemplate;
+	private final ChatRoomRepository        chatRoomRepository;
+	private final GroupRepository           groupRepository;
+	private final GroupMembershipRepository groupMembershipRepository;
+	private final MessageRepository         messageRepository;
+
+	/**
+	 * 회원이 참여 중인 채팅방 요약 목록 조회, 최근 메세지가 있는 채팅방 순으로 정렬
+	 *
+	 * @param memberId - 회원 ID
+	 * @return 채팅방 요약 목록, 회원 해시가 없거나 비어있는 요약이 있는 경우 Optional.empty()
+	 */
+	public Optional<List<ChatRoomListResponse>> findAllByMemberId(final Long memberId) {
+		String memberKey = memberKey(memberId);
+		Map<String, String> readCounts;
+		List<String> chatRoomIds;
+		List<Object> rows;
+		try {
+			readCounts = redisTemplate.<String, String>opsForHash().entries(memberKey);
+			if (readCounts.isEmpty())
+				return Optional.empty();
+			redisTemplate.expire(memberKey, MEMBER_TTL);
+
+			//요약 해시는 키를 직접 지정하여 파이프라인으로 조회(Redis Cluster 에서도 키가 속한 노드로 전달)
+			chatRoomIds = readCounts.keySet().stream().filter(field -> !INITIALIZED_FIELD.equals(field)).toList();
+			rows = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				chatRoomIds.forEach(chatRoomId -> stringConnection.hMGet(SUMMARY_KEY_PREFIX + chatRoomId,
+					SUMMARY_FIELDS));
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("채팅방 요약 조회에 실패했습니다: memberId={}", memberId, e);
+			return Optional.empty();
+		}
+
+		List<ChatRoomListResponse> summaries = new ArrayList<>(chatRoomIds.size());
+		for (int i = 0; i < chatRoomIds.size(); i++) {
+			List<?> summary = (List<?>)rows.get(i);
+			if (summary == null || summary.get(0) == null)
+				return Optional.empty();
+
+			List<Object> values = new ArrayList<>(SUMMARY_FIELDS.length + 2);
+			values.add(chatRoomIds.get(i));
+			values.add(readCounts.get(chatRoomIds.get(i)));
+			summary.forEach(value -> values.add(value == null ? "" : value));
+			summaries.add(toResponse(values));
+		}
+		summaries.sort(Comparator.comparing(ChatRoomListResponse::lastMessageAt,
+				Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+			.thenComparing(ChatRoomListResponse::chatRoomId));
+		return Optional.of(summaries);
+	}
+
+	/**
+	 * DB 조회 결과로 채팅방 요약과 회원 해시를 채운 후 다시 조회
+	 * 기존에 읽은 메세지 수는 유지하고, 더 이상 참여하지 않는 채팅방은 회원 해시에서 제거
+	 *
+	 * @param memberId - 회원 ID
+	 * @param chatRooms - DB 에서 조회한 회원의 채팅방 목록
+	 * @return 채팅방 요약 목록, Redis 갱신에 실패한 경우 DB 조회 결과
+	 */
+	public List<ChatRoomListResponse> initialize(final Long memberId, final List<ChatRoomListResponse> chatRooms) {
+		try {
+			String memberKey = memberKey(memberId);
+			Set<String> chatRoomIds = chatRooms.stream()
+				.map(chatRoom -> chatRoom.chatRoomId().toString())
+				.collect(Collectors.toSet());
+
+			Object[] staleFields = redisTemplate.<String, String>opsForHash().keys(memberKey).stream()
+				.filter(field -> !INITIALIZED_FIELD.equals(field) && !chatRoomIds.contains(field))
+				.toArray();
+			if (staleFields.length > 0)
+				redisTemplate.opsForHash().delete(memberKey, staleFields);
+
+			for (ChatRoomListResponse chatRoom : chatRooms) {
+				String summaryKey = summaryKey(chatRoom.chatRoomId());
+				if (!redisTemplate.opsForHash().hasKey(summaryKey, "groupId"))
+					writeSummary(chatRoom);
+				redisTemplate.opsForHash().putIfAbsent(memberKey,
+					chatRoom.chatRoomId().toString(),
+					messageCount(chatRoom.chatRoomId()));
+			}
+			redisTemplate.opsForHash().put(memberKey, INITIALIZED_FIELD, "1");
+			redisTemplate.expire(memberKey, MEMBER_TTL);
+		} catch (Exception e) {
+			log.warn("채팅방 요약 초기화에 실패했습니다: memberId={}", memberId, e);
+			return chatRooms;
+		}
+		return findAllByMemberId(memberId).orElse(chatRooms);
+	}
+
+	/**
+	 * 저장된 메세지를 채팅방 요약에 반영
+	 *
+	 * @param message - 저장된 메세지
+	 */
+	public void recordMessage(final Message message) {
+		try {
+			LocalDateTime createdAt = message.getCreatedAt() != null ? message.getCreatedAt() : LocalDateTime.now();
+			Long messageCount = redisTemplate.execute(RECORD_SCRIPT,
+				List.of(summaryKey(message.getChatRoomId())),
+				preview(message.getContent()),
+				createdAt.toString(),
+				String.valueOf(SUMMARY_TTL.toMillis()));
+
+			//보낸 회원은 해당 메세지까지 읽은 것으로 처리
+			if (messageCount != null && messageCount > 0)
+				redisTemplate.execute(ADVANCE_READ_SCRIPT,
+					List.of(memberKey(message.getSenderId())),
+					message.getChatRoomId().toString(),
+					messageCount.toString());
+		} catch (Exception e) {
+			log.warn("채팅방 요약에 메세지를 반영하지 못했습니다: chatRoomId={}", message.getChatRoomId(), e);
+		}
+	}
+
+	/**
+	 * 회원이 채팅방의 메세지를 모두 읽은 것으로 처리
+	 *
+	 * @param chatRoomId - 채팅방 ID
+	 * @param memberId   - 회원 ID
+	 */
+	public void markAsRead(final Long chatRoomId, final Long memberId) {
+		try {
+			redisTemplate.execute(ADVANCE_READ_SCRIPT,
+				List.of(memberKey(memberId)),
+				chatRoomId.toString(),
+				messageCount(chatRoomId));
+		} catch (Exception e) {
+			log.warn("채팅방 메세지 읽음 처리를 반영하지 못했습니다: chatRoomId={}, memberId={}", chatRoomId, memberId, e);
+		}
+	}
+
+	/**
+	 * 가입 승인/탈퇴 및 모임 생성/삭제 커밋 후 참여 인원과 회원별 채팅방 목록 갱신
+	 *
+	 * @param event - 채팅방 참여 회원 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleMembershipEvent(final ChatRoomMembershipEvent event) {
+		try {
+			Optional<ChatRoom> chatRoom = chatRoomRepository.findByGroupIdAndDisabled(event.groupId(), false);
+			if (chatRoom.isEmpty())
+				return;
+
+			Long chatRoomId = chatRoom.get().getId();
+			Optional<Group> group = groupRepository.findByIdAndDisabled(event.groupId(), false);
+			if (group.isEmpty()) {
+				redisTemplate.delete(summaryKey(chatRoomId));
+				event.memberIds().forEach(memberId -> leave(chatRoomId, memberId));
+				return;
+			}
+
+			writeSummary(new ChatRoomListResponse(chatRoomId,
+				group.get().getId(),
+				group.get().getName(),
+				group.get().getApprovedMemberCount().longValue()));
+
+			Set<Long> approvedMemberIds = groupMembershipRepository
+				.findAllByGroupIdAndMemberIdInAndStatusInAndDisabled(event.groupId(),
+					event.memberIds(),
+					Set.of(MembershipStatus.APPROVED),
+					false)
+				.stream()
+				.map(GroupMembership::getMemberId)
+				.collect(Collectors.toSet());
+			for (Long memberId : event.memberIds()) {
+				if (approvedMemberIds.contains(memberId))
+					redisTemplate.execute(JOIN_SCRIPT,
+						List.of(memberKey(memberId)),
+						chatRoomId.toString(),
+						messageCount(chatRoomId));
+				else
+					leave(chatRoomId, memberId);
+			}
+		} catch (Exception e) {
+			log.warn("채팅방 요약에 참여 회원 변경을 반영하지 못했습니다: groupId={}", event.groupId(), e);
+		}
+	}
+
+	/**
+	 * 모임 수정 커밋 후 요약이 있는 채팅방의 모임명 갱신, 삭제는 참여 회원 변경 이벤트로 처리
+	 *
+	 * @param event - 모임 색인 갱신 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleGroupIndexEvent(final GroupIndexEvent event) {
+		if (event.isDeleted())
+			return;
+
+		try {
+			chatRoomRepository.findByGroupIdAndDisabled(event.getGroupId(), false).ifPresent(chatRoom -> {
+				String summaryKey = summaryKey(chatRoom.getId());
+				if (redisTemplate.opsForHash().hasKey(summaryKey, "groupId"))
+					redisTemplate.opsForHash().put(summaryKey, "groupName", event.getName());
+			});
+		} catch (Exception e) {
+			log.warn("채팅방 요약에 모임명을 반영하지 못했습니다: groupId={}", event.getGroupId(), e);
+		}
+	}
+
+	//============================== 내부 메서드 ==============================//
+
+	/**
+	 * 모임 정보를 채팅방 요약에 저장, 누적 메세지 수와 마지막 메세지가 없는 경우 MongoDB 에서 조회하여 채움
+	 */
+	private void writeSummary(final ChatRoomListResponse chatRoom) {
+		String summaryKey = summaryKey(chatRoom.chatRoomId());
+		String messageCount = "";
+		String lastMessage = "";
+		String lastMessageAt = "";
+		if (!redisTemplate.opsForHash().hasKey(summaryKey, "messageCount")) {
+			messageCount = String.valueOf(messageRepository.countByChatRoomIdAndDisabledFalse(chatRoom.chatRoomId()));
+			Optional<Message> latest = messageRepository.findByChatRoomIdAndDisabledFalseOrderByIdDesc(
+				chatRoom.chatRoomId(), Limit.of(1)).stream().findFirst();
+			if (latest.isPresent()) {
+				lastMessage = preview(latest.get().getContent());
+				if (latest.get().getCreatedAt() != null)
+					lastMessageAt = latest.get().getCreatedAt().toString();
+			}
+		}
+
+		redisTemplate.execute(WRITE_SUMMARY_SCRIPT,
+			List.of(summaryKey),
+			chatRoom.groupId().toString(),
+			chatRoom.groupName(),
+			String.valueOf(chatRoom.participant()),
+			messageCount,
+			lastMessage,
+			lastMessageAt,
+			String.valueOf(SUMMARY_TTL.toMillis()));
+	}
+
+	/**
+	 * 채팅방 요약의 누적 메세지 수 조회, 요약이 없는 경우 0
+	 */
+	private String messageCount(final Long chatRoomId) {
+		Object messageCount = redisTemplate.opsForHash().get(summaryKey(chatRoomId), "messageCount");
+		return messageCount == null ? "0" : messageCount.toString();
+	}
+
+	private void leave(final Long chatRoomId, final Long memberId) {
+		redisTemplate.opsForHash().delete(memberKey(memberId), chatRoomId.toString());
+	}
+
+	/**
+	 * [채팅방 ID, 읽은 메세지 수, 모임 ID, 모임명, 참여 인원, 마지막 메세지, 마지막 메세지 시각, 누적 메세지 수]를 응답 DTO 로 변환
+	 */
+	private ChatRoomListResponse toResponse(final List<?> values) {
+		long readCount = toLong(values.get(1));
+		long messageCount = toLong(values.get(7));
+		String lastMessage = values.get(5).toString();
+		String lastMessageAt = values.get(6).toString();
+		return ChatRoomListResponse.builder()
+			.chatRoomId(Long.valueOf(values.get(0).toString()))
+			.groupId(Long.valueOf(values.get(2).toString()))
+			.groupName(values.get(3).toString())
+			.participant(toLong(values.get(4)))
+			.lastMessage(lastMessage.isEmpty() ? null : lastMessage)
+			.lastMessageAt(lastMessageAt.isEmpty() ? null : LocalDateTime.parse(lastMessageAt))
+			.unreadCount(Math.max(0, messageCount - readCount))
+			.build();
+	}
+
+	private long toLong(final Object value) {
+		String text = value.toString();
+		return text.isEmpty() ? 0L : Long.parseLong(text);
+	}
+
+	private String preview(final String content) {
+		if (content == null)
+			return "";
+		return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+	}
+
+	private String summaryKey(final Long chatRoomId) {
+		return SUMMARY_KEY_PREFIX + chatRoomId;
+	}
+
+	private String memberKey(final Long memberId) {
+		return MEMBER_KEY_PREFIX + memberId;
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,6 +23,7 @@ import com.app.backend.domain.comment.service.CommentService;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.util.PageCountMode;
 
 import lombok.RequiredArgsConstructor;
 
@@ -88,7 +90,9 @@ public class CommentController {
 		size = false,
 		number = false,
 		hasPrevious = false,
-		isFirst = false
+		isFirst = false,
+		countMode = PageCountMode.CACHED,
+		countTtl = 10L
 	)
 	public ApiResponse<Page<CommentResponse.CommentList>> getComments(
 		@PathVariable(name = "id") Long postId,
@@ -105,6 +109,35 @@ public class CommentController {
 		);
 	}
 
+	//게시물에 대한 댓글 스레드 조회 페이징, 댓글마다 최신 답글 replySize 개 포함
+	@GetMapping("/{id}/thread")
+	@CustomPageJsonSerializer(
+		empty = false,
+		numberOfElements = false,
+		size = false,
+		number = false,
+		hasPrevious = false,
+		isFirst = false,
+		countMode = PageCountMode.CACHED,
+		countTtl = 10L
+	)
+	public ApiResponse<Page<CommentResponse.CommentThread>> getCommentThreads(
+		@PathVariable(name = "id") Long postId,
+		@RequestParam(name = "replySize", defaultValue = "3") int replySize,
+		@PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+		@AuthenticationPrincipal MemberDetails memberDetails
+	) {
+		Page<CommentResponse.CommentThread> response = commentService.getCommentThreads(postId, memberDetails.getId(),
+			replySize, pageable);
+
+		return ApiResponse.of(
+			true,
+			HttpStatus.OK,
+			"댓글이 조회되었습니다.",
+			response
+		);
+	}
+
 	//대댓글 작성
 	@PostMapping("/{id}/reply")
 	@ResponseStatus(HttpStatus.CREATED)
@@ -1,6 +1,7 @@
 package com.app.backend.domain.comment.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.app.backend.domain.comment.entity.Comment;
 
@@ -20,17 +21,33 @@ public class CommentResponse {
 		private int replyCount;
 		private long likeCount;
 		private boolean liked;
+	}
+
+
+	@Getter
+	@Builder
+	public static class CommentThread {
+		private Long id;
+		private String content;
+		private Long memberId;
+		private String nickname;
+		private LocalDateTime createdAt;
+		private int replyCount;
+		private long likeCount;
+		private boolean liked;
+		private List<ReplyList> replies;
 
-		public static CommentList from(Comment comment, Long likeCount, boolean liked) {
-			return CommentList.builder()
+		public static CommentThread of(CommentList comment, List<ReplyList> replies) {
+			return CommentThread.builder()
 				.id(comment.getId())
 				.content(comment.getContent())
-				.memberId(comment.getMember().getId())
-				.nickname(comment.getMember().getNickname())
+				.memberId(comment.getMemberId())
+				.nickname(comment.getNickname())
 				.createdAt(comment.getCreatedAt())
-				.replyCount(comment.getChildren().size())
-				.likeCount(likeCount)
-				.liked(liked)
+				.replyCount(comment.getReplyCount())
+				.likeCount(comment.getLikeCount())
+				.liked(comment.isLiked())
+				.replies(replies)
 				.build();
 		}
 	}
@@ -47,19 +64,6 @@ public class CommentResponse {
 		private Long parentId;
 		private LocalDateTime createdAt;
 		private LocalDateTime modifiedAt;
-
-		public static ReplyList from(Comment reply) {
-			return ReplyList.builder()
-				.id(reply.getId())
-				.content(reply.getContent())
-				.postId(reply.getPost().getId())
-				.memberId(reply.getMember().getId())
-				.nickname(reply.getMember().getNickname())
-				.parentId(reply.getParent().getId())
-				.createdAt(reply.getCreatedAt())
-				.modifiedAt(reply.getModifiedAt())
-				.build();
-		}
 	}
 
 
@@ -84,7 +88,7 @@ public class CommentResponse {
 				.nickname(comment.getMember().getNickname())
 				.createdAt(comment.getCreatedAt())
 				.modifiedAt(comment.getModifiedAt())
-				.replyCount(comment.getChildren().size())
+				.replyCount(comment.getReplyCount())
 				.build();
 		}
 	}
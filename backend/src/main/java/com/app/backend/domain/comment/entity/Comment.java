@@ -2,18 +2,17 @@ package com.app.backend.domain.comment.entity;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.Tsid;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -23,29 +22,33 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "tbl_comments")
+@Table(name = "tbl_comments", indexes = {
+	@Index(name = "idx_comments_post_parent_created", columnList = "post_id, parent_id, disabled, created_at, comment_id"),
+	@Index(name = "idx_comments_parent_created", columnList = "parent_id, disabled, created_at, comment_id")
+})
 public class Comment extends BaseEntity {
 
 	@Id
 	@Column(name = "comment_id")
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Tsid
 	private Long id;
 
 
 	@Column(nullable = false)
 	private String content;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "post_id")
 	private Post post;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "member_id")
 	private Member member;
 
@@ -53,10 +56,20 @@ public class Comment extends BaseEntity {
 	@JoinColumn(name = "parent_id")
 	private Comment parent;
 
+	//삭제되지 않은 대댓글만 로딩
 	@Builder.Default
+	@SQLRestriction("disabled = false")
 	@OneToMany(mappedBy = "parent")
 	private List<Comment> children = new ArrayList<>();
 
+	@Builder.Default
+	@Column(nullable = false)
+	private int likeCount = 0;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private int replyCount = 0;
+
 
 	public void delete() {
 		this.deactivate();
@@ -69,16 +82,24 @@ public class Comment extends BaseEntity {
 	public void addReply(Comment reply) {
 		this.children.add(reply);
 		reply.parent = this;
+		this.replyCount++;
 	}
 
 	public void removeReply(Comment reply) {
 		this.children.remove(reply);
 		reply.parent = null;
+		if (this.replyCount > 0) {
+			this.replyCount--;
+		}
+	}
+
+	public void addLikeCount() {
+		this.likeCount++;
 	}
 
-	public List<Comment> getChildren() {
-		return this.children.stream()
-			.filter(child -> !child.getDisabled())
-			.collect(Collectors.toList());
+	public void removeLikeCount() {
+		if (this.likeCount > 0) {
+			this.likeCount--;
+		}
 	}
 }
@@ -2,16 +2,20 @@ package com.app.backend.domain.comment.repository;
 
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
 import com.app.backend.domain.comment.entity.Comment;
 
+import jakarta.persistence.LockModeType;
+
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
 	Optional<Comment> findByIdAndDisabled(Long id, Boolean disabled);
 
-	Page<Comment> findByParentAndDisabled(Comment comment, boolean disabled, Pageable pageable);
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM Comment c WHERE c.id = :commentId AND c.disabled = false")
+	Optional<Comment> findByIdWithLock(Long commentId);
 
 }
@@ -1,5 +1,7 @@
 package com.app.backend.domain.comment.repository;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -8,4 +10,8 @@ import com.app.backend.domain.post.entity.Post;
 
 public interface CommentRepositoryCustom {
 	Page<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, Pageable pageable);
+
+	Page<CommentResponse.ReplyList> findRepliesByParentId(Long parentId, Pageable pageable);
+
+	List<CommentResponse.ReplyList> findFirstRepliesByParentIds(List<Long> parentIds, int limit);
 }
\ No newline at end of file
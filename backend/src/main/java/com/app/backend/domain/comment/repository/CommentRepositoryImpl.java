@@ -1,76 +1,205 @@
 package com.app.backend.domain.comment.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import com.app.backend.domain.comment.dto.response.CommentResponse;
 import com.app.backend.domain.comment.entity.QComment;
 import com.app.backend.domain.comment.entity.QCommentLike;
+import com.app.backend.domain.member.entity.QMember;
 import com.app.backend.domain.post.entity.Post;
-import com.querydsl.jpa.JPAExpressions;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.PageCounter;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
+	//대댓글을 부모 댓글별로 최신순 순위를 매겨 상위 N개만 조회(윈도 함수)
+	private static final String FIRST_REPLIES_QUERY = """
+		select r.id as id, r.content as content, r.postId as postId, r.memberId as memberId,
+		       r.nickname as nickname, r.parentId as parentId, r.createdAt as createdAt, r.modifiedAt as modifiedAt
+		from (
+		    select c.id as id, c.content as content, c.post.id as postId, m.id as memberId,
+		           m.nickname as nickname, c.parent.id as parentId, c.createdAt as createdAt, c.modifiedAt as modifiedAt,
+		           row_number() over (partition by c.parent.id order by c.createdAt desc, c.id desc) as rn
+		    from Comment c
+		    join c.member m
+		    where c.parent.id in :parentIds
+		      and c.disabled = false
+		) r
+		where r.rn <= :limit
+		order by r.parentId, r.rn
+		""";
+
 	private final JPAQueryFactory queryFactory;
+	private final PageCounter pageCounter;
+	private final EntityManager entityManager;
 
+	/**
+	 * 게시글의 댓글 목록 조회, 연관 엔티티를 로딩하지 않고 응답 필드만 조회
+	 * <p>
+	 * 좋아요 수, 답글 수는 댓글의 집계 컬럼을 사용하고 좋아요 여부는 페이지의 댓글 ID 로 한 번에 조회
+	 */
 	@Override
 	public Page<CommentResponse.CommentList> findCommentsWithLikeCount(Post post, Long memberId, Pageable pageable) {
 		QComment comment = QComment.comment;
-		QCommentLike commentLike = QCommentLike.commentLike;
+		QMember member = QMember.member;
 
-		List<CommentResponse.CommentList> results = queryFactory
-			.select(comment, commentLike.count(),
-				JPAExpressions.selectOne()
-					.from(commentLike)
-					.where(commentLike.comment.eq(comment)
-						.and(commentLike.member.id.eq(memberId))
-						.and(commentLike.disabled.eq(false)))
-					.exists())
+		Predicate predicate = comment.post.id.eq(post.getId())
+			.and(comment.parent.isNull())
+			.and(comment.disabled.eq(false));
+
+		List<Tuple> tuples = queryFactory
+			.select(comment.id, comment.content, member.id, member.nickname, comment.createdAt, comment.replyCount,
+				comment.likeCount)
 			.from(comment)
-			.leftJoin(comment.member).fetchJoin()
-			.leftJoin(commentLike)
-			.on(commentLike.comment.eq(comment)
-				.and(commentLike.disabled.eq(false)))
-			.where(comment.post.eq(post)
-				.and(comment.disabled.eq(false))
-				.and(comment.parent.isNull()))
-			.groupBy(comment)
+			.join(comment.member, member)
+			.where(predicate)
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.orderBy(comment.createdAt.desc())
+			.limit(pageCounter.getLimit(pageable))
+			.orderBy(comment.createdAt.desc(), comment.id.desc())
+			.fetch();
+
+		Set<Long> likedCommentIds = findLikedCommentIds(
+			tuples.stream().map(tuple -> tuple.get(comment.id)).toList(), memberId);
+
+		List<CommentResponse.CommentList> results = tuples.stream()
+			.map(tuple -> CommentResponse.CommentList.builder()
+				.id(tuple.get(comment.id))
+				.content(tuple.get(comment.content))
+				.memberId(tuple.get(member.id))
+				.nickname(tuple.get(member.nickname))
+				.createdAt(tuple.get(comment.createdAt))
+				.replyCount(Optional.ofNullable(tuple.get(comment.replyCount)).orElse(0))
+				.likeCount(Optional.ofNullable(tuple.get(comment.likeCount)).orElse(0))
+				.liked(likedCommentIds.contains(tuple.get(comment.id)))
+				.build())
+			.toList();
+
+		return pageCounter.getPage("comment:post", results, pageable, predicate,
+			() -> queryFactory.select(comment.count()).from(comment).where(predicate).fetchOne());
+	}
+
+	/**
+	 * 댓글의 대댓글 목록 조회, 연관 엔티티를 로딩하지 않고 응답 필드만 조회
+	 */
+	@Override
+	public Page<CommentResponse.ReplyList> findRepliesByParentId(Long parentId, Pageable pageable) {
+		QComment reply = QComment.comment;
+		QMember member = QMember.member;
+
+		Predicate predicate = reply.parent.id.eq(parentId)
+			.and(reply.disabled.eq(false));
+
+		List<CommentResponse.ReplyList> results = queryFactory
+			.select(reply.id, reply.content, reply.post.id, member.id, member.nickname, reply.createdAt,
+				reply.modifiedAt)
+			.from(reply)
+			.join(reply.member, member)
+			.where(predicate)
+			.offset(pageable.getOffset())
+			.limit(pageCounter.getLimit(pageable))
+			.orderBy(getReplySortCondition(reply, pageable))
 			.fetch()
 			.stream()
-			.map(tuple -> CommentResponse.CommentList.from(
-				Objects.requireNonNull(tuple.get(comment)),
-				Optional.ofNullable(tuple.get(1, Number.class))
-					.map(Number::longValue)
-					.orElse(0L),
-				Boolean.TRUE.equals(tuple.get(2, Boolean.class))))
-			.collect(Collectors.toList());
-
-		Long total = Optional.ofNullable(
-			queryFactory
-				.select(comment.count())
-				.from(comment)
-				.where(comment.post.eq(post)
-					.and(comment.disabled.eq(false))
-					.and(comment.parent.isNull()))
-				.fetchOne()
-		).orElse(0L);
-
-		return new PageImpl<>(results, pageable, total);
+			.map(tuple -> CommentResponse.ReplyList.builder()
+				.id(tuple.get(reply.id))
+				.content(tuple.get(reply.content))
+				.postId(tuple.get(reply.post.id))
+				.memberId(tuple.get(member.id))
+				.nickname(tuple.get(member.nickname))
+				.parentId(parentId)
+				.createdAt(tuple.get(reply.createdAt))
+				.modifiedAt(tuple.get(reply.modifiedAt))
+				.build())
+			.toList();
+
+		return pageCounter.getPage("comment:reply", results, pageable, predicate,
+			() -> queryFactory.select(reply.count()).from(reply).where(predicate).fetchOne());
+	}
+
+	/**
+	 * 부모 댓글별 최신 대댓글을 최대 limit 개씩 한 번의 쿼리로 조회
+	 */
+	@Override
+	public List<CommentResponse.ReplyList> findFirstRepliesByParentIds(List<Long> parentIds, int limit) {
+		if (parentIds.isEmpty())
+			return List.of();
+
+		return entityManager.createQuery(FIRST_REPLIES_QUERY, jakarta.persistence.Tuple.class)
+			.setParameter("parentIds", parentIds)
+			.setParameter("limit", (long)limit)
+			.getResultList()
+			.stream()
+			.map(tuple -> CommentResponse.ReplyList.builder()
+				.id(tuple.get("id", Long.class))
+				.content(tuple.get("content", String.class))
+				.postId(tuple.get("postId", Long.class))
+				.memberId(tuple.get("memberId", Long.class))
+				.nickname(tuple.get("nickname", String.class))
+				.parentId(tuple.get("parentId", Long.class))
+				.createdAt(tuple.get("createdAt", LocalDateTime.class))
+				.modifiedAt(tuple.get("modifiedAt", LocalDateTime.class))
+				.build())
+			.toList();
 	}
-}
 
+	//============================== 내부 메서드 ==============================//
+
+	/**
+	 * 회원이 좋아요한 댓글 ID 목록을 IN 조건 한 번으로 조회
+	 */
+	private Set<Long> findLikedCommentIds(List<Long> commentIds, Long memberId) {
+		if (commentIds.isEmpty() || memberId == null)
+			return Set.of();
+
+		QCommentLike commentLike = QCommentLike.commentLike;
+		return new HashSet<>(queryFactory
+			.select(commentLike.comment.id)
+			.from(commentLike)
+			.where(commentLike.comment.id.in(commentIds),
+				commentLike.member.id.eq(memberId),
+				commentLike.disabled.eq(false))
+			.fetch());
+	}
+
+	/**
+	 * 대댓글 정렬 조건, 정렬 조건이 없으면 최신순이며 동일 값은 ID 로 구분
+	 */
+	private OrderSpecifier<?>[] getReplySortCondition(QComment reply, Pageable pageable) {
+		List<OrderSpecifier<?>> orders = new ArrayList<>();
+		for (Sort.Order order : pageable.getSort()) {
+			ComparableExpressionBase<?> path = switch (order.getProperty()) {
+				case "id" -> reply.id;
+				case "createdAt" -> reply.createdAt;
+				case "modifiedAt" -> reply.modifiedAt;
+				default -> throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+			};
+			orders.add(order.isAscending() ? path.asc() : path.desc());
+		}
+		if (orders.isEmpty())
+			orders.add(reply.createdAt.desc());
+		if (pageable.getSort().getOrderFor("id") == null)
+			orders.add(reply.id.desc());
+		return orders.toArray(new OrderSpecifier[0]);
+	}
+}
@@ -1,6 +1,9 @@
 package com.app.backend.domain.comment.service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -34,12 +37,20 @@ public class CommentService {
 	private final MemberRepository memberRepository;
 	private final CommentLikeRepository commentLikeRepository;
 
+	private static final int MAX_THREAD_REPLY_SIZE = 10;
+
 	//댓글 조회
 	private Comment getCommentValidate(Long id){
 		return commentRepository.findByIdAndDisabled(id, false)
 			.orElseThrow(()-> new CommentException(CommentErrorCode.COMMENT_NOT_FOUND));
 	}
 
+	//댓글 조회 (좋아요 수, 답글 수 갱신을 위한 비관적 락)
+	private Comment getCommentWithLock(Long id) {
+		return commentRepository.findByIdWithLock(id)
+			.orElseThrow(() -> new CommentException(CommentErrorCode.COMMENT_NOT_FOUND));
+	}
+
 	//게시물 조회
 	private Post getPostValidate(Long postId){
 		return postRepository.findByIdAndDisabled(postId, false)
@@ -121,11 +132,36 @@ public class CommentService {
 	}
 
 
+	// 댓글 스레드 조회 (댓글별 최신 대댓글 replySize 개 포함)
+	public Page<CommentResponse.CommentThread> getCommentThreads(Long postId, Long memberId, int replySize,
+		Pageable pageable) {
+
+		if (replySize < 1 || replySize > MAX_THREAD_REPLY_SIZE) {
+			throw new CommentException(CommentErrorCode.COMMENT_INVALID_REPLY_SIZE);
+		}
+
+		Page<CommentResponse.CommentList> comments = getComments(postId, memberId, pageable);
+
+		List<Long> parentIds = comments.getContent().stream()
+			.filter(comment -> comment.getReplyCount() > 0)
+			.map(CommentResponse.CommentList::getId)
+			.toList();
+
+		Map<Long, List<CommentResponse.ReplyList>> replies = commentRepository
+			.findFirstRepliesByParentIds(parentIds, replySize)
+			.stream()
+			.collect(Collectors.groupingBy(CommentResponse.ReplyList::getParentId));
+
+		return comments.map(comment -> CommentResponse.CommentThread.of(comment,
+			replies.getOrDefault(comment.getId(), List.of())));
+	}
+
+
 	// 대댓글 작성
 	@Transactional
 	public CommentResponse.ReplyDto createReply(Long commentId, Long memberId, CommentCreateRequest req) {
 
-		Comment parentComment = getCommentValidate(commentId);
+		Comment parentComment = getCommentWithLock(commentId);
 
 		Member member = memberRepository.findByIdAndDisabled(memberId, false)
 			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -171,10 +207,11 @@ public class CommentService {
 
 		validateAuthor(reply, id);
 
+		//삭제된 부모 댓글은 조회되지 않으므로 답글 수를 갱신하지 않음
 		Comment parent = reply.getParent();
 		if (parent != null) {
-			parent.removeReply(reply);
-
+			commentRepository.findByIdWithLock(parent.getId())
+				.ifPresent(lockedParent -> lockedParent.removeReply(reply));
 		}
 
 		reply.delete();
@@ -185,16 +222,14 @@ public class CommentService {
 
 		Comment comment = getCommentValidate(commentId);
 
-		Page<Comment> replies = commentRepository.findByParentAndDisabled(comment, false, pageable);
-
-		return replies.map(CommentResponse.ReplyList::from);
+		return commentRepository.findRepliesByParentId(comment.getId(), pageable);
 	}
 
 	//댓글 좋아요
 	@Transactional
 	public void CommentLike(Long commentId, Long memberId) {
 
-		Comment comment = getCommentValidate(commentId);
+		Comment comment = getCommentWithLock(commentId);
 
 		Member member = memberRepository.findByIdAndDisabled(memberId, false)
 			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -205,6 +240,7 @@ public class CommentService {
 
 		if (isLike.isPresent()) {
 			isLike.get().delete(); //좋아요가 있으면 삭제
+			comment.removeLikeCount();
 		} else {
 			CommentLike commentLike = CommentLike.builder()
 				.comment(comment)
@@ -212,6 +248,7 @@ public class CommentService {
 				.build();
 
 			commentLikeRepository.save(commentLike);
+			comment.addLikeCount();
 		}
 	}
 
@@ -0,0 +1,29 @@
+package com.app.backend.domain.group.authorization;
+
+import java.util.List;
+
+/**
+ * 멤버십 생성, 상태 또는 권한 변경 이벤트, 커밋 이후 권한 판단 캐시에서 제거
+ *
+ * @param groupId   - 모임 ID
+ * @param memberIds - 변경된 회원 ID 목록, 비어있으면 모임 전체
+ */
+public record MembershipChangedEvent(Long groupId, List<Long> memberIds) {
+
+    public static MembershipChangedEvent of(final Long groupId, final Long memberId) {
+        return new MembershipChangedEvent(groupId, List.of(memberId));
+    }
+
+    public static MembershipChangedEvent of(final Long groupId, final List<Long> memberIds) {
+        return new MembershipChangedEvent(groupId, List.copyOf(memberIds));
+    }
+
+    public static MembershipChangedEvent ofGroup(final Long groupId) {
+        return new MembershipChangedEvent(groupId, List.of());
+    }
+
+    public boolean isWholeGroup() {
+        return memberIds.isEmpty();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.app.backend.domain.group.authorization;
+
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+
+/**
+ * 권한 검사에 필요한 멤버십 정보(상태, 모임 내 권한), 멤버십이 없으면 NONE
+ * <p>
+ * 캐시에 1바이트로 저장할 수 있도록 (상태, 권한) 조합을 코드로 변환, 0은 멤버십 없음
+ *
+ * @param status    - 멤버십 상태
+ * @param groupRole - 모임 내 권한
+ */
+public record MembershipDecision(MembershipStatus status, GroupRole groupRole) {
+
+    public static final MembershipDecision NONE = new MembershipDecision(null, null);
+
+    private static final int ROLE_COUNT = GroupRole.values().length;
+
+    public static MembershipDecision decode(final int code) {
+        if (code == 0)
+            return NONE;
+        return new MembershipDecision(MembershipStatus.values()[(code - 1) / ROLE_COUNT],
+                                      GroupRole.values()[(code - 1) % ROLE_COUNT]);
+    }
+
+    public int encode() {
+        if (!exists())
+            return 0;
+        return status.ordinal() * ROLE_COUNT + groupRole.ordinal() + 1;
+    }
+
+    /**
+     * 멤버십 존재 여부
+     */
+    public boolean exists() {
+        return status != null;
+    }
+
+    /**
+     * 가입 승인(APPROVED) 여부
+     */
+    public boolean isApproved() {
+        return status == MembershipStatus.APPROVED;
+    }
+
+    /**
+     * 모임 관리자(LEADER) 권한 여부
+     */
+    public boolean isLeader() {
+        return groupRole == GroupRole.LEADER;
+    }
+
+    /**
+     * 가입 승인된 모임 관리자 여부
+     */
+    public boolean isApprovedLeader() {
+        return isApproved() && isLeader();
+    }
+
+}
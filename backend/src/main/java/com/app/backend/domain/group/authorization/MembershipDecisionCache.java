@@ -0,0 +1,277 @@
+package com.app.backend.domain.group.authorization;
+
+import com.app.backend.domain.group.repository.GroupMembershipRepository;
+import com.app.backend.global.datasource.ReplicationRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * (모임 ID, 회원 ID) -> (멤버십 상태, 모임 내 권한) 권한 판단 캐시
+ * <p>
+ * 인스턴스 내 고정 크기 테이블(MembershipDecisionTable) -> Redis 해시 -> DB 순으로 조회하며, 멤버십이 없는 경우도 캐싱
+ * 멤버십 변경 시 커밋 이후 Redis 엔트리를 제거하고 Pub/Sub 으로 모든 인스턴스의 테이블에서 제거
+ * Redis 해시(group:membership:decision:{모임 ID})의 버전 필드를 제거 시마다 증가시키고, DB 조회 전에 읽은 버전과 같은 경우에만
+ * 저장하여 조회와 변경이 겹쳐도 이전 값이 다시 저장되지 않도록 함(인스턴스 내 테이블은 epoch 로 동일하게 처리)
+ * DB 조회는 복제 지연으로 변경 이전 값을 캐싱하지 않도록 항상 주 데이터베이스에서 수행
+ * 쓰기 트랜잭션 중 조회는 커밋되지 않은 변경 사항을 볼 수 있도록 진행 중인 트랜잭션에서 수행하며, 롤백될 수 있으므로 캐싱하지 않음
+ * Pub/Sub 메세지 유실에 대비하여 인스턴스 내 테이블은 주기적으로 비움
+ */
+@Slf4j
+@Component
+public class MembershipDecisionCache implements MessageListener {
+
+    static final String CHANNEL = "group:membership:decision:invalidate";
+
+    private static final String KEY_PREFIX    = "group:membership:decision:";
+    private static final String VERSION_FIELD = "_v";
+    private static final String WHOLE_GROUP   = "*";
+
+    //DB 조회 전에 읽은 버전과 현재 버전이 같은 경우에만 저장
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('HGET', KEYS[1], ARGV[1]) or '0'
+            if version ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return 1
+            """, Long.class);
+
+    //버전 증가 후 회원 엔트리 제거, 제거할 회원이 없으면 버전을 제외한 모임 전체 제거
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            if #ARGV == 2 then
+                redis.call('DEL', KEYS[1])
+                redis.call('HSET', KEYS[1], ARGV[1], version)
+            else
+                redis.call('HDEL', KEYS[1], unpack(ARGV, 3))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return version
+            """, Long.class);
+
+    private final GroupMembershipRepository     groupMembershipRepository;
+    private final StringRedisTemplate           redisTemplate;
+    private final TransactionTemplate           primaryReadTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean                       enabled;
+    private final Duration                      redisTtl;
+    private final MembershipDecisionTable       table;
+    private final AtomicLong                    epoch = new AtomicLong();
+    private final Counter                       localHits;
+    private final Counter                       redisHits;
+    private final Counter                       databaseLoads;
+
+    public MembershipDecisionCache(final GroupMembershipRepository groupMembershipRepository,
+                                   final StringRedisTemplate redisTemplate,
+                                   final PlatformTransactionManager transactionManager,
+                                   final RedisMessageListenerContainer listenerContainer,
+                                   final MeterRegistry meterRegistry,
+                                   @Value("${group.membership-cache.enabled:true}") final boolean enabled,
+                                   @Value("${group.membership-cache.capacity:65536}") final int capacity,
+                                   @Value("${group.membership-cache.redis-ttl:1h}") final Duration redisTtl) {
+        this.groupMembershipRepository = groupMembershipRepository;
+        this.redisTemplate = redisTemplate;
+        //진행 중인 트랜잭션이 복제본 커넥션을 이미 얻었을 수 있으므로 새 트랜잭션으로 주 데이터베이스 커넥션 사용
+        this.primaryReadTemplate = new TransactionTemplate(transactionManager);
+        this.primaryReadTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryReadTemplate.setReadOnly(true);
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.redisTtl = redisTtl;
+        this.table = new MembershipDecisionTable(capacity);
+        this.localHits = lookupCounter(meterRegistry, "local");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.databaseLoads = lookupCounter(meterRegistry, "database");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled)
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 권한 판단에 필요한 멤버십 정보 조회
+     *
+     * @param groupId  - 모임 ID
+     * @param memberId - 회원 ID
+     * @return 멤버십 상태와 모임 내 권한, 멤버십이 없거나 비활성화된 경우 MembershipDecision.NONE
+     */
+    public MembershipDecision get(final Long groupId, final Long memberId) {
+        if (!enabled)
+            return load(groupId, memberId);
+
+        int code = table.get(groupId, memberId);
+        if (code >= 0) {
+            localHits.increment();
+            return MembershipDecision.decode(code);
+        }
+
+        if (isWriteTransactionActive())
+            return load(groupId, memberId);
+
+        long   observedEpoch = epoch.get();
+        String key           = key(groupId);
+        String version       = null;
+        try {
+            List<Object> values = redisTemplate.opsForHash()
+                                               .multiGet(key, List.<Object>of(memberId.toString(), VERSION_FIELD));
+            if (values.get(0) != null) {
+                redisHits.increment();
+                code = Integer.parseInt(values.get(0).toString());
+                putLocal(groupId, memberId, code, observedEpoch);
+                return MembershipDecision.decode(code);
+            }
+            version = values.get(1) == null ? "0" : values.get(1).toString();
+        } catch (Exception e) {
+            log.warn("멤버십 권한 캐시 조회에 실패했습니다: groupId={}, memberId={}", groupId, memberId, e);
+        }
+
+        MembershipDecision decision = load(groupId, memberId);
+        if (version != null)
+            try {
+                redisTemplate.execute(PUT_SCRIPT,
+                                      List.of(key),
+                                      VERSION_FIELD,
+                                      version,
+                                      memberId.toString(),
+                                      String.valueOf(decision.encode()),
+                                      String.valueOf(redisTtl.toMillis()));
+            } catch (Exception e) {
+                log.warn("멤버십 권한 캐시 저장에 실패했습니다: groupId={}, memberId={}", groupId, memberId, e);
+            }
+        putLocal(groupId, memberId, decision.encode(), observedEpoch);
+        return decision;
+    }
+
+    /**
+     * 커밋 이후 변경된 멤버십을 Redis 와 모든 인스턴스의 테이블에서 제거
+     *
+     * @param event - 멤버십 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMembershipChangedEvent(final MembershipChangedEvent event) {
+        if (!enabled)
+            return;
+
+        List<String> args = new ArrayList<>();
+        args.add(VERSION_FIELD);
+        args.add(String.valueOf(redisTtl.toMillis()));
+        event.memberIds().forEach(memberId -> args.add(memberId.toString()));
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(event.groupId())), args.toArray());
+            redisTemplate.convertAndSend(CHANNEL, toMessage(event));
+        } catch (Exception e) {
+            log.warn("멤버십 권한 캐시 제거에 실패했습니다: groupId={}", event.groupId(), e);
+        }
+        evictLocal(event);
+    }
+
+    /**
+     * 다른 인스턴스(자신 포함)에서 발행한 제거 메세지 처리
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String   body  = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 2);
+        try {
+            Long groupId = Long.valueOf(parts[0]);
+            evictLocal(WHOLE_GROUP.equals(parts[1])
+                       ? MembershipChangedEvent.ofGroup(groupId)
+                       : MembershipChangedEvent.of(groupId, Arrays.stream(parts[1].split(","))
+                                                                  .map(Long::valueOf)
+                                                                  .toList()));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 멤버십 권한 캐시 제거 메세지입니다: {}", body, e);
+        }
+    }
+
+    /**
+     * 제거 메세지가 유실된 경우에도 오래된 판단이 계속 남지 않도록 인스턴스 내 테이블을 주기적으로 비움
+     */
+    @Scheduled(fixedDelayString = "${group.membership-cache.local-ttl:600000}")
+    public void clearLocal() {
+        if (!enabled)
+            return;
+        epoch.incrementAndGet();
+        table.clear();
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private MembershipDecision load(final Long groupId, final Long memberId) {
+        databaseLoads.increment();
+        //쓰기 트랜잭션은 이미 주 데이터베이스 커넥션을 사용하므로 그대로 참여하여 자신의 변경 사항까지 조회
+        if (isWriteTransactionActive())
+            return findDecision(groupId, memberId);
+        return ReplicationRoutingDataSource.readFromPrimary(
+                () -> primaryReadTemplate.execute(status -> findDecision(groupId, memberId))
+        );
+    }
+
+    private MembershipDecision findDecision(final Long groupId, final Long memberId) {
+        return groupMembershipRepository.findDecision(groupId, memberId).orElse(MembershipDecision.NONE);
+    }
+
+    private boolean isWriteTransactionActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+               && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 조회를 시작한 이후 제거가 없었던 경우에만 저장, 저장 직후 epoch 를 다시 확인하여 그 사이 제거된 경우 되돌림
+     */
+    private void putLocal(final Long groupId, final Long memberId, final int code, final long observedEpoch) {
+        table.putIfValid(groupId, memberId, code, () -> epoch.get() == observedEpoch);
+    }
+
+    private void evictLocal(final MembershipChangedEvent event) {
+        epoch.incrementAndGet();
+        if (event.isWholeGroup())
+            table.removeGroup(event.groupId());
+        else
+            event.memberIds().forEach(memberId -> table.remove(event.groupId(), memberId));
+    }
+
+    private static String key(final Long groupId) {
+        return KEY_PREFIX + groupId;
+    }
+
+    private static String toMessage(final MembershipChangedEvent event) {
+        if (event.isWholeGroup())
+            return event.groupId() + ":" + WHOLE_GROUP;
+        return event.groupId() + ":" + String.join(",", event.memberIds().stream().map(String::valueOf).toList());
+    }
+
+    private static Counter lookupCounter(final MeterRegistry meterRegistry, final String source) {
+        return Counter.builder("group.membership.decision")
+                      .description("멤버십 권한 판단 조회 횟수(조회 위치별)")
+                      .tag("source", source)
+                      .register(meterRegistry);
+    }
+
+}
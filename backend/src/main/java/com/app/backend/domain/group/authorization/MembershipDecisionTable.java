@@ -0,0 +1,123 @@
+package com.app.backend.domain.group.authorization;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * (모임 ID, 회원 ID) -> 권한 판단 코드를 저장하는 고정 크기 직접 매핑(direct-mapped) 테이블
+ * <p>
+ * 한 슬롯에 [모임 ID 28비트 | 회원 ID 28비트 | 판단 코드 8비트]를 long 하나로 저장하므로 엔트리당 8바이트만 사용하고,
+ * 슬롯 단위 원자적 읽기/쓰기로 락 없이 동작
+ * 같은 슬롯에 매핑된 다른 키는 덮어쓰며(= 캐시 미스로 처리), ID 가 28비트를 넘으면 저장하지 않음
+ */
+public class MembershipDecisionTable {
+
+    static final long MAX_ID = (1L << 28) - 1;
+
+    private static final int  ID_BITS   = 28;
+    private static final int  CODE_BITS = 8;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+    private static final long ID_MASK   = MAX_ID;
+    private static final int  MISS      = -1;
+
+    private final AtomicLongArray slots;
+    private final int             mask;
+
+    /**
+     * @param capacity - 슬롯 수, 2의 거듭제곱으로 올림
+     */
+    public MembershipDecisionTable(final int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 저장 가능한 ID 인지 확인
+     */
+    public static boolean isStorable(final long groupId, final long memberId) {
+        return groupId > 0 && groupId <= MAX_ID && memberId > 0 && memberId <= MAX_ID;
+    }
+
+    /**
+     * 판단 코드 조회
+     *
+     * @return 판단 코드, 없으면 -1
+     */
+    public int get(final long groupId, final long memberId) {
+        if (!isStorable(groupId, memberId))
+            return MISS;
+        long slot = slots.get(index(groupId, memberId));
+        if (slot == 0 || (slot >>> CODE_BITS) != key(groupId, memberId))
+            return MISS;
+        return (int) (slot & CODE_MASK);
+    }
+
+    public void put(final long groupId, final long memberId, final int code) {
+        if (!isStorable(groupId, memberId))
+            return;
+        slots.set(index(groupId, memberId), key(groupId, memberId) << CODE_BITS | (code & CODE_MASK));
+    }
+
+    /**
+     * 저장 후 유효성을 다시 확인하여 무효화된 경우 저장한 값을 되돌림
+     * <p>
+     * 무효화 측이 (버전 증가 -> 제거) 순서로 동작하면, 무효화가 재확인 이전이면 여기서 되돌리고 이후면 무효화의 제거가 지우므로
+     * 확인과 저장 사이에 무효화가 끼어들어도 이전 값이 남지 않음
+     *
+     * @param valid - 저장이 여전히 유효한지 여부
+     * @return 저장 유지 여부
+     */
+    public boolean putIfValid(final long groupId, final long memberId, final int code, final BooleanSupplier valid) {
+        if (!isStorable(groupId, memberId) || !valid.getAsBoolean())
+            return false;
+        int  index = index(groupId, memberId);
+        long slot  = key(groupId, memberId) << CODE_BITS | (code & CODE_MASK);
+        slots.set(index, slot);
+        if (valid.getAsBoolean())
+            return true;
+        slots.compareAndSet(index, slot, 0);
+        return false;
+    }
+
+    public void remove(final long groupId, final long memberId) {
+        if (!isStorable(groupId, memberId))
+            return;
+        int  index = index(groupId, memberId);
+        long slot  = slots.get(index);
+        if (slot != 0 && (slot >>> CODE_BITS) == key(groupId, memberId))
+            slots.compareAndSet(index, slot, 0);
+    }
+
+    /**
+     * 모임의 모든 엔트리 제거, 전체 슬롯을 순회하므로 모임 삭제처럼 드문 경우에만 사용
+     */
+    public void removeGroup(final long groupId) {
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            if (slot != 0 && (slot >>> (CODE_BITS + ID_BITS)) == groupId)
+                slots.compareAndSet(i, slot, 0);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++)
+            slots.set(i, 0);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private static long key(final long groupId, final long memberId) {
+        return (groupId & ID_MASK) << ID_BITS | (memberId & ID_MASK);
+    }
+
+    private int index(final long groupId, final long memberId) {
+        long h = key(groupId, memberId) * 0x9E3779B97F4A7C15L;  //피보나치 해싱으로 연속된 ID 를 고르게 분산
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+}
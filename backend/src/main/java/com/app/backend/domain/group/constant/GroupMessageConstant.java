@@ -1,13 +1,18 @@
 package com.app.backend.domain.group.constant;
 
 public abstract class GroupMessageConstant {
-    public static final String CREATE_GROUP_SUCCESS      = "모임이 성공적으로 생성되었습니다.";
-    public static final String READ_GROUP_SUCCESS        = "모임이 성공적으로 조회되었습니다.";
-    public static final String READ_GROUPS_SUCCESS       = "모임 목록이 성공적으로 조회되었습니다.";
-    public static final String UPDATE_GROUP_SUCCESS      = "모임이 성공적으로 수정되었습니다.";
-    public static final String DELETE_GROUP_SUCCESS      = "모임이 성공적으로 삭제되었습니다.";
-    public static final String LEAVE_GROUP_SUCCESS       = "모임에서 성공적으로 탈퇴했습니다.";
-    public static final String APPROVE_JOINING_SUCCESS   = "모임 신청을 승인했습니다.";
-    public static final String REJECT_JOINING_SUCCESS    = "모임 신청을 거절했습니다.";
-    public static final String MODIFY_GROUP_ROLE_SUCCESS = "모임 내 회원 권한이 성공적으로 변경되었습니다.";
+    public static final String CREATE_GROUP_SUCCESS            = "모임이 성공적으로 생성되었습니다.";
+    public static final String READ_GROUP_SUCCESS              = "모임이 성공적으로 조회되었습니다.";
+    public static final String READ_GROUPS_SUCCESS             = "모임 목록이 성공적으로 조회되었습니다.";
+    public static final String READ_GROUP_FACETS_SUCCESS       = "모임 검색 패싯이 성공적으로 조회되었습니다.";
+    public static final String READ_GROUP_AUTOCOMPLETE_SUCCESS = "모임 자동 완성 목록이 성공적으로 조회되었습니다.";
+    public static final String READ_NEARBY_GROUPS_SUCCESS      = "주변 모임 목록이 성공적으로 조회되었습니다.";
+    public static final String UPDATE_GROUP_SUCCESS            = "모임이 성공적으로 수정되었습니다.";
+    public static final String DELETE_GROUP_SUCCESS            = "모임이 성공적으로 삭제되었습니다.";
+    public static final String LEAVE_GROUP_SUCCESS             = "모임에서 성공적으로 탈퇴했습니다.";
+    public static final String APPROVE_JOINING_SUCCESS         = "모임 신청을 승인했습니다.";
+    public static final String REJECT_JOINING_SUCCESS          = "모임 신청을 거절했습니다.";
+    public static final String APPROVE_JOININGS_SUCCESS        = "모임 신청을 일괄 승인했습니다.";
+    public static final String REJECT_JOININGS_SUCCESS         = "모임 신청을 일괄 거절했습니다.";
+    public static final String MODIFY_GROUP_ROLE_SUCCESS       = "모임 내 회원 권한이 성공적으로 변경되었습니다.";
 }
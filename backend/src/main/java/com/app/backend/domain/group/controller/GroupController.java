@@ -11,8 +11,10 @@ import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.PageCountMode;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -74,7 +76,8 @@ public class GroupController {
                               isFirst = false,
                               isLast = false,
                               sort = false,
-                              empty = false)
+                              empty = false,
+                              countMode = PageCountMode.CACHED)
     public ApiResponse<Page<GroupResponse.ListInfo>> getGroups(
             @RequestParam(required = false) final String categoryName,
             @RequestParam(required = false) final String recruitStatus,
@@ -99,6 +102,86 @@ public class GroupController {
         return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, responseList);
     }
 
+    @GetMapping("/search")
+    @CustomPageJsonSerializer(hasContent = false,
+                              size = false,
+                              isFirst = false,
+                              isLast = false,
+                              sort = false,
+                              empty = false)
+    public ApiResponse<Page<GroupResponse.ListInfo>> searchGroups(
+            @RequestParam(required = false) final String categoryName,
+            @RequestParam(required = false) final String recruitStatus,
+            @RequestParam(required = false) final String province,
+            @RequestParam(required = false) final String city,
+            @RequestParam(required = false) final String town,
+            @RequestParam(required = false) final String keyword,
+            @PageableDefault(size = 10,
+                             page = 0,
+                             sort = "createdAt",
+                             direction = Direction.DESC) Pageable pageable
+    ) {
+        GroupRequest.Search requestDto = GroupRequest.Search.builder()
+                                                            .categoryName(categoryName)
+                                                            .recruitStatus(recruitStatus)
+                                                            .name(keyword)
+                                                            .province(province)
+                                                            .city(city)
+                                                            .town(town)
+                                                            .build();
+        Page<GroupResponse.ListInfo> responseList = groupService.searchGroups(requestDto, pageable);
+        return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, responseList);
+    }
+
+    @GetMapping("/facets")
+    public ApiResponse<GroupResponse.Facets> getGroupFacets(
+            @RequestParam(required = false) final String categoryName,
+            @RequestParam(required = false) final String recruitStatus,
+            @RequestParam(required = false) final String province,
+            @RequestParam(required = false) final String city,
+            @RequestParam(required = false) final String town,
+            @RequestParam(required = false) final String keyword
+    ) {
+        GroupRequest.Search requestDto = GroupRequest.Search.builder()
+                                                            .categoryName(categoryName)
+                                                            .recruitStatus(recruitStatus)
+                                                            .name(keyword)
+                                                            .province(province)
+                                                            .city(city)
+                                                            .town(town)
+                                                            .build();
+        GroupResponse.Facets responseDto = groupService.getGroupFacets(requestDto);
+        return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUP_FACETS_SUCCESS, responseDto);
+    }
+
+    @GetMapping("/autocomplete")
+    public ApiResponse<GroupResponse.Autocomplete> autocomplete(
+            @RequestParam(required = false) final String keyword,
+            @RequestParam(defaultValue = "10") final int size
+    ) {
+        GroupResponse.Autocomplete responseDto = groupService.autocomplete(keyword, size);
+        return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_GROUP_AUTOCOMPLETE_SUCCESS, responseDto);
+    }
+
+    @GetMapping("/nearby")
+    public ApiResponse<List<GroupResponse.Nearby>> getNearbyGroups(
+            @RequestParam final Double latitude,
+            @RequestParam final Double longitude,
+            @RequestParam(defaultValue = "3000") final Double radius,
+            @RequestParam(required = false) final String categoryName,
+            @RequestParam(defaultValue = "20") final int size
+    ) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180 || radius <= 0)
+            throw new GroupException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+        List<GroupResponse.Nearby> responseList = groupService.getNearbyGroups(latitude,
+                                                                               longitude,
+                                                                               radius,
+                                                                               categoryName,
+                                                                               size);
+        return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.READ_NEARBY_GROUPS_SUCCESS, responseList);
+    }
+
     @PatchMapping("/{groupId}")
     public ApiResponse<Void> modifyGroup(@PathVariable @Min(1) final Long groupId,
                                          @RequestBody @Valid final GroupRequest.Update requestDto,
@@ -156,6 +239,30 @@ public class GroupController {
             return ApiResponse.of(true, HttpStatus.OK, GroupMessageConstant.REJECT_JOINING_SUCCESS);
     }
 
+    @PostMapping("/{groupId}/approve/batch")
+    public ApiResponse<GroupResponse.ApproveJoinings> approveJoinings(
+            @PathVariable @Min(1) final Long groupId,
+            @RequestBody @Valid final GroupRequest.ApproveJoinings requestDto,
+            BindingResult bindingResult,
+            @AuthenticationPrincipal final UserDetails userDetails
+    ) {
+        if (bindingResult.hasErrors())
+            throw new GroupMembershipException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+        GroupResponse.ApproveJoinings responseDto = groupMembershipService.approveJoinings(
+                ((MemberDetails) userDetails).getId(),
+                groupId,
+                requestDto.getMemberIds(),
+                requestDto.getIsAccept()
+        );
+
+        return ApiResponse.of(true,
+                              HttpStatus.OK,
+                              requestDto.getIsAccept() ? GroupMessageConstant.APPROVE_JOININGS_SUCCESS
+                                                       : GroupMessageConstant.REJECT_JOININGS_SUCCESS,
+                              responseDto);
+    }
+
     @PatchMapping("/{groupId}/permission")
     public ApiResponse<Void> modifyGroupRole(@PathVariable @Min(1) final Long groupId,
                                              @RequestBody @Valid final GroupRequest.Permission requestDto,
@@ -2,7 +2,10 @@ package com.app.backend.domain.group.dto.request;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -86,6 +89,19 @@ public class GroupRequest {
         private Boolean isAccept;
     }
 
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ApproveJoinings {
+        @NotEmpty
+        @Size(max = 100)
+        private List<@NotNull @Min(1) Long> memberIds;
+        @NotNull
+        private Boolean                     isAccept;
+    }
+
     @Getter
     @Setter
     @Builder
@@ -1,10 +1,11 @@
 package com.app.backend.domain.group.dto.response;
 
 import com.app.backend.domain.group.entity.Group;
-import com.app.backend.domain.group.entity.GroupRole;
-import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.search.GroupFacetCounts;
+import com.app.backend.domain.group.search.GroupIndexEvent;
 import com.app.backend.global.util.AppUtil;
 import java.util.List;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,7 @@ import lombok.Getter;
 
 public class GroupResponse {
 
-    public static Detail toDetail(final Group group) {
+    public static Detail toDetail(final Group group, final List<String> groupLeaders) {
         return Detail.builder()
                      .id(group.getId())
                      .categoryName(group.getCategory().getName())
@@ -23,18 +24,14 @@ public class GroupResponse {
                      .description(group.getDescription())
                      .recruitStatus(group.getRecruitStatus().name())
                      .maxRecruitCount(group.getMaxRecruitCount())
-                     .currentMemberCount(Math.toIntExact(
-                             group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                     && !m.getDisabled()).count()
-                     )).createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
-                     .groupLeaders(group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                           && m.getGroupRole() == GroupRole.LEADER
-                                                                           && !m.getDisabled())
-                                        .map(m -> m.getMember().getNickname()).toList())
+                     .currentMemberCount(group.getApprovedMemberCount())
+                     .createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
+                     .groupLeaders(groupLeaders)
                      .build();
     }
 
     public static Detail toDetail(final Group group,
+                                  final List<String> groupLeaders,
                                   final boolean isApplying,
                                   final boolean isMember,
                                   final boolean isAdmin) {
@@ -48,21 +45,16 @@ public class GroupResponse {
                      .description(group.getDescription())
                      .recruitStatus(group.getRecruitStatus().name())
                      .maxRecruitCount(group.getMaxRecruitCount())
-                     .currentMemberCount(Math.toIntExact(
-                             group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                     && !m.getDisabled()).count()
-                     )).createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
-                     .groupLeaders(group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                           && m.getGroupRole() == GroupRole.LEADER
-                                                                           && !m.getDisabled())
-                                        .map(m -> m.getMember().getNickname()).toList())
+                     .currentMemberCount(group.getApprovedMemberCount())
+                     .createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
+                     .groupLeaders(groupLeaders)
                      .isApplying(isApplying)
                      .isMember(isMember)
                      .isAdmin(isAdmin)
                      .build();
     }
 
-    public static ListInfo toListInfo(final Group group) {
+    public static ListInfo toListInfo(final Group group, final List<String> groupLeaders) {
         return ListInfo.builder()
                        .id(group.getId())
                        .categoryName(group.getCategory().getName())
@@ -72,17 +64,77 @@ public class GroupResponse {
                        .town(group.getTown())
                        .recruitStatus(group.getRecruitStatus().name())
                        .maxRecruitCount(group.getMaxRecruitCount())
-                       .currentMemberCount(Math.toIntExact(
-                               group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                       && !m.getDisabled()).count()
-                       )).createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
-                       .groupLeaders(group.getMembers().stream().filter(m -> m.getStatus() == MembershipStatus.APPROVED
-                                                                             && m.getGroupRole() == GroupRole.LEADER
-                                                                             && !m.getDisabled())
-                                          .map(m -> m.getMember().getNickname()).toList())
+                       .currentMemberCount(group.getApprovedMemberCount())
+                       .createdAt(AppUtil.localDateTimeToString(group.getCreatedAt()))
+                       .groupLeaders(groupLeaders)
                        .build();
     }
 
+    public static Facets toFacets(final GroupFacetCounts facetCounts) {
+        return Facets.builder()
+                     .total(facetCounts.total())
+                     .categories(facetCounts.categories())
+                     .recruitStatuses(facetCounts.recruitStatuses())
+                     .provinces(facetCounts.provinces())
+                     .cities(facetCounts.cities())
+                     .towns(facetCounts.towns())
+                     .build();
+    }
+
+    public static GroupSuggestion toGroupSuggestion(final GroupIndexEvent event) {
+        return GroupSuggestion.builder()
+                              .id(event.getGroupId())
+                              .name(event.getName())
+                              .categoryName(event.getCategoryName())
+                              .recruitStatus(event.getRecruitStatus().name())
+                              .likeCount(event.getLikeCount())
+                              .build();
+    }
+
+    public static RegionSuggestion toRegionSuggestion(final String province,
+                                                      final String city,
+                                                      final String town,
+                                                      final int groupCount) {
+        return RegionSuggestion.builder()
+                               .province(province)
+                               .city(city)
+                               .town(town)
+                               .groupCount(groupCount)
+                               .build();
+    }
+
+    public static Nearby toNearby(final Group group, final double distance) {
+        return Nearby.builder()
+                     .id(group.getId())
+                     .categoryName(group.getCategory().getName())
+                     .name(group.getName())
+                     .province(group.getProvince())
+                     .city(group.getCity())
+                     .town(group.getTown())
+                     .recruitStatus(group.getRecruitStatus().name())
+                     .maxRecruitCount(group.getMaxRecruitCount())
+                     .latitude(group.getLatitude())
+                     .longitude(group.getLongitude())
+                     .distance(Math.round(distance))
+                     .build();
+    }
+
+    public static Autocomplete toAutocomplete(final List<GroupSuggestion> groups,
+                                              final List<RegionSuggestion> regions) {
+        return Autocomplete.builder()
+                           .groups(groups)
+                           .regions(regions)
+                           .build();
+    }
+
+    public static ApproveJoinings toApproveJoinings(final List<Long> processedMemberIds,
+                                                    final List<Long> skippedMemberIds) {
+        return ApproveJoinings.builder()
+                              .processedMemberIds(processedMemberIds)
+                              .skippedMemberIds(skippedMemberIds)
+                              .build();
+    }
+
     @Getter
     @Builder(access = AccessLevel.PRIVATE)
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -121,4 +173,70 @@ public class GroupResponse {
         private final List<String> groupLeaders;
     }
 
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Facets {
+        private final Long                 total;
+        private final Map<String, Integer> categories;
+        private final Map<String, Integer> recruitStatuses;
+        private final Map<String, Integer> provinces;
+        private final Map<String, Integer> cities;
+        private final Map<String, Integer> towns;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class GroupSuggestion {
+        private final Long    id;
+        private final String  name;
+        private final String  categoryName;
+        private final String  recruitStatus;
+        private final Integer likeCount;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RegionSuggestion {
+        private final String  province;
+        private final String  city;
+        private final String  town;
+        private final Integer groupCount;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Autocomplete {
+        private final List<GroupSuggestion>  groups;
+        private final List<RegionSuggestion> regions;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Nearby {
+        private final Long    id;
+        private final String  categoryName;
+        private final String  name;
+        private final String  province;
+        private final String  city;
+        private final String  town;
+        private final String  recruitStatus;
+        private final Integer maxRecruitCount;
+        private final Double  latitude;
+        private final Double  longitude;
+        private final Long    distance;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ApproveJoinings {
+        private final List<Long> processedMemberIds;  //승인 또는 거절된 회원 ID
+        private final List<Long> skippedMemberIds;    //신청 상태가 아니거나 남은 인원을 초과하여 처리되지 않은 회원 ID
+    }
+
 }
@@ -25,12 +25,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "tbl_groups")
+@DynamicUpdate
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -82,6 +85,24 @@ public class Group extends BaseEntity {
     @Column
     private int likeCount = 0; // 좋아요 수
 
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer approvedMemberCount = 0;    //가입 승인된(APPROVED) 회원 수(조건부 UPDATE 쿼리로만 갱신)
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer leaderCount = 0;    //가입 승인된(APPROVED) 모임 관리자(LEADER) 수(조건부 UPDATE 쿼리로만 갱신)
+
+    @Column
+    private Double latitude;    //활동 지역 위도(활동 지역으로 지오코딩, 지오코딩 전이면 null)
+
+    @Column
+    private Double longitude;   //활동 지역 경도(활동 지역으로 지오코딩, 지오코딩 전이면 null)
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long fencingToken = 0L;    //마지막으로 쓰기를 수행한 락의 펜싱 토큰(조건부 UPDATE 쿼리로만 갱신)
+
     @Builder
     private Group(@NotNull final Long id,
                   @NotNull final String name,
@@ -138,12 +159,28 @@ public class Group extends BaseEntity {
     public Group modifyRegion(@NotNull @NotBlank final String newProvince,
                               @NotNull @NotBlank final String newCity,
                               @NotNull @NotBlank final String newTown) {
-        if (!province.equals(newProvince))
-            province = newProvince;
-        if (!city.equals(newCity))
-            city = newCity;
-        if (!town.equals(newTown))
-            town = newTown;
+        if (province.equals(newProvince) && city.equals(newCity) && town.equals(newTown))
+            return this;
+
+        province = newProvince;
+        city = newCity;
+        town = newTown;
+        //활동 지역이 변경된 경우 좌표를 초기화하여 다시 지오코딩
+        latitude = null;
+        longitude = null;
+        return this;
+    }
+
+    /**
+     * 모임 활동 지역 좌표 수정
+     *
+     * @param newLatitude  - 새로운 위도
+     * @param newLongitude - 새로운 경도
+     * @return this
+     */
+    public Group modifyLocation(@NotNull final Double newLatitude, @NotNull final Double newLongitude) {
+        latitude = newLatitude;
+        longitude = newLongitude;
         return this;
     }
 
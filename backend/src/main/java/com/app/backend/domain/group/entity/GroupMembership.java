@@ -17,6 +17,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "tbl_group_memberships")
@@ -49,6 +50,10 @@ public class GroupMembership extends BaseEntity {
     @Column(nullable = false)
     private MembershipStatus status;    //모임 내 회원의 상태: PENDING, APPROVED, REJECTED, LEAVE
 
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long fencingToken = 0L; //마지막으로 쓰기를 수행한 락의 펜싱 토큰(조건부 UPDATE 쿼리로만 갱신)
+
     @Builder
     public GroupMembership(@NotNull final Member member,
                            @NotNull final Group group,
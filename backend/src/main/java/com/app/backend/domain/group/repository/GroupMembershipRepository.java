@@ -1,9 +1,11 @@
 package com.app.backend.domain.group.repository;
 
+import com.app.backend.domain.group.authorization.MembershipDecision;
 import com.app.backend.domain.group.entity.GroupMembership;
 import com.app.backend.domain.group.entity.GroupMembershipId;
 import com.app.backend.domain.group.entity.GroupRole;
 import com.app.backend.domain.group.entity.MembershipStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -19,6 +21,13 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
 
     Optional<GroupMembership> findByGroupIdAndMemberIdAndDisabled(Long groupId, Long memberId, Boolean disabled);
 
+    /**
+     * 권한 검사용 멤버십 상태와 모임 내 권한만 조회
+     */
+    @Query("SELECT new com.app.backend.domain.group.authorization.MembershipDecision(g.status, g.groupRole) "
+           + "FROM GroupMembership g WHERE g.groupId = :groupId AND g.memberId = :memberId AND g.disabled = false")
+    Optional<MembershipDecision> findDecision(@Param("groupId") Long groupId, @Param("memberId") Long memberId);
+
     List<GroupMembership> findAllByGroupId(Long groupId);
 
     List<GroupMembership> findAllByGroupIdAndDisabled(Long groupId, Boolean disabled);
@@ -41,6 +50,11 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
                                                                    GroupRole groupRole,
                                                                    Boolean disabled);
 
+    List<GroupMembership> findAllByGroupIdAndMemberIdInAndStatusInAndDisabled(Long groupId,
+                                                                              Collection<Long> memberIds,
+                                                                              Collection<MembershipStatus> statuses,
+                                                                              Boolean disabled);
+
     boolean existsByGroupIdAndMemberId(Long groupId, Long memberId);
 
     boolean existsByGroupIdAndMemberIdAndDisabled(Long groupId, Long memberId, Boolean disabled);
@@ -61,4 +75,39 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
     @Query("UPDATE GroupMembership g SET g.disabled = :disabled WHERE g.groupId = :groupId")
     int updateDisabledForAllGroupMembership(@Param("groupId") Long groupId, @Param("disabled") Boolean disabled);
 
+    /**
+     * 멤버십 상태 조건부 변경, 현재 상태가 허용된 상태 중 하나인 경우에만 변경
+     *
+     * @return 변경 성공 시 1, 동시 요청으로 이미 상태가 바뀐 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GroupMembership g SET g.status = :newStatus "
+           + "WHERE g.groupId = :groupId AND g.memberId = :memberId AND g.disabled = false "
+           + "AND g.status IN :currentStatuses")
+    int updateStatus(@Param("groupId") Long groupId,
+                     @Param("memberId") Long memberId,
+                     @Param("currentStatuses") Collection<MembershipStatus> currentStatuses,
+                     @Param("newStatus") MembershipStatus newStatus);
+
+    /**
+     * 여러 회원의 멤버십 상태 일괄 조건부 변경, 현재 상태가 허용된 상태 중 하나인 멤버십만 변경
+     *
+     * @return 변경된 멤버십 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GroupMembership g SET g.status = :newStatus "
+           + "WHERE g.groupId = :groupId AND g.memberId IN :memberIds AND g.disabled = false "
+           + "AND g.status IN :currentStatuses")
+    int updateAllStatus(@Param("groupId") Long groupId,
+                        @Param("memberIds") Collection<Long> memberIds,
+                        @Param("currentStatuses") Collection<MembershipStatus> currentStatuses,
+                        @Param("newStatus") MembershipStatus newStatus);
+
+    @Modifying
+    @Query("UPDATE GroupMembership g SET g.fencingToken = :token "
+           + "WHERE g.groupId = :groupId AND g.memberId = :memberId AND g.fencingToken < :token")
+    int updateFencingToken(@Param("groupId") Long groupId,
+                           @Param("memberId") Long memberId,
+                           @Param("token") Long token);
+
 }
@@ -1,4 +1,11 @@
 package com.app.backend.domain.group.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface GroupMembershipRepositoryCustom {
+
+    Map<Long, List<String>> findLeaderNicknamesByGroupIds(Collection<Long> groupIds);
+
 }
@@ -1,6 +1,16 @@
 package com.app.backend.domain.group.repository;
 
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.entity.QGroupMembership;
+import com.app.backend.domain.member.entity.QMember;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +20,35 @@ public class GroupMembershipRepositoryImpl implements GroupMembershipRepositoryC
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 모임 ID 목록으로 모임별 관리자(LEADER) 닉네임 목록을 한 번의 쿼리로 조회
+     *
+     * @param groupIds - 모임 ID 목록
+     * @return 모임 ID 별 관리자 닉네임 목록(관리자가 없는 모임은 포함되지 않음)
+     */
+    @Override
+    public Map<Long, List<String>> findLeaderNicknamesByGroupIds(final Collection<Long> groupIds) {
+        if (groupIds.isEmpty())
+            return Map.of();
+
+        QGroupMembership groupMembership = QGroupMembership.groupMembership;
+        QMember          member          = QMember.member;
+
+        List<Tuple> leaders = jpaQueryFactory.select(groupMembership.groupId, member.nickname)
+                                             .from(groupMembership)
+                                             .join(groupMembership.member, member)
+                                             .where(groupMembership.groupId.in(groupIds),
+                                                    groupMembership.status.eq(MembershipStatus.APPROVED),
+                                                    groupMembership.groupRole.eq(GroupRole.LEADER),
+                                                    groupMembership.disabled.eq(false))
+                                             .orderBy(groupMembership.createdAt.asc())
+                                             .fetch();
+
+        Map<Long, List<String>> leaderMap = new HashMap<>();
+        for (Tuple tuple : leaders)
+            leaderMap.computeIfAbsent(tuple.get(groupMembership.groupId), k -> new ArrayList<>())
+                     .add(tuple.get(member.nickname));
+        return leaderMap;
+    }
+
 }
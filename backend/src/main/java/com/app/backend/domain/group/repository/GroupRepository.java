@@ -1,13 +1,21 @@
 package com.app.backend.domain.group.repository;
 
 import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.entity.RecruitStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,12 +23,16 @@ public interface GroupRepository extends JpaRepository<Group, Long>, GroupReposi
 
     Optional<Group> findByIdAndDisabled(Long id, Boolean disabled);
 
+    @EntityGraph(attributePaths = "category")
     List<Group> findAllByDisabled(Boolean disabled);
 
+    @EntityGraph(attributePaths = "category")
     Page<Group> findAllByDisabled(Boolean disabled, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     List<Group> findAllByNameContainingAndDisabled(String name, Boolean disabled);
 
+    @EntityGraph(attributePaths = "category")
     Page<Group> findAllByNameContainingAndDisabled(String name, Boolean disabled, Pageable pageable);
 
     List<Group> findAllByCategory_Name(String categoryName);
@@ -38,7 +50,128 @@ public interface GroupRepository extends JpaRepository<Group, Long>, GroupReposi
                                                                    Boolean disabled,
                                                                    Pageable pageable);
 
+    @Query("SELECT g FROM Group g JOIN FETCH g.category WHERE g.disabled = :disabled")
+    List<Group> findAllWithCategoryByDisabled(@Param("disabled") Boolean disabled);
+
+    @Query("SELECT g FROM Group g LEFT JOIN FETCH g.category WHERE g.id IN :ids")
+    List<Group> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT g FROM Group g WHERE g.id = :groupId")
     Optional<Group> findByIdWithLock(Long groupId);
+
+    @Modifying
+    @Query("UPDATE Group g SET g.fencingToken = :token WHERE g.id = :groupId AND g.fencingToken < :token")
+    int updateFencingToken(@Param("groupId") Long groupId, @Param("token") Long token);
+
+    /**
+     * 승인된 회원 수, 관리자 수를 변화량만큼 원자적으로 갱신, 갱신 후 음수가 되는 경우 갱신하지 않음
+     *
+     * @return 갱신 성공 시 1, 모임이 없거나 음수가 되는 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.approvedMemberCount = g.approvedMemberCount + :approvedDelta, "
+           + "g.leaderCount = g.leaderCount + :leaderDelta "
+           + "WHERE g.id = :groupId AND g.approvedMemberCount + :approvedDelta >= 0 "
+           + "AND g.leaderCount + :leaderDelta >= 0")
+    int addMemberCount(@Param("groupId") Long groupId,
+                       @Param("approvedDelta") int approvedDelta,
+                       @Param("leaderDelta") int leaderDelta);
+
+    /**
+     * 모집 중인 모임의 좌석 예약, 예약 후 승인된 회원 수가 최대 인원 이하인 경우에만 좌석 수만큼 증가
+     *
+     * @return 예약 성공 시 1, 모집 중이 아니거나 남은 인원이 부족한 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.approvedMemberCount = g.approvedMemberCount + :seats "
+           + "WHERE g.id = :groupId AND g.disabled = false AND g.recruitStatus = :recruiting "
+           + "AND g.approvedMemberCount + :seats <= g.maxRecruitCount")
+    int reserveSeats(@Param("groupId") Long groupId,
+                     @Param("seats") int seats,
+                     @Param("recruiting") RecruitStatus recruiting);
+
+    /**
+     * 모임 내 권한 변경에 따른 관리자 수 갱신, 권한 해제(delta = -1)는 다른 관리자가 남아 있을 때만 갱신
+     *
+     * @return 갱신 성공 시 1, 마지막 관리자의 권한을 해제하려는 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.leaderCount = g.leaderCount + :delta "
+           + "WHERE g.id = :groupId AND g.disabled = false AND (:delta > 0 OR g.leaderCount > 1)")
+    int modifyLeaderCount(@Param("groupId") Long groupId, @Param("delta") int delta);
+
+    /**
+     * 탈퇴한 회원의 좌석 반환, 관리자가 탈퇴하는 경우(leaderDelta = 1) 다른 관리자가 남아 있을 때만 반환
+     *
+     * @return 반환 성공 시 1, 마지막 관리자인 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.approvedMemberCount = g.approvedMemberCount - 1, "
+           + "g.leaderCount = g.leaderCount - :leaderDelta "
+           + "WHERE g.id = :groupId AND g.approvedMemberCount > 0 AND (:leaderDelta = 0 OR g.leaderCount > 1)")
+    int releaseSeat(@Param("groupId") Long groupId, @Param("leaderDelta") int leaderDelta);
+
+    /**
+     * 최대 인원에 도달한 모집 중인 모임의 모집 마감
+     *
+     * @return 마감 시 1, 이미 마감되었거나 인원이 남아 있는 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.recruitStatus = :closed "
+           + "WHERE g.id = :groupId AND g.recruitStatus = :recruiting "
+           + "AND g.approvedMemberCount >= g.maxRecruitCount")
+    int closeRecruitmentIfFull(@Param("groupId") Long groupId,
+                               @Param("recruiting") RecruitStatus recruiting,
+                               @Param("closed") RecruitStatus closed);
+
+    /**
+     * 인원이 남은 마감된 모임의 모집 재개
+     *
+     * @return 재개 시 1, 이미 모집 중이거나 최대 인원에 도달한 경우 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.recruitStatus = :recruiting "
+           + "WHERE g.id = :groupId AND g.recruitStatus = :closed "
+           + "AND g.approvedMemberCount < g.maxRecruitCount")
+    int reopenRecruitmentIfAvailable(@Param("groupId") Long groupId,
+                                     @Param("closed") RecruitStatus closed,
+                                     @Param("recruiting") RecruitStatus recruiting);
+
+    @Query("SELECT g.id FROM Group g WHERE g.disabled = false "
+           + "AND (g.approvedMemberCount <> (SELECT COUNT(gm) FROM GroupMembership gm "
+           + "WHERE gm.groupId = g.id AND gm.status = :approved AND gm.disabled = false) "
+           + "OR g.leaderCount <> (SELECT COUNT(gm) FROM GroupMembership gm "
+           + "WHERE gm.groupId = g.id AND gm.status = :approved AND gm.groupRole = :leader AND gm.disabled = false))")
+    List<Long> findAllIdsWithDriftedMemberCount(@Param("approved") MembershipStatus approved,
+                                                @Param("leader") GroupRole leader);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Group g SET "
+           + "g.approvedMemberCount = (SELECT COUNT(gm) FROM GroupMembership gm "
+           + "WHERE gm.groupId = g.id AND gm.status = :approved AND gm.disabled = false), "
+           + "g.leaderCount = (SELECT COUNT(gm) FROM GroupMembership gm "
+           + "WHERE gm.groupId = g.id AND gm.status = :approved AND gm.groupRole = :leader AND gm.disabled = false) "
+           + "WHERE g.id IN :groupIds")
+    int reconcileMemberCount(@Param("groupIds") Collection<Long> groupIds,
+                             @Param("approved") MembershipStatus approved,
+                             @Param("leader") GroupRole leader);
+
+    @Query("SELECT g FROM Group g JOIN FETCH g.category "
+           + "WHERE g.latitude IS NULL AND g.disabled = :disabled AND g.id > :lastId ORDER BY g.id ASC")
+    List<Group> findAllWithCategoryByLatitudeIsNullAndDisabled(@Param("lastId") Long lastId,
+                                                                @Param("disabled") Boolean disabled,
+                                                                Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Group g SET g.latitude = :latitude, g.longitude = :longitude "
+           + "WHERE g.id = :groupId AND g.province = :province AND g.city = :city AND g.town = :town "
+           + "AND g.disabled = :disabled")
+    int updateLocation(@Param("groupId") Long groupId,
+                       @Param("province") String province,
+                       @Param("city") String city,
+                       @Param("town") String town,
+                       @Param("latitude") Double latitude,
+                       @Param("longitude") Double longitude,
+                       @Param("disabled") Boolean disabled);
 }
@@ -3,11 +3,13 @@ package com.app.backend.domain.group.repository;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.QGroup;
 import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.global.util.PageCounter;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
@@ -15,7 +17,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -24,6 +25,7 @@ import org.springframework.util.StringUtils;
 public class GroupRepositoryImpl implements GroupRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter     pageCounter;
 
     /**
      * 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
@@ -41,6 +43,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                        @NotNull final Boolean disabled) {
         QGroup group = QGroup.group;
         return jpaQueryFactory.selectFrom(group)
+                              .leftJoin(group.category).fetchJoin()
                               .where(getRegionCondition(province, city, town, group).and(group.disabled.eq(disabled)))
                               .fetch();
     }
@@ -62,17 +65,8 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                        @NotNull final Boolean disabled,
                                        @NotNull final Pageable pageable) {
         QGroup group = QGroup.group;
-        List<Group> content = jpaQueryFactory.selectFrom(group)
-                                             .where(getRegionCondition(province, city, town, group)
-                                                            .and(group.disabled.eq(disabled)))
-                                             .orderBy(getSortCondition(pageable, group))
-                                             .offset(pageable.getOffset())
-                                             .limit(pageable.getPageSize())
-                                             .fetch();
-        JPAQuery<Long> count = jpaQueryFactory.select(group.count())
-                                              .from(group)
-                                              .where(getRegionCondition(province, city, town, group));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        Predicate predicate = getRegionCondition(province, city, town, group).and(group.disabled.eq(disabled));
+        return getPage(group, predicate, pageable);
     }
 
     /**
@@ -93,6 +87,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                         @NotNull final Boolean disabled) {
         QGroup group = QGroup.group;
         return jpaQueryFactory.selectFrom(group)
+                              .leftJoin(group.category).fetchJoin()
                               .where(group.name.contains(name)
                                                .and(getRegionCondition(province, city, town, group))
                                                .and(group.disabled.eq(disabled)))
@@ -118,19 +113,10 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                         @NotNull final Boolean disabled,
                                                         @NotNull final Pageable pageable) {
         QGroup group = QGroup.group;
-        List<Group> content = jpaQueryFactory.selectFrom(group)
-                                             .where(group.name.contains(name)
-                                                              .and(getRegionCondition(province, city, town, group))
-                                                              .and(group.disabled.eq(disabled)))
-                                             .orderBy(getSortCondition(pageable, group))
-                                             .offset(pageable.getOffset())
-                                             .limit(pageable.getPageSize())
-                                             .fetch();
-        JPAQuery<Long> count = jpaQueryFactory.select(group.count())
-                                              .from(group)
-                                              .where(group.name.contains(name)
-                                                               .and(getRegionCondition(province, city, town, group)));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        Predicate predicate = group.name.contains(name)
+                                        .and(getRegionCondition(province, city, town, group))
+                                        .and(group.disabled.eq(disabled));
+        return getPage(group, predicate, pageable);
     }
 
     /**
@@ -153,6 +139,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                                    @NotNull final Boolean disabled) {
         QGroup group = QGroup.group;
         return jpaQueryFactory.selectFrom(group)
+                              .leftJoin(group.category).fetchJoin()
                               .where(categoryName != null && !categoryName.isBlank()
                                      ? group.category.name.eq(categoryName)
                                      : Expressions.TRUE,
@@ -185,30 +172,15 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                                    @NotNull final Boolean disabled,
                                                                    @NotNull final Pageable pageable) {
         QGroup group = QGroup.group;
-        List<Group> content = jpaQueryFactory.selectFrom(group)
-                                             .where(categoryName != null && !categoryName.isBlank()
+        Predicate predicate = ExpressionUtils.allOf(categoryName != null && !categoryName.isBlank()
                                                     ? group.category.name.eq(categoryName)
                                                     : Expressions.TRUE,
                                                     name != null && !name.isBlank()
                                                     ? group.name.contains(name)
                                                     : Expressions.TRUE,
                                                     getRegionCondition(province, city, town, group),
-                                                    group.disabled.eq(disabled))
-                                             .orderBy(getSortCondition(pageable, group))
-                                             .offset(pageable.getOffset())
-                                             .limit(pageable.getPageSize())
-                                             .fetch();
-        JPAQuery<Long> count = jpaQueryFactory.select(group.count())
-                                              .from(group)
-                                              .where(categoryName != null && !categoryName.isBlank()
-                                                     ? group.category.name.eq(categoryName)
-                                                     : Expressions.TRUE,
-                                                     name != null && !name.isBlank()
-                                                     ? group.name.contains(name)
-                                                     : Expressions.TRUE,
-                                                     getRegionCondition(province, city, town, group),
-                                                     group.disabled.eq(disabled));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+                                                    group.disabled.eq(disabled));
+        return getPage(group, predicate, pageable);
     }
 
     /**
@@ -233,6 +205,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                                                    @NotNull final Boolean disabled) {
         QGroup group = QGroup.group;
         return jpaQueryFactory.selectFrom(group)
+                              .leftJoin(group.category).fetchJoin()
                               .where(categoryName != null && !categoryName.isBlank()
                                      ? group.category.name.eq(categoryName)
                                      : Expressions.TRUE,
@@ -270,8 +243,7 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                                                    @NotNull final Boolean disabled,
                                                                                    @NotNull final Pageable pageable) {
         QGroup group = QGroup.group;
-        List<Group> content = jpaQueryFactory.selectFrom(group)
-                                             .where(categoryName != null && !categoryName.isBlank()
+        Predicate predicate = ExpressionUtils.allOf(categoryName != null && !categoryName.isBlank()
                                                     ? group.category.name.eq(categoryName)
                                                     : Expressions.TRUE,
                                                     recruitStatus != null && !recruitStatus.isBlank()
@@ -281,29 +253,35 @@ public class GroupRepositoryImpl implements GroupRepositoryCustom {
                                                     ? group.name.contains(name)
                                                     : Expressions.TRUE,
                                                     getRegionCondition(province, city, town, group),
-                                                    group.disabled.eq(disabled))
+                                                    group.disabled.eq(disabled));
+        return getPage(group, predicate, pageable);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 조건(Predicate)으로 모임 페이징 목록 조회, 전체 개수는 요청 경로의 PageCountMode 에 따라 계산
+     *
+     * @param group     - QGroup
+     * @param predicate - 조회 조건
+     * @param pageable  - 페이징 객체
+     * @return 모임 페이징 목록
+     */
+    private Page<Group> getPage(final QGroup group, final Predicate predicate, final Pageable pageable) {
+        List<Group> content = jpaQueryFactory.selectFrom(group)
+                                             .leftJoin(group.category).fetchJoin()
+                                             .where(predicate)
                                              .orderBy(getSortCondition(pageable, group))
                                              .offset(pageable.getOffset())
-                                             .limit(pageable.getPageSize())
+                                             .limit(pageCounter.getLimit(pageable))
                                              .fetch();
-        JPAQuery<Long> count = jpaQueryFactory.select(group.count())
-                                              .from(group)
-                                              .where(categoryName != null && !categoryName.isBlank()
-                                                     ? group.category.name.eq(categoryName)
-                                                     : Expressions.TRUE,
-                                                     recruitStatus != null && !recruitStatus.isBlank()
-                                                     ? group.recruitStatus.eq(RecruitStatus.valueOf(recruitStatus))
-                                                     : Expressions.TRUE,
-                                                     name != null && !name.isBlank()
-                                                     ? group.name.contains(name)
-                                                     : Expressions.TRUE,
-                                                     getRegionCondition(province, city, town, group),
-                                                     group.disabled.eq(disabled));
-        return PageableExecutionUtils.getPage(content, pageable, count::fetchOne);
+        return pageCounter.getPage("group:search",
+                                   content,
+                                   pageable,
+                                   predicate,
+                                   () -> jpaQueryFactory.select(group.count()).from(group).where(predicate).fetchOne());
     }
 
-    //============================== 내부 메서드 ==============================//
-
     /**
      * 검색할 지역(시/도, 시/군/구, 읍/면/동)에 따라 BooleanExpression 생성
      *
@@ -0,0 +1,137 @@
+package com.app.backend.domain.group.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접두어 자동 완성용 트라이, 각 노드에 하위 트리의 점수 상위 K 개 항목을 미리 계산하여 보관
+ * <p>
+ * 조회는 접두어 길이만큼 노드를 따라 내려가 상위 목록을 반환하므로 전체 항목 수와 무관하며,
+ * 갱신 시에는 변경된 키 경로의 노드만 하위에서 상위로 다시 계산
+ * 동기화하지 않으므로 호출 측에서 읽기/쓰기 락으로 보호해야 함
+ *
+ * @param <T> - 항목 값 타입
+ */
+class AutocompleteTrie<T> {
+
+    private final int     topK;
+    private final Node<T> root = new Node<>();
+
+    AutocompleteTrie(final int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @param key   - 자모 분해된 키
+     * @param entry - 항목
+     */
+    void insert(final String key, final Entry<T> entry) {
+        List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (char c : key.toCharArray()) {
+            node = node.children.computeIfAbsent(c, k -> new Node<>());
+            path.add(node);
+        }
+        node.terminals.add(entry);
+        recompute(path);
+    }
+
+    /**
+     * 항목 삭제
+     *
+     * @param key - 자모 분해된 키
+     * @param id  - 삭제할 항목 ID
+     */
+    void remove(final String key, final Object id) {
+        List<Node<T>> path = new ArrayList<>(key.length() + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (char c : key.toCharArray()) {
+            node = node.children.get(c);
+            if (node == null)
+                return;
+            path.add(node);
+        }
+        node.terminals.removeIf(entry -> entry.id().equals(id));
+
+        //비어있는 노드 정리
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<T> current = path.get(i);
+            if (!current.terminals.isEmpty() || !current.children.isEmpty())
+                break;
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+            path.remove(i);
+        }
+        recompute(path);
+    }
+
+    /**
+     * 접두어로 시작하는 키의 점수 상위 항목 조회
+     *
+     * @param prefix - 자모 분해된 접두어
+     * @return 점수 상위 항목 목록(최대 K 개)
+     */
+    List<Entry<T>> search(final String prefix) {
+        Node<T> node = root;
+        for (char c : prefix.toCharArray()) {
+            node = node.children.get(c);
+            if (node == null)
+                return List.of();
+        }
+        return node.top;
+    }
+
+    void clear() {
+        root.children.clear();
+        root.terminals.clear();
+        root.top = List.of();
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 경로의 노드를 하위에서 상위 순서로 상위 K 개 항목 재계산, 동일한 항목이 여러 하위 노드에 존재할 수 있으므로 ID 로 중복 제거
+     */
+    private void recompute(final List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+
+            List<Entry<T>> candidates = new ArrayList<>(node.terminals);
+            node.children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(Comparator.comparingLong((Entry<T> entry) -> entry.score()).reversed());
+
+            Map<Object, Entry<T>> top = new LinkedHashMap<>();
+            for (Entry<T> candidate : candidates) {
+                top.putIfAbsent(candidate.id(), candidate);
+                if (top.size() == topK)
+                    break;
+            }
+            node.top = List.copyOf(top.values());
+        }
+    }
+
+    private static class Node<T> {
+        private final Map<Character, Node<T>> children  = new HashMap<>();
+        private final List<Entry<T>>          terminals = new ArrayList<>();
+        private       List<Entry<T>>          top       = List.of();
+    }
+
+    /**
+     * 자동 완성 항목
+     *
+     * @param id    - 항목 ID(중복 제거 기준)
+     * @param value - 항목 값
+     * @param score - 정렬 점수(내림차순)
+     * @param <T>   - 항목 값 타입
+     */
+    record Entry<T>(Object id, T value, long score) {
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.app.backend.domain.group.search;
+
+import com.app.backend.domain.group.dto.response.GroupResponse;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.global.util.HangulUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 모임 이름과 활동 지역의 접두어 자동 완성 색인
+ * <p>
+ * 모임 이름은 전체 이름과 각 단어 시작 위치를 키로, 지역은 시/군/구와 읍/면/동 단위로 자모 분해하여 트라이에 저장
+ * 모임은 좋아요 수, 지역은 해당 지역의 모임 수 순으로 상위 항목을 반환
+ */
+@Slf4j
+@Component
+public class GroupAutocompleteIndex {
+
+    public static final int MAX_SIZE = 10;
+
+    private final GroupRepository groupRepository;
+    private final Timer           queryTimer;
+
+    private final ReadWriteLock                                    lock        = new ReentrantReadWriteLock();
+    private final Object                                           rebuildLock = new Object();
+    private final AutocompleteTrie<GroupResponse.GroupSuggestion>  groupTrie   = new AutocompleteTrie<>(MAX_SIZE);
+    private final AutocompleteTrie<GroupResponse.RegionSuggestion> regionTrie  = new AutocompleteTrie<>(MAX_SIZE);
+    private final Map<Long, GroupIndexEvent>                       groups      = new HashMap<>();
+    private final Map<Region, Integer>                             regionCount = new HashMap<>();
+
+    //재구축 중 증분 반영된 모임 ID, 재구축이 읽은 DB 스냅샷보다 최신이므로 재구축이 덮어쓰지 않음(쓰기 락으로 보호)
+    private Set<Long> rebuildTouchedIds;
+
+    public GroupAutocompleteIndex(final GroupRepository groupRepository, final MeterRegistry meterRegistry) {
+        this.groupRepository = groupRepository;
+        this.queryTimer = Timer.builder("group.autocomplete.query")
+                               .description("모임 자동 완성 조회 지연 시간")
+                               .publishPercentiles(0.5, 0.99)
+                               .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 및 매일 새벽 DB 로부터 색인 재구축
+     * 동시 재구축 요청은 순차 처리하며, DB 조회 이후 증분 반영된 모임은 재구축이 읽은 데이터로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            modifyRebuildTouchedIds(new HashSet<>());
+            try {
+                List<Group> activeGroups = groupRepository.findAllWithCategoryByDisabled(false);
+                List<GroupIndexEvent> events = activeGroups.stream().map(GroupIndexEvent::upsert).toList();
+
+                lock.writeLock().lock();
+                try {
+                    List<GroupIndexEvent> touched = rebuildTouchedIds.stream()
+                                                                     .map(groups::get)
+                                                                     .filter(Objects::nonNull)
+                                                                     .toList();
+                    groupTrie.clear();
+                    regionTrie.clear();
+                    groups.clear();
+                    regionCount.clear();
+                    events.stream().filter(event -> !rebuildTouchedIds.contains(event.getGroupId())).forEach(this::add);
+                    touched.forEach(this::add);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("모임 자동 완성 색인을 재구축했습니다: {}건", events.size());
+            } finally {
+                modifyRebuildTouchedIds(null);
+            }
+        }
+    }
+
+    /**
+     * 모임 생성/수정/삭제 및 좋아요 수 변경 트랜잭션 커밋 후 색인 반영
+     *
+     * @param event - 모임 색인 갱신 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGroupIndexEvent(final GroupIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildTouchedIds != null)
+                rebuildTouchedIds.add(event.getGroupId());
+            remove(event.getGroupId());
+            if (!event.isDeleted())
+                add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력한 접두어로 모임 이름과 활동 지역 자동 완성
+     *
+     * @param keyword - 입력 중인 검색어
+     * @param size    - 최대 결과 수(1 ~ MAX_SIZE)
+     * @return 자동 완성 응답 DTO
+     */
+    public GroupResponse.Autocomplete autocomplete(final String keyword, final int size) {
+        if (!StringUtils.hasText(keyword))
+            return GroupResponse.toAutocomplete(List.of(), List.of());
+
+        String prefix = HangulUtil.decompose(keyword);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        return queryTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return GroupResponse.toAutocomplete(
+                        groupTrie.search(prefix).stream().limit(limit).map(AutocompleteTrie.Entry::value).toList(),
+                        regionTrie.search(prefix).stream().limit(limit).map(AutocompleteTrie.Entry::value).toList()
+                );
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private void modifyRebuildTouchedIds(final Set<Long> touchedIds) {
+        lock.writeLock().lock();
+        try {
+            rebuildTouchedIds = touchedIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(final GroupIndexEvent event) {
+        groups.put(event.getGroupId(), event);
+
+        AutocompleteTrie.Entry<GroupResponse.GroupSuggestion> entry = new AutocompleteTrie.Entry<>(
+                event.getGroupId(), GroupResponse.toGroupSuggestion(event), event.getLikeCount()
+        );
+        getNameKeys(event.getName()).forEach(key -> groupTrie.insert(key, entry));
+
+        Region city = new Region(event.getProvince(), event.getCity(), null);
+        Region town = new Region(event.getProvince(), event.getCity(), event.getTown());
+        modifyRegionCount(city, 1);
+        modifyRegionCount(town, 1);
+    }
+
+    private void remove(final Long groupId) {
+        GroupIndexEvent previous = groups.remove(groupId);
+        if (previous == null)
+            return;
+
+        getNameKeys(previous.getName()).forEach(key -> groupTrie.remove(key, groupId));
+
+        modifyRegionCount(new Region(previous.getProvince(), previous.getCity(), null), -1);
+        modifyRegionCount(new Region(previous.getProvince(), previous.getCity(), previous.getTown()), -1);
+    }
+
+    /**
+     * 모임 이름의 자동 완성 키: 전체 이름 + 각 단어로 시작하는 접미어(예: "서초 조기 축구회" -> "조기 축구회", "축구회")
+     */
+    private Set<String> getNameKeys(final String name) {
+        String decomposed = HangulUtil.decompose(name);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(decomposed);
+        for (int i = decomposed.indexOf(' '); i >= 0; i = decomposed.indexOf(' ', i + 1))
+            keys.add(decomposed.substring(i + 1));
+        return keys;
+    }
+
+    /**
+     * 지역별 모임 수를 갱신하고 지역 트라이의 점수를 재반영, 모임 수가 0 이 되면 지역 사전에서 제거
+     */
+    private void modifyRegionCount(final Region region, final int delta) {
+        Integer previous = regionCount.get(region);
+        int count = (previous == null ? 0 : previous) + delta;
+
+        Set<String> keys = region.getKeys();
+        if (previous != null)
+            keys.forEach(key -> regionTrie.remove(key, region));
+
+        if (count <= 0) {
+            regionCount.remove(region);
+            return;
+        }
+        regionCount.put(region, count);
+
+        AutocompleteTrie.Entry<GroupResponse.RegionSuggestion> entry = new AutocompleteTrie.Entry<>(
+                region, GroupResponse.toRegionSuggestion(region.province(), region.city(), region.town(), count), count
+        );
+        keys.forEach(key -> regionTrie.insert(key, entry));
+    }
+
+    /**
+     * 지역 사전 항목, 읍/면/동(town)이 null 인 경우 시/군/구 단위 항목
+     */
+    private record Region(String province, String city, String town) {
+
+        /**
+         * 지역 자동 완성 키: 시/군/구 단위는 "시/군/구", "시/도 시/군/구",
+         * 읍/면/동 단위는 "읍/면/동", "시/군/구 읍/면/동", "시/도 시/군/구 읍/면/동"
+         */
+        private Set<String> getKeys() {
+            Set<String> keys = new LinkedHashSet<>();
+            if (town == null) {
+                keys.add(HangulUtil.decompose(city));
+                keys.add(HangulUtil.decompose(province + " " + city));
+            } else {
+                keys.add(HangulUtil.decompose(town));
+                keys.add(HangulUtil.decompose(city + " " + town));
+                keys.add(HangulUtil.decompose(province + " " + city + " " + town));
+            }
+            return keys;
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.app.backend.domain.group.search;
+
+import java.util.Map;
+
+/**
+ * 검색 조건에 일치하는 모임의 패싯(카테고리, 모집 상태, 지역)별 개수
+ *
+ * @param total           - 검색 조건에 일치하는 전체 모임 수
+ * @param categories      - 카테고리명별 모임 수
+ * @param recruitStatuses - 모집 상태별 모임 수
+ * @param provinces       - 시/도별 모임 수
+ * @param cities          - 시/군/구별 모임 수
+ * @param towns           - 읍/면/동별 모임 수
+ */
+public record GroupFacetCounts(long total,
+                               Map<String, Integer> categories,
+                               Map<String, Integer> recruitStatuses,
+                               Map<String, Integer> provinces,
+                               Map<String, Integer> cities,
+                               Map<String, Integer> towns) {
+}
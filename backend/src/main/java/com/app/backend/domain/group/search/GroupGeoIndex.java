@@ -0,0 +1,207 @@
+package com.app.backend.domain.group.search;
+
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.global.util.GeoUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 모임 활동 지역 좌표의 지오해시 버킷 색인, 주변 모집 중 모임 조회에 사용
+ * <p>
+ * 지오해시 5자리(약 4.9km x 4.9km) 셀 단위로 모임 ID 를 보관하고, 조회 시 반경을 덮는 셀의 후보만 하버사인 거리로 필터링
+ * 좌표가 없는(지오코딩 전) 모임은 색인하지 않음
+ */
+@Slf4j
+@Component
+public class GroupGeoIndex {
+
+    public static final int    MAX_SIZE       = 50;
+    public static final double MAX_RADIUS     = 20_000;
+    static final        int    CELL_PRECISION = 5;
+
+    private final GroupRepository groupRepository;
+    private final Timer           queryTimer;
+
+    private final ReadWriteLock          lock        = new ReentrantReadWriteLock();
+    private final Object                 rebuildLock = new Object();
+    private final Map<String, Set<Long>> cells       = new HashMap<>();
+    private final Map<Long, Entry>       entries     = new HashMap<>();
+
+    //재구축 중 증분 반영된 모임 ID, 재구축이 읽은 DB 스냅샷보다 최신이므로 재구축이 덮어쓰지 않음(쓰기 락으로 보호)
+    private Set<Long> rebuildTouchedIds;
+
+    public GroupGeoIndex(final GroupRepository groupRepository, final MeterRegistry meterRegistry) {
+        this.groupRepository = groupRepository;
+        this.queryTimer = Timer.builder("group.geo.query")
+                               .description("주변 모임 조회 지연 시간")
+                               .publishPercentiles(0.5, 0.99)
+                               .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 및 매일 새벽 DB 로부터 색인 재구축
+     * 동시 재구축 요청은 순차 처리하며, DB 조회 이후 증분 반영된 모임은 재구축이 읽은 데이터로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            modifyRebuildTouchedIds(new HashSet<>());
+            try {
+                List<GroupIndexEvent> events = groupRepository.findAllWithCategoryByDisabled(false)
+                                                              .stream()
+                                                              .filter(group -> group.getLatitude() != null
+                                                                               && group.getLongitude() != null)
+                                                              .map(GroupIndexEvent::upsert)
+                                                              .toList();
+
+                lock.writeLock().lock();
+                try {
+                    Map<Long, Entry> touched = new HashMap<>();
+                    rebuildTouchedIds.stream()
+                                     .filter(entries::containsKey)
+                                     .forEach(groupId -> touched.put(groupId, entries.get(groupId)));
+                    cells.clear();
+                    entries.clear();
+                    events.stream().filter(event -> !rebuildTouchedIds.contains(event.getGroupId())).forEach(this::add);
+                    touched.forEach(this::put);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("모임 위치 색인을 재구축했습니다: {}건", events.size());
+            } finally {
+                modifyRebuildTouchedIds(null);
+            }
+        }
+    }
+
+    /**
+     * 모임 생성/수정/삭제 및 지오코딩 트랜잭션 커밋 후 색인 반영
+     *
+     * @param event - 모임 색인 갱신 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGroupIndexEvent(final GroupIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildTouchedIds != null)
+                rebuildTouchedIds.add(event.getGroupId());
+            remove(event.getGroupId());
+            if (!event.isDeleted() && event.hasLocation())
+                add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 중심 좌표로부터 반경 내의 모집 중인 모임을 가까운 순으로 조회
+     *
+     * @param latitude     - 중심 위도
+     * @param longitude    - 중심 경도
+     * @param radius       - 반경(m, 최대 MAX_RADIUS)
+     * @param categoryName - 카테고리명(null 인 경우 전체)
+     * @param size         - 최대 결과 수(1 ~ MAX_SIZE)
+     * @return 거리 순으로 정렬된 모임 ID 와 거리 목록
+     */
+    public List<Nearby> findNearby(final double latitude,
+                                   final double longitude,
+                                   final double radius,
+                                   final String categoryName,
+                                   final int size) {
+        double limitedRadius = Math.min(radius, MAX_RADIUS);
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Set<String> coveringCells = GeoUtil.cover(latitude, longitude, limitedRadius, CELL_PRECISION);
+
+        return queryTimer.record(() -> {
+            List<Nearby> result = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (String cell : coveringCells)
+                    for (Long groupId : cells.getOrDefault(cell, Set.of())) {
+                        Entry entry = entries.get(groupId);
+                        if (entry.recruitStatus() != RecruitStatus.RECRUITING)
+                            continue;
+                        if (StringUtils.hasText(categoryName) && !categoryName.equals(entry.categoryName()))
+                            continue;
+
+                        double distance = GeoUtil.distance(latitude, longitude, entry.latitude(), entry.longitude());
+                        if (distance <= limitedRadius)
+                            result.add(new Nearby(groupId, distance));
+                    }
+            } finally {
+                lock.readLock().unlock();
+            }
+            return result.stream().sorted(Comparator.comparingDouble(Nearby::distance)).limit(limit).toList();
+        });
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private void modifyRebuildTouchedIds(final Set<Long> touchedIds) {
+        lock.writeLock().lock();
+        try {
+            rebuildTouchedIds = touchedIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(final GroupIndexEvent event) {
+        put(event.getGroupId(), new Entry(event.getLatitude(),
+                                          event.getLongitude(),
+                                          GeoUtil.encode(event.getLatitude(), event.getLongitude(), CELL_PRECISION),
+                                          event.getRecruitStatus(),
+                                          event.getCategoryName()));
+    }
+
+    private void put(final Long groupId, final Entry entry) {
+        entries.put(groupId, entry);
+        cells.computeIfAbsent(entry.cell(), k -> new HashSet<>()).add(groupId);
+    }
+
+    private void remove(final Long groupId) {
+        Entry previous = entries.remove(groupId);
+        if (previous == null)
+            return;
+
+        Set<Long> groupIds = cells.get(previous.cell());
+        groupIds.remove(groupId);
+        if (groupIds.isEmpty())
+            cells.remove(previous.cell());
+    }
+
+    private record Entry(double latitude,
+                         double longitude,
+                         String cell,
+                         RecruitStatus recruitStatus,
+                         String categoryName) {
+    }
+
+    /**
+     * 주변 모임 조회 결과
+     *
+     * @param groupId  - 모임 ID
+     * @param distance - 중심 좌표로부터의 거리(m)
+     */
+    public record Nearby(Long groupId, double distance) {
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.app.backend.domain.group.search;
+
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.service.WebClientService;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 모임 활동 지역(시/도, 시/군/구, 읍/면/동)을 좌표로 변환하여 저장
+ * <p>
+ * 모임 생성 및 활동 지역 변경 커밋 후 비동기로 지오코딩하며, 동일 지역은 Redis 해시에 캐싱하여 카카오 API 호출을 줄임
+ * 검색 결과가 없는 지역은 만료 시간이 있는 부정 캐시로 기록하여 만료 전까지 API 를 다시 호출하지 않음
+ * 실패한 모임은 좌표가 null 로 남아 주기적인 보정 작업에서 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "group.geocode.enabled", havingValue = "true", matchIfMissing = true)
+public class GroupGeocoder {
+
+    private static final String   CACHE_KEY        = "group:geocode";
+    private static final String   MISS_KEY_PREFIX  = "group:geocode:miss:";
+    private static final Duration MISS_TTL         = Duration.ofDays(1);
+    private static final int      BACKFILL_BATCH   = 100;
+    private static final Duration API_TIMEOUT      = Duration.ofSeconds(3);
+
+    private final GroupRepository               groupRepository;
+    private final WebClientService              webClientService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TransactionTemplate           transactionTemplate;
+    private final ApplicationEventPublisher     eventPublisher;
+
+    /**
+     * 좌표가 없는 모임의 생성/수정 커밋 후 지오코딩
+     *
+     * @param event - 모임 색인 갱신 이벤트
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGroupIndexEvent(final GroupIndexEvent event) {
+        if (event.isDeleted() || event.hasLocation())
+            return;
+
+        try {
+            geocode(event.getGroupId(), event.getProvince(), event.getCity(), event.getTown());
+        } catch (Exception e) {
+            log.warn("모임 활동 지역 지오코딩에 실패했습니다: groupId={}", event.getGroupId(), e);
+        }
+    }
+
+    /**
+     * 지오코딩되지 않은 모임 보정, 기동 10분 후부터 10분 간격으로 실행
+     */
+    @Scheduled(initialDelay = 10 * 60 * 1000, fixedDelay = 10 * 60 * 1000)
+    public void backfill() {
+        long lastId = 0L;
+        int geocoded = 0;
+        List<Group> groups;
+        do {
+            groups = groupRepository.findAllWithCategoryByLatitudeIsNullAndDisabled(lastId,
+                                                                                    false,
+                                                                                    Limit.of(BACKFILL_BATCH));
+            for (Group group : groups) {
+                lastId = group.getId();
+                try {
+                    if (geocode(group.getId(), group.getProvince(), group.getCity(), group.getTown()))
+                        geocoded++;
+                } catch (Exception e) {
+                    log.warn("모임 활동 지역 지오코딩에 실패했습니다: groupId={}", group.getId(), e);
+                }
+            }
+        } while (groups.size() == BACKFILL_BATCH);
+
+        if (geocoded > 0)
+            log.info("지오코딩되지 않은 모임의 좌표를 보정했습니다: {}건", geocoded);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 지역 좌표를 조회하여 모임에 저장, 커밋 후 위치 색인에 반영되도록 이벤트 발행
+     *
+     * @return 좌표 저장 여부
+     */
+    private boolean geocode(final Long groupId, final String province, final String city, final String town) {
+        double[] location = findLocation(province, city, town);
+        if (location == null)
+            return false;
+
+        Boolean updated = transactionTemplate.execute(status -> {
+            //지오코딩 중 활동 지역이 다시 변경되었거나 모임이 삭제된 경우 저장하지 않음
+            if (groupRepository.updateLocation(groupId, province, city, town, location[0], location[1], false) == 0)
+                return false;
+            groupRepository.findByIdAndDisabled(groupId, false)
+                           .ifPresent(group -> eventPublisher.publishEvent(GroupIndexEvent.upsert(group)));
+            return true;
+        });
+        return Boolean.TRUE.equals(updated);
+    }
+
+    /**
+     * Redis 캐시 또는 카카오 주소 검색 API 로 지역 좌표 조회
+     *
+     * @return [위도, 경도], 검색 결과가 없으면 null
+     */
+    private double[] findLocation(final String province, final String city, final String town) {
+        String field = "%s %s %s".formatted(province, city, town);
+
+        Object cached = redisTemplate.opsForHash().get(CACHE_KEY, field);
+        if (cached != null) {
+            String[] values = cached.toString().split(",");
+            return new double[]{Double.parseDouble(values[0]), Double.parseDouble(values[1])};
+        }
+        //해시 필드에는 만료 시간을 지정할 수 없으므로 검색 결과가 없는 지역은 별도 키로 기록
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(MISS_KEY_PREFIX + field)))
+            return null;
+
+        JsonNode response = webClientService.fetchKakaoAddressByKeyword(province, city, town).block(API_TIMEOUT);
+        if (response == null || !response.path("documents").has(0)) {
+            redisTemplate.opsForValue().set(MISS_KEY_PREFIX + field, "1", MISS_TTL);
+            return null;
+        }
+
+        //카카오 주소 검색 응답의 x 는 경도, y 는 위도
+        JsonNode document = response.path("documents").get(0);
+        double latitude = document.path("y").asDouble();
+        double longitude = document.path("x").asDouble();
+        redisTemplate.opsForHash().put(CACHE_KEY, field, latitude + "," + longitude);
+        return new double[]{latitude, longitude};
+    }
+
+}
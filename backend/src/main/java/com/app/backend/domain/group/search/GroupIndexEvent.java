@@ -0,0 +1,74 @@
+package com.app.backend.domain.group.search;
+
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 생성/수정/삭제 시 발행되는 검색 색인 갱신 이벤트, 트랜잭션 커밋 후 색인에 반영
+ * <p>
+ * 영속성 컨텍스트가 초기화된 이후에도 사용할 수 있도록 발행 시점의 모임 값을 복사하여 보관
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GroupIndexEvent {
+
+    private final Long          groupId;
+    private final boolean       deleted;
+    private final String        name;
+    private final String        province;
+    private final String        city;
+    private final String        town;
+    private final String        categoryName;
+    private final RecruitStatus recruitStatus;
+    private final Integer       maxRecruitCount;
+    private final int           likeCount;
+    private final Double        latitude;
+    private final Double        longitude;
+    private final LocalDateTime createdAt;
+
+    /**
+     * 모임 생성/수정 이벤트
+     *
+     * @param group - 모임
+     * @return GroupIndexEvent
+     */
+    public static GroupIndexEvent upsert(final Group group) {
+        return new GroupIndexEvent(group.getId(),
+                                   group.getDisabled(),
+                                   group.getName(),
+                                   group.getProvince(),
+                                   group.getCity(),
+                                   group.getTown(),
+                                   group.getCategory().getName(),
+                                   group.getRecruitStatus(),
+                                   group.getMaxRecruitCount(),
+                                   group.getLikeCount(),
+                                   group.getLatitude(),
+                                   group.getLongitude(),
+                                   group.getCreatedAt());
+    }
+
+    /**
+     * 좌표 보유 여부
+     *
+     * @return 위도와 경도가 모두 존재하면 true
+     */
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    /**
+     * 모임 삭제 이벤트
+     *
+     * @param groupId - 모임 ID
+     * @return GroupIndexEvent
+     */
+    public static GroupIndexEvent delete(final Long groupId) {
+        return new GroupIndexEvent(groupId, true, null, null, null, null, null, null, null, 0, null, null, null);
+    }
+
+}
@@ -0,0 +1,325 @@
+package com.app.backend.domain.group.search;
+
+import com.app.backend.domain.group.dto.request.GroupRequest;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 활성화된 모임에 대한 인메모리 검색 색인
+ * <p>
+ * 모임 이름은 1-gram/2-gram 포스팅 목록으로, 카테고리/모집 상태/지역은 비트맵 패싯으로 관리하여 DB 조회 없이 필터 검색과 패싯 집계를 수행
+ * 문서 번호는 색인할 때 순차 할당하고 모임 ID(long)와의 매핑을 별도로 보관, 모임 ID 가 int 범위를 넘어도 색인 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupSearchIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final GroupRepository groupRepository;
+
+    private final ReadWriteLock                 lock            = new ReentrantReadWriteLock();
+    private final Object                        rebuildLock     = new Object();
+    private final RoaringBitmap                 all             = new RoaringBitmap();
+    private final Map<Long, Integer>            docIds          = new HashMap<>();
+    private final Map<Integer, GroupIndexEvent> documents       = new HashMap<>();
+    private final Map<String, RoaringBitmap>    grams           = new HashMap<>();
+    private final Map<String, RoaringBitmap>    categories      = new HashMap<>();
+    private final Map<String, RoaringBitmap>    recruitStatuses = new HashMap<>();
+    private final Map<String, RoaringBitmap>    provinces       = new HashMap<>();
+    private final Map<String, RoaringBitmap>    cities          = new HashMap<>();
+    private final Map<String, RoaringBitmap>    towns           = new HashMap<>();
+
+    private int       nextDocId;
+    //재구축 중 증분 반영된 모임 ID, 재구축이 읽은 DB 스냅샷보다 최신이므로 재구축이 덮어쓰지 않음(쓰기 락으로 보호)
+    private Set<Long> rebuildTouchedIds;
+
+    /**
+     * 기동 시 및 매일 새벽 DB 로부터 색인 재구축, 카테고리명 변경 등 이벤트로 추적하지 않는 변경 사항을 보정
+     * 동시 재구축 요청은 순차 처리하며, DB 조회 이후 증분 반영된 모임은 재구축이 읽은 데이터로 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            modifyRebuildTouchedIds(new HashSet<>());
+            try {
+                List<Group> groups = groupRepository.findAllWithCategoryByDisabled(false);
+                List<GroupIndexEvent> events = groups.stream().map(GroupIndexEvent::upsert).toList();
+
+                lock.writeLock().lock();
+                try {
+                    List<GroupIndexEvent> touched = rebuildTouchedIds.stream()
+                                                                     .map(docIds::get)
+                                                                     .filter(Objects::nonNull)
+                                                                     .map(documents::get)
+                                                                     .toList();
+                    all.clear();
+                    docIds.clear();
+                    documents.clear();
+                    grams.clear();
+                    categories.clear();
+                    recruitStatuses.clear();
+                    provinces.clear();
+                    cities.clear();
+                    towns.clear();
+                    nextDocId = 0;
+                    events.stream().filter(event -> !rebuildTouchedIds.contains(event.getGroupId())).forEach(this::add);
+                    touched.forEach(this::add);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("모임 검색 색인을 재구축했습니다: {}건", events.size());
+            } finally {
+                modifyRebuildTouchedIds(null);
+            }
+        }
+    }
+
+    /**
+     * 모임 생성/수정/삭제 트랜잭션 커밋 후 색인 반영
+     *
+     * @param event - 모임 색인 갱신 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGroupIndexEvent(final GroupIndexEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuildTouchedIds != null)
+                rebuildTouchedIds.add(event.getGroupId());
+            remove(event.getGroupId());
+            if (!event.isDeleted())
+                add(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 일치하는 모임 ID 페이징 목록 조회
+     *
+     * @param dto      - 모임 검색 요청 DTO
+     * @param pageable - 페이징 객체
+     * @return 모임 ID 페이징 목록
+     */
+    public Page<Long> search(final GroupRequest.Search dto, final Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = match(dto);
+
+            List<GroupIndexEvent> sorted = new ArrayList<>(matched.getCardinality());
+            matched.forEach((int docId) -> sorted.add(documents.get(docId)));
+            sorted.sort(getComparator(pageable.getSort()));
+
+            int from = (int) Math.min(pageable.getOffset(), sorted.size());
+            int to = Math.min(from + pageable.getPageSize(), sorted.size());
+            List<Long> content = sorted.subList(from, to).stream().map(GroupIndexEvent::getGroupId).toList();
+
+            return new PageImpl<>(content, pageable, sorted.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 일치하는 모임의 패싯별 개수 집계
+     *
+     * @param dto - 모임 검색 요청 DTO
+     * @return 패싯별 모임 수
+     */
+    public GroupFacetCounts countFacets(final GroupRequest.Search dto) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = match(dto);
+            return new GroupFacetCounts(matched.getLongCardinality(),
+                                        countFacet(categories, matched),
+                                        countFacet(recruitStatuses, matched),
+                                        countFacet(provinces, matched),
+                                        countFacet(cities, matched),
+                                        countFacet(towns, matched));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 검색 조건에 일치하는 문서 비트맵 생성, 조건이 비어있는 항목은 무시(= DB 검색 조건과 동일)
+     */
+    private RoaringBitmap match(final GroupRequest.Search dto) {
+        RoaringBitmap matched = all.clone();
+        andFacet(matched, categories, dto.getCategoryName());
+        andFacet(matched, recruitStatuses, dto.getRecruitStatus());
+        andFacet(matched, provinces, dto.getProvince());
+        andFacet(matched, cities, dto.getCity());
+        andFacet(matched, towns, dto.getTown());
+
+        if (StringUtils.hasText(dto.getName())) {
+            String keyword = normalize(dto.getName());
+            for (String gram : toQueryGrams(keyword)) {
+                matched.and(grams.getOrDefault(gram, EMPTY));
+                if (matched.isEmpty())
+                    return matched;
+            }
+
+            //2-gram 교집합은 부분 문자열 일치를 보장하지 않으므로 후보 문서의 이름으로 재확인
+            RoaringBitmap verified = new RoaringBitmap();
+            matched.forEach((int docId) -> {
+                if (normalize(documents.get(docId).getName()).contains(keyword))
+                    verified.add(docId);
+            });
+            return verified;
+        }
+        return matched;
+    }
+
+    private void andFacet(final RoaringBitmap matched, final Map<String, RoaringBitmap> facet, final String value) {
+        if (StringUtils.hasText(value))
+            matched.and(facet.getOrDefault(value, EMPTY));
+    }
+
+    private Map<String, Integer> countFacet(final Map<String, RoaringBitmap> facet, final RoaringBitmap matched) {
+        Map<String, Integer> counts = new HashMap<>();
+        facet.forEach((value, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(bitmap, matched);
+            if (count > 0)
+                counts.put(value, count);
+        });
+        return counts;
+    }
+
+    private void modifyRebuildTouchedIds(final Set<Long> touchedIds) {
+        lock.writeLock().lock();
+        try {
+            rebuildTouchedIds = touchedIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(final GroupIndexEvent event) {
+        int docId = docIds.computeIfAbsent(event.getGroupId(), groupId -> nextDocId++);
+        documents.put(docId, event);
+        all.add(docId);
+        toIndexGrams(normalize(event.getName())).forEach(gram -> posting(grams, gram).add(docId));
+        posting(categories, event.getCategoryName()).add(docId);
+        posting(recruitStatuses, event.getRecruitStatus().name()).add(docId);
+        posting(provinces, event.getProvince()).add(docId);
+        posting(cities, event.getCity()).add(docId);
+        posting(towns, event.getTown()).add(docId);
+    }
+
+    private void remove(final Long groupId) {
+        Integer docId = docIds.remove(groupId);
+        if (docId == null)
+            return;
+
+        GroupIndexEvent previous = documents.remove(docId);
+
+        all.remove(docId);
+        toIndexGrams(normalize(previous.getName())).forEach(gram -> unposting(grams, gram, docId));
+        unposting(categories, previous.getCategoryName(), docId);
+        unposting(recruitStatuses, previous.getRecruitStatus().name(), docId);
+        unposting(provinces, previous.getProvince(), docId);
+        unposting(cities, previous.getCity(), docId);
+        unposting(towns, previous.getTown(), docId);
+    }
+
+    private RoaringBitmap posting(final Map<String, RoaringBitmap> postings, final String key) {
+        return postings.computeIfAbsent(key, k -> new RoaringBitmap());
+    }
+
+    private void unposting(final Map<String, RoaringBitmap> postings, final String key, final int docId) {
+        RoaringBitmap bitmap = postings.get(key);
+        if (bitmap == null)
+            return;
+        bitmap.remove(docId);
+        if (bitmap.isEmpty())
+            postings.remove(key);
+    }
+
+    /**
+     * 색인용 n-gram: 1-gram(한 글자 검색용) + 2-gram
+     */
+    private Set<String> toIndexGrams(final String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            result.add(text.substring(i, i + 1));
+            if (i + 1 < text.length())
+                result.add(text.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    /**
+     * 검색용 n-gram: 한 글자인 경우 1-gram, 그 외 2-gram
+     */
+    private Set<String> toQueryGrams(final String keyword) {
+        if (keyword.length() == 1)
+            return Set.of(keyword);
+
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < keyword.length(); i++)
+            result.add(keyword.substring(i, i + 2));
+        return result;
+    }
+
+    private String normalize(final String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 페이징 객체(Pageable)의 정렬 조건을 비교자로 변환, 정렬 조건이 없는 경우 최신순(모임 ID 역순)
+     */
+    private Comparator<GroupIndexEvent> getComparator(final Sort sort) {
+        Comparator<GroupIndexEvent> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<GroupIndexEvent> next = switch (order.getProperty()) {
+                case "name" -> Comparator.comparing(GroupIndexEvent::getName);
+                case "recruitStatus" -> Comparator.comparing(GroupIndexEvent::getRecruitStatus);
+                case "maxRecruitCount" -> Comparator.comparing(GroupIndexEvent::getMaxRecruitCount);
+                case "likeCount" -> Comparator.comparingInt(GroupIndexEvent::getLikeCount);
+                case "createdAt" -> Comparator.comparing(GroupIndexEvent::getCreatedAt,
+                                                         Comparator.nullsLast(LocalDateTime::compareTo));
+                default -> throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+            };
+            if (order.isDescending())
+                next = next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        Comparator<GroupIndexEvent> tieBreaker = Comparator.comparing(GroupIndexEvent::getGroupId).reversed();
+        return comparator == null ? tieBreaker : comparator.thenComparing(tieBreaker);
+    }
+
+}
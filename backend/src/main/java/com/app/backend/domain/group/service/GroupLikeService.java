@@ -6,10 +6,12 @@ import com.app.backend.domain.group.exception.GroupLikeErrorCode;
 import com.app.backend.domain.group.exception.GroupLikeException;
 import com.app.backend.domain.group.repository.GroupLikeRepository;
 import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.search.GroupIndexEvent;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class GroupLikeService {
     private final GroupRepository groupRepository;
     private final MemberRepository memberRepository;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 그룹 좋아요 여부 확인 */
     public boolean isLiked(final Long groupId, final Long memberId) {
@@ -54,6 +57,7 @@ public class GroupLikeService {
         groupLikeRepository.save(newLike);
         entityManager.flush();
         group.increaseLikeCount();
+        eventPublisher.publishEvent(GroupIndexEvent.upsert(group));
     }
 
     /** 그룹 좋아요 취소 */
@@ -70,5 +74,6 @@ public class GroupLikeService {
 
         groupLikeRepository.delete(existingLike);
         group.decreaseLikeCount();
+        eventPublisher.publishEvent(GroupIndexEvent.upsert(group));
     }
 }
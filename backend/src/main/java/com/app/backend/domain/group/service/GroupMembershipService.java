@@ -1,7 +1,11 @@
 package com.app.backend.domain.group.service;
 
+import com.app.backend.domain.chat.room.summary.ChatRoomMembershipEvent;
+import com.app.backend.domain.group.authorization.MembershipChangedEvent;
+import com.app.backend.domain.group.dto.response.GroupResponse;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.GroupMembershipId;
 import com.app.backend.domain.group.entity.GroupRole;
 import com.app.backend.domain.group.entity.MembershipStatus;
 import com.app.backend.domain.group.entity.RecruitStatus;
@@ -11,12 +15,18 @@ import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
 import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.search.GroupIndexEvent;
 import com.app.backend.domain.notification.dto.NotificationEvent;
 import com.app.backend.domain.notification.service.NotificationService;
 import com.app.backend.global.annotation.CustomLock;
+import com.app.backend.global.util.FencingTokenHolder;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +34,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class GroupMembershipService {
+    private static final Set<MembershipStatus> ACCEPTABLE_STATUSES = Set.of(MembershipStatus.PENDING,
+                                                                            MembershipStatus.REJECTED);
+
     private final NotificationService       notificationService;
     private final GroupMembershipRepository groupMembershipRepository;
     private final GroupRepository           groupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모임 가입 신청을 승인 또는 거절
+     * <p>
+     * 분산 락 없이 멤버십 상태 조건부 변경과 좌석 예약 조건부 UPDATE 로 처리하며, 좌석 예약에 실패하면 트랜잭션이 롤백되어 최대 인원을
+     * 초과하여 승인되지 않음
      *
      * @param groupLeaderId - 모임 관리자 ID
      * @param groupId       - 모임 ID
@@ -37,7 +54,6 @@ public class GroupMembershipService {
      * @param isAccept      - 가입 승인 여부
      * @return 모임 가입 승인 여부
      */
-    @CustomLock(key = "'group:' + #groupId + '-member:' + #memberId")
     @Transactional
     public boolean approveJoining(@NotNull @Min(1) final Long groupLeaderId,
                                   @NotNull @Min(1) final Long groupId,
@@ -50,15 +66,78 @@ public class GroupMembershipService {
         if (group.getRecruitStatus() != RecruitStatus.RECRUITING)
             throw new GroupException(GroupErrorCode.GROUP_NOT_IN_RECRUITMENT_STATUS);
 
-        //대상 모임 내 가입 회원 수 조회
-        int count = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
-                                                                                 MembershipStatus.APPROVED,
-                                                                                 false);
+        //모임 가입 신청을 승인하려는 회원이 해당 모임의 관리자(LEADER) 권한을 갖고 있는지 확인
+        GroupMembership groupLeaderMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
+                                                                                                              groupLeaderId,
+                                                                                                              false)
+                                                                         .orElseThrow(
+                                                                                 () -> new GroupMembershipException(
+                                                                                         GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND
+                                                                                 )
+                                                                         );
+        if (groupLeaderMembership.getGroupRole() != GroupRole.LEADER)
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NO_PERMISSION);
+
+        //모임 가입을 신청한 회원의 멤버십이 존재하는지 확인
+        if (!groupMembershipRepository.existsByGroupIdAndMemberIdAndDisabled(groupId, memberId, false))
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
+
+        //멤버십 상태가 미승인(PENDING) 또는 거절(REJECTED)인 경우에만 변경, 동시 요청 중 하나만 성공하며 나머지는 예외(= 모임에 가입된 상태(APPROVED) 또는 탈퇴(LEAVE)한 상태의 경우 예외 발생)
+        MembershipStatus newStatus = isAccept ? MembershipStatus.APPROVED : MembershipStatus.REJECTED;
+        if (groupMembershipRepository.updateStatus(groupId, memberId, ACCEPTABLE_STATUSES, newStatus) == 0)
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_UNACCEPTABLE_STATUS);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, memberId));
 
-        //모임 최대 가입 한도와 가입 회원 수 비교, 이미 최대 가입 한도에 도달한 경우 예외
-        if (group.getMaxRecruitCount() <= count)
+        //모임의 관리자 권한을 갖는 회원이 가입을 승인하지 않은 경우(isAccept = false)
+        if (!isAccept)
+            return false;
+
+        //모임의 관리자 권한을 갖는 회원이 가입을 승인한 경우(isAccept = true), 좌석을 예약하지 못하면 예외(= 롤백으로 멤버십 상태 변경도 취소)
+        if (groupRepository.reserveSeats(groupId, 1, RecruitStatus.RECRUITING) == 0)
             throw new GroupException(GroupErrorCode.GROUP_MAXIMUM_NUMBER_OF_MEMBERS);
 
+        notificationService.sendNotification(
+                memberId.toString(),
+                "그룹 가입 승인",
+                group.getName() + " 그룹 가입이 승인되었습니다",
+                NotificationEvent.NotificationType.GROUP_INVITE,
+                group.getId()
+        );
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.of(groupId, memberId));
+
+        //최대 인원에 도달한 경우 모집 마감
+        RecruitStatus closed = RecruitStatus.CLOSED;
+        closed.modifyForceStatus(false);
+        if (groupRepository.closeRecruitmentIfFull(groupId, RecruitStatus.RECRUITING, closed) > 0)
+            publishGroupIndexEvent(groupId);
+
+        return true;
+    }
+
+    /**
+     * 여러 회원의 모임 가입 신청을 한 번에 승인 또는 거절
+     * <p>
+     * 승인하는 경우 조건부 UPDATE 로 예약된 좌석 수만큼만 요청 순서대로 멤버십 상태를 일괄 변경하고, 알림은 일괄 전송
+     * 신청 상태(PENDING, REJECTED)가 아니거나 남은 인원을 초과한 회원은 처리하지 않고 응답에 포함(남은 인원이 없으면 모두 미처리)
+     *
+     * @param groupLeaderId - 모임 관리자 ID
+     * @param groupId       - 모임 ID
+     * @param memberIds     - 모임 가입 신청 회원 ID 목록
+     * @param isAccept      - 가입 승인 여부
+     * @return 처리된 회원 ID 와 처리되지 않은 회원 ID 목록
+     */
+    @Transactional
+    public GroupResponse.ApproveJoinings approveJoinings(@NotNull @Min(1) final Long groupLeaderId,
+                                                         @NotNull @Min(1) final Long groupId,
+                                                         @NotNull final List<Long> memberIds,
+                                                         final boolean isAccept) {
+        Group group = groupRepository.findByIdAndDisabled(groupId, false)
+                                     .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
+
+        //승인하려는 경우 대상 모임이 모집 상태가 아닐 경우 예외
+        if (isAccept && group.getRecruitStatus() != RecruitStatus.RECRUITING)
+            throw new GroupException(GroupErrorCode.GROUP_NOT_IN_RECRUITMENT_STATUS);
+
         //모임 가입 신청을 승인하려는 회원이 해당 모임의 관리자(LEADER) 권한을 갖고 있는지 확인
         GroupMembership groupLeaderMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
                                                                                                               groupLeaderId,
@@ -71,50 +150,54 @@ public class GroupMembershipService {
         if (groupLeaderMembership.getGroupRole() != GroupRole.LEADER)
             throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NO_PERMISSION);
 
-        //모임 가입을 신청한 회원의 멤버십을 조회
-        GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
-                                                                                                        memberId,
-                                                                                                        false)
-                                                                   .orElseThrow(
-                                                                           () -> new GroupMembershipException(
-                                                                                   GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND
-                                                                           )
-                                                                   );
+        //신청 상태(PENDING, REJECTED)인 멤버십만 요청 순서대로 대상으로 선정
+        List<Long> requestedIds = memberIds.stream().distinct().toList();
+        Set<Long> acceptableIds = groupMembershipRepository.findAllByGroupIdAndMemberIdInAndStatusInAndDisabled(
+                groupId, requestedIds, ACCEPTABLE_STATUSES, false
+        ).stream().map(GroupMembership::getMemberId).collect(Collectors.toSet());
+        List<Long> targetIds = requestedIds.stream().filter(acceptableIds::contains).toList();
+
+        //승인하려는 경우 좌석을 먼저 예약하고 예약된 좌석 수만큼만 요청 순서대로 대상으로 선정
+        if (isAccept && !targetIds.isEmpty())
+            targetIds = targetIds.subList(0, reserveAvailableSeats(groupId, targetIds.size()));
 
-        //멤버십 상태가 미승인(PENDING) 또는 거절(REJECTED) 상태가 아닐 경우 예외(= 모임에 가입된 상태(APPROVED) 또는 탈퇴(LEAVE)한 상태의 경우 예외 발생)
-        if (groupMembership.getStatus() == MembershipStatus.APPROVED
-            || groupMembership.getStatus() == MembershipStatus.LEAVE)
+        List<Long> processedIds = targetIds;
+        List<Long> skippedIds = requestedIds.stream().filter(id -> !processedIds.contains(id)).toList();
+        if (targetIds.isEmpty())
+            return GroupResponse.toApproveJoinings(processedIds, skippedIds);
+
+        //멤버십 상태 일괄 변경, 조회 이후 동시 요청으로 상태가 바뀐 멤버십이 있으면 예외(= 롤백으로 좌석 예약도 취소)
+        MembershipStatus newStatus = isAccept ? MembershipStatus.APPROVED : MembershipStatus.REJECTED;
+        if (groupMembershipRepository.updateAllStatus(groupId, targetIds, ACCEPTABLE_STATUSES, newStatus)
+            != targetIds.size())
             throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_UNACCEPTABLE_STATUS);
+        eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, targetIds));
 
-        //모임의 관리자 권한을 갖는 회원이 가입을 승인한 경우(isAccept = true)
-        if (isAccept) {
-            groupMembership.modifyStatus(MembershipStatus.APPROVED);
-            notificationService.sendNotification(
-                    memberId.toString(),
-                    "그룹 가입 승인",
-                    group.getName() + " 그룹 가입이 승인되었습니다",
-                    NotificationEvent.NotificationType.GROUP_INVITE,
-                    group.getId()
-            );
+        if (!isAccept)
+            return GroupResponse.toApproveJoinings(processedIds, skippedIds);
 
-            if (group.getMaxRecruitCount() <= groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
-                                                                                                           MembershipStatus.APPROVED,
-                                                                                                           false)) {
-                RecruitStatus closed = RecruitStatus.CLOSED;
-                closed.modifyForceStatus(false);
-                group.modifyRecruitStatus(closed);
-            }
+        notificationService.sendNotifications(
+                targetIds.stream().map(String::valueOf).toList(),
+                "그룹 가입 승인",
+                group.getName() + " 그룹 가입이 승인되었습니다",
+                NotificationEvent.NotificationType.GROUP_INVITE,
+                group.getId()
+        );
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.of(groupId, targetIds));
 
-            return true;
-        }
+        //최대 인원에 도달한 경우 모집 마감
+        RecruitStatus closed = RecruitStatus.CLOSED;
+        closed.modifyForceStatus(false);
+        if (groupRepository.closeRecruitmentIfFull(groupId, RecruitStatus.RECRUITING, closed) > 0)
+            publishGroupIndexEvent(groupId);
 
-        //모임의 관리자 권한을 갖는 회원이 가입을 승인하지 않은 경우(isAccept = false)
-        groupMembership.modifyStatus(MembershipStatus.REJECTED);
-        return false;
+        return GroupResponse.toApproveJoinings(processedIds, skippedIds);
     }
 
     /**
      * 모임 내 회원의 권한을 변경
+     * <p>
+     * 관리자 수는 조건부 UPDATE 로 갱신하여 동시 탈퇴와 겹쳐도 유실되지 않으며, 모임의 마지막 관리자 권한은 해제할 수 없음
      *
      * @param groupLeaderId - 모임 관리자 ID
      * @param groupId       - 모임 ID
@@ -126,6 +209,8 @@ public class GroupMembershipService {
     public boolean modifyGroupRole(@NotNull @Min(1) final Long groupLeaderId,
                                    @NotNull @Min(1) final Long groupId,
                                    @NotNull @Min(1) final Long memberId) {
+        validateFencingToken(groupId, memberId);
+
         //모임 내 회원의 권한을 변경하려는 회원이 해당 모임의 관리자(LEADER) 권한을 갖고 있는지 확인
         GroupMembership groupLeaderMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
                                                                                                               groupLeaderId,
@@ -155,11 +240,15 @@ public class GroupMembershipService {
             );
 
         //회원의 모임 내 권한을 변경: LEADER <-> PARTICIPANT
-        GroupRole groupRole = groupMembership.getGroupRole();
-        if (groupRole == GroupRole.LEADER)
-            groupMembership.modifyGroupRole(GroupRole.PARTICIPANT);
-        else
-            groupMembership.modifyGroupRole(GroupRole.LEADER);
+        boolean isDemotion = groupMembership.getGroupRole() == GroupRole.LEADER;
+        groupMembership.modifyGroupRole(isDemotion ? GroupRole.PARTICIPANT : GroupRole.LEADER);
+
+        //관리자 수 갱신, 권한 해제 후 모임의 관리자가 남지 않는 경우 예외 발생(= 롤백으로 권한 변경도 취소)
+        if (groupRepository.modifyLeaderCount(groupId, isDemotion ? -1 : 1) == 0)
+            throw new GroupMembershipException(
+                    GroupMembershipErrorCode.GROUP_MEMBERSHIP_GROUP_ROLE_NOT_CHANGEABLE_STATE
+            );
+        eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, memberId));
 
         return true;
     }
@@ -174,6 +263,8 @@ public class GroupMembershipService {
     @CustomLock(key = "'group:' + #groupId + '-member:' + #memberId")
     @Transactional
     public boolean leaveGroup(@NotNull @Min(1) final Long groupId, @NotNull @Min(1) final Long memberId) {
+        validateFencingToken(groupId, memberId);
+
         GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
                                                                                                         memberId,
                                                                                                         false)
@@ -183,25 +274,89 @@ public class GroupMembershipService {
                                                                            )
                                                                    );
 
-        //모임을 탈퇴하기 전 모임 내 관리자 권한을 갖는 회원의 숫자 조회
-        int groupLeaderCount = groupMembershipRepository.countByGroupIdAndGroupRoleAndDisabled(groupId,
-                                                                                               GroupRole.LEADER,
-                                                                                               false);
+        //이미 탈퇴한 경우 변경 없음
+        if (groupMembership.getStatus() == MembershipStatus.LEAVE)
+            return true;
+
+        //가입 승인 전(PENDING, REJECTED)인 경우 좌석 반환 없이 탈퇴, 동시에 승인된 경우 예외
+        if (groupMembership.getStatus() != MembershipStatus.APPROVED) {
+            if (groupMembershipRepository.updateStatus(groupId,
+                                                       memberId,
+                                                       ACCEPTABLE_STATUSES,
+                                                       MembershipStatus.LEAVE) == 0)
+                throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_UNACCEPTABLE_STATUS);
+            eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, memberId));
+            return true;
+        }
 
-        //탈퇴하려는 회원이 관리자 권한을 갖고 있으며, 해당 모임 내 관리자 권한의 회원이 1명 이하인 경우 예외 발생, 탈퇴가 성공하려면 탈퇴 후 모임의 관리자가 1명 이상 존재해야 함
-        if (groupMembership.getGroupRole() == GroupRole.LEADER && groupLeaderCount <= 1)
-            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_UNABLE_TO_LEAVE);
+        int leaderDelta = groupMembership.getGroupRole() == GroupRole.LEADER ? 1 : 0;
+        if (groupMembershipRepository.updateStatus(groupId,
+                                                   memberId,
+                                                   Set.of(MembershipStatus.APPROVED),
+                                                   MembershipStatus.LEAVE) == 0)
+            return true;
+        eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, memberId));
 
-        groupMembership.modifyStatus(MembershipStatus.LEAVE);
+        //좌석 반환, 탈퇴하려는 회원이 관리자 권한을 갖고 있으며, 해당 모임 내 관리자 권한의 회원이 1명 이하인 경우 예외 발생(= 롤백으로 멤버십 상태 변경도 취소), 탈퇴가 성공하려면 탈퇴 후 모임의 관리자가 1명 이상 존재해야 함
+        if (groupRepository.releaseSeat(groupId, leaderDelta) == 0)
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_UNABLE_TO_LEAVE);
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.of(groupId, memberId));
 
-        Group group = groupMembership.getGroup();
-        if (group.getMaxRecruitCount() > groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
-                                                                                                      MembershipStatus.APPROVED,
-                                                                                                      false)
-            && !group.getRecruitStatus().isForceStatus())
-            group.modifyRecruitStatus(RecruitStatus.RECRUITING);
+        //강제 마감이 아닌 경우 인원이 남으면 모집 재개
+        if (!RecruitStatus.CLOSED.isForceStatus()
+            && groupRepository.reopenRecruitmentIfAvailable(groupId,
+                                                            RecruitStatus.CLOSED,
+                                                            RecruitStatus.RECRUITING) > 0)
+            publishGroupIndexEvent(groupId);
 
         return true;
     }
 
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 요청한 좌석 수 중 남은 인원만큼만 예약
+     * <p>
+     * 한 번에 모두 예약하지 못한 경우 1석씩 조건부 UPDATE 로 예약하여 동시 승인과 겹쳐도 최대 인원을 초과하지 않음
+     *
+     * @param groupId - 모임 ID
+     * @param seats   - 예약하려는 좌석 수
+     * @return 예약된 좌석 수, 모집 중이 아니거나 남은 인원이 없는 경우 0
+     */
+    private int reserveAvailableSeats(final Long groupId, final int seats) {
+        if (groupRepository.reserveSeats(groupId, seats, RecruitStatus.RECRUITING) > 0)
+            return seats;
+
+        int reserved = 0;
+        while (reserved < seats && groupRepository.reserveSeats(groupId, 1, RecruitStatus.RECRUITING) > 0)
+            reserved++;
+        return reserved;
+    }
+
+    /**
+     * 조건부 UPDATE 로 모집 상태가 변경된 모임을 다시 조회하여 색인 갱신 이벤트 발행
+     *
+     * @param groupId - 모임 ID
+     */
+    private void publishGroupIndexEvent(final Long groupId) {
+        groupRepository.findByIdAndDisabled(groupId, false)
+                       .ifPresent(group -> eventPublisher.publishEvent(GroupIndexEvent.upsert(group)));
+    }
+
+    /**
+     * 펜싱 토큰으로 멤버십 행을 선점, 더 큰 토큰으로 이미 갱신된 경우(= 락 임대가 만료된 경우) 예외
+     *
+     * @param groupId  - 모임 ID
+     * @param memberId - 회원 ID
+     */
+    private void validateFencingToken(final Long groupId, final Long memberId) {
+        FencingTokenHolder.getToken().ifPresent(token -> {
+            if (groupMembershipRepository.updateFencingToken(groupId, memberId, token) == 0
+                && groupMembershipRepository.existsById(
+                        GroupMembershipId.builder().groupId(groupId).memberId(memberId).build()
+                ))
+                throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_STALE_LOCK);
+        });
+    }
+
 }
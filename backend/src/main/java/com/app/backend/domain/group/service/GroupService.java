@@ -6,6 +6,8 @@ import com.app.backend.domain.category.exception.CategoryException;
 import com.app.backend.domain.category.repository.CategoryRepository;
 import com.app.backend.domain.chat.room.entity.ChatRoom;
 import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.chat.room.summary.ChatRoomMembershipEvent;
+import com.app.backend.domain.group.authorization.MembershipChangedEvent;
 import com.app.backend.domain.group.dto.request.GroupRequest;
 import com.app.backend.domain.group.dto.response.GroupResponse;
 import com.app.backend.domain.group.entity.Group;
@@ -19,19 +21,31 @@ import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
 import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.search.GroupAutocompleteIndex;
+import com.app.backend.domain.group.search.GroupFacetCounts;
+import com.app.backend.domain.group.search.GroupGeoIndex;
+import com.app.backend.domain.group.search.GroupIndexEvent;
+import com.app.backend.domain.group.search.GroupSearchIndex;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.exception.MemberErrorCode;
 import com.app.backend.domain.member.exception.MemberException;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.global.annotation.CustomLock;
+import com.app.backend.global.util.FencingTokenHolder;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,6 +63,10 @@ public class GroupService {
     private final MemberRepository          memberRepository;
     private final ChatRoomRepository        chatRoomRepository;
     private final CategoryRepository        categoryRepository;
+    private final GroupSearchIndex          groupSearchIndex;
+    private final GroupAutocompleteIndex    groupAutocompleteIndex;
+    private final GroupGeoIndex             groupGeoIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모임(Group) 저장
@@ -97,12 +115,17 @@ public class GroupService {
                                                          .build();
         groupMembershipRepository.save(groupMembership);
 
-        int count = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(group.getId(),
-                                                                                 MembershipStatus.APPROVED,
-                                                                                 false);
-        if (group.getMaxRecruitCount() <= count)
+        //생성 직후 승인된 회원은 모임 관리자 1명뿐이므로 최대 인원이 1명이면 모집 마감
+        if (group.getMaxRecruitCount() <= 1)
             group.modifyRecruitStatus(RecruitStatus.CLOSED);
 
+        //승인된 회원 수, 관리자 수 갱신
+        groupRepository.addMemberCount(group.getId(), 1, 1);
+
+        eventPublisher.publishEvent(GroupIndexEvent.upsert(group));
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.of(group.getId(), memberId));
+        eventPublisher.publishEvent(MembershipChangedEvent.of(group.getId(), memberId));
+
         return group.getId();
     }
 
@@ -115,7 +138,7 @@ public class GroupService {
     public GroupResponse.Detail getGroup(@NotNull @Min(1) final Long groupId) {
         Group group = groupRepository.findByIdAndDisabled(groupId, false)
                                      .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
-        return GroupResponse.toDetail(group);
+        return GroupResponse.toDetail(group, getGroupLeaders(groupId));
     }
 
     /**
@@ -145,12 +168,16 @@ public class GroupService {
                     isLeader = true;
             }
 
-            return GroupResponse.toDetail(groupMembership.getGroup(), isApplying, isMember, isLeader);
+            return GroupResponse.toDetail(groupMembership.getGroup(),
+                                          getGroupLeaders(groupId),
+                                          isApplying,
+                                          isMember,
+                                          isLeader);
         }
 
         return GroupResponse.toDetail(groupRepository.findByIdAndDisabled(groupId, false).orElseThrow(
                 () -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND)
-        ));
+        ), getGroupLeaders(groupId));
     }
 
     /**
@@ -159,7 +186,8 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(List)
      */
     public List<GroupResponse.ListInfo> getGroups() {
-        return groupRepository.findAllByDisabled(false).stream().map(GroupResponse::toListInfo).toList();
+        List<Group> groups = groupRepository.findAllByDisabled(false);
+        return toListInfos(groups);
     }
 
     /**
@@ -168,7 +196,8 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(Page)
      */
     public Page<GroupResponse.ListInfo> getGroups(@NotNull final Pageable pageable) {
-        return groupRepository.findAllByDisabled(false, pageable).map(GroupResponse::toListInfo);
+        Page<Group> groups = groupRepository.findAllByDisabled(false, pageable);
+        return toListInfoPage(groups);
     }
 
     /**
@@ -178,10 +207,8 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(List)
      */
     public List<GroupResponse.ListInfo> getGroupsByNameContaining(final String name) {
-        return groupRepository.findAllByNameContainingAndDisabled(name, false)
-                              .stream()
-                              .map(GroupResponse::toListInfo)
-                              .toList();
+        List<Group> groups = groupRepository.findAllByNameContainingAndDisabled(name, false);
+        return toListInfos(groups);
     }
 
     /**
@@ -192,7 +219,8 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(Page)
      */
     public Page<GroupResponse.ListInfo> getGroupsByNameContaining(final String name, @NotNull final Pageable pageable) {
-        return groupRepository.findAllByNameContainingAndDisabled(name, false, pageable).map(GroupResponse::toListInfo);
+        Page<Group> groups = groupRepository.findAllByNameContainingAndDisabled(name, false, pageable);
+        return toListInfoPage(groups);
     }
 
     /**
@@ -204,10 +232,8 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(List)
      */
     public List<GroupResponse.ListInfo> getGroupsByRegion(final String province, final String city, final String town) {
-        return groupRepository.findAllByRegion(province, city, town, false)
-                              .stream()
-                              .map(GroupResponse::toListInfo)
-                              .toList();
+        List<Group> groups = groupRepository.findAllByRegion(province, city, town, false);
+        return toListInfos(groups);
     }
 
     /**
@@ -223,7 +249,8 @@ public class GroupService {
                                                           final String city,
                                                           final String town,
                                                           @NotNull final Pageable pageable) {
-        return groupRepository.findAllByRegion(province, city, town, false, pageable).map(GroupResponse::toListInfo);
+        Page<Group> groups = groupRepository.findAllByRegion(province, city, town, false, pageable);
+        return toListInfoPage(groups);
     }
 
     /**
@@ -239,10 +266,8 @@ public class GroupService {
                                                                            final String province,
                                                                            final String city,
                                                                            final String town) {
-        return groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false)
-                              .stream()
-                              .map(GroupResponse::toListInfo)
-                              .toList();
+        List<Group> groups = groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false);
+        return toListInfos(groups);
     }
 
     /**
@@ -260,8 +285,13 @@ public class GroupService {
                                                                            final String city,
                                                                            final String town,
                                                                            @NotNull final Pageable pageable) {
-        return groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false, pageable)
-                              .map(GroupResponse::toListInfo);
+        Page<Group> groups = groupRepository.findAllByNameContainingAndRegion(name,
+                                                                              province,
+                                                                              city,
+                                                                              town,
+                                                                              false,
+                                                                              pageable);
+        return toListInfoPage(groups);
     }
 
     /**
@@ -271,16 +301,15 @@ public class GroupService {
      * @return 모임 응답 DTO 목록(List)
      */
     public List<GroupResponse.ListInfo> getGroupsBySearch(@NotNull final GroupRequest.Search dto) {
-        return groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(dto.getCategoryName(),
-                                                                                           dto.getRecruitStatus(),
-                                                                                           dto.getName(),
-                                                                                           dto.getProvince(),
-                                                                                           dto.getCity(),
-                                                                                           dto.getTown(),
-                                                                                           false)
-                              .stream()
-                              .map(GroupResponse::toListInfo)
-                              .toList();
+        List<Group> groups =
+                groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(dto.getCategoryName(),
+                                                                                            dto.getRecruitStatus(),
+                                                                                            dto.getName(),
+                                                                                            dto.getProvince(),
+                                                                                            dto.getCity(),
+                                                                                            dto.getTown(),
+                                                                                            false);
+        return toListInfos(groups);
     }
 
     /**
@@ -292,15 +321,93 @@ public class GroupService {
      */
     public Page<GroupResponse.ListInfo> getGroupsBySearch(@NotNull final GroupRequest.Search dto,
                                                           @NotNull final Pageable pageable) {
-        return groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(dto.getCategoryName(),
-                                                                                           dto.getRecruitStatus(),
-                                                                                           dto.getName(),
-                                                                                           dto.getProvince(),
-                                                                                           dto.getCity(),
-                                                                                           dto.getTown(),
-                                                                                           false,
-                                                                                           pageable)
-                              .map(GroupResponse::toListInfo);
+        Page<Group> groups =
+                groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(dto.getCategoryName(),
+                                                                                            dto.getRecruitStatus(),
+                                                                                            dto.getName(),
+                                                                                            dto.getProvince(),
+                                                                                            dto.getCity(),
+                                                                                            dto.getTown(),
+                                                                                            false,
+                                                                                            pageable);
+        return toListInfoPage(groups);
+    }
+
+    /**
+     * 인메모리 검색 색인으로 카테고리와 모임 이름, 모집 상태, 상세 주소로 모임(Group) 다 건 조회
+     *
+     * @param dto      - 모임 검색 요청 DTO
+     * @param pageable - 페이징 객체
+     * @return 모임 응답 DTO 목록(Page)
+     */
+    public Page<GroupResponse.ListInfo> searchGroups(@NotNull final GroupRequest.Search dto,
+                                                     @NotNull final Pageable pageable) {
+        Page<Long> groupIds = groupSearchIndex.search(dto, pageable);
+
+        //색인 순서대로 정렬, 색인 반영 전 삭제된 모임은 제외
+        Map<Long, Group> groups = groupRepository.findAllWithCategoryByIdIn(groupIds.getContent())
+                                                 .stream()
+                                                 .filter(group -> !group.getDisabled())
+                                                 .collect(Collectors.toMap(Group::getId, Function.identity()));
+        List<Group> content = groupIds.getContent().stream().map(groups::get).filter(Objects::nonNull).toList();
+
+        return new PageImpl<>(toListInfos(content), pageable, groupIds.getTotalElements());
+    }
+
+    /**
+     * 인메모리 검색 색인으로 검색 조건에 일치하는 모임의 패싯(카테고리, 모집 상태, 지역)별 개수 조회
+     *
+     * @param dto - 모임 검색 요청 DTO
+     * @return 모임 패싯 응답 DTO
+     */
+    public GroupResponse.Facets getGroupFacets(@NotNull final GroupRequest.Search dto) {
+        GroupFacetCounts facetCounts = groupSearchIndex.countFacets(dto);
+        return GroupResponse.toFacets(facetCounts);
+    }
+
+    /**
+     * 입력 중인 검색어로 모임 이름과 활동 지역 자동 완성
+     *
+     * @param keyword - 입력 중인 검색어
+     * @param size    - 최대 결과 수
+     * @return 자동 완성 응답 DTO
+     */
+    public GroupResponse.Autocomplete autocomplete(final String keyword, final int size) {
+        return groupAutocompleteIndex.autocomplete(keyword, size);
+    }
+
+    /**
+     * 중심 좌표로부터 반경 내의 모집 중인 모임을 가까운 순으로 조회
+     *
+     * @param latitude     - 중심 위도
+     * @param longitude    - 중심 경도
+     * @param radius       - 반경(m)
+     * @param categoryName - 카테고리명
+     * @param size         - 최대 결과 수
+     * @return 주변 모임 응답 DTO 목록
+     */
+    public List<GroupResponse.Nearby> getNearbyGroups(final double latitude,
+                                                      final double longitude,
+                                                      final double radius,
+                                                      final String categoryName,
+                                                      final int size) {
+        List<GroupGeoIndex.Nearby> nearbyList = groupGeoIndex.findNearby(latitude,
+                                                                         longitude,
+                                                                         radius,
+                                                                         categoryName,
+                                                                         size);
+
+        //거리 순서대로 정렬, 색인 반영 전 삭제된 모임은 제외
+        Map<Long, Group> groups = groupRepository.findAllWithCategoryByIdIn(nearbyList.stream()
+                                                                                      .map(GroupGeoIndex.Nearby::groupId)
+                                                                                      .toList())
+                                                 .stream()
+                                                 .filter(group -> !group.getDisabled())
+                                                 .collect(Collectors.toMap(Group::getId, Function.identity()));
+        return nearbyList.stream()
+                         .filter(nearby -> groups.containsKey(nearby.groupId()))
+                         .map(nearby -> GroupResponse.toNearby(groups.get(nearby.groupId()), nearby.distance()))
+                         .toList();
     }
 
     /**
@@ -316,6 +423,8 @@ public class GroupService {
     public GroupResponse.Detail modifyGroup(@NotNull @Min(1) final Long groupId,
                                             @NotNull @Min(1) final Long memberId,
                                             @NotNull final GroupRequest.Update dto) {
+        validateFencingToken(groupId);
+
         GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
                                                                                                         memberId,
                                                                                                         false)
@@ -339,9 +448,7 @@ public class GroupService {
                                                          CategoryErrorCode.CATEGORY_NOT_FOUND
                                                  ));
 
-        if (dto.getMaxRecruitCount() < groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
-                                                                                                    MembershipStatus.APPROVED,
-                                                                                                    false))
+        if (dto.getMaxRecruitCount() < group.getApprovedMemberCount())
             throw new GroupException(GroupErrorCode.GROUP_MAXIMUM_NUMBER_OF_MEMBERS);
 
         RecruitStatus newRecruitStatus = RecruitStatus.valueOf(dto.getRecruitStatus());
@@ -354,7 +461,9 @@ public class GroupService {
              .modifyMaxRecruitCount(dto.getMaxRecruitCount())
              .modifyCategory(newCategory);
 
-        return GroupResponse.toDetail(group);
+        eventPublisher.publishEvent(GroupIndexEvent.upsert(group));
+
+        return GroupResponse.toDetail(group, getGroupLeaders(groupId));
     }
 
     /**
@@ -367,6 +476,8 @@ public class GroupService {
     @CustomLock(key = "'group:' + #groupId")
     @Transactional
     public boolean deleteGroup(@NotNull @Min(1) final Long groupId, @NotNull @Min(1) final Long memberId) {
+        validateFencingToken(groupId);
+
         GroupMembership groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId,
                                                                                                         memberId,
                                                                                                         false)
@@ -385,13 +496,64 @@ public class GroupService {
         Group group = groupRepository.findByIdAndDisabled(groupId, false)
                                      .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
+        //채팅방 요약에서 제거할 모임 회원 ID 목록
+        List<Long> memberIds = groupMembershipRepository.findAllByGroupIdAndDisabled(groupId, false)
+                                                        .stream()
+                                                        .map(GroupMembership::getMemberId)
+                                                        .toList();
+
         group.deactivate();
         groupMembershipRepository.updateDisabledForAllGroupMembership(groupId,
                                                                       true); //해당 모임 ID를 갖는 멤버십 일괄 삭제(Soft Delete)
         entityManager.flush();
         entityManager.clear();  //벌크 연산 후 영속성 컨텍스트 초기화
 
+        eventPublisher.publishEvent(GroupIndexEvent.delete(groupId));
+        eventPublisher.publishEvent(ChatRoomMembershipEvent.of(groupId, memberIds));
+        eventPublisher.publishEvent(MembershipChangedEvent.ofGroup(groupId));
+
         return group.getDisabled();
     }
 
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 모임 목록을 응답 DTO 목록으로 변환, 모임 관리자 닉네임은 모임 ID 목록으로 일괄 조회
+     *
+     * @param groups - 모임 목록
+     * @return 모임 응답 DTO 목록
+     */
+    private List<GroupResponse.ListInfo> toListInfos(final List<Group> groups) {
+        if (groups.isEmpty())
+            return List.of();
+
+        Map<Long, List<String>> groupLeaders =
+                groupMembershipRepository.findLeaderNicknamesByGroupIds(groups.stream().map(Group::getId).toList());
+        return groups.stream()
+                     .map(group -> GroupResponse.toListInfo(group,
+                                                            groupLeaders.getOrDefault(group.getId(), List.of())))
+                     .toList();
+    }
+
+    private Page<GroupResponse.ListInfo> toListInfoPage(final Page<Group> groups) {
+        return new PageImpl<>(toListInfos(groups.getContent()), groups.getPageable(), groups.getTotalElements());
+    }
+
+    private List<String> getGroupLeaders(final Long groupId) {
+        return groupMembershipRepository.findLeaderNicknamesByGroupIds(List.of(groupId))
+                                        .getOrDefault(groupId, List.of());
+    }
+
+    /**
+     * 펜싱 토큰으로 모임 행을 선점, 더 큰 토큰으로 이미 갱신된 경우(= 락 임대가 만료된 경우) 예외
+     *
+     * @param groupId - 모임 ID
+     */
+    private void validateFencingToken(final Long groupId) {
+        FencingTokenHolder.getToken().ifPresent(token -> {
+            if (groupRepository.updateFencingToken(groupId, token) == 0 && groupRepository.existsById(groupId))
+                throw new GroupException(GroupErrorCode.GROUP_STALE_LOCK);
+        });
+    }
+
 }
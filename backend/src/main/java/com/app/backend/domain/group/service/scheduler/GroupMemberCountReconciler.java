@@ -0,0 +1,48 @@
+package com.app.backend.domain.group.service.scheduler;
+
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 모임의 비정규화된 회원 수(approvedMemberCount, leaderCount)를 멤버십 테이블 기준으로 보정하는 안전장치
+ * <p>
+ * 회원 수는 멤버십 변경과 같은 트랜잭션의 원자적 조건부 UPDATE 로만 갱신되므로 정상 동작에서는 어긋나지 않음
+ * 컬럼 추가 이전 데이터나 DB 직접 수정처럼 서비스를 거치지 않은 변경에 대비하여 기동 시 및 매일 새벽 실제 멤버십 수와 다른 모임만 찾아 다시 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMemberCountReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final GroupRepository groupRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 5 * * ?")
+    @Transactional
+    public void reconcile() {
+        List<Long> groupIds = groupRepository.findAllIdsWithDriftedMemberCount(MembershipStatus.APPROVED,
+                                                                               GroupRole.LEADER);
+        if (groupIds.isEmpty())
+            return;
+
+        int updated = 0;
+        for (int i = 0; i < groupIds.size(); i += BATCH_SIZE)
+            updated += groupRepository.reconcileMemberCount(groupIds.subList(i, Math.min(i + BATCH_SIZE,
+                                                                                         groupIds.size())),
+                                                            MembershipStatus.APPROVED,
+                                                            GroupRole.LEADER);
+        log.warn("모임 회원 수 불일치를 보정했습니다: {}건", updated);
+    }
+
+}
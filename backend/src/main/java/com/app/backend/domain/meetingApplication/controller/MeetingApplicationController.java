@@ -8,6 +8,7 @@ import com.app.backend.domain.meetingApplication.service.MeetingApplicationServi
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -90,6 +92,24 @@ public class MeetingApplicationController {
         );
     }
 
+    @GetMapping("/{groupId}/meeting_applications/cursor")
+    public ApiResponse<CursorResponse<MeetingApplicationResponse.Detail>> getMeetingApplicationsWithCursor(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 10) Pageable pageable,
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        return ApiResponse.of(
+                true,
+                HttpStatus.OK,
+                "meeting application 조회 성공",
+                meetingApplicationService.getMeetingApplicationsWithCursor(groupId,
+                                                                           memberDetails.getId(),
+                                                                           cursor,
+                                                                           pageable.getPageSize())
+        );
+    }
+
     /*
         @GetMapping("/{groupId}/meeting_applications/{meetingApplicationId}")
         public ApiResponse<MeetingApplicationDto> getMeetingApplication(
@@ -0,0 +1,29 @@
+package com.app.backend.domain.meetingApplication.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 가입 신청 목록 조회용 프로젝션, 신청자의 멤버십 상태에 따른 플래그를 SQL 에서 계산
+ *
+ * @param id        - 가입 신청 ID
+ * @param groupId   - 모임 ID
+ * @param memberId  - 신청 회원 ID
+ * @param nickname  - 신청 회원 닉네임
+ * @param context   - 신청 내용
+ * @param createdAt - 신청 일시
+ * @param rejected  - 가입 거절(REJECTED) 여부
+ * @param isMember  - 가입 승인(APPROVED) 여부
+ * @param isAdmin   - 가입 승인된 모임 관리자(LEADER) 여부
+ */
+public record MeetingApplicationSummary(
+	Long id,
+	Long groupId,
+	Long memberId,
+	String nickname,
+	String context,
+	LocalDateTime createdAt,
+	Boolean rejected,
+	Boolean isMember,
+	Boolean isAdmin
+) {
+}
@@ -1,5 +1,6 @@
 package com.app.backend.domain.meetingApplication.dto.response;
 
+import com.app.backend.domain.meetingApplication.dto.MeetingApplicationSummary;
 import com.app.backend.domain.meetingApplication.entity.MeetingApplication;
 import com.app.backend.global.util.AppUtil;
 import lombok.AccessLevel;
@@ -26,6 +27,20 @@ public class MeetingApplicationResponse {
                      .build();
     }
 
+    public static Detail toDetail(final MeetingApplicationSummary summary) {
+        return Detail.builder()
+                     .id(summary.id())
+                     .groupId(summary.groupId())
+                     .memberId(summary.memberId())
+                     .nickname(summary.nickname())
+                     .content(summary.context())
+                     .createdAt(AppUtil.localDateTimeToString(summary.createdAt()))
+                     .rejected(summary.rejected())
+                     .isMember(summary.isMember())
+                     .isAdmin(summary.isAdmin())
+                     .build();
+    }
+
     @Getter
     @Builder(access = AccessLevel.PRIVATE)
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
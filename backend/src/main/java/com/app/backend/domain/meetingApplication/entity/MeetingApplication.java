@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,7 +20,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "tbl_meeting_applications")
+@Table(name = "tbl_meeting_applications", indexes = {
+        @Index(name = "idx_meeting_applications_group_created",
+               columnList = "group_id, disabled, created_at, meeting_application_id")
+})
 @Getter
 @Builder
 @AllArgsConstructor
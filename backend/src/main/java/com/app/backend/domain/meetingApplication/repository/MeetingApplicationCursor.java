@@ -0,0 +1,32 @@
+package com.app.backend.domain.meetingApplication.repository;
+
+import com.app.backend.domain.meetingApplication.dto.MeetingApplicationSummary;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.CursorUtil;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 모임 가입 신청 목록 키셋(Keyset) 페이징 커서: (created_at, meeting_application_id), 최신순
+ */
+public record MeetingApplicationCursor(LocalDateTime createdAt, Long meetingApplicationId) {
+
+    public static MeetingApplicationCursor of(final MeetingApplicationSummary summary) {
+        return new MeetingApplicationCursor(summary.createdAt(), summary.id());
+    }
+
+    public static MeetingApplicationCursor decode(final String cursor) {
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return new MeetingApplicationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(createdAt.toString(), String.valueOf(meetingApplicationId));
+    }
+
+}
@@ -5,7 +5,8 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface MeetingApplicationRepository extends JpaRepository<MeetingApplication, Long> {
+public interface MeetingApplicationRepository extends JpaRepository<MeetingApplication, Long>,
+                                                      MeetingApplicationRepositoryCustom {
 
     List<MeetingApplication> findByGroupIdAndDisabled(Long groupId, boolean disabled);
 
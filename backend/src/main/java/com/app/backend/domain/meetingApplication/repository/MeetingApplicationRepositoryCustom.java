@@ -0,0 +1,16 @@
+package com.app.backend.domain.meetingApplication.repository;
+
+import com.app.backend.domain.meetingApplication.dto.MeetingApplicationSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface MeetingApplicationRepositoryCustom {
+
+    Page<MeetingApplicationSummary> findAllSummaryByGroupId(Long groupId, Pageable pageable);
+
+    Slice<MeetingApplicationSummary> findAllSummaryByGroupIdWithCursor(Long groupId,
+                                                                       MeetingApplicationCursor cursor,
+                                                                       int size);
+
+}
@@ -0,0 +1,133 @@
+package com.app.backend.domain.meetingApplication.repository;
+
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.entity.QGroupMembership;
+import com.app.backend.domain.meetingApplication.dto.MeetingApplicationSummary;
+import com.app.backend.domain.meetingApplication.entity.QMeetingApplication;
+import com.app.backend.domain.member.entity.QMember;
+import com.app.backend.global.util.PageCounter;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MeetingApplicationRepositoryImpl implements MeetingApplicationRepositoryCustom {
+
+    private static final QMeetingApplication MEETING_APPLICATION = QMeetingApplication.meetingApplication;
+    private static final QGroupMembership    GROUP_MEMBERSHIP    = QGroupMembership.groupMembership;
+    private static final QMember             MEMBER              = QMember.member;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter     pageCounter;
+
+    /**
+     * 모임의 가입 신청 목록을 신청자의 멤버십과 조인하여 최신순으로 페이징 조회
+     *
+     * @param groupId  - 모임 ID
+     * @param pageable - 페이징 객체(정렬 조건은 무시하며 항상 최신순)
+     * @return 가입 신청 목록 페이지
+     */
+    @Override
+    public Page<MeetingApplicationSummary> findAllSummaryByGroupId(final Long groupId, final Pageable pageable) {
+        Predicate predicate = MEETING_APPLICATION.group.id.eq(groupId).and(MEETING_APPLICATION.disabled.eq(false));
+
+        List<MeetingApplicationSummary> content = selectSummary().where(predicate)
+                                                                 .offset(pageable.getOffset())
+                                                                 .limit(pageCounter.getLimit(pageable))
+                                                                 .fetch();
+        return pageCounter.getPage("meeting-application:group",
+                                   content,
+                                   pageable,
+                                   predicate,
+                                   () -> jpaQueryFactory.select(MEETING_APPLICATION.count())
+                                                        .from(MEETING_APPLICATION)
+                                                        .where(predicate)
+                                                        .fetchOne());
+    }
+
+    /**
+     * 모임의 가입 신청 목록을 커서 이후부터 최신순으로 조회, count 쿼리 없이 size + 1 개를 조회하여 다음 페이지 여부 판단
+     *
+     * @param groupId - 모임 ID
+     * @param cursor  - 이전 페이지 마지막 신청의 커서(첫 페이지인 경우 null)
+     * @param size    - 조회 개수
+     * @return 가입 신청 목록 슬라이스
+     */
+    @Override
+    public Slice<MeetingApplicationSummary> findAllSummaryByGroupIdWithCursor(final Long groupId,
+                                                                              final MeetingApplicationCursor cursor,
+                                                                              final int size) {
+        List<MeetingApplicationSummary> content = selectSummary().where(MEETING_APPLICATION.group.id.eq(groupId),
+                                                                        MEETING_APPLICATION.disabled.eq(false),
+                                                                        seekCondition(cursor))
+                                                                 .limit(size + 1L)
+                                                                 .fetch();
+
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, Pageable.ofSize(size), hasNext);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 가입 신청, 신청 회원, 신청 회원의 멤버십을 조인하여 플래그를 계산하는 공통 조회 쿼리(최신순 정렬)
+     */
+    private JPAQuery<MeetingApplicationSummary> selectSummary() {
+        BooleanExpression approved = GROUP_MEMBERSHIP.status.eq(MembershipStatus.APPROVED);
+
+        return jpaQueryFactory.select(Projections.constructor(
+                                      MeetingApplicationSummary.class,
+                                      MEETING_APPLICATION.id,
+                                      MEETING_APPLICATION.group.id,
+                                      MEMBER.id,
+                                      MEMBER.nickname,
+                                      MEETING_APPLICATION.context,
+                                      MEETING_APPLICATION.createdAt,
+                                      flag(GROUP_MEMBERSHIP.status.eq(MembershipStatus.REJECTED)),
+                                      flag(approved),
+                                      flag(approved.and(GROUP_MEMBERSHIP.groupRole.eq(GroupRole.LEADER)))
+                              ))
+                              .from(MEETING_APPLICATION)
+                              .join(MEETING_APPLICATION.member, MEMBER)
+                              .leftJoin(GROUP_MEMBERSHIP)
+                              .on(GROUP_MEMBERSHIP.groupId.eq(MEETING_APPLICATION.group.id),
+                                  GROUP_MEMBERSHIP.memberId.eq(MEMBER.id),
+                                  GROUP_MEMBERSHIP.disabled.eq(false))
+                              .orderBy(MEETING_APPLICATION.createdAt.desc(), MEETING_APPLICATION.id.desc());
+    }
+
+    /**
+     * 조건을 만족하면 true, 멤버십이 없거나(left join 결과 null) 만족하지 않으면 false
+     */
+    private static Expression<Boolean> flag(final BooleanExpression condition) {
+        return new CaseBuilder().when(condition).then(true).otherwise(false);
+    }
+
+    /**
+     * 커서 이후 행만 조회하는 Seek 조건: (created_at, meeting_application_id) 튜플 비교
+     */
+    private static BooleanExpression seekCondition(final MeetingApplicationCursor cursor) {
+        if (cursor == null)
+            return null;
+
+        return MEETING_APPLICATION.createdAt.lt(cursor.createdAt())
+                                            .or(MEETING_APPLICATION.createdAt.eq(cursor.createdAt())
+                                                                             .and(MEETING_APPLICATION.id.lt(
+                                                                                     cursor.meetingApplicationId()
+                                                                             )));
+    }
+
+}
@@ -2,9 +2,11 @@ package com.app.backend.domain.meetingApplication.service;
 
 import static com.app.backend.domain.group.entity.GroupRole.PARTICIPANT;
 
+import com.app.backend.domain.group.authorization.MembershipChangedEvent;
+import com.app.backend.domain.group.authorization.MembershipDecision;
+import com.app.backend.domain.group.authorization.MembershipDecisionCache;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.GroupMembership;
-import com.app.backend.domain.group.entity.GroupRole;
 import com.app.backend.domain.group.entity.MembershipStatus;
 import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
@@ -13,23 +15,23 @@ import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.meetingApplication.dto.MeetingApplicationDto;
 import com.app.backend.domain.meetingApplication.dto.MeetingApplicationListDto;
 import com.app.backend.domain.meetingApplication.dto.MeetingApplicationReqBody;
+import com.app.backend.domain.meetingApplication.dto.MeetingApplicationSummary;
 import com.app.backend.domain.meetingApplication.dto.response.MeetingApplicationResponse;
-import com.app.backend.domain.meetingApplication.dto.response.MeetingApplicationResponse.Detail;
 import com.app.backend.domain.meetingApplication.entity.MeetingApplication;
 import com.app.backend.domain.meetingApplication.exception.MeetingApplicationErrorCode;
 import com.app.backend.domain.meetingApplication.exception.MeetingApplicationException;
+import com.app.backend.domain.meetingApplication.repository.MeetingApplicationCursor;
 import com.app.backend.domain.meetingApplication.repository.MeetingApplicationRepository;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
-import java.util.Comparator;
+import com.app.backend.global.dto.response.CursorResponse;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,6 +43,8 @@ public class MeetingApplicationService {
     private final GroupRepository              groupRepository;
     private final MemberRepository             memberRepository;
     private final GroupMembershipRepository    groupMembershipRepository;
+    private final MembershipDecisionCache      membershipDecisionCache;
+    private final ApplicationEventPublisher    eventPublisher;
 
     @Transactional
     public MeetingApplication create(Long groupId, MeetingApplicationReqBody request, Long memberId) {
@@ -72,6 +76,7 @@ public class MeetingApplicationService {
                                                                                                                  PARTICIPANT)
                                                                                                          .build()
                                          ));
+        eventPublisher.publishEvent(MembershipChangedEvent.of(groupId, memberId));
 
         return meetingApplicationRepository.findByGroup_IdAndMember_IdAndDisabled(groupId, memberId, false)
                                            .orElseGet(() -> {
@@ -88,13 +93,12 @@ public class MeetingApplicationService {
     // 리스트 조회
     public MeetingApplicationListDto getMeetingApplications(Long groupId, Long memberId) {
 
-        GroupMembership membership =
-                groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId, memberId, false)
-                                         .orElseThrow(() -> new MeetingApplicationException(
-                                                 MeetingApplicationErrorCode.MEMBER_NOT_FOUND_IN_GROUP));
+        MembershipDecision membership = membershipDecisionCache.get(groupId, memberId);
+        if (!membership.exists())
+            throw new MeetingApplicationException(MeetingApplicationErrorCode.MEMBER_NOT_FOUND_IN_GROUP);
 
         // 조회 권한 체크
-        if (!membership.getGroupRole().equals(GroupRole.LEADER)) {
+        if (!membership.isLeader()) {
             throw new MeetingApplicationException(MeetingApplicationErrorCode.UNAUTHORIZED_ACCESS);
         }
 
@@ -110,13 +114,12 @@ public class MeetingApplicationService {
     // 상세 조회
     public MeetingApplicationDto getMeetingApplication(Long groupId, Long meetingApplicationId, Long memberId) {
 
-        GroupMembership membership =
-                groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId, memberId, false)
-                                         .orElseThrow(() -> new MeetingApplicationException(
-                                                 MeetingApplicationErrorCode.MEMBER_NOT_FOUND_IN_GROUP));
+        MembershipDecision membership = membershipDecisionCache.get(groupId, memberId);
+        if (!membership.exists())
+            throw new MeetingApplicationException(MeetingApplicationErrorCode.MEMBER_NOT_FOUND_IN_GROUP);
 
         // 조회 권한 체크
-        if (!membership.getGroupRole().equals(GroupRole.LEADER)) {
+        if (!membership.isLeader()) {
             throw new MeetingApplicationException(MeetingApplicationErrorCode.UNAUTHORIZED_ACCESS);
         }
 
@@ -134,11 +137,7 @@ public class MeetingApplicationService {
                                      .orElseThrow(() -> new MeetingApplicationException(
                                              MeetingApplicationErrorCode.GROUP_NOT_FOUND));
 
-        int approvedMemberCount = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(
-                groupId, MembershipStatus.APPROVED, false
-        );
-
-        if (approvedMemberCount >= group.getMaxRecruitCount()) {
+        if (group.getApprovedMemberCount() >= group.getMaxRecruitCount()) {
             throw new MeetingApplicationException(MeetingApplicationErrorCode.GROUP_MEMBER_LIMIT_EXCEEDED);
         }
     }
@@ -146,74 +145,62 @@ public class MeetingApplicationService {
     public MeetingApplicationResponse.Detail getMeetingApplicationById(Long groupId,
                                                                        Long meetingApplicationId,
                                                                        Long memberId) {
-        GroupMembership groupLeaderMembership =
-                groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId, memberId, false)
-                                         .orElseThrow(() -> new GroupMembershipException(
-                                                 GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND)
-                                         );
-        if (groupLeaderMembership.getStatus() != MembershipStatus.APPROVED
-            || groupLeaderMembership.getGroupRole() != GroupRole.LEADER)
-            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NO_PERMISSION);
+        validateGroupLeader(groupId, memberId);
 
         MeetingApplication meetingApplication =
                 meetingApplicationRepository.findByIdAndDisabled(meetingApplicationId, false)
                                             .orElseThrow(() -> new MeetingApplicationException(
                                                     MeetingApplicationErrorCode.MEETING_APPLICATION_NOT_FOUND
                                             ));
-        GroupMembership groupMembership = groupMembershipRepository
-                .findByGroupIdAndMemberIdAndDisabled(groupId, meetingApplication.getMember().getId(), false)
-                .orElseThrow(() -> new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND));
+        MembershipDecision groupMembership = membershipDecisionCache.get(groupId,
+                                                                         meetingApplication.getMember().getId());
+        if (!groupMembership.exists())
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
 
         return MeetingApplicationResponse.toDetail(meetingApplication,
-                                                   groupMembership.getStatus() == MembershipStatus.REJECTED,
-                                                   groupMembership.getStatus() == MembershipStatus.APPROVED,
-                                                   groupMembership.getGroupRole() == GroupRole.LEADER);
+                                                   groupMembership.status() == MembershipStatus.REJECTED,
+                                                   groupMembership.isApproved(),
+                                                   groupMembership.isLeader());
     }
 
     public Page<MeetingApplicationResponse.Detail> getMeetingApplications(Long groupId,
                                                                           Long memberId,
                                                                           Pageable pageable) {
-        GroupMembership groupMembership =
-                groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(groupId, memberId, false)
-                                         .orElseThrow(() -> new GroupMembershipException(
-                                                 GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND)
-                                         );
-        if (groupMembership.getStatus() != MembershipStatus.APPROVED
-            || groupMembership.getGroupRole() != GroupRole.LEADER)
-            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NO_PERMISSION);
+        validateGroupLeader(groupId, memberId);
+
+        return meetingApplicationRepository.findAllSummaryByGroupId(groupId, pageable)
+                                           .map(MeetingApplicationResponse::toDetail);
+    }
 
-        List<MeetingApplication> list = meetingApplicationRepository.findByGroupIdAndDisabled(groupId, false);
-        Map<Long, GroupMembership> map = groupMembershipRepository.findAllByGroupIdAndDisabled(groupId, false)
-                                                                  .stream()
-                                                                  .collect(
-                                                                          Collectors.toMap(GroupMembership::getMemberId,
-                                                                                           Function.identity())
-                                                                  );
-
-        List<MeetingApplicationResponse.Detail> content = list.stream()
-                                                              .map(ma -> {
-                                                                  Long            mId = ma.getMember().getId();
-                                                                  GroupMembership gm  = map.get(mId);
-
-                                                                  boolean rejected = gm != null
-                                                                                     && gm.getStatus() ==
-                                                                                        MembershipStatus.REJECTED;
-                                                                  boolean isMember = gm != null
-                                                                                     && gm.getStatus() ==
-                                                                                        MembershipStatus.APPROVED;
-                                                                  boolean isAdmin = isMember
-                                                                                    && gm.getGroupRole() ==
-                                                                                       GroupRole.LEADER;
-
-                                                                  return MeetingApplicationResponse.toDetail(ma,
-                                                                                                             rejected,
-                                                                                                             isMember,
-                                                                                                             isAdmin);
-                                                              })
-                                                              .sorted(Comparator.comparing(Detail::getCreatedAt)
-                                                                                .reversed())
-                                                              .toList();
-
-        return new PageImpl<>(content, pageable, content.size());
+    // 커서 기반 리스트 조회(최신순)
+    public CursorResponse<MeetingApplicationResponse.Detail> getMeetingApplicationsWithCursor(Long groupId,
+                                                                                              Long memberId,
+                                                                                              String cursor,
+                                                                                              int size) {
+        validateGroupLeader(groupId, memberId);
+
+        MeetingApplicationCursor decodedCursor = (cursor == null || cursor.isBlank())
+                                                 ? null
+                                                 : MeetingApplicationCursor.decode(cursor);
+        Slice<MeetingApplicationSummary> slice =
+                meetingApplicationRepository.findAllSummaryByGroupIdWithCursor(groupId, decodedCursor, size);
+
+        List<MeetingApplicationSummary> content = slice.getContent();
+        String nextCursor = content.isEmpty()
+                            ? null
+                            : MeetingApplicationCursor.of(content.get(content.size() - 1)).encode();
+
+        return CursorResponse.of(content.stream().map(MeetingApplicationResponse::toDetail).toList(),
+                                 nextCursor,
+                                 slice.hasNext());
+    }
+
+    // 가입 승인된 모임 관리자인지 확인
+    private void validateGroupLeader(Long groupId, Long memberId) {
+        MembershipDecision groupMembership = membershipDecisionCache.get(groupId, memberId);
+        if (!groupMembership.exists())
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
+        if (!groupMembership.isApprovedLeader())
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NO_PERMISSION);
     }
 }
@@ -4,11 +4,20 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.app.backend.domain.member.entity.Member;
+import com.app.backend.global.entity.CacheRegion;
+
+import jakarta.persistence.QueryHint;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegion.MEMBER_QUERY)
+    })
     Optional<Member> findByIdAndDisabled(Long in, boolean disabled);
 
     Optional<Member> findByUsernameAndDisabled(String username, boolean disabled);
@@ -12,6 +12,8 @@ import com.app.backend.domain.member.exception.MemberErrorCode;
 import com.app.backend.domain.member.exception.MemberException;
 import com.app.backend.domain.member.jwt.JwtProvider;
 import com.app.backend.domain.member.repository.MemberRepository;
+import com.app.backend.global.entity.CacheRegion;
+import com.app.backend.global.util.EntityCacheEvictor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +34,7 @@ public class MemberService {
     private final GroupMembershipRepository groupMembershipRepository;
     private final PasswordEncoder           passwordEncoder;
     private final JwtProvider               jwtProvider;
+    private final EntityCacheEvictor        entityCacheEvictor;
     private final boolean                   disabled = false;
 
     @Transactional
@@ -114,6 +117,7 @@ public class MemberService {
         Member savedMember = Optional.of(
                 memberRepository.save(modifiedMember)
         ).orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_FAILED_TO_MODIFY));
+        evictCache(savedMember.getId());
 
         return MemberModifyResponseDto.of(savedMember);
     }
@@ -146,6 +150,7 @@ public class MemberService {
                        .build();
 
         memberRepository.save(member);
+        evictCache(member.getId());
     }
 
     @Transactional
@@ -155,6 +160,10 @@ public class MemberService {
         LocalDateTime cutoffDate   = LocalDateTime.now().minusSeconds(30);
         int           deletedCount = memberRepository.deleteByDisabledIsTrueAndModifiedAtLessThan(cutoffDate);
         log.info("삭제된 회원 수: {}", deletedCount);
+        if (deletedCount > 0) {
+            entityCacheEvictor.evictEntities(Member.class);
+            entityCacheEvictor.evictQueryRegion(CacheRegion.MEMBER_QUERY);
+        }
     }
 
     public List<GroupMembershipResponse.Detail> getMyGroup(String token) {
@@ -170,4 +179,16 @@ public class MemberService {
                        })
                        .orElse(List.of());  // 토큰이 없거나 유효하지 않은 경우 빈 리스트 반환
     }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 변경된 회원과 회원 조회 쿼리 캐시 제거
+     *
+     * @param memberId - 회원 ID
+     */
+    private void evictCache(final Long memberId) {
+        entityCacheEvictor.evictEntity(Member.class, memberId);
+        entityCacheEvictor.evictQueryRegion(CacheRegion.MEMBER_QUERY);
+    }
 }
@@ -2,6 +2,7 @@ package com.app.backend.domain.notification.entity;
 
 import com.app.backend.domain.notification.dto.NotificationEvent;
 import com.app.backend.global.entity.BaseEntity;
+import com.app.backend.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Notification extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     private Long id;
 
     private String userId;
@@ -50,6 +50,43 @@ public class NotificationService {
         notificationProducer.sendNotification(message);
     }
 
+    /**
+     * 여러 회원에게 같은 알림을 일괄 저장 후 전송
+     */
+    public void sendNotifications(List<String> userIds, String title, String content,
+                                  NotificationEvent.NotificationType type, Long targetId) {
+        if (userIds.isEmpty())
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = notificationRepository.saveAll(userIds.stream()
+                .map(userId -> Notification.builder()
+                        .userId(userId)
+                        .title(title)
+                        .content(content)
+                        .isRead(false)
+                        .type(type)
+                        .targetId(targetId)
+                        .createdAt(now)
+                        .build())
+                .toList());
+
+        // 알림 저장은 한 번에 수행하고, Kafka 전송은 프로듀서 배치에 맡김
+        for (Notification notification : notifications) {
+            NotificationMessage message = new NotificationMessage(
+                    notification.getId(),
+                    notification.getUserId(),
+                    notification.getTitle(),
+                    notification.getContent(),
+                    notification.getCreatedAt(),
+                    notification.isRead()
+            );
+            kafkaTemplate.send(NotificationEvent.NotificationType.GROUP_INVITE.toString(),
+                    notification.getUserId(), message);
+            notificationProducer.sendNotification(message);
+        }
+    }
+
     public void save(Notification notification) {
         notificationRepository.save(notification);
     }
@@ -9,7 +9,9 @@ import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.service.post.PostService;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.dto.response.CursorResponse;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.PageCountMode;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -45,7 +47,7 @@ public class PostController {
     }
 
     @GetMapping
-    @CustomPageJsonSerializer
+    @CustomPageJsonSerializer(countMode = PageCountMode.CACHED, countTtl = 30L)
     public ApiResponse<?> getPosts(
             @RequestParam final Long groupId,
             @RequestParam(defaultValue = "") final String search,
@@ -58,6 +60,20 @@ public class PostController {
         return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
     }
 
+    @GetMapping("/cursor")
+    public ApiResponse<?> getPostsWithCursor(
+            @RequestParam final Long groupId,
+            @RequestParam(defaultValue = "") final String search,
+            @RequestParam(defaultValue = "ALL") final PostStatus postStatus,
+            @RequestParam(required = false) final String cursor,
+            @PageableDefault Pageable pageable
+    ) {
+
+        CursorResponse<PostRespDto.GetPostListDto> posts = postService.getPostsBySearchWithCursor(groupId, search, postStatus, cursor, pageable);
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
+    }
+
     @GetMapping("/hot")
     public ApiResponse<?> getHotPosts(
             @RequestParam final Long groupId
@@ -114,7 +130,7 @@ public class PostController {
     }
 
     @GetMapping("/members")
-    @CustomPageJsonSerializer
+    @CustomPageJsonSerializer(totalPages = false, totalElements = false, countMode = PageCountMode.SKIP)
     public ApiResponse<?> getMembers(
             @Valid @ModelAttribute final PostReqDto.SearchPostDto searchPost,
             @PageableDefault Pageable pageable,
@@ -130,6 +146,23 @@ public class PostController {
         return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
     }
 
+    @GetMapping("/members/cursor")
+    public ApiResponse<?> getMembersWithCursor(
+            @Valid @ModelAttribute final PostReqDto.SearchPostDto searchPost,
+            @RequestParam(required = false) final String cursor,
+            @PageableDefault Pageable pageable,
+            final BindingResult bindingResult,
+            @AuthenticationPrincipal final MemberDetails memberDetails) {
+
+        if (bindingResult.hasErrors()) {
+            throw new PostException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        CursorResponse<PostRespDto.GetPostListDto> posts = postService.getPostsByUserWithCursor(searchPost, cursor, pageable, memberDetails.getId());
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts);
+    }
+
     @PostMapping("/{postId}/like")
     public ApiResponse<Void> createPostLike(
         @PathVariable Long postId,
@@ -0,0 +1,25 @@
+package com.app.backend.domain.post.controller;
+
+import com.app.backend.domain.post.service.search.PostSearchIndex;
+import com.app.backend.global.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/posts/search-index")
+public class PostSearchIndexController {
+
+    private final PostSearchIndex postSearchIndex;
+
+    @PostMapping("/rebuild")
+    public ApiResponse<Long> rebuildIndex() {
+        long count = postSearchIndex.rebuild();
+
+        return ApiResponse.of(true, HttpStatus.OK, "게시글 검색 색인을 재구축했습니다", count);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.app.backend.domain.post.dto.resp;
+
+import com.app.backend.domain.group.authorization.MembershipDecision;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.post.entity.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 조회용 프로젝션, 작성자는 게시글의 닉네임 컬럼을 사용하고 조회 회원의 멤버십을 함께 조회
+ *
+ * @param id               - 게시글 ID
+ * @param title            - 제목
+ * @param content          - 본문
+ * @param postStatus       - 공개 범위
+ * @param memberId         - 작성 회원 ID
+ * @param nickName         - 작성 회원 닉네임
+ * @param groupId          - 모임 ID
+ * @param createdAt        - 작성 일시
+ * @param modifiedAt       - 수정 일시
+ * @param likeCount        - 좋아요 수
+ * @param membershipStatus - 조회 회원의 멤버십 상태, 멤버십이 없으면 null
+ * @param groupRole        - 조회 회원의 모임 내 권한, 멤버십이 없으면 null
+ */
+public record PostDetail(
+        Long id,
+        String title,
+        String content,
+        PostStatus postStatus,
+        Long memberId,
+        String nickName,
+        Long groupId,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        int likeCount,
+        MembershipStatus membershipStatus,
+        GroupRole groupRole
+) {
+
+    /**
+     * 조회 회원의 멤버십 정보, 멤버십이 없으면 MembershipDecision.NONE
+     */
+    public MembershipDecision membership() {
+        return membershipStatus == null ? MembershipDecision.NONE : new MembershipDecision(membershipStatus, groupRole);
+    }
+}
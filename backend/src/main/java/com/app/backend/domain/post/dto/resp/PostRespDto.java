@@ -1,7 +1,5 @@
 package com.app.backend.domain.post.dto.resp;
 
-import com.app.backend.domain.member.entity.Member;
-import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.global.util.AppUtil;
 import lombok.AccessLevel;
@@ -39,23 +37,22 @@ public class PostRespDto {
         private final List<PostAttachmentRespDto.GetPostDocumentDto> documents;
     }
 
-    public static GetPostDto toGetPost(final Post post,
-                                       final Member member,
+    public static GetPostDto toGetPost(final PostDetail post,
                                        final List<PostAttachmentRespDto.GetPostImageDto> images,
                                        final List<PostAttachmentRespDto.GetPostDocumentDto> documents,
                                        final boolean isLiked)
     {
         return GetPostDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .postStatus(post.getPostStatus())
-                .nickName(member.getNickname())
-                .memberId(member.getId())
-                .groupId(post.getGroupId())
-                .createdAt(AppUtil.localDateTimeToString(post.getCreatedAt()))
-                .modifiedAt(AppUtil.localDateTimeToString(post.getModifiedAt()))
-                .likeCount(post.getLikeCount())
+                .postId(post.id())
+                .title(post.title())
+                .content(post.content())
+                .postStatus(post.postStatus())
+                .nickName(post.nickName())
+                .memberId(post.memberId())
+                .groupId(post.groupId())
+                .createdAt(AppUtil.localDateTimeToString(post.createdAt()))
+                .modifiedAt(AppUtil.localDateTimeToString(post.modifiedAt()))
+                .likeCount(post.likeCount())
                 .liked(isLiked)
                 .images(images)
                 .documents(documents)
@@ -73,17 +70,21 @@ public class PostRespDto {
         private final String nickName;
         private final String createdAt;
         private final Long todayViewCount;
+        private final Long attachmentCount;
+        private final String thumbnailPath;
     }
 
-    public static GetPostListDto toGetPostList(final Post post){
+    public static GetPostListDto toGetPostList(final PostSummary post, final String imageDir){
         return GetPostListDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .postStatus(post.getPostStatus())
-                .memberId(post.getMemberId())
-                .nickName(post.getNickName())
-                .createdAt(AppUtil.localDateTimeToString(post.getCreatedAt()))
-                .todayViewCount(post.getTodayViewCount())
+                .postId(post.id())
+                .title(post.title())
+                .postStatus(post.postStatus())
+                .memberId(post.memberId())
+                .nickName(post.nickName())
+                .createdAt(AppUtil.localDateTimeToString(post.createdAt()))
+                .todayViewCount(post.todayViewCount())
+                .attachmentCount(post.attachmentCount())
+                .thumbnailPath(post.thumbnailPath() == null ? null : imageDir + "/" + post.thumbnailPath())
                 .build();
     }
 }
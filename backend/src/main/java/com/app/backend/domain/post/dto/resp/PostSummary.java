@@ -0,0 +1,52 @@
+package com.app.backend.domain.post.dto.resp;
+
+import com.app.backend.domain.post.entity.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션, 본문(content)을 제외한 목록 컬럼과 첨부파일 집계만 포함
+ *
+ * @param id              - 게시글 ID
+ * @param title           - 제목
+ * @param postStatus      - 공개 범위
+ * @param memberId        - 작성 회원 ID
+ * @param nickName        - 작성 회원 닉네임
+ * @param createdAt       - 작성 일시
+ * @param modifiedAt      - 수정 일시
+ * @param todayViewCount  - 오늘 조회수
+ * @param attachmentCount - 첨부파일 수
+ * @param thumbnailPath   - 대표 이미지 저장 경로, 이미지가 없으면 null
+ */
+public record PostSummary(
+        Long id,
+        String title,
+        PostStatus postStatus,
+        Long memberId,
+        String nickName,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt,
+        Long todayViewCount,
+        long attachmentCount,
+        String thumbnailPath
+) {
+
+    /**
+     * 목록 컬럼만 조회한 프로젝션, 첨부파일 집계는 withAttachments 로 채움
+     */
+    public PostSummary(final Long id,
+                       final String title,
+                       final PostStatus postStatus,
+                       final Long memberId,
+                       final String nickName,
+                       final LocalDateTime createdAt,
+                       final LocalDateTime modifiedAt,
+                       final Long todayViewCount) {
+        this(id, title, postStatus, memberId, nickName, createdAt, modifiedAt, todayViewCount, 0L, null);
+    }
+
+    public PostSummary withAttachments(final long attachmentCount, final String thumbnailPath) {
+        return new PostSummary(id, title, postStatus, memberId, nickName, createdAt, modifiedAt, todayViewCount,
+                               attachmentCount, thumbnailPath);
+    }
+}
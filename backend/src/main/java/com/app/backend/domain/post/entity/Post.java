@@ -10,7 +10,10 @@ import java.util.List;
 @Entity
 @Getter
 @Builder
-@Table(name = "tbl_posts")
+@Table(name = "tbl_posts", indexes = {
+        @Index(name = "idx_posts_group_created", columnList = "group_id, disabled, created_at, post_id"),
+        @Index(name = "idx_posts_group_member_created", columnList = "group_id, member_id, disabled, created_at, post_id")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
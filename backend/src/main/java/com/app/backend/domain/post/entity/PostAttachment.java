@@ -2,6 +2,7 @@ package com.app.backend.domain.post.entity;
 
 import com.app.backend.domain.attachment.entity.Attachment;
 import com.app.backend.domain.attachment.entity.FileType;
+import com.app.backend.global.entity.Tsid;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import lombok.*;
 public class PostAttachment extends Attachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid
     @Column(name = "attachment_id")
     private Long id;
 
@@ -0,0 +1,78 @@
+package com.app.backend.domain.post.repository.post;
+
+import com.app.backend.domain.post.dto.resp.PostSummary;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.CursorUtil;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 게시글 목록 키셋(Keyset) 페이징 커서: (정렬 컬럼 값, post_id)
+ */
+public record PostCursor(String column, Sort.Direction direction, String value, Long postId) {
+
+    private static final List<String> VALID_COLUMNS = List.of("title", "createdAt", "modifiedAt");
+    private static final Sort.Order   DEFAULT_ORDER = Sort.Order.desc("createdAt");
+
+    /**
+     * 커서 페이징에 사용할 정렬 조건 확인, 단일 정렬 컬럼만 허용하며 동일 값은 post_id 로 구분
+     *
+     * @param sort - 요청 정렬 조건
+     * @return 정렬 조건
+     */
+    public static Sort.Order resolveOrder(final Sort sort) {
+        if (sort.isUnsorted())
+            return DEFAULT_ORDER;
+
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !VALID_COLUMNS.contains(orders.get(0).getProperty()))
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+        return orders.get(0);
+    }
+
+    public static PostCursor of(final PostSummary post, final Sort.Order order) {
+        String value = switch (order.getProperty()) {
+            case "title" -> post.title();
+            case "createdAt" -> post.createdAt().toString();
+            case "modifiedAt" -> post.modifiedAt().toString();
+            default -> throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        };
+        return new PostCursor(order.getProperty(), order.getDirection(), value, post.id());
+    }
+
+    public static PostCursor decode(final String cursor) {
+        String[] parts = CursorUtil.decode(cursor, 4);
+        try {
+            return new PostCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[2], Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(column, direction.name(), value, String.valueOf(postId));
+    }
+
+    /**
+     * 커서가 현재 요청의 정렬 조건으로 발급된 것인지 확인
+     *
+     * @param order - 요청 정렬 조건
+     */
+    public void validate(final Sort.Order order) {
+        if (!column.equals(order.getProperty()) || direction != order.getDirection())
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    public LocalDateTime dateTimeValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
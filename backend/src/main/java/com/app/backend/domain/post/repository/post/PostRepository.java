@@ -1,10 +1,14 @@
 package com.app.backend.domain.post.repository.post;
 
 import com.app.backend.domain.post.entity.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.LockModeType;
@@ -13,6 +17,13 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
 
     Optional<Post> findByIdAndDisabled(Long id, Boolean disabled);
 
+    boolean existsByDisabled(Boolean disabled);
+
+    List<Post> findByIdGreaterThanAndDisabledOrderByIdAsc(Long id, Boolean disabled, Limit limit);
+
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.disabled = :disabled")
+    List<Long> findIdsByIdInAndDisabled(@Param("ids") Collection<Long> ids, @Param("disabled") Boolean disabled);
+
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Post p WHERE p.id = :postId AND p.disabled = false")
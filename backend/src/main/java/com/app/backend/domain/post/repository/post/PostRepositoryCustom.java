@@ -1,20 +1,31 @@
 package com.app.backend.domain.post.repository.post;
 
-import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.dto.resp.PostDetail;
+import com.app.backend.domain.post.dto.resp.PostSummary;
 import com.app.backend.domain.post.entity.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepositoryCustom {
 
-    Page<Post> findAllBySearchStatus(Long groupId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
+    Page<PostSummary> findAllBySearchStatus(Long groupId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
 
-    Page<Post> findAllByUserAndSearchStatus(Long groupId, Long memberId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
+    Page<PostSummary> findAllByUserAndSearchStatus(Long groupId, Long memberId, String search, PostStatus postStatus, boolean disabled, Pageable pageable);
 
-    List<Post> findPostsByGroupIdOrderByTodayViewsCountDesc(Long groupId, int limit, boolean disabled);
+    Slice<PostSummary> findAllBySearchStatusWithCursor(Long groupId, String search, PostStatus postStatus, boolean disabled, PostCursor cursor, Pageable pageable);
+
+    Slice<PostSummary> findAllByUserAndSearchStatusWithCursor(Long groupId, Long memberId, String search, PostStatus postStatus, boolean disabled, PostCursor cursor, Pageable pageable);
+
+    List<PostSummary> findPostsByGroupIdOrderByTodayViewsCountDesc(Long groupId, int limit, boolean disabled);
+
+    List<PostSummary> findSummariesByIdIn(List<Long> postIds, boolean disabled);
+
+    Optional<PostDetail> findDetailById(Long postId, Long memberId, boolean disabled);
 
     void deleteAllByModifiedAtAndDisabled(LocalDateTime lastModified, boolean disabled);
 }
@@ -1,20 +1,33 @@
 package com.app.backend.domain.post.repository.post;
 
-import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.attachment.entity.FileType;
+import com.app.backend.domain.group.entity.QGroupMembership;
+import com.app.backend.domain.post.dto.resp.PostDetail;
+import com.app.backend.domain.post.dto.resp.PostSummary;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.entity.QPost;
+import com.app.backend.domain.post.entity.QPostAttachment;
 import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.GlobalErrorCode;
+import com.app.backend.global.util.PageCounter;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
@@ -22,82 +35,159 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+    private final PageCounter pageCounter;
 
     @Override
-    public Page<Post> findAllBySearchStatus(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+    public Page<PostSummary> findAllBySearchStatus(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
 
         QPost post = QPost.post;
 
-        List<Post> posts = jpaQueryFactory.selectFrom(post)
+        Predicate predicate = ExpressionUtils.allOf(searchKeywordContains(post, search),
+                checkPostStatus(post, postStatus),
+                post.groupId.eq(groupId),
+                post.disabled.eq(disabled));
+
+        List<PostSummary> posts = withAttachments(selectSummary(post)
+                .where(predicate)
+                .orderBy(getSortCondition(pageable, post))
+                .offset(pageable.getOffset())
+                .limit(pageCounter.getLimit(pageable))
+                .fetch());
+
+        return pageCounter.getPage("post:search", posts, pageable, predicate,
+                () -> jpaQueryFactory.select(post.count()).from(post).where(predicate).fetchOne());
+    }
+
+    @Override
+    public Page<PostSummary> findAllByUserAndSearchStatus(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+        QPost post = QPost.post;
+
+        Predicate predicate = ExpressionUtils.allOf(searchKeywordContains(post, search),
+                checkPostStatus(post, postStatus),
+                post.groupId.eq(groupId),
+                post.memberId.eq(memberId),
+                post.disabled.eq(disabled));
+
+        List<PostSummary> posts = withAttachments(selectSummary(post)
+                .where(predicate)
+                .orderBy(getSortCondition(pageable, post))
+                .offset(pageable.getOffset())
+                .limit(pageCounter.getLimit(pageable))
+                .fetch());
+
+        return pageCounter.getPage("post:member-search", posts, pageable, predicate,
+                () -> jpaQueryFactory.select(post.count()).from(post).where(predicate).fetchOne());
+    }
+
+    @Override
+    public Slice<PostSummary> findAllBySearchStatusWithCursor(final Long groupId, final String search, final PostStatus postStatus, final boolean disabled, final PostCursor cursor, final Pageable pageable) {
+        QPost post = QPost.post;
+        Sort.Order order = PostCursor.resolveOrder(pageable.getSort());
+
+        List<PostSummary> posts = selectSummary(post)
                 .where(searchKeywordContains(post, search),
                         checkPostStatus(post, postStatus),
                         post.groupId.eq(groupId),
-                        post.disabled.eq(disabled))
-                .orderBy(getSortCondition(pageable, post))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                        post.disabled.eq(disabled),
+                        seekCondition(post, cursor, order))
+                .orderBy(getCursorSortCondition(post, order))
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        long total = Optional.ofNullable(
-                jpaQueryFactory.select(post.count())
-                        .from(post)
-                        .where(searchKeywordContains(post, search),
-                                checkPostStatus(post, postStatus),
-                                post.groupId.eq(groupId),
-                                post.disabled.eq(disabled))
-                        .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(posts, pageable, total);
+        return toSlice(posts, pageable);
     }
 
     @Override
-    public Page<Post> findAllByUserAndSearchStatus(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final Pageable pageable) {
+    public Slice<PostSummary> findAllByUserAndSearchStatusWithCursor(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final boolean disabled, final PostCursor cursor, final Pageable pageable) {
         QPost post = QPost.post;
+        Sort.Order order = PostCursor.resolveOrder(pageable.getSort());
 
-        List<Post> posts = jpaQueryFactory.selectFrom(post)
+        List<PostSummary> posts = selectSummary(post)
                 .where(searchKeywordContains(post, search),
                         checkPostStatus(post, postStatus),
                         post.groupId.eq(groupId),
                         post.memberId.eq(memberId),
-                        post.disabled.eq(disabled))
-                .orderBy(getSortCondition(pageable, post))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                        post.disabled.eq(disabled),
+                        seekCondition(post, cursor, order))
+                .orderBy(getCursorSortCondition(post, order))
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        long total = Optional.ofNullable(
-                jpaQueryFactory.select(post.count())
-                        .from(post)
-                        .where(searchKeywordContains(post, search),
-                                checkPostStatus(post, postStatus),
-                                post.groupId.eq(groupId),
-                                post.memberId.eq(memberId),
-                                post.disabled.eq(disabled))
-                        .fetchOne()
-        ).orElse(0L);
-
-        return new PageImpl<>(posts, pageable, total);
+        return toSlice(posts, pageable);
     }
 
     @Override
-    public List<Post> findPostsByGroupIdOrderByTodayViewsCountDesc(final Long groupId, final int limit, final boolean disabled) {
+    public List<PostSummary> findPostsByGroupIdOrderByTodayViewsCountDesc(final Long groupId, final int limit, final boolean disabled) {
         QPost post = QPost.post;
 
-        return jpaQueryFactory.selectFrom(post)
+        return withAttachments(selectSummary(post)
                 .where(post.groupId.eq(groupId),
                         post.disabled.eq(disabled),
                         post.todayViewCount.gt(0L))
                 .orderBy(post.todayViewCount.desc())
                 .limit(limit)
-                .fetch();
+                .fetch());
+    }
+
+    @Override
+    public List<PostSummary> findSummariesByIdIn(final List<Long> postIds, final boolean disabled) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        QPost post = QPost.post;
+
+        Map<Long, PostSummary> posts = withAttachments(selectSummary(post)
+                .where(post.id.in(postIds),
+                        post.disabled.eq(disabled))
+                .fetch())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Optional<PostDetail> findDetailById(final Long postId, final Long memberId, final boolean disabled) {
+        QPost post = QPost.post;
+        QGroupMembership groupMembership = QGroupMembership.groupMembership;
+
+        return Optional.ofNullable(jpaQueryFactory.select(Projections.constructor(
+                        PostDetail.class,
+                        post.id,
+                        post.title,
+                        post.content,
+                        post.postStatus,
+                        post.memberId,
+                        post.nickName,
+                        post.groupId,
+                        post.createdAt,
+                        post.modifiedAt,
+                        post.likeCount,
+                        groupMembership.status,
+                        groupMembership.groupRole
+                ))
+                .from(post)
+                .leftJoin(groupMembership)
+                .on(groupMembership.groupId.eq(post.groupId),
+                        groupMembership.memberId.eq(memberId),
+                        groupMembership.disabled.eq(false))
+                .where(post.id.eq(postId),
+                        post.disabled.eq(disabled))
+                .fetchOne());
     }
 
     @Override
@@ -110,6 +200,65 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .execute();
     }
 
+    /**
+     * 본문(content)을 제외한 목록 컬럼만 조회하는 공통 프로젝션 쿼리
+     */
+    private JPAQuery<PostSummary> selectSummary(final QPost post) {
+        return jpaQueryFactory.select(Projections.constructor(
+                        PostSummary.class,
+                        post.id,
+                        post.title,
+                        post.postStatus,
+                        post.memberId,
+                        post.nickName,
+                        post.createdAt,
+                        post.modifiedAt,
+                        post.todayViewCount
+                ))
+                .from(post);
+    }
+
+    /**
+     * 조회된 게시글 목록의 첨부파일 수와 대표 이미지를 한 번의 그룹 쿼리로 집계하여 채움
+     * <p>
+     * 대표 이미지는 상세 조회와 같은 순서(최신순)의 첫 이미지, TSID 는 시간순이므로 게시글별 최대 ID 이미지
+     */
+    private List<PostSummary> withAttachments(final List<PostSummary> posts) {
+        if (posts.isEmpty()) {
+            return posts;
+        }
+        List<Long> postIds = posts.stream().map(PostSummary::id).toList();
+
+        QPostAttachment attachment = new QPostAttachment("attachment");
+        QPostAttachment thumbnail = new QPostAttachment("thumbnail");
+        QPostAttachment image = new QPostAttachment("image");
+
+        Map<Long, Tuple> stats = jpaQueryFactory.select(attachment.postId, attachment.id.count(), thumbnail.storeFilePath)
+                .from(attachment)
+                .leftJoin(thumbnail)
+                .on(thumbnail.postId.eq(attachment.postId),
+                        thumbnail.id.in(JPAExpressions.select(image.id.max())
+                                .from(image)
+                                .where(image.postId.in(postIds),
+                                        image.fileType.eq(FileType.IMAGE),
+                                        image.disabled.eq(false))
+                                .groupBy(image.postId)))
+                .where(attachment.postId.in(postIds),
+                        attachment.disabled.eq(false))
+                .groupBy(attachment.postId, thumbnail.storeFilePath)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(attachment.postId), Function.identity()));
+
+        return posts.stream()
+                .map(summary -> {
+                    Tuple stat = stats.get(summary.id());
+                    return stat == null
+                            ? summary
+                            : summary.withAttachments(stat.get(attachment.id.count()), stat.get(thumbnail.storeFilePath));
+                })
+                .toList();
+    }
 
     private BooleanExpression searchKeywordContains(final QPost post, final String search) {
         return (search == null || search.isEmpty()) ? null : post.title.containsIgnoreCase(search);
@@ -119,6 +268,41 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return (postStatus == PostStatus.ALL) ? null : post.postStatus.eq(postStatus);
     }
 
+    /**
+     * 커서 이후 행만 조회하는 Seek 조건: (정렬 컬럼 값, post_id) 튜플 비교
+     */
+    private BooleanExpression seekCondition(final QPost post, final PostCursor cursor, final Sort.Order order) {
+        if (cursor == null) {
+            return null;
+        }
+        cursor.validate(order);
+
+        return switch (order.getProperty()) {
+            case "title" -> seek(post.title, cursor.value(), post, cursor.postId(), order.isAscending());
+            case "createdAt" -> seek(post.createdAt, cursor.dateTimeValue(), post, cursor.postId(), order.isAscending());
+            case "modifiedAt" -> seek(post.modifiedAt, cursor.dateTimeValue(), post, cursor.postId(), order.isAscending());
+            default -> throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        };
+    }
+
+    private <T extends Comparable<?>> BooleanExpression seek(final ComparableExpression<T> path, final T value, final QPost post, final Long postId, final boolean ascending) {
+        return ascending
+                ? path.gt(value).or(path.eq(value).and(post.id.gt(postId)))
+                : path.lt(value).or(path.eq(value).and(post.id.lt(postId)));
+    }
+
+    private OrderSpecifier<?>[] getCursorSortCondition(final QPost post, final Sort.Order order) {
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+        Expression<?> path = Expressions.path(Comparable.class, post, order.getProperty());
+        return new OrderSpecifier[]{new OrderSpecifier(direction, path), new OrderSpecifier<>(direction, post.id)};
+    }
+
+    private Slice<PostSummary> toSlice(final List<PostSummary> posts, final Pageable pageable) {
+        boolean hasNext = posts.size() > pageable.getPageSize();
+        List<PostSummary> content = hasNext ? posts.subList(0, pageable.getPageSize()) : posts;
+        return new SliceImpl<>(withAttachments(content), pageable, hasNext);
+    }
+
     private boolean isValidColumn(String column) {
         List<String> validColumns = Arrays.asList("title", "createdAt", "modifiedAt");
         return validColumns.contains(column);
@@ -10,7 +10,7 @@ public interface PostAttachmentRepository extends JpaRepository<PostAttachment,
 
     List<PostAttachment> findByPostIdAndDisabled(Long postId, Boolean disabled);
 
-    List<PostAttachment> findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(Long postId, FileType fileType, Boolean disabled);
+    List<PostAttachment> findByPostIdAndDisabledOrderByCreatedAtDesc(Long postId, Boolean disabled);
 
     List<PostAttachment> findByPostIdAndFileTypeOrderByCreatedAtDesc(Long postId, FileType fileType);
 
@@ -5,45 +5,56 @@ import com.app.backend.domain.attachment.exception.FileErrorCode;
 import com.app.backend.domain.attachment.exception.FileException;
 import com.app.backend.domain.attachment.service.FileService;
 import com.app.backend.domain.attachment.util.FileUtil;
-import com.app.backend.domain.group.entity.GroupMembership;
-import com.app.backend.domain.group.entity.GroupMembershipId;
-import com.app.backend.domain.group.entity.GroupRole;
-import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.authorization.MembershipDecision;
+import com.app.backend.domain.group.authorization.MembershipDecisionCache;
 import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
-import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.post.dto.req.PostReqDto;
 import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto;
+import com.app.backend.domain.post.dto.resp.PostDetail;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.dto.resp.PostSummary;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
 import com.app.backend.domain.post.entity.PostLike;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
+import com.app.backend.domain.post.repository.post.PostCursor;
 import com.app.backend.domain.post.repository.post.PostLikeRepository;
 import com.app.backend.domain.post.repository.post.PostRepository;
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.domain.post.service.search.PostSearchIndex;
+import com.app.backend.domain.post.service.search.PostSearchResult;
 import com.app.backend.global.annotation.CustomCache;
 import com.app.backend.global.annotation.CustomCacheDelete;
 import com.app.backend.global.config.FileConfig;
+import com.app.backend.global.dto.response.CursorResponse;
 import com.app.backend.global.entity.BaseEntity;
 import com.app.backend.global.error.exception.GlobalErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -52,37 +63,47 @@ public class PostService {
     private final FileConfig fileConfig;
     private final FileService fileService;
     private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
     private final MemberRepository memberRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostAttachmentRepository postAttachmentRepository;
-    private final GroupMembershipRepository groupMembershipRepository;
+    private final MembershipDecisionCache membershipDecisionCache;
 
 
     private final int MAX_FILE_SIZE = 10 * 1024 * 1024;
 
     @CustomCache(prefix = "post", key = "postid", id = "postId", viewCount = true, viewCountTtl = 10, history = true)
     public PostRespDto.GetPostDto getPost(final Long postId, final Long memberId) {
-        Post post = getPostEntity(postId);
+        // 게시글, 작성자(닉네임 컬럼), 조회 회원의 멤버십을 한 번에 조회
+        PostDetail post = postRepository.findDetailById(postId, memberId, false)
+                .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND));
 
-        if (!post.getPostStatus().equals(PostStatus.PUBLIC) && !getMemberShipEntity(post.getGroupId(), memberId).getStatus().equals(MembershipStatus.APPROVED)) {
-            throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
+        if (!post.postStatus().equals(PostStatus.PUBLIC)) {
+            MembershipDecision membership = post.membership();
+            if (!membership.exists()) {
+                throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
+            }
+            if (!membership.isApproved()) {
+                throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
+            }
         }
 
-        Member member = getMemberEntity(memberId);
+        // 첨부파일을 한 번에 조회한 뒤 파일 유형별로 분류
+        Map<FileType, List<PostAttachment>> attachments = postAttachmentRepository
+                .findByPostIdAndDisabledOrderByCreatedAtDesc(postId, false).stream()
+                .collect(Collectors.groupingBy(PostAttachment::getFileType, () -> new EnumMap<>(FileType.class), Collectors.toList()));
 
         // document
-        List<PostAttachmentRespDto.GetPostDocumentDto> documents = postAttachmentRepository
-                .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.DOCUMENT, false).stream()
+        List<PostAttachmentRespDto.GetPostDocumentDto> documents = attachments.getOrDefault(FileType.DOCUMENT, List.of()).stream()
                 .map(PostAttachmentRespDto::getPostDocument)
                 .toList();
 
         // image
-        List<PostAttachmentRespDto.GetPostImageDto> images = postAttachmentRepository
-                .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.IMAGE, false).stream()
+        List<PostAttachmentRespDto.GetPostImageDto> images = attachments.getOrDefault(FileType.IMAGE, List.of()).stream()
                 .map(file -> PostAttachmentRespDto.GetPostImage(file, fileConfig.getIMAGE_DIR()))
                 .toList();
 
-        return PostRespDto.toGetPost(post, member, images, documents, true);
+        return PostRespDto.toGetPost(post, images, documents, true);
     }
 
     @CustomCache(prefix = "post", key = "groupid", id = "groupId", ttl = 2)
@@ -90,31 +111,52 @@ public class PostService {
         return postRepository
                 .findPostsByGroupIdOrderByTodayViewsCountDesc(groupId,5,false)
                 .stream()
-                .map(PostRespDto::toGetPostList).toList();
+                .map(this::toGetPostList).toList();
     }
 
     public Page<PostRespDto.GetPostListDto> getPostsBySearch(final Long groupId, final String search, final PostStatus postStatus, final Pageable pageable) {
+        Optional<Page<PostSummary>> searched = searchIndex(groupId, null, search, postStatus, pageable);
+        if (searched.isPresent()) {
+            return searched.get().map(this::toGetPostList);
+        }
+
         return postRepository
                 .findAllBySearchStatus(groupId, search, postStatus, false, pageable)
-                .map(PostRespDto::toGetPostList);
+                .map(this::toGetPostList);
     }
 
     public Page<PostRespDto.GetPostListDto> getPostsByUser(final PostReqDto.SearchPostDto searchPost, final Pageable pageable, final Long memberId) {
+        Optional<Page<PostSummary>> searched = searchIndex(searchPost.getGroupId(), memberId, searchPost.getSearch(), searchPost.getPostStatus(), pageable);
+        if (searched.isPresent()) {
+            return searched.get().map(this::toGetPostList);
+        }
+
         return postRepository
                 .findAllByUserAndSearchStatus(searchPost.getGroupId(), memberId, searchPost.getSearch(), searchPost.getPostStatus(), false, pageable)
-                .map(PostRespDto::toGetPostList);
+                .map(this::toGetPostList);
+    }
+
+    public CursorResponse<PostRespDto.GetPostListDto> getPostsBySearchWithCursor(final Long groupId, final String search, final PostStatus postStatus, final String cursor, final Pageable pageable) {
+        Slice<PostSummary> posts = postRepository
+                .findAllBySearchStatusWithCursor(groupId, search, postStatus, false, decodeCursor(cursor), pageable);
+        return toCursorResponse(posts, pageable);
     }
 
+    public CursorResponse<PostRespDto.GetPostListDto> getPostsByUserWithCursor(final PostReqDto.SearchPostDto searchPost, final String cursor, final Pageable pageable, final Long memberId) {
+        Slice<PostSummary> posts = postRepository
+                .findAllByUserAndSearchStatusWithCursor(searchPost.getGroupId(), memberId, searchPost.getSearch(), searchPost.getPostStatus(), false, decodeCursor(cursor), pageable);
+        return toCursorResponse(posts, pageable);
+    }
 
     @Transactional
     public Post savePost(final Long memberId, final PostReqDto.SavePostDto savePost, final MultipartFile[] files) {
-        GroupMembership membership = getMemberShipEntity(savePost.getGroupId(), memberId);
+        MembershipDecision membership = getMembershipDecision(savePost.getGroupId(), memberId);
 
-        if (!membership.getStatus().equals(MembershipStatus.APPROVED)) {
+        if (!membership.isApproved()) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
-        if (savePost.getPostStatus().equals(PostStatus.NOTICE) && !membership.getGroupRole().equals(GroupRole.LEADER)) {
+        if (savePost.getPostStatus().equals(PostStatus.NOTICE) && !membership.isLeader()) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
         Member member = getMemberEntity(memberId);
@@ -122,6 +164,8 @@ public class PostService {
 
         saveFiles(files, post);
 
+        postSearchIndex.indexAfterCommit(post);
+
         return post;
     }
 
@@ -129,14 +173,14 @@ public class PostService {
     @Transactional
     @CustomCacheDelete(prefix = "post", key = "postid", id = "postId")
     public Post updatePost(final Long memberId, final Long postId, final PostReqDto.ModifyPostDto modifyPost, final MultipartFile[] files) {
-        GroupMembership membership = getMemberShipEntity(modifyPost.getGroupId(), memberId);
+        MembershipDecision membership = getMembershipDecision(modifyPost.getGroupId(), memberId);
         Post post = getPostEntity(postId);
 
-        if (!membership.getStatus().equals(MembershipStatus.APPROVED)) {
+        if (!membership.isApproved()) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
-        if (!(post.getMemberId().equals(memberId) || membership.getGroupRole().equals(GroupRole.LEADER))) {
+        if (!(post.getMemberId().equals(memberId) || membership.isLeader())) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
@@ -152,6 +196,8 @@ public class PostService {
             postAttachmentRepository.deleteByIdList(modifyPost.getRemoveIdList());
         }
 
+        postSearchIndex.indexAfterCommit(post);
+
         return post;
     }
 
@@ -160,19 +206,21 @@ public class PostService {
     @CustomCacheDelete(prefix = "post", key = "postid", id = "postId")
     public void deletePost(final Long memberId, final Long postId) {
         Post post = getPostEntity(postId);
-        GroupMembership membership = getMemberShipEntity(post.getGroupId(), memberId);
+        MembershipDecision membership = getMembershipDecision(post.getGroupId(), memberId);
 
-        if (!membership.getStatus().equals(MembershipStatus.APPROVED)) {
+        if (!membership.isApproved()) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
-        if (!(post.getMemberId().equals(memberId) || membership.getGroupRole().equals(GroupRole.LEADER))) {
+        if (!(post.getMemberId().equals(memberId) || membership.isLeader())) {
             throw new PostException(PostErrorCode.POST_UNAUTHORIZATION);
         }
 
         postAttachmentRepository.deleteByPostId(postId);
 
         post.delete();
+
+        postSearchIndex.deleteAfterCommit(postId);
     }
 
 
@@ -188,9 +236,12 @@ public class PostService {
     }
 
 
-    private GroupMembership getMemberShipEntity(final Long groupId, final Long memberId) {
-        return groupMembershipRepository.findById(GroupMembershipId.builder().groupId(groupId).memberId(memberId).build())
-                .orElseThrow(() -> new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND));
+    private MembershipDecision getMembershipDecision(final Long groupId, final Long memberId) {
+        MembershipDecision membership = membershipDecisionCache.get(groupId, memberId);
+        if (!membership.exists()) {
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
+        }
+        return membership;
     }
 
 
@@ -267,4 +318,40 @@ public class PostService {
             .map(postLike -> !postLike.getDisabled())
             .orElse(false);
     }
-}
\ No newline at end of file
+
+    // 전문 검색 색인으로 검색 후 ID 순서대로 게시글 조회, 색인으로 처리할 수 없는 경우 Optional.empty()
+    private Optional<Page<PostSummary>> searchIndex(final Long groupId, final Long memberId, final String search, final PostStatus postStatus, final Pageable pageable) {
+        if (!postSearchIndex.isSearchable(search)) {
+            return Optional.empty();
+        }
+
+        PostSearchResult result;
+        try {
+            result = postSearchIndex.search(groupId, memberId, search, postStatus, pageable);
+        } catch (UncheckedIOException e) {
+            log.error("게시글 검색 색인 조회에 실패하여 DB 검색으로 대체합니다", e);
+            return Optional.empty();
+        }
+
+        List<PostSummary> content = postRepository.findSummariesByIdIn(result.postIds(), false);
+
+        return Optional.of(new PageImpl<>(content, pageable, result.totalHits()));
+    }
+
+    private PostCursor decodeCursor(final String cursor) {
+        return (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+    }
+
+    private CursorResponse<PostRespDto.GetPostListDto> toCursorResponse(final Slice<PostSummary> posts, final Pageable pageable) {
+        List<PostSummary> content = posts.getContent();
+        String nextCursor = content.isEmpty()
+                ? null
+                : PostCursor.of(content.get(content.size() - 1), PostCursor.resolveOrder(pageable.getSort())).encode();
+
+        return CursorResponse.of(content.stream().map(this::toGetPostList).toList(), nextCursor, posts.hasNext());
+    }
+
+    private PostRespDto.GetPostListDto toGetPostList(final PostSummary post) {
+        return PostRespDto.toGetPostList(post, fileConfig.getIMAGE_DIR());
+    }
+}
@@ -3,12 +3,10 @@ package com.app.backend.domain.post.service.postAttachment;
 import com.app.backend.domain.attachment.dto.resp.FileRespDto;
 import com.app.backend.domain.attachment.exception.FileErrorCode;
 import com.app.backend.domain.attachment.exception.FileException;
-import com.app.backend.domain.group.entity.GroupMembership;
-import com.app.backend.domain.group.entity.GroupMembershipId;
-import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.authorization.MembershipDecision;
+import com.app.backend.domain.group.authorization.MembershipDecisionCache;
 import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
-import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
 import com.app.backend.domain.post.entity.PostStatus;
@@ -34,7 +32,7 @@ public class PostAttachmentService {
     private final FileConfig fileConfig;
     private final PostRepository postRepository;
     private final PostAttachmentRepository postAttachmentRepository;
-    private final GroupMembershipRepository groupMembershipRepository;
+    private final MembershipDecisionCache membershipDecisionCache;
 
     public FileRespDto.downloadDto downloadFile(final Long attachmentId, final Long memberId) {
 
@@ -42,7 +40,7 @@ public class PostAttachmentService {
 
         Post post = getPostEntity(file.getPostId());
 
-        if (!post.getPostStatus().equals(PostStatus.PUBLIC) && !getMemberShipEntity(post.getGroupId(), memberId).getStatus().equals(MembershipStatus.APPROVED)) {
+        if (!post.getPostStatus().equals(PostStatus.PUBLIC) && !getMembershipDecision(post.getGroupId(), memberId).isApproved()) {
             throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
         }
 
@@ -70,8 +68,11 @@ public class PostAttachmentService {
                 .orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND));
     }
 
-    private GroupMembership getMemberShipEntity(final Long groupId, final Long memberId) {
-        return groupMembershipRepository.findById(GroupMembershipId.builder().groupId(groupId).memberId(memberId).build())
-                .orElseThrow(() -> new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND));
+    private MembershipDecision getMembershipDecision(final Long groupId, final Long memberId) {
+        MembershipDecision membership = membershipDecisionCache.get(groupId, memberId);
+        if (!membership.exists()) {
+            throw new GroupMembershipException(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND);
+        }
+        return membership;
     }
 }
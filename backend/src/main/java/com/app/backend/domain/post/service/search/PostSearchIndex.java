@@ -0,0 +1,498 @@
+package com.app.backend.domain.post.service.search;
+
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 제목/본문 전문 검색을 위한 내장 역색인(Lucene)
+ * <p>
+ * CJKAnalyzer 로 한글을 2-gram 으로 분해하여 색인하며, 게시글 저장/수정/삭제 트랜잭션이 커밋된 후 증분 반영
+ * 삭제(disabled)된 게시글은 색인에 포함하지 않으며, 다른 인스턴스에서 삭제되어 색인에 남은 게시글은 검색 시 질의에서 제외 후 색인에서 제거
+ * <p>
+ * 재구축은 색인을 비우지 않고 게시글 ID 기준으로 덮어쓴 뒤 이전 세대 문서만 제거하므로, 재구축 중에도 기존 색인으로 검색 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String FIELD_ID          = "postId";
+    private static final String FIELD_ID_KEY      = "postIdKey";
+    private static final String FIELD_GROUP_ID    = "groupId";
+    private static final String FIELD_MEMBER_ID   = "memberId";
+    private static final String FIELD_STATUS      = "postStatus";
+    private static final String FIELD_TITLE       = "title";
+    private static final String FIELD_CONTENT     = "content";
+    private static final String FIELD_TITLE_SORT  = "titleSort";
+    private static final String FIELD_CREATED_AT  = "createdAt";
+    private static final String FIELD_MODIFIED_AT = "modifiedAt";
+    private static final String FIELD_GENERATION  = "indexGeneration";
+
+    private static final float TITLE_BOOST     = 2.0f;
+    private static final int   MIN_KEYWORD_LEN = 2;
+    private static final int   REBUILD_BATCH   = 500;
+    private static final int   MAX_STALE_RETRY = 3;
+
+    private final PostRepository postRepository;
+    private final MeterRegistry  meterRegistry;
+
+    @Value("${post.search.index-dir:./data/post-index}")
+    private String indexDir;
+
+    private Directory       directory;
+    private Analyzer        analyzer;
+    private IndexWriter     indexWriter;
+    private SearcherManager searcherManager;
+    private Timer           searchTimer;
+    private Timer           rebuildTimer;
+
+    private final Object writeLock   = new Object();
+    private final Object rebuildLock = new Object();
+
+    //색인 세대, 재구축 시작 시 증가하며 재구축 완료 시 이전 세대 문서 제거
+    private volatile long generation;
+    //재구축 중 증분 반영된 게시글 ID, 재구축이 읽은 DB 스냅샷보다 최신이므로 재구축이 덮어쓰지 않음(writeLock 으로 보호)
+    private          Set<Long> rebuildTouchedIds;
+
+    @PostConstruct
+    public void init() throws IOException {
+        directory = (indexDir == null || indexDir.isBlank())
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(indexDir));
+        analyzer = new CJKAnalyzer();
+        indexWriter = new IndexWriter(directory,
+                                      new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(indexWriter, null);
+        //재시작 후에도 디스크에 남은 이전 프로세스의 문서보다 높은 세대를 사용하도록 시각 기반으로 시작
+        generation = System.currentTimeMillis();
+
+        searchTimer = Timer.builder("post.search.query")
+                           .description("게시글 전문 검색 질의 지연 시간")
+                           .publishPercentiles(0.5, 0.95, 0.99)
+                           .register(meterRegistry);
+        rebuildTimer = Timer.builder("post.search.rebuild")
+                            .description("게시글 전문 검색 색인 재구축 시간")
+                            .register(meterRegistry);
+        Gauge.builder("post.search.documents", this, index -> index.indexWriter.getDocStats().numDocs)
+             .description("색인된 게시글 수")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 색인이 비어있는 경우(최초 기동 등) DB 로부터 색인 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        if (indexWriter.getDocStats().numDocs == 0 && postRepository.existsByDisabled(false))
+            rebuild();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    /**
+     * 커밋되지 않은 변경 사항을 주기적으로 디스크에 반영, 검색은 커밋과 무관하게 즉시 반영(Near Real-Time)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void commit() {
+        try {
+            if (indexWriter.hasUncommittedChanges())
+                indexWriter.commit();
+        } catch (IOException e) {
+            log.error("게시글 검색 색인 커밋에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 검색어가 색인으로 처리 가능한지 확인, 2-gram 보다 짧거나 분석 후 남는 토큰이 없는(불용어만 포함된) 검색어는 색인으로 찾을 수 없음
+     *
+     * @param keyword - 검색어
+     * @return 색인 검색 가능 여부
+     */
+    public boolean isSearchable(final String keyword) {
+        return keyword != null && keyword.strip().length() >= MIN_KEYWORD_LEN && buildKeywordQuery(keyword) != null;
+    }
+
+    /**
+     * 게시글 전문 검색
+     *
+     * @param groupId    - 모임 ID
+     * @param memberId   - 작성자 ID, null 인 경우 전체 작성자
+     * @param keyword    - 검색어
+     * @param postStatus - 게시글 상태, ALL 인 경우 전체 상태
+     * @param pageable   - 페이징 객체, 정렬이 없는 경우 관련도 순
+     * @return 현재 페이지의 게시글 ID 목록과 전체 일치 수
+     * @throws DomainException 분석 후 남는 토큰이 없는 검색어인 경우, isSearchable 로 먼저 확인 필요
+     */
+    public PostSearchResult search(final Long groupId,
+                                   final Long memberId,
+                                   final String keyword,
+                                   final PostStatus postStatus,
+                                   final Pageable pageable) {
+        Query keywordQuery = buildKeywordQuery(keyword);
+        if (keywordQuery == null)
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+        Sort sort = getSort(pageable);
+        int offset = (int) pageable.getOffset();
+        int limit = offset + pageable.getPageSize();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            //다른 인스턴스에서 삭제되었거나 반영에 실패하여 색인에 남은 게시글은 질의에서 제외하고 다시 검색
+            Set<Long> staleIds = new HashSet<>();
+            for (int attempt = 0; ; attempt++) {
+                Query query = buildQuery(keywordQuery, groupId, memberId, postStatus, staleIds);
+                PostSearchResult result = search(query, sort, offset, limit);
+
+                List<Long> pageStaleIds = findStaleIds(result.postIds());
+                if (pageStaleIds.isEmpty())
+                    return result;
+                if (attempt == MAX_STALE_RETRY)
+                    return new PostSearchResult(result.postIds().stream().filter(id -> !pageStaleIds.contains(id)).toList(),
+                                                result.totalHits() - pageStaleIds.size());
+
+                pageStaleIds.forEach(postId -> runSafely(() -> delete(postId)));
+                staleIds.addAll(pageStaleIds);
+            }
+        } finally {
+            sample.stop(searchTimer);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시글 색인 추가/갱신, 트랜잭션이 없는 경우 즉시 반영
+     *
+     * @param post - 게시글
+     */
+    public void indexAfterCommit(final Post post) {
+        runAfterCommit(() -> {
+            if (post.getDisabled())
+                delete(post.getId());
+            else
+                index(post);
+        });
+    }
+
+    /**
+     * 트랜잭션 커밋 후 게시글 색인 삭제, 트랜잭션이 없는 경우 즉시 반영
+     *
+     * @param postId - 게시글 ID
+     */
+    public void deleteAfterCommit(final Long postId) {
+        runAfterCommit(() -> delete(postId));
+    }
+
+    /**
+     * DB 의 삭제되지 않은 게시글로 색인 전체 재구축, 동시 재구축 요청은 순차 처리
+     * <p>
+     * 게시글 ID 기준으로 덮어쓰고 마지막에 이전 세대 문서(= DB 에서 삭제된 게시글)만 제거,
+     * 재구축 중 증분 반영된 게시글은 재구축이 읽은 데이터보다 최신이므로 덮어쓰지 않음
+     *
+     * @return 색인된 게시글 수
+     */
+    public long rebuild() {
+        synchronized (rebuildLock) {
+            return rebuildTimer.record(() -> {
+                try {
+                    long rebuildGeneration = startRebuild();
+
+                    long count = 0;
+                    long lastId = 0L;
+                    List<Post> posts;
+                    do {
+                        posts = postRepository.findByIdGreaterThanAndDisabledOrderByIdAsc(lastId,
+                                                                                         false,
+                                                                                         Limit.of(REBUILD_BATCH));
+                        synchronized (writeLock) {
+                            for (Post post : posts)
+                                if (!rebuildTouchedIds.contains(post.getId()))
+                                    indexWriter.updateDocument(idTerm(post.getId()), toDocument(post, rebuildGeneration));
+                        }
+                        count += posts.size();
+                        if (!posts.isEmpty())
+                            lastId = posts.get(posts.size() - 1).getId();
+                    } while (posts.size() == REBUILD_BATCH);
+
+                    synchronized (writeLock) {
+                        indexWriter.deleteDocuments(staleQuery(rebuildGeneration));
+                    }
+                    indexWriter.commit();
+                    searcherManager.maybeRefreshBlocking();
+                    log.info("게시글 검색 색인을 재구축했습니다: {}건", count);
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    synchronized (writeLock) {
+                        rebuildTouchedIds = null;
+                    }
+                }
+            });
+        }
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(task);
+            }
+        });
+    }
+
+    /**
+     * 색인 반영 실패가 요청 실패로 이어지지 않도록 로그만 남김, 불일치는 재구축으로 복구
+     */
+    private void runSafely(final Runnable task) {
+        try {
+            task.run();
+        } catch (UncheckedIOException e) {
+            log.error("게시글 검색 색인 반영에 실패했습니다", e);
+        }
+    }
+
+    private PostSearchResult search(final Query query, final Sort sort, final int offset, final int limit) {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+
+            TopDocs topDocs = sort == null ? searcher.search(query, limit) : searcher.search(query, limit, sort);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<Long> postIds = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++)
+                postIds.add(storedFields.document(scoreDocs[i].doc).getField(FIELD_ID).numericValue().longValue());
+
+            return new PostSearchResult(postIds, searcher.count(query));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * 검색된 게시글 중 DB 에서 삭제(disabled)되었거나 존재하지 않는 게시글 ID
+     */
+    private List<Long> findStaleIds(final List<Long> postIds) {
+        if (postIds.isEmpty())
+            return List.of();
+
+        Set<Long> activeIds = new HashSet<>(postRepository.findIdsByIdInAndDisabled(postIds, false));
+        return postIds.stream().filter(postId -> !activeIds.contains(postId)).toList();
+    }
+
+    private long startRebuild() {
+        synchronized (writeLock) {
+            generation = Math.max(System.currentTimeMillis(), generation + 1);
+            rebuildTouchedIds = new HashSet<>();
+            return generation;
+        }
+    }
+
+    private void index(final Post post) {
+        try {
+            synchronized (writeLock) {
+                markTouched(post.getId());
+                indexWriter.updateDocument(idTerm(post.getId()), toDocument(post, generation));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(final Long postId) {
+        try {
+            synchronized (writeLock) {
+                markTouched(postId);
+                indexWriter.deleteDocuments(idTerm(postId));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void markTouched(final Long postId) {
+        if (rebuildTouchedIds != null)
+            rebuildTouchedIds.add(postId);
+    }
+
+    private Term idTerm(final Long postId) {
+        return new Term(FIELD_ID_KEY, String.valueOf(postId));
+    }
+
+    /**
+     * 재구축 세대보다 이전 세대의 문서, 세대 필드가 없는 문서 포함
+     */
+    private Query staleQuery(final long rebuildGeneration) {
+        return new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(LongPoint.newRangeQuery(FIELD_GENERATION, rebuildGeneration, Long.MAX_VALUE),
+                     BooleanClause.Occur.MUST_NOT)
+                .build();
+    }
+
+    private Document toDocument(final Post post, final long documentGeneration) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID_KEY, String.valueOf(post.getId()), Field.Store.NO));
+        document.add(new StoredField(FIELD_ID, post.getId()));
+        document.add(new NumericDocValuesField(FIELD_ID, post.getId()));
+        document.add(new LongPoint(FIELD_GROUP_ID, post.getGroupId()));
+        document.add(new LongPoint(FIELD_MEMBER_ID, post.getMemberId()));
+        document.add(new StringField(FIELD_STATUS, post.getPostStatus().name(), Field.Store.NO));
+        document.add(new TextField(FIELD_TITLE, post.getTitle(), Field.Store.NO));
+        document.add(new TextField(FIELD_CONTENT, post.getContent(), Field.Store.NO));
+        document.add(new SortedDocValuesField(FIELD_TITLE_SORT, new BytesRef(post.getTitle())));
+        document.add(new NumericDocValuesField(FIELD_CREATED_AT, toEpochMilli(post.getCreatedAt())));
+        document.add(new NumericDocValuesField(FIELD_MODIFIED_AT, toEpochMilli(post.getModifiedAt())));
+        document.add(new LongPoint(FIELD_GENERATION, documentGeneration));
+        return document;
+    }
+
+    /**
+     * 제목 또는 본문에 검색어의 모든 2-gram 이 포함된 게시글, 제목 일치에 가중치
+     *
+     * @return 검색어 질의, 분석 후 남는 토큰이 없는 경우 null
+     */
+    private Query buildKeywordQuery(final String keyword) {
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        Query titleQuery = queryBuilder.createBooleanQuery(FIELD_TITLE, keyword.strip(), BooleanClause.Occur.MUST);
+        Query contentQuery = queryBuilder.createBooleanQuery(FIELD_CONTENT, keyword.strip(), BooleanClause.Occur.MUST);
+        if (titleQuery == null && contentQuery == null)
+            return null;
+
+        BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder();
+        if (titleQuery != null)
+            keywordQuery.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        if (contentQuery != null)
+            keywordQuery.add(contentQuery, BooleanClause.Occur.SHOULD);
+        return keywordQuery.build();
+    }
+
+    private Query buildQuery(final Query keywordQuery,
+                             final Long groupId,
+                             final Long memberId,
+                             final PostStatus postStatus,
+                             final Set<Long> excludedIds) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(keywordQuery, BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(FIELD_GROUP_ID, groupId), BooleanClause.Occur.FILTER);
+        if (memberId != null)
+            builder.add(LongPoint.newExactQuery(FIELD_MEMBER_ID, memberId), BooleanClause.Occur.FILTER);
+        if (postStatus != null && postStatus != PostStatus.ALL)
+            builder.add(new TermQuery(new Term(FIELD_STATUS, postStatus.name())), BooleanClause.Occur.FILTER);
+        for (Long excludedId : excludedIds)
+            builder.add(new TermQuery(idTerm(excludedId)), BooleanClause.Occur.MUST_NOT);
+        return builder.build();
+    }
+
+    /**
+     * 요청 정렬을 색인 정렬로 변환, 정렬이 없는 경우 null(= 관련도 순)
+     */
+    private Sort getSort(final Pageable pageable) {
+        if (pageable.getSort().isEmpty())
+            return null;
+
+        List<SortField> sortFields = new ArrayList<>();
+        for (org.springframework.data.domain.Sort.Order order : pageable.getSort()) {
+            boolean reverse = order.isDescending();
+            sortFields.add(switch (order.getProperty()) {
+                case "title" -> new SortField(FIELD_TITLE_SORT, SortField.Type.STRING, reverse);
+                case "createdAt" -> new SortField(FIELD_CREATED_AT, SortField.Type.LONG, reverse);
+                case "modifiedAt" -> new SortField(FIELD_MODIFIED_AT, SortField.Type.LONG, reverse);
+                default -> throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+            });
+        }
+        sortFields.add(new SortField(FIELD_ID, SortField.Type.LONG, true));
+        return new Sort(sortFields.toArray(new SortField[0]));
+    }
+
+    private void release(final IndexSearcher searcher) {
+        if (searcher == null)
+            return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("게시글 검색 IndexSearcher 반환에 실패했습니다", e);
+        }
+    }
+
+    private long toEpochMilli(final LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
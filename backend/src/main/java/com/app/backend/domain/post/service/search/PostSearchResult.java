@@ -0,0 +1,12 @@
+package com.app.backend.domain.post.service.search;
+
+import java.util.List;
+
+/**
+ * 전문 검색 인덱스 조회 결과
+ *
+ * @param postIds   - 관련도(또는 요청한 정렬) 순으로 정렬된 현재 페이지의 게시글 ID 목록
+ * @param totalHits - 검색 조건에 일치하는 전체 게시글 수
+ */
+public record PostSearchResult(List<Long> postIds, long totalHits) {
+}
@@ -0,0 +1,47 @@
+package com.app.backend.global.advice;
+
+import com.app.backend.global.annotation.CustomPageJsonSerializer;
+import com.app.backend.global.dto.response.ApiResponse;
+import com.app.backend.global.util.PageUtil;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * '@CustomPageJsonSerializer' 가 선언된 핸들러의 응답 본문 내 페이지(Page)를 PageJson 으로 교체
+ * <p>
+ * ResponseEntity 는 이 시점에 이미 본문만 남으므로 Page, ApiResponse 두 가지만 처리
+ */
+@RestControllerAdvice
+public class PageJsonResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CustomPageJsonSerializer.class)
+               && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        CustomPageJsonSerializer annotation = returnType.getMethodAnnotation(CustomPageJsonSerializer.class);
+
+        if (body instanceof Page<?> page)
+            return PageUtil.processPageJson(page, annotation);
+        else if (body instanceof ApiResponse<?> apiResponse)
+            return PageUtil.processApiResponse(apiResponse, annotation);
+        else
+            return body;
+    }
+
+}
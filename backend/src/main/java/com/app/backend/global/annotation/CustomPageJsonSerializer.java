@@ -1,9 +1,11 @@
 package com.app.backend.global.annotation;
 
+import com.app.backend.global.util.PageCountMode;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
@@ -35,4 +37,10 @@ public @interface CustomPageJsonSerializer {
 
     boolean empty() default true;
 
+    PageCountMode countMode() default PageCountMode.EXACT;
+
+    long countTtl() default 60L;
+
+    TimeUnit countTtlUnit() default TimeUnit.SECONDS;
+
 }
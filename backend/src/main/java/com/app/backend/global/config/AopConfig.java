@@ -1,7 +1,7 @@
 package com.app.backend.global.config;
 
 import com.app.backend.global.aop.AppAspect.LockAspect;
-import com.app.backend.global.aop.AppAspect.PageJsonSerializerAspect;
+import com.app.backend.global.aop.AppAspect.PageCountAspect;
 import com.app.backend.global.util.LockManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,8 +10,8 @@ import org.springframework.context.annotation.Configuration;
 public class AopConfig {
 
     @Bean
-    public PageJsonSerializerAspect pageJsonSerializerAspect() {
-        return new PageJsonSerializerAspect();
+    public PageCountAspect pageCountAspect() {
+        return new PageCountAspect();
     }
 
     @Bean
@@ -0,0 +1,117 @@
+package com.app.backend.global.config;
+
+import com.app.backend.global.datasource.ReplicaLagMonitor;
+import com.app.backend.global.datasource.ReplicationDataSources;
+import com.app.backend.global.datasource.ReplicationProperties;
+import com.app.backend.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+/**
+ * 읽기 전용 트랜잭션 복제본 라우팅 DataSource 설정, datasource.replication.enabled=true 인 경우에만 적용
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+@ConditionalOnProperty(name = "datasource.replication.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicationDataSources replicationDataSources(final DataSourceProperties dataSourceProperties,
+                                                         final ReplicationProperties replicationProperties,
+                                                         final MeterRegistry meterRegistry) {
+        HikariDataSource primary = createPool(ReplicationDataSources.PRIMARY,
+                                              dataSourceProperties.determineUrl(),
+                                              dataSourceProperties.determineUsername(),
+                                              dataSourceProperties.determinePassword(),
+                                              replicationProperties.getMaximumPoolSize(),
+                                              meterRegistry);
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (ReplicationProperties.Replica replica : replicationProperties.getReplicas())
+            replicas.put(replica.getName(), createPool(replica.getName(),
+                                                       replica.getUrl(),
+                                                       replica.getUsername(),
+                                                       replica.getPassword(),
+                                                       replicationProperties.getMaximumPoolSize(),
+                                                       meterRegistry));
+        return new ReplicationDataSources(primary, replicas);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(final ReplicationDataSources replicationDataSources,
+                                               final ReplicationProperties replicationProperties,
+                                               final MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicationDataSources, replicationProperties.getMaxLag(), meterRegistry);
+    }
+
+    /**
+     * 복제 지연 측정 주기(heartbeatInterval)로 하트비트 작업 등록
+     */
+    @Bean
+    public SchedulingConfigurer replicaHeartbeatScheduler(final ReplicaLagMonitor replicaLagMonitor,
+                                                          final ReplicationProperties replicationProperties) {
+        return registrar -> registrar.addFixedDelayTask(replicaLagMonitor::heartbeat,
+                                                        replicationProperties.getHeartbeatInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicationDataSources replicationDataSources,
+                                 final ReplicaLagMonitor replicaLagMonitor,
+                                 final MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicationDataSources,
+                                                                                          replicaLagMonitor,
+                                                                                          meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        //트랜잭션의 읽기 전용 여부가 확정된 첫 쿼리 시점에 커넥션을 획득하도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 트랜잭션 종료 시 커넥션 반환, 하나의 세션에서 여러 트랜잭션이 실행되어도 트랜잭션마다 다시 라우팅
+     * (기본값인 DELAYED_ACQUISITION_AND_HOLD 는 읽기 전용 트랜잭션이 얻은 복제본 커넥션을 이후 쓰기 트랜잭션에서도 사용)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    /**
+     * 대상별 커넥션 풀 생성, 풀 이름(pool 태그)으로 hikaricp.connections.* 지표 구분
+     */
+    private HikariDataSource createPool(final String name,
+                                        final String url,
+                                        final String username,
+                                        final String password,
+                                        final int maximumPoolSize,
+                                        final MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+}
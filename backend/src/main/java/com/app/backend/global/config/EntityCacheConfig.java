@@ -0,0 +1,55 @@
+package com.app.backend.global.config;
+
+import com.app.backend.global.entity.CacheRegion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 적중률 지표 설정
+ * <p>
+ * 요청 수(hit/miss)는 Spring Boot 의 hibernate.* 지표로 노출되고, 여기서는 영역별 적중률을 바로 볼 수 있도록 게이지로 추가
+ * hibernate.generate_statistics=true 인 경우에만 값이 집계되며, 요청이 없거나 영역이 없으면 NaN
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private static final List<String> REGIONS = List.of(CacheRegion.CATEGORY,
+                                                        CacheRegion.CATEGORY_QUERY,
+                                                        CacheRegion.MEMBER,
+                                                        CacheRegion.MEMBER_QUERY);
+
+    @Bean
+    public MeterBinder entityCacheHitRatioMetrics(final EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> REGIONS.forEach(region ->
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                     .description("2차 캐시 영역별 적중률")
+                     .tag("region", region)
+                     .register(registry)
+        );
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private static double hitRatio(final Statistics statistics, final String region) {
+        CacheRegionStatistics regionStatistics;
+        try {
+            regionStatistics = statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return Double.NaN;  //쿼리 결과 영역은 첫 조회 시점에 생성됨
+        }
+        if (regionStatistics == null)
+            return Double.NaN;
+        long hit   = regionStatistics.getHitCount();
+        long total = hit + regionStatistics.getMissCount();
+        return total == 0 ? Double.NaN : (double) hit / total;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.app.backend.global.config;
+
+import com.app.backend.global.util.TsidUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TSID 노드 ID 설정, ID 를 생성하는 EntityManagerFactory 는 노드 ID 설정 이후에 생성
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final String BEAN_NAME = "idGeneratorConfig";
+
+    @Value("${id.tsid.node-id:0}")
+    private int nodeId;
+
+    /**
+     * EntityManagerFactory 가 이 설정(노드 ID 초기화)에 의존하도록 지정
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor tsidEntityManagerFactoryDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(BEAN_NAME);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        TsidUtil.configure(nodeId);
+    }
+
+}
@@ -88,6 +88,8 @@ public class SecurityConfig {
                         .permitAll().requestMatchers(
                                 "/actuator/prometheus"
                         ).permitAll()
+                        // 게시글 검색 색인 관리
+                        .requestMatchers("/api/v1/admin/posts/search-index/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .headers(headers -> headers
                         .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin)
@@ -0,0 +1,121 @@
+package com.app.backend.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하트비트 테이블로 복제본의 복제 지연을 측정
+ * <p>
+ * 주 데이터베이스에 현재 시각(epoch ms)을 주기적으로 기록하고, 복제본에 복제된 값과의 차이를 복제 지연으로 사용
+ * 측정 전이거나 조회에 실패한 복제본은 지연을 알 수 없으므로 사용하지 않음
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String HEARTBEAT_TABLE = "tbl_replication_heartbeat";
+
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final ReplicationDataSources dataSources;
+    private final long                   maxLagMillis;
+    private final Map<String, Long>      lags = new ConcurrentHashMap<>();
+
+    private volatile boolean tableCreated;
+
+    public ReplicaLagMonitor(final ReplicationDataSources dataSources,
+                             final Duration maxLag,
+                             final MeterRegistry meterRegistry) {
+        this.dataSources = dataSources;
+        this.maxLagMillis = maxLag.toMillis();
+        dataSources.getReplicas().keySet().forEach(name -> {
+            lags.put(name, UNKNOWN_LAG);
+            Gauge.builder("datasource.replica.lag", lags, map -> toSeconds(map.get(name)))
+                 .description("복제본 복제 지연(초), 측정 불가 시 -1")
+                 .tag("target", name)
+                 .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 주 데이터베이스에 하트비트를 기록하고 복제본별 복제 지연 갱신, datasource.replication.heartbeat-interval 주기로 실행
+     */
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            writeHeartbeat(now);
+        } catch (SQLException e) {
+            log.warn("복제 하트비트 기록에 실패했습니다", e);
+        }
+
+        dataSources.getReplicas().forEach((name, dataSource) -> {
+            try {
+                Long beatAt = readHeartbeat(dataSource);
+                lags.put(name, beatAt == null ? UNKNOWN_LAG : Math.max(0, now - beatAt));
+            } catch (SQLException e) {
+                lags.put(name, UNKNOWN_LAG);
+                log.warn("복제본 하트비트 조회에 실패했습니다: target={}", name, e);
+            }
+        });
+    }
+
+    /**
+     * 복제본 사용 가능 여부
+     *
+     * @param name - 복제본 이름
+     * @return 복제 지연이 허용 범위 이내인지 여부
+     */
+    public boolean isAvailable(final String name) {
+        return lags.getOrDefault(name, UNKNOWN_LAG) <= maxLagMillis;
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private void writeHeartbeat(final long now) throws SQLException {
+        try (Connection connection = dataSources.getPrimary().getConnection()) {
+            if (!tableCreated) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                                      + " (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+                }
+                tableCreated = true;
+            }
+
+            int updated;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + HEARTBEAT_TABLE + " SET beat_at = ? WHERE id = 1")) {
+                statement.setLong(1, now);
+                updated = statement.executeUpdate();
+            }
+            if (updated == 0)
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)")) {
+                    statement.setLong(1, now);
+                    statement.executeUpdate();
+                }
+        }
+    }
+
+    private Long readHeartbeat(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT beat_at FROM " + HEARTBEAT_TABLE
+                                                          + " WHERE id = 1")) {
+            return resultSet.next() ? resultSet.getLong(1) : null;
+        }
+    }
+
+    private static double toSeconds(final Long lag) {
+        return lag == null || lag == UNKNOWN_LAG ? -1 : lag / 1000.0;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.app.backend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주 데이터베이스와 복제본 커넥션 풀, 애플리케이션 종료 시 함께 종료
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReplicationDataSources implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource              primary;
+    private final Map<String, HikariDataSource> replicas;  //복제본 이름 -> 커넥션 풀(설정 순서 유지)
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+}
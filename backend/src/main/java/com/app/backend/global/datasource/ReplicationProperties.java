@@ -0,0 +1,35 @@
+package com.app.backend.global.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본(replica) 라우팅 설정
+ * <p>
+ * 주(primary) 데이터베이스 접속 정보는 spring.datasource 설정을 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replication")
+public class ReplicationProperties {
+
+    private boolean       enabled;
+    private int           maximumPoolSize   = 10;       //대상별 커넥션 풀 최대 크기
+    private Duration      maxLag            = Duration.ofSeconds(5);    //허용 복제 지연, 초과 시 주 데이터베이스로 라우팅
+    private Duration      heartbeatInterval = Duration.ofSeconds(1);    //복제 지연 측정 주기(하트비트 기록 간격)
+    private List<Replica> replicas          = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.app.backend.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 라우팅하는 DataSource
+ * <p>
+ * 읽기 전용 트랜잭션은 복제 지연이 허용 범위 이내인 복제본에 라운드 로빈으로 분배하고, 사용 가능한 복제본이 없으면 주 데이터베이스 사용
+ * 같은 요청에서 쓰기 트랜잭션이 실행된 이후의 읽기 전용 트랜잭션은 방금 쓴 데이터를 읽을 수 있도록 주 데이터베이스 사용
+ * 복제 지연을 허용할 수 없는 조회는 readFromPrimary 로 주 데이터베이스 사용
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 라우팅되도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY_PINNED_ATTRIBUTE = ReplicationRoutingDataSource.class.getName() + ".PRIMARY_PINNED";
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final List<String>         replicaNames;
+    private final ReplicaLagMonitor    lagMonitor;
+    private final Map<String, Counter> routeCounters = new HashMap<>();
+    private final AtomicInteger        sequence      = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(final ReplicationDataSources dataSources,
+                                        final ReplicaLagMonitor lagMonitor,
+                                        final MeterRegistry meterRegistry) {
+        this.replicaNames = new ArrayList<>(dataSources.getReplicas().keySet());
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>(dataSources.getReplicas());
+        targets.put(ReplicationDataSources.PRIMARY, dataSources.getPrimary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(dataSources.getPrimary());
+
+        targets.keySet().forEach(target -> routeCounters.put(
+                target.toString(),
+                Counter.builder("datasource.routing")
+                       .description("대상별 커넥션 라우팅 횟수")
+                       .tag("target", target.toString())
+                       .register(meterRegistry)
+        ));
+    }
+
+    /**
+     * 작업 중 새로 얻는 커넥션을 주 데이터베이스로 라우팅, 요청 전체를 주 데이터베이스로 고정하지는 않음
+     * 이미 커넥션을 얻은 트랜잭션에는 적용되지 않으므로 새 트랜잭션(REQUIRES_NEW)을 시작하는 작업을 전달해야 함
+     *
+     * @param action - 주 데이터베이스에서 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T readFromPrimary(final Supplier<T> action) {
+        if (PRIMARY_FORCED.get() != null)
+            return action.get();
+
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = resolveTarget();
+        routeCounters.get(target).increment();
+        return target;
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private String resolveTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            //쓰기 트랜잭션이 실행된 요청은 이후 읽기도 주 데이터베이스로 고정
+            if (TransactionSynchronizationManager.isActualTransactionActive())
+                pinPrimary();
+            return ReplicationDataSources.PRIMARY;
+        }
+        if (PRIMARY_FORCED.get() != null || isPrimaryPinned())
+            return ReplicationDataSources.PRIMARY;
+
+        List<String> available = replicaNames.stream().filter(lagMonitor::isAvailable).toList();
+        if (available.isEmpty())
+            return ReplicationDataSources.PRIMARY;
+        return available.get(Math.floorMod(sequence.getAndIncrement(), available.size()));
+    }
+
+    private void pinPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null)
+            attributes.setAttribute(PRIMARY_PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private boolean isPrimaryPinned() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+               && Boolean.TRUE.equals(attributes.getAttribute(PRIMARY_PINNED_ATTRIBUTE,
+                                                              RequestAttributes.SCOPE_REQUEST));
+    }
+
+}
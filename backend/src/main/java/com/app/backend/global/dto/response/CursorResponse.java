@@ -0,0 +1,27 @@
+package com.app.backend.global.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorResponse<T> {
+
+    @NotNull
+    private final List<T> content;
+    private final String  nextCursor;  //다음 페이지 요청 시 전달할 커서, 마지막 페이지인 경우 null
+    @NotNull
+    private final Boolean hasNext;
+    @NotNull
+    private final Integer size;
+
+    public static <T> CursorResponse<T> of(@NotNull final List<T> content,
+                                           final String nextCursor,
+                                           final boolean hasNext) {
+        return new CursorResponse<>(content, hasNext ? nextCursor : null, hasNext, content.size());
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.app.backend.global.entity;
+
+/**
+ * Hibernate 2차 캐시 영역 이름, ehcache.xml 의 캐시 별칭과 동일해야 함
+ */
+public final class CacheRegion {
+
+    public static final String CATEGORY       = "category";          //카테고리 엔티티
+    public static final String CATEGORY_QUERY = "category-query";    //카테고리 조회 쿼리 결과
+    public static final String MEMBER         = "member";            //회원 엔티티
+    public static final String MEMBER_QUERY   = "member-query";      //회원 조회 쿼리 결과
+
+    private CacheRegion() {
+    }
+
+}
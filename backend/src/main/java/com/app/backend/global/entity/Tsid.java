@@ -0,0 +1,20 @@
+package com.app.backend.global.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID 를 INSERT 전에 TSID 로 할당, IDENTITY 와 달리 JDBC 배치 INSERT 가능
+ * <p>
+ * 여러 행을 한 번에 저장하는 PostAttachment, Comment, Notification 에만 적용
+ * Post, Group, ChatRoom 은 요청 당 한 행만 저장하여 배치 이점이 없고, IDENTITY 도 증가 순서가 보장되어 키셋 페이징의 동률 기준으로
+ * 충분하므로 IDENTITY 유지
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
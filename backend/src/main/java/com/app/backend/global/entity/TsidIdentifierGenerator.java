@@ -0,0 +1,17 @@
+package com.app.backend.global.entity;
+
+import com.app.backend.global.util.TsidUtil;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * TSID Hibernate ID 생성기, 노드 ID 는 IdGeneratorConfig 에서 설정
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object object) {
+        return TsidUtil.next();
+    }
+
+}
@@ -119,6 +119,7 @@ public class DataInit {
             group.setChatRoom(chatRoom);
 
             chatRoomRepository.save(chatRoom);
+            groupRepository.addMemberCount(group.getId(), 1, 1);
             i++;
         }
     }
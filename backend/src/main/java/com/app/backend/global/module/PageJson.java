@@ -0,0 +1,39 @@
+package com.app.backend.global.module;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.io.IOException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+
+/**
+ * 페이지(Page)를 응답 스트림의 JsonGenerator 에 직접 기록하는 래퍼
+ * <p>
+ * 중간 문자열이나 JsonNode 를 만들지 않고, 어노테이션 별로 미리 생성된 ObjectWriter 로 직렬화
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageJson implements JsonSerializable {
+
+    private final Page<?>      page;
+    private final ObjectWriter objectWriter;
+
+    public static PageJson of(final Page<?> page, final ObjectWriter objectWriter) {
+        return new PageJson(page, objectWriter);
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        objectWriter.writeValue(gen, page);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class CursorUtil {
+
+    private static final String SEPARATOR = ".";   //URL-safe Base64 문자에 포함되지 않는 구분자
+
+    /**
+     * 커서 구성 요소를 클라이언트에 노출할 불투명(opaque) 문자열로 인코딩
+     * <p>
+     * 구성 요소에 제목 등 사용자 입력이 포함될 수 있으므로 각 구성 요소를 따로 인코딩한 뒤 구분자로 연결
+     *
+     * @param parts - 커서 구성 요소
+     * @return 구성 요소별 URL-safe Base64 를 구분자로 연결한 커서
+     */
+    public static String encode(final String... parts) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return Arrays.stream(parts)
+                     .map(part -> encoder.encodeToString(part.getBytes(StandardCharsets.UTF_8)))
+                     .collect(Collectors.joining(SEPARATOR));
+    }
+
+    /**
+     * 불투명 커서를 구성 요소로 디코딩, 형식이 올바르지 않은 경우 예외
+     *
+     * @param cursor - 구성 요소별 URL-safe Base64 를 구분자로 연결한 커서
+     * @param size   - 커서 구성 요소 수
+     * @return 커서 구성 요소
+     */
+    public static String[] decode(final String cursor, final int size) {
+        String[] encodedParts = cursor.split(Pattern.quote(SEPARATOR), -1);
+        if (encodedParts.length != size)
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String[]       parts   = new String[size];
+            for (int i = 0; i < size; i++)
+                parts[i] = new String(decoder.decode(encodedParts[i]), StandardCharsets.UTF_8);
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new DomainException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+}
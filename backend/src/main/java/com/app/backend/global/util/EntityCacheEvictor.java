@@ -0,0 +1,84 @@
+package com.app.backend.global.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate 2차 캐시 명시적 제거
+ * <p>
+ * 엔티티 변경은 Hibernate 가 캐시에 반영하지만, 분리(detached) 엔티티 병합이나 일괄 삭제처럼 영속성 컨텍스트 밖에서 일어난 변경까지
+ * 확실히 반영되도록 쓰기 작업 후 해당 엔트리와 쿼리 결과 영역을 제거
+ * 커밋 전에 제거하면 동시에 실행된 다른 트랜잭션이 이전 값을 다시 적재할 수 있으므로 커밋 이후에 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 엔티티 캐시 엔트리 제거
+     *
+     * @param entityClass - 엔티티 타입
+     * @param id          - 엔티티 ID
+     */
+    public void evictEntity(final Class<?> entityClass, final Object id) {
+        runAfterCommit(() -> cache().evictEntityData(entityClass, id));
+    }
+
+    /**
+     * 엔티티 캐시 영역 전체 제거
+     *
+     * @param entityClass - 엔티티 타입
+     */
+    public void evictEntities(final Class<?> entityClass) {
+        runAfterCommit(() -> cache().evictEntityData(entityClass));
+    }
+
+    /**
+     * 쿼리 결과 캐시 영역 제거
+     *
+     * @param region - 쿼리 캐시 영역 이름
+     */
+    public void evictQueryRegion(final String region) {
+        runAfterCommit(() -> cache().evictQueryRegion(region));
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(task);
+            }
+        });
+    }
+
+    /**
+     * 캐시 제거 실패가 이미 커밋된 요청의 실패로 이어지지 않도록 로그만 남김, 남은 엔트리는 TTL 로 만료
+     */
+    private void runSafely(final Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 제거에 실패했습니다", e);
+        }
+    }
+
+}
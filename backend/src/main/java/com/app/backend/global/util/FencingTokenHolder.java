@@ -0,0 +1,50 @@
+package com.app.backend.global.util;
+
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현재 스레드에서 획득한 분산 락(@CustomLock)의 펜싱 토큰 보관
+ * <p>
+ * Redis 락을 획득한 경우에만 토큰이 존재하며, 로컬 락은 임대(lease) 만료가 없으므로 토큰을 발급하지 않음
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FencingTokenHolder {
+
+    private static final ThreadLocal<Long> TOKEN = new ThreadLocal<>();
+
+    /**
+     * 현재 락의 펜싱 토큰 조회
+     *
+     * @return 펜싱 토큰, 발급되지 않은 경우 Optional.empty()
+     */
+    public static Optional<Long> getToken() {
+        return Optional.ofNullable(TOKEN.get());
+    }
+
+    /**
+     * 펜싱 토큰 설정, 중첩된 락을 위해 이전 토큰을 반환
+     *
+     * @param token - 펜싱 토큰
+     * @return 이전 펜싱 토큰
+     */
+    public static Long set(final Long token) {
+        Long previous = TOKEN.get();
+        if (token == null)
+            TOKEN.remove();
+        else
+            TOKEN.set(token);
+        return previous;
+    }
+
+    /**
+     * 이전 펜싱 토큰으로 복원
+     *
+     * @param previous - 이전 펜싱 토큰
+     */
+    public static void restore(final Long previous) {
+        set(previous);
+    }
+
+}
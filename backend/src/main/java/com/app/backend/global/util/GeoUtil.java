@@ -0,0 +1,114 @@
+package com.app.backend.global.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지오해시(Geohash) 인코딩 및 거리 계산
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GeoUtil {
+
+    private static final String BASE32         = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+    private static final double METERS_PER_DEG = Math.PI * EARTH_RADIUS_M / 180;
+
+    /**
+     * 좌표를 지오해시 문자열로 인코딩
+     *
+     * @param latitude  - 위도
+     * @param longitude - 경도
+     * @param precision - 지오해시 길이
+     * @return 지오해시
+     */
+    public static String encode(final double latitude, final double longitude, final int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean isLng = true;
+        int bit = 0, ch = 0;
+        while (sb.length() < precision) {
+            if (isLng) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            isLng = !isLng;
+            if (++bit == 5) {
+                sb.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 중심 좌표로부터 반경을 포함하는 경계 상자(bounding box)와 겹치는 지오해시 셀 목록
+     *
+     * @param latitude  - 중심 위도
+     * @param longitude - 중심 경도
+     * @param radius    - 반경(m)
+     * @param precision - 지오해시 길이
+     * @return 지오해시 셀 목록
+     */
+    public static Set<String> cover(final double latitude,
+                                    final double longitude,
+                                    final double radius,
+                                    final int precision) {
+        int lngBits = (precision * 5 + 1) / 2;
+        int latBits = precision * 5 / 2;
+        double cellLat = 180 / Math.pow(2, latBits);
+        double cellLng = 360 / Math.pow(2, lngBits);
+
+        double deltaLat = radius / METERS_PER_DEG;
+        double deltaLng = radius / (METERS_PER_DEG * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+        double minLat = Math.max(latitude - deltaLat, -90);
+        double maxLat = Math.min(latitude + deltaLat, 90);
+        double minLng = Math.max(longitude - deltaLng, -180);
+        double maxLng = Math.min(longitude + deltaLng, 180);
+
+        //셀 크기 간격으로 경계 상자를 순회, 마지막 행/열은 경계 좌표로 보정
+        Set<String> cells = new LinkedHashSet<>();
+        for (double lat = minLat; ; lat = Math.min(lat + cellLat, maxLat)) {
+            for (double lng = minLng; ; lng = Math.min(lng + cellLng, maxLng)) {
+                cells.add(encode(lat, lng, precision));
+                if (lng >= maxLng)
+                    break;
+            }
+            if (lat >= maxLat)
+                break;
+        }
+        return cells;
+    }
+
+    /**
+     * 두 좌표 사이의 거리(하버사인 공식)
+     *
+     * @return 거리(m)
+     */
+    public static double distance(final double lat1, final double lng1, final double lat2, final double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                   + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                     * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.app.backend.global.util;
+
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한글 음절을 자모 단위로 분해, 입력 중인 미완성 음절(예: "섳" -> "서초")도 접두어로 일치시키기 위해 사용
+ * <p>
+ * 겹받침(ㄳ, ㄺ 등)과 이중 모음(ㅘ, ㅢ 등)은 키보드 입력 순서대로 기본 자모로 분해
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HangulUtil {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END   = '힣';
+
+    private static final String CHOSEONG  = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    /**
+     * 문자열을 자모 단위로 분해, 한글 외 문자는 소문자로 변환하고 연속된 공백은 하나로 축약
+     *
+     * @param text - 원본 문자열
+     * @return 자모 분해된 문자열
+     */
+    public static String decompose(final String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        boolean whitespace = false;
+        for (char c : text.strip().toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                if (!whitespace)
+                    sb.append(' ');
+                whitespace = true;
+                continue;
+            }
+            whitespace = false;
+
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                int offset = c - HANGUL_BEGIN;
+                appendJamo(sb, CHOSEONG.charAt(offset / (21 * 28)));
+                appendJamo(sb, JUNGSEONG.charAt(offset % (21 * 28) / 28));
+                if (offset % 28 != 0)
+                    appendJamo(sb, JONGSEONG.charAt(offset % 28));
+            } else {
+                appendJamo(sb, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private static void appendJamo(final StringBuilder sb, final char jamo) {
+        String compound = COMPOUND_JAMO.get(jamo);
+        if (compound != null)
+            sb.append(compound);
+        else
+            sb.append(jamo);
+    }
+
+}
@@ -9,15 +9,25 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 public class LockKeyGenerator {
 
-    private static final ExpressionParser PARSER = new SpelExpressionParser();
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, LockKeyGenerator.class.getClassLoader())
+    );
+
+    private static final ConcurrentMap<ExpressionKey, Expression> expressionMap = new ConcurrentHashMap<>();
 
     public static String generateLockKey(final ProceedingJoinPoint joinPoint, @NotNull final String spelExpression) {
         MethodSignature signature      = (MethodSignature) joinPoint.getSignature();
@@ -25,11 +35,11 @@ public class LockKeyGenerator {
         Method          method         = signature.getMethod();
         String[]        parameterNames = signature.getParameterNames();
 
-        StandardEvaluationContext context = new StandardEvaluationContext();
+        EvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
         for (int i = 0; i < parameterNames.length; i++)
             context.setVariable(parameterNames[i], args[i]);
 
-        Object value = PARSER.parseExpression(spelExpression).getValue(context);
+        Object value = getExpression(method, spelExpression).getValue(context);
 
         if (value == null)
             throw new IllegalArgumentException("Lock key cannot be null");
@@ -37,6 +47,18 @@ public class LockKeyGenerator {
         return "%s:%s".formatted(method.getName(), convertToKey(value));
     }
 
+    /**
+     * 메서드와 SpEL 표현식 별로 파싱된 Expression 을 캐싱하여 반환
+     *
+     * @param method         - 락 대상 메서드
+     * @param spelExpression - 락 키 SpEL 표현식
+     * @return 파싱된 Expression
+     */
+    private static Expression getExpression(final Method method, final String spelExpression) {
+        return expressionMap.computeIfAbsent(new ExpressionKey(method, spelExpression),
+                                             key -> PARSER.parseExpression(key.spelExpression()));
+    }
+
     private static String convertToKey(final Object value) {
         if (value instanceof String)
             return (String) value;
@@ -79,4 +101,7 @@ public class LockKeyGenerator {
         return "{%s}".formatted(String.join(",", entries));
     }
 
+    private record ExpressionKey(Method method, String spelExpression) {
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.app.backend.global.util;
 
 import jakarta.annotation.PreDestroy;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,8 +18,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
 import org.redisson.client.RedisConnectionException;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -28,8 +31,17 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @RequiredArgsConstructor
 public class LockManager {
 
-    private final static int  MAX_UNLOCK_RETRY_COUNT = 3;
-    private final static long RETRY_DELAY            = 100L;
+    private final static int    MAX_UNLOCK_RETRY_COUNT = 3;
+    private final static long   RETRY_DELAY            = 100L;
+    private final static String FENCING_TOKEN_KEY      = "lock:fencing-token";
+
+    //락 해시에 현재 스레드의 보유 항목이 남아있는 경우에만 토큰 발급(0: 락 미보유), 단일 노드 Redisson 설정 전제
+    private final static String ISSUE_FENCING_TOKEN_SCRIPT = """
+            if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            return redis.call('incr', KEYS[2])
+            """;
 
     private static final ConcurrentMap<String, ReentrantLock> localLockMap = new ConcurrentHashMap<>();
 
@@ -44,16 +56,18 @@ public class LockManager {
         RLock         redisLock = isRedisAvailable ? redissonClient.get().getLock(lockKey) : null;
         ReentrantLock localLock = isRedisAvailable ? null : getLock(lockKey);
 
-        boolean locked = isRedisAvailable
-                         ? tryRedissonLock(redisLock, maxWaitTime, leaseTime)
-                         : tryLocalLock(localLock, maxWaitTime);
+        //락 해제는 트랜잭션 종료 후 호출한 스레드에서 실행되므로 락 보유자를 호출한 스레드로 지정
+        long threadId = Thread.currentThread().getId();
+
+        Long fencingToken = isRedisAvailable ? tryRedissonLock(redisLock, threadId, maxWaitTime, leaseTime) : null;
+        boolean locked = isRedisAvailable ? fencingToken != null : tryLocalLock(localLock, maxWaitTime);
 
-        return LockWrapper.of(lockKey, redisLock, localLock, isRedisAvailable && locked, locked);
+        return LockWrapper.of(lockKey, redisLock, localLock, threadId, isRedisAvailable && locked, locked, fencingToken);
     }
 
     public void releaseLock(final LockWrapper lockWrapper) {
         if (lockWrapper.usingRedisLock)
-            unlockRedissonLock(lockWrapper.redisLock, 0);
+            unlockRedissonLock(lockWrapper.redisLock, lockWrapper.threadId, 0);
         else {
             unlockLocalLock(lockWrapper.localLock);
             releaseLock(lockWrapper.lockKey, lockWrapper.localLock);
@@ -81,7 +95,32 @@ public class LockManager {
         }).orElse(false);
     }
 
-    private boolean tryRedissonLock(final RLock lock, final long maxWaitTime, final long leaseTime) {
+    /**
+     * 펜싱 토큰 발급, 락 보유 확인과 카운터 증가를 하나의 스크립트로 실행하여 락을 보유한 동안에만 발급
+     * (모든 락 키가 하나의 Redis 카운터를 공유하므로 락 키 별로도 락을 획득한 순서대로 단조 증가함)
+     *
+     * @param lockKey  락 키
+     * @param threadId 락 보유 스레드 ID
+     * @return 펜싱 토큰, 락 획득 후 임대 시간이 만료되어 다른 클라이언트가 락을 획득한 경우 null
+     */
+    private Long issueFencingToken(final String lockKey, final long threadId) {
+        String holder = redissonClient.get().getId() + ":" + threadId;
+        Long token = redissonClient.get().getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ISSUE_FENCING_TOKEN_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(lockKey, FENCING_TOKEN_KEY),
+                holder
+        );
+        return token != null && token > 0 ? token : null;
+    }
+
+    /**
+     * Redisson 락 획득 및 펜싱 토큰 발급, 재시도는 별도 스레드에서 실행하되 락 보유자는 호출한 스레드로 지정
+     *
+     * @return 펜싱 토큰, 최대 대기 시간 내에 락을 획득하지 못한 경우 null
+     */
+    private Long tryRedissonLock(final RLock lock, final long threadId, final long maxWaitTime, final long leaseTime) {
         try {
             return CompletableFuture.supplyAsync(() -> {
                 long baseDelay   = 100L;
@@ -89,11 +128,17 @@ public class LockManager {
 
                 while (elapsedTime < maxWaitTime) {
                     try {
-                        if (lock.tryLock(0, leaseTime, TimeUnit.MILLISECONDS))
-                            return true;
+                        if (lock.tryLockAsync(0, leaseTime, TimeUnit.MILLISECONDS, threadId).get()) {
+                            Long fencingToken = issueFencingToken(lock.getName(), threadId);
+                            if (fencingToken != null)
+                                return fencingToken;
+                            log.warn("Redis lock lease expired before issuing fencing token");
+                        }
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         throw new RuntimeException("Redis lock acquisition interrupted", e);
+                    } catch (ExecutionException e) {
+                        throw new RuntimeException("Redis lock acquisition failed", e);
                     }
 
                     log.info("Redis lock acquisition failed, retrying after wait time: {}ms", baseDelay);
@@ -102,70 +147,64 @@ public class LockManager {
                     elapsedTime += baseDelay;
                     baseDelay = Math.min(baseDelay * 2, maxWaitTime - elapsedTime);
                 }
-                return false;
+                return null;
             }, executorService).get();
         } catch (InterruptedException e) {
             log.error("Redisson lock acquisition interrupted", e);
             Thread.currentThread().interrupt();
-            return false;
+            return null;
         } catch (ExecutionException e) {
             log.error("Execution exception occurred", e);
-            return false;
+            return null;
         }
     }
 
+    /**
+     * 로컬 락 획득, ReentrantLock 은 획득한 스레드에서만 해제할 수 있으므로 호출한 스레드에서 획득
+     */
     private boolean tryLocalLock(final ReentrantLock lock, final long maxWaitTime) {
-        try {
-            return CompletableFuture.supplyAsync(() -> {
-                long baseDelay   = 100L;
-                long elapsedTime = 0L;
+        long baseDelay   = 100L;
+        long elapsedTime = 0L;
 
-                while (elapsedTime < maxWaitTime) {
-                    try {
-                        if (lock.tryLock(0, TimeUnit.MILLISECONDS))
-                            return true;
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Local lock acquisition interrupted", e);
-                    }
+        while (elapsedTime < maxWaitTime) {
+            try {
+                if (lock.tryLock(0, TimeUnit.MILLISECONDS))
+                    return true;
+            } catch (InterruptedException e) {
+                log.error("Local lock acquisition interrupted", e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
 
-                    log.info("Local lock acquisition failed, retrying after wait time: {}ms", baseDelay);
-                    sleep(baseDelay);
+            log.info("Local lock acquisition failed, retrying after wait time: {}ms", baseDelay);
+            sleep(baseDelay);
 
-                    elapsedTime += baseDelay;
-                    baseDelay = Math.min(baseDelay * 2, maxWaitTime - elapsedTime);
-                }
-                return false;
-            }, executorService).get();
-        } catch (InterruptedException e) {
-            log.error("Local lock acquisition interrupted", e);
-            Thread.currentThread().interrupt();
-            return false;
-        } catch (ExecutionException e) {
-            log.error("Execution exception occurred", e);
-            return false;
+            elapsedTime += baseDelay;
+            baseDelay = Math.min(baseDelay * 2, maxWaitTime - elapsedTime);
         }
+        return false;
     }
 
-    private void unlockRedissonLock(final RLock lock, int retryCount) {
-        if (lock.isLocked() && lock.isHeldByCurrentThread())
-            lock.unlockAsync().whenComplete((unused, throwable) -> {
+    private void unlockRedissonLock(final RLock lock, final long threadId, int retryCount) {
+        if (lock.isLocked() && lock.isHeldByThread(threadId))
+            lock.unlockAsync(threadId).whenComplete((unused, throwable) -> {
                 if (throwable != null) {
                     log.warn("Failed to unlock redisson lock, retrying {}/{}", retryCount + 1,
                              MAX_UNLOCK_RETRY_COUNT);
                     if (retryCount < MAX_UNLOCK_RETRY_COUNT)
                         scheduler.schedule(
-                                () -> unlockRedissonLock(lock, retryCount + 1), RETRY_DELAY, TimeUnit.MILLISECONDS
+                                () -> unlockRedissonLock(lock, threadId, retryCount + 1), RETRY_DELAY,
+                                TimeUnit.MILLISECONDS
                         );
                     else
-                        forceUnlockRedissonLock(lock);
+                        forceUnlockRedissonLock(lock, threadId);
                 } else
                     log.info("Redisson lock successfully unlocked");
             });
     }
 
-    private void forceUnlockRedissonLock(final RLock lock) {
-        if (lock.isLocked() && lock.isHeldByCurrentThread()) {
+    private void forceUnlockRedissonLock(final RLock lock, final long threadId) {
+        if (lock.isLocked() && lock.isHeldByThread(threadId)) {
             lock.forceUnlock();
             log.warn("Redisson lock forcefully unlocked after max retries");
         } else
@@ -224,20 +263,26 @@ public class LockManager {
         private final String        lockKey;
         private final RLock         redisLock;
         private final ReentrantLock localLock;
+        private final long          threadId;
         private final boolean       usingRedisLock;
         private final boolean       locked;
+        private final Long          fencingToken;
 
         private static LockWrapper of(final String lockKey,
                                       final RLock redisLock,
                                       final ReentrantLock localLock,
+                                      final long threadId,
                                       final boolean usingRedisLock,
-                                      final boolean locked) {
+                                      final boolean locked,
+                                      final Long fencingToken) {
             return LockWrapper.builder()
                               .lockKey(lockKey)
                               .redisLock(redisLock)
                               .localLock(localLock)
+                              .threadId(threadId)
                               .usingRedisLock(usingRedisLock)
                               .locked(locked)
+                              .fencingToken(fencingToken)
                               .build();
         }
     }
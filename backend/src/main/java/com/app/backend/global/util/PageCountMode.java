@@ -0,0 +1,12 @@
+package com.app.backend.global.util;
+
+/**
+ * 페이징 조회 시 전체 개수(total) 계산 방식
+ */
+public enum PageCountMode {
+
+    EXACT,  //매 요청마다 count 쿼리 실행
+    CACHED, //정규화된 조건(Predicate) 별로 count 결과를 TTL 동안 캐싱
+    SKIP    //count 쿼리 없이 size + 1 조회로 다음 페이지 존재 여부(hasNext)만 판단
+
+}
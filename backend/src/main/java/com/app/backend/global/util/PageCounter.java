@@ -0,0 +1,111 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.annotation.CustomPageJsonSerializer;
+import com.querydsl.core.types.Predicate;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 요청 경로(@CustomPageJsonSerializer)에 지정된 PageCountMode 에 따라 페이지의 전체 개수를 계산
+ * <p>
+ * 경로 밖(서비스/테스트 직접 호출 등)에서는 항상 EXACT 로 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageCounter {
+
+    private static final String COUNT_KEY_PREFIX = "page-count:";
+
+    private static final ThreadLocal<CustomPageJsonSerializer> CONTEXT = new ThreadLocal<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static void setContext(final CustomPageJsonSerializer annotation) {
+        CONTEXT.set(annotation);
+    }
+
+    public static void clearContext() {
+        CONTEXT.remove();
+    }
+
+    /**
+     * 페이지 조회 쿼리의 limit 값, SKIP 모드인 경우 다음 페이지 확인을 위해 1개를 더 조회
+     *
+     * @param pageable - 페이징 객체
+     * @return limit
+     */
+    public long getLimit(final Pageable pageable) {
+        return getMode() == PageCountMode.SKIP ? pageable.getPageSize() + 1L : pageable.getPageSize();
+    }
+
+    /**
+     * 조회 결과와 count 쿼리로 페이지 생성
+     *
+     * @param queryName     - 조회 쿼리 이름, CACHED 모드에서 조건이 같은 다른 쿼리와 캐시 키가 겹치지 않도록 키 앞에 붙임
+     * @param content       - 조회 결과(SKIP 모드인 경우 size + 1 개)
+     * @param pageable      - 페이징 객체
+     * @param predicate     - count 쿼리 조건, CACHED 모드의 캐시 키로 사용
+     * @param countSupplier - count 쿼리
+     * @return 페이지
+     */
+    public <T> Page<T> getPage(final String queryName,
+                               final List<T> content,
+                               final Pageable pageable,
+                               final Predicate predicate,
+                               final Supplier<Long> countSupplier) {
+        LongSupplier count = () -> Optional.ofNullable(countSupplier.get()).orElse(0L);
+
+        return switch (getMode()) {
+            case EXACT -> PageableExecutionUtils.getPage(content, pageable, count);
+            case CACHED -> PageableExecutionUtils.getPage(content, pageable, () -> getCachedCount(queryName, predicate, count));
+            case SKIP -> getSkippedCountPage(content, pageable);
+        };
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private PageCountMode getMode() {
+        CustomPageJsonSerializer annotation = CONTEXT.get();
+        return annotation == null ? PageCountMode.EXACT : annotation.countMode();
+    }
+
+    private long getCachedCount(final String queryName, final Predicate predicate, final LongSupplier count) {
+        CustomPageJsonSerializer annotation = CONTEXT.get();
+        String key = COUNT_KEY_PREFIX + queryName + ":"
+                     + DigestUtils.md5DigestAsHex(String.valueOf(predicate).getBytes(StandardCharsets.UTF_8));
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof Number number)
+                return number.longValue();
+
+            long total = count.getAsLong();
+            redisTemplate.opsForValue().set(key, total, annotation.countTtl(), annotation.countTtlUnit());
+            return total;
+        } catch (Exception e) {
+            log.warn("Failed to use cached page count, falling back to exact count", e);
+            return count.getAsLong();
+        }
+    }
+
+    private <T> Page<T> getSkippedCountPage(final List<T> content, final Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<T> pageContent = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+        long total = pageable.getOffset() + pageContent.size() + (hasNext ? 1 : 0);
+        return new PageImpl<>(pageContent, pageable, total);
+    }
+
+}
@@ -3,31 +3,21 @@ package com.app.backend.global.util;
 import com.app.backend.global.annotation.CustomPageJsonSerializer;
 import com.app.backend.global.dto.response.ApiResponse;
 import com.app.backend.global.module.CustomPageModule;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.app.backend.global.module.PageJson;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.http.ResponseEntity;
 
 @Slf4j
 public class PageUtil {
 
-    private static final ConcurrentMap<String, ObjectMapper> objectMapperMap = new ConcurrentHashMap<>();
-
-    public static ResponseEntity<?> processResponseEntity(final ResponseEntity<?> responseEntity,
-                                                          final CustomPageJsonSerializer annotation) {
-        Object body = responseEntity.getBody();
-        if (body instanceof Page<?> page)
-            return ResponseEntity.ok(processPageJson(page, annotation));
-        else if (body instanceof ApiResponse<?> apiResponse)
-            return ResponseEntity.ok(processApiResponse(apiResponse, annotation));
-        return responseEntity;
-    }
+    private static final ConcurrentMap<CustomPageJsonSerializer, ObjectWriter> objectWriterMap =
+            new ConcurrentHashMap<>();
 
     public static ApiResponse<?> processApiResponse(final ApiResponse<?> apiResponse,
                                                     final CustomPageJsonSerializer annotation) {
@@ -39,39 +29,24 @@ public class PageUtil {
         return apiResponse;
     }
 
-    public static JsonNode processPageJson(final Page<?> page, final CustomPageJsonSerializer annotation) {
-        String key = generateKey(annotation);
-        ObjectMapper objectMapper = objectMapperMap.computeIfAbsent(key, newKey -> {
-            log.info("새로운 ObjectMapper 생성: {}", newKey);
+    public static PageJson processPageJson(final Page<?> page, final CustomPageJsonSerializer annotation) {
+        return PageJson.of(page, getObjectWriter(annotation));
+    }
+
+    /**
+     * 어노테이션 속성 별로 ObjectWriter 를 생성하여 캐싱(어노테이션의 equals/hashCode 는 속성 값 기준)
+     *
+     * @param annotation - 페이지 직렬화 어노테이션
+     * @return ObjectWriter
+     */
+    private static ObjectWriter getObjectWriter(final CustomPageJsonSerializer annotation) {
+        return objectWriterMap.computeIfAbsent(annotation, newAnnotation -> {
+            log.info("새로운 ObjectWriter 생성: {}", newAnnotation);
             ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModules(new JavaTimeModule(), new CustomPageModule(annotation));
+            mapper.registerModules(new JavaTimeModule(), new CustomPageModule(newAnnotation));
             mapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-            return mapper;
+            return mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
         });
-
-        try {
-            String json = objectMapper.writeValueAsString(page);
-            return objectMapper.readTree(json);
-        } catch (JsonProcessingException e) {
-            log.error("Json processing exception occurred", e);
-            return null;
-        }
-    }
-
-    private static String generateKey(CustomPageJsonSerializer annotation) {
-        return annotation.content() + "_" +
-               annotation.hasContent() + "_" +
-               annotation.totalPages() + "_" +
-               annotation.totalElements() + "_" +
-               annotation.numberOfElements() + "_" +
-               annotation.size() + "_" +
-               annotation.number() + "_" +
-               annotation.hasPrevious() + "_" +
-               annotation.hasNext() + "_" +
-               annotation.isFirst() + "_" +
-               annotation.isLast() + "_" +
-               annotation.sort() + "_" +
-               annotation.empty();
     }
 
 }
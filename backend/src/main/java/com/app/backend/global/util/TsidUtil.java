@@ -0,0 +1,74 @@
+package com.app.backend.global.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID(TSID) 생성
+ * <p>
+ * [타임스탬프 41비트(2025-01-01 기준 ms) | 노드 5비트 | 시퀀스 7비트] 구성의 53비트 양수로,
+ * 자바스크립트 Number 로도 손실 없이 표현되며(최대 2^53 - 1) 약 69년간 사용 가능
+ * 노드당 1ms 에 128개까지 생성하고, 초과하거나 시계가 되돌아간 경우 다음 ms 를 앞당겨 사용하여 단조 증가 유지
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TsidUtil {
+
+    public static final  long EPOCH          = 1_735_689_600_000L;  //2025-01-01T00:00:00Z
+    public static final  int  MAX_NODE_ID    = 31;
+    private static final int  NODE_BITS      = 5;
+    private static final int  SEQUENCE_BITS  = 7;
+    private static final long MAX_SEQUENCE   = (1L << SEQUENCE_BITS) - 1;
+
+    private static int  nodeId;
+    private static long lastTimestamp = -1L;
+    private static long sequence;
+
+    /**
+     * 노드 ID 설정, 서로 다른 인스턴스는 서로 다른 노드 ID 를 사용해야 함
+     *
+     * @param nodeId - 노드 ID(0 ~ MAX_NODE_ID)
+     */
+    public static synchronized void configure(final int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID)
+            throw new IllegalArgumentException("TSID node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        TsidUtil.nodeId = nodeId;
+    }
+
+    /**
+     * 다음 ID 생성
+     *
+     * @return 이전에 생성한 ID 보다 큰 ID
+     */
+    public static synchronized long next() {
+        long timestamp = System.currentTimeMillis() - EPOCH;
+        if (timestamp > lastTimestamp) {
+            lastTimestamp = timestamp;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            lastTimestamp++;
+            sequence = 0;
+        }
+        return lastTimestamp << (NODE_BITS + SEQUENCE_BITS) | (long) nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    /**
+     * ID 의 생성 시각
+     *
+     * @param id - TSID
+     * @return 생성 시각(epoch ms)
+     */
+    public static long extractTimestamp(final long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    /**
+     * ID 를 생성한 노드 ID
+     *
+     * @param id - TSID
+     * @return 노드 ID
+     */
+    public static int extractNodeId(final long id) {
+        return (int) (id >>> SEQUENCE_BITS & MAX_NODE_ID);
+    }
+
+}
@@ -0,0 +1,18 @@
+-- 댓글 좋아요 수(like_count), 답글 수(reply_count) 역정규화 컬럼 1회성 백필
+-- 컬럼 추가 시 기존 행은 0으로 채워지므로 배포 직후 1회 실행, 여러 번 실행해도 결과 동일
+-- MySQL 은 UPDATE 대상 테이블을 서브쿼리에서 직접 참조할 수 없으므로(ERROR 1093) 답글 수는 파생 테이블로 집계
+
+UPDATE tbl_comments
+SET like_count = (SELECT COUNT(*)
+                  FROM tbl_comment_likes l
+                  WHERE l.comment_id = tbl_comments.comment_id
+                    AND l.disabled = false);
+
+UPDATE tbl_comments
+SET reply_count = COALESCE((SELECT r.reply_count
+                            FROM (SELECT parent_id, COUNT(*) AS reply_count
+                                  FROM tbl_comments
+                                  WHERE parent_id IS NOT NULL
+                                    AND disabled = false
+                                  GROUP BY parent_id) r
+                            WHERE r.parent_id = tbl_comments.comment_id), 0);
@@ -0,0 +1,16 @@
+-- 모임 가입 인원(approved_member_count), 관리자 수(leader_count) 역정규화 컬럼 1회성 백필
+-- 컬럼 추가 시 기존 행은 0으로 채워지므로 배포 직후 1회 실행, 여러 번 실행해도 결과 동일
+-- 이후 발생하는 불일치는 GroupMemberCountReconciler 가 주기적으로 보정
+
+UPDATE tbl_groups
+SET approved_member_count = (SELECT COUNT(*)
+                             FROM tbl_group_memberships m
+                             WHERE m.group_id = tbl_groups.group_id
+                               AND m.status = 'APPROVED'
+                               AND m.disabled = false),
+    leader_count          = (SELECT COUNT(*)
+                             FROM tbl_group_memberships m
+                             WHERE m.group_id = tbl_groups.group_id
+                               AND m.status = 'APPROVED'
+                               AND m.group_role = 'LEADER'
+                               AND m.disabled = false);
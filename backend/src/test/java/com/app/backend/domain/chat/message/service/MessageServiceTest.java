@@ -17,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +29,10 @@ import com.app.backend.domain.chat.message.dto.request.MessageRequest;
 import com.app.backend.domain.chat.message.dto.response.MessageResponse;
 import com.app.backend.domain.chat.message.entity.Message;
 import com.app.backend.domain.chat.message.repository.MessageRepository;
+import com.app.backend.domain.chat.room.summary.ChatRoomSummaryStore;
+import com.app.backend.global.dto.response.CursorResponse;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
 
 @ExtendWith(MockitoExtension.class)
 class MessageServiceTest {
@@ -34,6 +40,9 @@ class MessageServiceTest {
 	@Mock
 	private MessageRepository messageRepository;
 
+	@Mock
+	private ObjectProvider<ChatRoomSummaryStore> chatRoomSummaryStore;
+
 	@InjectMocks
 	private MessageService messageService;
 
@@ -136,6 +145,52 @@ class MessageServiceTest {
 		assertThat(result.getContent()).isEmpty();
 	}
 
+	@Test
+	@DisplayName("[성공] 채팅 메세지 커서 조회 - 첫 페이지, 최신순 정렬")
+	void getMessagesByChatRoomIdWithCursor() {
+		//given
+		List<Message> sortedMessageList = messageList.stream()
+			.sorted(Comparator.comparing(Message::getCreatedAt).reversed()) // 최신순 정렬
+			.limit(21) // 요청 크기 + 1
+			.toList();
+
+		when(messageRepository.findByChatRoomIdAndDisabledFalseOrderByIdDesc(any(Long.class), any(Limit.class)))
+			.thenReturn(sortedMessageList);
+
+		//when
+		CursorResponse<MessageResponse> result = messageService.getMessagesByChatRoomIdWithCursor(100L, null, null, 20);
+
+		//then
+		assertThat(result.getContent().size()).isEqualTo(20);
+		assertThat(result.getHasNext()).isTrue();
+		assertThat(result.getNextCursor()).isEqualTo(sortedMessageList.get(19).getId().toHexString());
+		assertThat(result.getContent().get(0).content()).isEqualTo("메시지 25");
+		assertThat(result.getContent().get(19).content()).isEqualTo("메시지 6");
+		verify(messageRepository, never()).findByChatRoomIdAndDisabledFalse(any(Long.class), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("[예외] 채팅 메세지 커서 조회 - 올바르지 않은 커서")
+	void getMessagesByChatRoomIdWithCursor_InvalidCursor() {
+		// when & then
+		assertThatThrownBy(() -> messageService.getMessagesByChatRoomIdWithCursor(100L, "invalid", null, 20))
+			.isInstanceOf(DomainException.class);
+		assertThatThrownBy(() -> messageService.getMessagesByChatRoomIdWithCursor(100L, new ObjectId().toHexString(),
+			new ObjectId().toHexString(), 20))
+			.isInstanceOf(DomainException.class);
+	}
+
+	@Test
+	@DisplayName("[예외] 채팅 메세지 커서 조회 - 허용 범위를 벗어난 조회 개수")
+	void getMessagesByChatRoomIdWithCursor_InvalidSize() {
+		// when & then
+		for (int size : new int[] {-1, 0, 101})
+			assertThatThrownBy(() -> messageService.getMessagesByChatRoomIdWithCursor(100L, null, null, size))
+				.isInstanceOf(DomainException.class)
+				.hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+		verifyNoInteractions(messageRepository);
+	}
+
 	@Test
 	@DisplayName("[성공] 메세지 저장")
 	void saveMessage_Success() {
@@ -154,6 +209,7 @@ class MessageServiceTest {
 		assertThat(response.senderNickname()).isEqualTo("user");
 
 		verify(messageRepository, times(1)).save(any(Message.class));
+		verify(chatRoomSummaryStore, times(1)).ifAvailable(any());
 	}
 
 	private Message createMessage(Long chatRoomId, Long senderId, String senderNickname, String content, LocalDateTime createdAt) {
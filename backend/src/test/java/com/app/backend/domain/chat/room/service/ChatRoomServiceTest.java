@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +14,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import com.app.backend.domain.chat.room.dto.response.ChatRoomListResponse;
 import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.chat.room.summary.ChatRoomSummaryStore;
 
 @ExtendWith(MockitoExtension.class)
 class ChatRoomServiceTest {
@@ -22,6 +26,12 @@ class ChatRoomServiceTest {
 	@Mock
 	private ChatRoomRepository chatRoomRepository;
 
+	@Mock
+	private ObjectProvider<ChatRoomSummaryStore> chatRoomSummaryStoreProvider;
+
+	@Mock
+	private ChatRoomSummaryStore chatRoomSummaryStore;
+
 	@InjectMocks
 	private ChatRoomService chatRoomService;
 
@@ -63,4 +73,53 @@ class ChatRoomServiceTest {
 		assertThat(result.get(1).groupName()).isEqualTo(chatRoom2.groupName());
 		assertThat(result.get(1).participant()).isEqualTo(chatRoom2.participant());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("[성공] 채팅방 목록 조회 - Redis 채팅방 요약 사용")
+	void getChatRoomsByMemberId_summary() {
+		//given
+		Long memberId = 1L;
+
+		ChatRoomListResponse chatRoom = ChatRoomListResponse.builder()
+			.chatRoomId(1L)
+			.groupId(1L)
+			.groupName("Group 1")
+			.participant(10L)
+			.lastMessage("안녕하세요")
+			.lastMessageAt(LocalDateTime.now())
+			.unreadCount(3L)
+			.build();
+
+		when(chatRoomSummaryStoreProvider.getIfAvailable()).thenReturn(chatRoomSummaryStore);
+		when(chatRoomSummaryStore.findAllByMemberId(memberId)).thenReturn(Optional.of(List.of(chatRoom)));
+
+		//when
+		List<ChatRoomListResponse> result = chatRoomService.getChatRoomsByMemberId(memberId);
+
+		//then
+		assertThat(result).containsExactly(chatRoom);
+		assertThat(result.get(0).unreadCount()).isEqualTo(3L);
+		verify(chatRoomRepository, never()).findAllByMemberId(any(Long.class));
+	}
+
+	@Test
+	@DisplayName("[성공] 채팅방 목록 조회 - 요약이 없는 경우 DB 조회 결과로 초기화")
+	void getChatRoomsByMemberId_initialize() {
+		//given
+		Long memberId = 1L;
+
+		List<ChatRoomListResponse> chatRooms = List.of(new ChatRoomListResponse(1L, 1L, "Group 1", 10L));
+		when(chatRoomSummaryStoreProvider.getIfAvailable()).thenReturn(chatRoomSummaryStore);
+		when(chatRoomSummaryStore.findAllByMemberId(memberId)).thenReturn(Optional.empty());
+		when(chatRoomRepository.findAllByMemberId(memberId)).thenReturn(chatRooms);
+		when(chatRoomSummaryStore.initialize(memberId, chatRooms)).thenReturn(chatRooms);
+
+		//when
+		List<ChatRoomListResponse> result = chatRoomService.getChatRoomsByMemberId(memberId);
+
+		//then
+		assertThat(result).isEqualTo(chatRooms);
+		assertThat(result.get(0).unreadCount()).isZero();
+		verify(chatRoomSummaryStore, times(1)).initialize(memberId, chatRooms);
+	}
+}
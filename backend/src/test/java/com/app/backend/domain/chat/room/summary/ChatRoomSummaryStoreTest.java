@@ -0,0 +1,266 @@
+package com.app.backend.domain.chat.room.summary;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.app.backend.domain.chat.message.entity.Message;
+import com.app.backend.domain.chat.message.repository.MessageRepository;
+import com.app.backend.domain.chat.room.dto.response.ChatRoomListResponse;
+import com.app.backend.domain.chat.room.entity.ChatRoom;
+import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.repository.GroupMembershipRepository;
+import com.app.backend.domain.group.repository.GroupRepository;
+
+class ChatRoomSummaryStoreTest {
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate      redisTemplate;
+
+	private ChatRoomRepository        chatRoomRepository;
+	private GroupRepository           groupRepository;
+	private GroupMembershipRepository groupMembershipRepository;
+	private MessageRepository         messageRepository;
+	private ChatRoomSummaryStore      chatRoomSummaryStore;
+
+	private Long chatRoomId;
+	private Long groupId;
+	private Long memberId;
+
+	@BeforeAll
+	static void beforeAll() {
+		connectionFactory = new LettuceConnectionFactory("localhost", 6379);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void afterAll() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void beforeEach() {
+		chatRoomRepository = mock(ChatRoomRepository.class);
+		groupRepository = mock(GroupRepository.class);
+		groupMembershipRepository = mock(GroupMembershipRepository.class);
+		messageRepository = mock(MessageRepository.class);
+		chatRoomSummaryStore = new ChatRoomSummaryStore(redisTemplate,
+			chatRoomRepository,
+			groupRepository,
+			groupMembershipRepository,
+			messageRepository);
+
+		//테스트 간 키가 겹치지 않도록 임의의 ID 사용
+		chatRoomId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		groupId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		memberId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+	}
+
+	@AfterEach
+	void afterEach() {
+		redisTemplate.delete(List.of("chatroom:summary:" + chatRoomId, "chatroom:member:" + memberId));
+	}
+
+	@Test
+	@DisplayName("[성공] 채팅방 요약 초기화 - MongoDB 메세지 수와 마지막 메세지로 채우고 만료 시간 설정")
+	void initialize() {
+		//given
+		LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+		when(messageRepository.countByChatRoomIdAndDisabledFalse(chatRoomId)).thenReturn(3L);
+		when(messageRepository.findByChatRoomIdAndDisabledFalseOrderByIdDesc(eq(chatRoomId), any()))
+			.thenReturn(List.of(message(memberId, "마지막 메세지", createdAt)));
+
+		//when
+		List<ChatRoomListResponse> result = chatRoomSummaryStore.initialize(memberId,
+			List.of(new ChatRoomListResponse(chatRoomId, groupId, "Group", 5L)));
+
+		//then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).groupName()).isEqualTo("Group");
+		assertThat(result.get(0).participant()).isEqualTo(5L);
+		assertThat(result.get(0).lastMessage()).isEqualTo("마지막 메세지");
+		assertThat(result.get(0).lastMessageAt()).isEqualTo(createdAt);
+		assertThat(result.get(0).unreadCount()).isZero();
+		assertThat(redisTemplate.getExpire("chatroom:summary:" + chatRoomId)).isPositive();
+		assertThat(redisTemplate.getExpire("chatroom:member:" + memberId)).isPositive();
+	}
+
+	@Test
+	@DisplayName("[성공] 메세지 반영 - 누적 메세지 수 증가, 보낸 회원은 읽은 것으로 처리")
+	void recordMessage() {
+		//given
+		initialize(memberId);
+		Long otherMemberId = memberId + 1;
+		initialize(otherMemberId);
+
+		//when
+		chatRoomSummaryStore.recordMessage(message(memberId, "안녕하세요", LocalDateTime.now()));
+		chatRoomSummaryStore.recordMessage(message(otherMemberId, "반갑습니다", LocalDateTime.now()));
+
+		//then
+		ChatRoomListResponse summary = chatRoomSummaryStore.findAllByMemberId(memberId).orElseThrow().get(0);
+		assertThat(summary.lastMessage()).isEqualTo("반갑습니다");
+		assertThat(summary.unreadCount()).isEqualTo(1L);
+		assertThat(chatRoomSummaryStore.findAllByMemberId(otherMemberId).orElseThrow().get(0).unreadCount())
+			.isZero();
+		redisTemplate.delete("chatroom:member:" + otherMemberId);
+	}
+
+	@Test
+	@DisplayName("[성공] 메세지 반영 - 요약이 없는 채팅방은 반영하지 않음")
+	void recordMessage_withoutSummary() {
+		//when
+		chatRoomSummaryStore.recordMessage(message(memberId, "안녕하세요", LocalDateTime.now()));
+
+		//then
+		assertThat(redisTemplate.hasKey("chatroom:summary:" + chatRoomId)).isFalse();
+	}
+
+	@Test
+	@DisplayName("[성공] 읽음 처리 - 읽지 않은 메세지 수 초기화")
+	void markAsRead() {
+		//given
+		initialize(memberId);
+		chatRoomSummaryStore.recordMessage(message(memberId + 1, "안녕하세요", LocalDateTime.now()));
+		chatRoomSummaryStore.recordMessage(message(memberId + 1, "반갑습니다", LocalDateTime.now()));
+
+		//when
+		chatRoomSummaryStore.markAsRead(chatRoomId, memberId);
+
+		//then
+		assertThat(chatRoomSummaryStore.findAllByMemberId(memberId).orElseThrow().get(0).unreadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("[성공] 읽음 처리 - Redis 오류는 예외를 전파하지 않음")
+	void markAsRead_redisFailure() {
+		//given
+		StringRedisTemplate failingTemplate = mock(StringRedisTemplate.class);
+		when(failingTemplate.opsForHash()).thenThrow(new IllegalStateException("Redis 연결 실패"));
+		ChatRoomSummaryStore store = new ChatRoomSummaryStore(failingTemplate,
+			chatRoomRepository,
+			groupRepository,
+			groupMembershipRepository,
+			messageRepository);
+
+		//when, then
+		assertThatNoException().isThrownBy(() -> store.markAsRead(chatRoomId, memberId));
+	}
+
+	@Test
+	@DisplayName("[성공] 참여 회원 변경 - 가입 승인 회원은 채팅방 추가, 가입 이전 메세지는 읽은 것으로 처리")
+	void handleMembershipEvent_join() {
+		//given
+		Long joinedMemberId = memberId + 1;
+		initialize(memberId);
+		initialize(joinedMemberId);
+		redisTemplate.opsForHash().delete("chatroom:member:" + joinedMemberId, chatRoomId.toString());
+		chatRoomSummaryStore.recordMessage(message(memberId, "안녕하세요", LocalDateTime.now()));
+		givenMembership(joinedMemberId, 2);
+
+		//when
+		chatRoomSummaryStore.handleMembershipEvent(ChatRoomMembershipEvent.of(groupId, joinedMemberId));
+
+		//then
+		ChatRoomListResponse summary = chatRoomSummaryStore.findAllByMemberId(joinedMemberId).orElseThrow().get(0);
+		assertThat(summary.chatRoomId()).isEqualTo(chatRoomId);
+		assertThat(summary.participant()).isEqualTo(2L);
+		assertThat(summary.unreadCount()).isZero();
+		redisTemplate.delete("chatroom:member:" + joinedMemberId);
+	}
+
+	@Test
+	@DisplayName("[성공] 참여 회원 변경 - 탈퇴 회원은 채팅방 제거")
+	void handleMembershipEvent_leave() {
+		//given
+		initialize(memberId);
+		givenMembership(null, 0);
+
+		//when
+		chatRoomSummaryStore.handleMembershipEvent(ChatRoomMembershipEvent.of(groupId, memberId));
+
+		//then
+		assertThat(redisTemplate.opsForHash().hasKey("chatroom:member:" + memberId, chatRoomId.toString())).isFalse();
+		assertThat(redisTemplate.opsForHash().get("chatroom:summary:" + chatRoomId, "participant")).isEqualTo("0");
+	}
+
+	@Test
+	@DisplayName("[성공] 모임 정보 갱신 - 누적 메세지 수는 덮어쓰지 않음")
+	void handleMembershipEvent_keepMessageCount() {
+		//given
+		initialize(memberId);
+		chatRoomSummaryStore.recordMessage(message(memberId + 1, "안녕하세요", LocalDateTime.now()));
+		givenMembership(memberId, 1);
+
+		//when
+		chatRoomSummaryStore.handleMembershipEvent(ChatRoomMembershipEvent.of(groupId, memberId));
+
+		//then
+		assertThat(redisTemplate.opsForHash().get("chatroom:summary:" + chatRoomId, "messageCount")).isEqualTo("1");
+		assertThat(chatRoomSummaryStore.findAllByMemberId(memberId).orElseThrow().get(0).unreadCount())
+			.isEqualTo(1L);
+	}
+
+	//============================== 내부 메서드 ==============================//
+
+	private void initialize(final Long memberId) {
+		chatRoomSummaryStore.initialize(memberId, List.of(new ChatRoomListResponse(chatRoomId, groupId, "Group", 1L)));
+	}
+
+	/**
+	 * 채팅방, 모임, 가입 승인 회원 조회 결과 설정
+	 *
+	 * @param approvedMemberId - 가입 승인 회원 ID, 없는 경우 null
+	 * @param approvedCount    - 모임 참여 인원
+	 */
+	private void givenMembership(final Long approvedMemberId, final int approvedCount) {
+		ChatRoom chatRoom = mock(ChatRoom.class);
+		when(chatRoom.getId()).thenReturn(chatRoomId);
+		Group group = mock(Group.class);
+		when(group.getId()).thenReturn(groupId);
+		when(group.getName()).thenReturn("Group");
+		when(group.getApprovedMemberCount()).thenReturn(approvedCount);
+		when(chatRoomRepository.findByGroupIdAndDisabled(groupId, false)).thenReturn(Optional.of(chatRoom));
+		when(groupRepository.findByIdAndDisabled(groupId, false)).thenReturn(Optional.of(group));
+
+		List<GroupMembership> approved = List.of();
+		if (approvedMemberId != null) {
+			GroupMembership groupMembership = mock(GroupMembership.class);
+			when(groupMembership.getMemberId()).thenReturn(approvedMemberId);
+			approved = List.of(groupMembership);
+		}
+		when(groupMembershipRepository.findAllByGroupIdAndMemberIdInAndStatusInAndDisabled(eq(groupId),
+			anyCollection(),
+			anyCollection(),
+			eq(false))).thenReturn(approved);
+	}
+
+	private Message message(final Long senderId, final String content, final LocalDateTime createdAt) {
+		return Message.builder()
+			.chatRoomId(chatRoomId)
+			.senderId(senderId)
+			.senderNickname("닉네임")
+			.content(content)
+			.disabled(false)
+			.createdAt(createdAt)
+			.build();
+	}
+}
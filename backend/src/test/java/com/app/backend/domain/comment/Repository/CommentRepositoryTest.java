@@ -2,6 +2,8 @@ package com.app.backend.domain.comment.Repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import javax.sql.DataSource;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +11,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.app.backend.domain.comment.dto.response.CommentResponse;
@@ -24,6 +29,8 @@ import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.repository.post.PostRepository;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
@@ -41,6 +48,12 @@ class CommentRepositoryTest {
 	@Autowired
 	private CommentLikeRepository commentLikeRepository;
 
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private DataSource dataSource;
+
 	@Test
 	@DisplayName("게시글의 댓글 목록을 조회할 수 있다(좋아요 개수, 좋아요 여부 포함)")
 	void findCommentsWithLikeCountTest() {
@@ -76,6 +89,7 @@ class CommentRepositoryTest {
 			.comment(comment)
 			.member(member)
 			.build());
+		comment.addLikeCount();
 
 
 		// when
@@ -92,4 +106,69 @@ class CommentRepositoryTest {
 		assertThat(firstComment.getMemberId()).isEqualTo(member.getId());
 		assertThat(firstComment.getNickname()).isEqualTo(member.getNickname());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("백필 스크립트로 좋아요 수와 답글 수를 삭제되지 않은 좋아요, 대댓글 기준으로 다시 계산할 수 있다")
+	void backfillCommentCountsTest() throws Exception {
+		// given
+		Post post = postRepository.save(Post.builder()
+			.title("테스트 게시글")
+			.content("테스트 내용")
+			.memberId(1L)
+			.nickName("작성자")
+			.postStatus(PostStatus.PUBLIC)
+			.groupId(1L)
+			.build());
+
+		Member member = memberRepository.save(Member.builder()
+			.username("testUser")
+			.password("password")
+			.nickname("테스터")
+			.role("ROLE_USER")
+			.disabled(false)
+			.build());
+		Member otherMember = memberRepository.save(Member.builder()
+			.username("otherUser")
+			.password("password")
+			.nickname("다른 회원")
+			.role("ROLE_USER")
+			.disabled(false)
+			.build());
+
+		// 컬럼 추가 직후처럼 좋아요 수, 답글 수가 0인 댓글
+		Comment comment = commentRepository.save(Comment.builder()
+			.post(post)
+			.member(member)
+			.content("테스트 댓글")
+			.build());
+		for (int i = 0; i < 3; i++) {
+			Comment reply = commentRepository.save(Comment.builder()
+				.post(post)
+				.member(member)
+				.parent(comment)
+				.content("대댓글" + i)
+				.build());
+			if (i == 0)
+				reply.delete();
+		}
+		commentLikeRepository.save(CommentLike.builder()
+			.comment(comment)
+			.member(member)
+			.build());
+		commentLikeRepository.save(CommentLike.builder()
+			.comment(comment)
+			.member(otherMember)
+			.build()).delete();
+		em.flush();
+
+		// when
+		ScriptUtils.executeSqlScript(DataSourceUtils.getConnection(dataSource),
+			new ClassPathResource("sql/backfill_comment_counts.sql"));
+		em.clear();
+
+		// then
+		Comment backfilled = commentRepository.findById(comment.getId()).orElseThrow();
+		assertThat(backfilled.getLikeCount()).isEqualTo(1);
+		assertThat(backfilled.getReplyCount()).isEqualTo(2);
+	}
+}
@@ -316,5 +316,28 @@ public class CommentControllerReplyTest {
 			.andExpect(jsonPath("$.data.isLast").value(true));
 	}
 
+	@Test
+	@DisplayName("대댓글 페이징 조회 실패 (허용되지 않은 정렬 속성)")
+	void getReplies2() throws Exception {
+
+		ResultActions resultActions = mvc
+			.perform(
+				get("/api/v1/comment/" + parentComment.getId() + "/reply")
+					.param("page", "0")
+					.param("size", "10")
+					.param("sort", "content,desc")
+					.contentType(MediaType.APPLICATION_JSON)
+					.with(user(memberDetails))
+			)
+			.andDo(print());
+
+		resultActions
+			.andExpect(handler().handlerType(CommentController.class))
+			.andExpect(handler().methodName("getReplies"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.isSuccess").value(false))
+			.andExpect(jsonPath("$.code").value("GL001"))
+			.andExpect(jsonPath("$.message").value("올바르지 않은 입력값"));
+	}
 
-}
\ No newline at end of file
+}
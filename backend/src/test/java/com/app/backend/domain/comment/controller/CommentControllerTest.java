@@ -447,6 +447,7 @@ public class CommentControllerTest {
 				.member(testMember)
 				.build();
 			commentLikeRepository.save(like);
+			testComment.addLikeCount();
 		}
 
 
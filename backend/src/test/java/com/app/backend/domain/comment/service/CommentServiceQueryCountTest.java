@@ -0,0 +1,192 @@
+package com.app.backend.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.backend.domain.comment.dto.response.CommentResponse;
+import com.app.backend.domain.comment.entity.Comment;
+import com.app.backend.domain.comment.entity.CommentLike;
+import com.app.backend.domain.comment.exception.CommentErrorCode;
+import com.app.backend.domain.comment.exception.CommentException;
+import com.app.backend.domain.member.entity.Member;
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostStatus;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class CommentServiceQueryCountTest {
+
+	private static final int COMMENT_SIZE = 20;
+	private static final int REPLY_SIZE = 2;
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private CommentService commentService;
+
+	private Statistics statistics;
+	private Post post;
+	private Member member;
+	private Comment parentComment;
+
+	@BeforeEach
+	void beforeEach() {
+		member = Member.builder()
+			.username("testUser")
+			.password("password")
+			.nickname("테스터")
+			.role("ROLE_USER")
+			.build();
+		em.persist(member);
+
+		post = Post.builder()
+			.title("테스트 게시글")
+			.content("테스트 내용")
+			.memberId(member.getId())
+			.nickName(member.getNickname())
+			.postStatus(PostStatus.PUBLIC)
+			.groupId(1L)
+			.build();
+		em.persist(post);
+
+		//댓글마다 대댓글 2개, 좋아요 1개
+		for (int i = 0; i < COMMENT_SIZE; i++) {
+			Comment comment = Comment.builder()
+				.content("comment" + i)
+				.post(post)
+				.member(member)
+				.build();
+			em.persist(comment);
+			parentComment = comment;
+
+			for (int j = 0; j < REPLY_SIZE; j++) {
+				Comment reply = Comment.builder()
+					.content("reply" + i + "_" + j)
+					.post(post)
+					.member(member)
+					.build();
+				comment.addReply(reply);
+				em.persist(reply);
+			}
+
+			em.persist(CommentLike.builder()
+				.comment(comment)
+				.member(member)
+				.build());
+			comment.addLikeCount();
+		}
+		em.flush();
+		em.clear();
+
+		statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	@DisplayName("[성공] 댓글 목록 조회 시 페이지 크기와 무관하게 일정한 쿼리 수로 게시글, 회원 엔티티를 로딩하지 않음")
+	void getComments_constantQueryCount() {
+		//When
+		long smallPageQueryCount = countQueries(
+			() -> commentService.getComments(post.getId(), member.getId(), PageRequest.of(0, 5)));
+		long largePageQueryCount = countQueries(
+			() -> commentService.getComments(post.getId(), member.getId(), PageRequest.of(0, 15)));
+		em.clear();
+		statistics.clear();
+		Page<CommentResponse.CommentList> responsePage = commentService.getComments(post.getId(), member.getId(),
+			PageRequest.of(0, 15));
+
+		//Then
+		assertThat(smallPageQueryCount).isEqualTo(largePageQueryCount);
+		assertThat(largePageQueryCount).isLessThanOrEqualTo(4);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);   //게시글 검증
+		assertThat(responsePage.getTotalElements()).isEqualTo(COMMENT_SIZE);
+		assertThat(responsePage.getContent()).hasSize(15);
+		assertThat(responsePage.getContent()).allSatisfy(comment -> {
+			assertThat(comment.getReplyCount()).isEqualTo(REPLY_SIZE);
+			assertThat(comment.getLikeCount()).isEqualTo(1);
+			assertThat(comment.isLiked()).isTrue();
+			assertThat(comment.getNickname()).isEqualTo(member.getNickname());
+		});
+	}
+
+	@Test
+	@DisplayName("[성공] 대댓글 목록 조회 시 일정한 쿼리 수로 게시글, 회원 엔티티를 로딩하지 않음")
+	void getReplies_constantQueryCount() {
+		//When
+		long queryCount = countQueries(() -> commentService.getReplies(parentComment.getId(), PageRequest.of(0, 1)));
+		em.clear();
+		statistics.clear();
+		Page<CommentResponse.ReplyList> responsePage = commentService.getReplies(parentComment.getId(),
+			PageRequest.of(0, 10));
+
+		//Then
+		assertThat(queryCount).isLessThanOrEqualTo(3);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);   //부모 댓글 검증
+		assertThat(responsePage.getContent()).hasSize(REPLY_SIZE);
+		assertThat(responsePage.getContent()).allSatisfy(reply -> {
+			assertThat(reply.getPostId()).isEqualTo(post.getId());
+			assertThat(reply.getParentId()).isEqualTo(parentComment.getId());
+			assertThat(reply.getNickname()).isEqualTo(member.getNickname());
+		});
+	}
+
+	@Test
+	@DisplayName("[성공] 댓글 스레드 조회 시 페이지 크기와 무관하게 일정한 쿼리 수로 댓글별 최신 답글 조회")
+	void getCommentThreads_constantQueryCount() {
+		//When
+		long smallPageQueryCount = countQueries(
+			() -> commentService.getCommentThreads(post.getId(), member.getId(), 1, PageRequest.of(0, 5)));
+		long largePageQueryCount = countQueries(
+			() -> commentService.getCommentThreads(post.getId(), member.getId(), 1, PageRequest.of(0, 15)));
+		em.clear();
+		Page<CommentResponse.CommentThread> responsePage = commentService.getCommentThreads(post.getId(),
+			member.getId(), 1, PageRequest.of(0, 15));
+
+		//Then
+		assertThat(smallPageQueryCount).isEqualTo(largePageQueryCount);
+		assertThat(largePageQueryCount).isLessThanOrEqualTo(5);
+		assertThat(responsePage.getContent()).hasSize(15);
+		assertThat(responsePage.getContent().get(0).getId()).isEqualTo(parentComment.getId());
+		assertThat(responsePage.getContent()).allSatisfy(thread -> {
+			assertThat(thread.getReplyCount()).isEqualTo(REPLY_SIZE);
+			assertThat(thread.getReplies()).hasSize(1);
+			assertThat(thread.getReplies().get(0).getParentId()).isEqualTo(thread.getId());
+			assertThat(thread.getReplies().get(0).getContent()).endsWith("_" + (REPLY_SIZE - 1));   //최신 답글
+		});
+	}
+
+	@Test
+	@DisplayName("[예외] 댓글 스레드 조회 시 답글 조회 개수가 허용 범위를 벗어난 경우")
+	void getCommentThreads_invalidReplySize() {
+		//When & Then
+		assertThatThrownBy(() -> commentService.getCommentThreads(post.getId(), member.getId(), 0,
+			PageRequest.of(0, 10)))
+			.isInstanceOf(CommentException.class)
+			.hasFieldOrPropertyWithValue("domainErrorCode", CommentErrorCode.COMMENT_INVALID_REPLY_SIZE);
+	}
+
+	private long countQueries(final Runnable runnable) {
+		em.clear();
+		statistics.clear();
+		runnable.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.app.backend.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.backend.domain.comment.dto.request.CommentCreateRequest;
+import com.app.backend.domain.comment.dto.response.CommentResponse;
+import com.app.backend.domain.comment.entity.Comment;
+import com.app.backend.domain.member.entity.Member;
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostStatus;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class CommentServiceTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Autowired
+	private CommentService commentService;
+
+	private Post post;
+	private Member member;
+	private Member otherMember;
+	private Comment comment;
+
+	@BeforeEach
+	void beforeEach() {
+		member = createMember("testUser", "테스터");
+		otherMember = createMember("otherUser", "다른 회원");
+
+		post = Post.builder()
+			.title("테스트 게시글")
+			.content("테스트 내용")
+			.memberId(member.getId())
+			.nickName(member.getNickname())
+			.postStatus(PostStatus.PUBLIC)
+			.groupId(1L)
+			.build();
+		em.persist(post);
+
+		comment = createComment("테스트 댓글");
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	@DisplayName("[성공] 좋아요 후 다시 좋아요 요청 시 좋아요 취소, 좋아요 수 1 -> 0")
+	void CommentLike_toggle() {
+		//When
+		commentService.CommentLike(comment.getId(), member.getId());
+		int likedCount = findComment(comment.getId()).getLikeCount();
+
+		commentService.CommentLike(comment.getId(), member.getId());
+		int unlikedCount = findComment(comment.getId()).getLikeCount();
+
+		//Then
+		assertThat(likedCount).isEqualTo(1);
+		assertThat(unlikedCount).isZero();
+	}
+
+	@Test
+	@DisplayName("[성공] 대댓글 작성 시 답글 수 증가, 삭제 시 감소")
+	void deleteReply_replyCount() {
+		//Given
+		CommentResponse.ReplyDto reply = commentService.createReply(comment.getId(), member.getId(),
+			new CommentCreateRequest("대댓글"));
+		int createdCount = findComment(comment.getId()).getReplyCount();
+
+		//When
+		commentService.deleteReply(reply.getId(), member.getId());
+
+		//Then
+		assertThat(createdCount).isEqualTo(1);
+		assertThat(findComment(comment.getId()).getReplyCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("[성공] 부모 댓글이 삭제된 경우에도 대댓글 삭제 가능")
+	void deleteReply_deletedParent() {
+		//Given
+		CommentResponse.ReplyDto reply = commentService.createReply(comment.getId(), member.getId(),
+			new CommentCreateRequest("대댓글"));
+		commentService.deleteComment(comment.getId(), member.getId());
+		em.flush();
+		em.clear();
+
+		//When
+		commentService.deleteReply(reply.getId(), member.getId());
+
+		//Then
+		assertThat(findComment(reply.getId()).getDisabled()).isTrue();
+	}
+
+	@Test
+	@DisplayName("[성공] 댓글 목록의 좋아요 여부는 조회한 회원 기준으로 계산")
+	void getComments_liked() {
+		//Given
+		Comment otherComment = createComment("다른 댓글");
+		em.flush();
+		em.clear();
+		commentService.CommentLike(comment.getId(), member.getId());
+		commentService.CommentLike(otherComment.getId(), otherMember.getId());
+		em.flush();
+		em.clear();
+
+		//When
+		Map<Long, CommentResponse.CommentList> memberView = getComments(member.getId());
+		Map<Long, CommentResponse.CommentList> otherMemberView = getComments(otherMember.getId());
+		Map<Long, CommentResponse.CommentList> anonymousView = getComments(null);
+
+		//Then
+		assertThat(memberView.get(comment.getId()).isLiked()).isTrue();
+		assertThat(memberView.get(otherComment.getId()).isLiked()).isFalse();
+		assertThat(otherMemberView.get(comment.getId()).isLiked()).isFalse();
+		assertThat(otherMemberView.get(otherComment.getId()).isLiked()).isTrue();
+		assertThat(anonymousView.values()).noneMatch(CommentResponse.CommentList::isLiked);
+		assertThat(memberView.values()).allSatisfy(c -> assertThat(c.getLikeCount()).isEqualTo(1));
+	}
+
+	//============================== 내부 메서드 ==============================//
+
+	private Member createMember(String username, String nickname) {
+		Member newMember = Member.builder()
+			.username(username)
+			.password("password")
+			.nickname(nickname)
+			.role("ROLE_USER")
+			.disabled(false)
+			.build();
+		em.persist(newMember);
+		return newMember;
+	}
+
+	private Comment createComment(String content) {
+		Comment newComment = Comment.builder()
+			.content(content)
+			.post(post)
+			.member(member)
+			.build();
+		em.persist(newComment);
+		return newComment;
+	}
+
+	private Comment findComment(Long commentId) {
+		em.flush();
+		em.clear();
+		return em.find(Comment.class, commentId);
+	}
+
+	private Map<Long, CommentResponse.CommentList> getComments(Long memberId) {
+		return commentService.getComments(post.getId(), memberId, PageRequest.of(0, 10))
+			.getContent()
+			.stream()
+			.collect(Collectors.toMap(CommentResponse.CommentList::getId, Function.identity()));
+	}
+
+}
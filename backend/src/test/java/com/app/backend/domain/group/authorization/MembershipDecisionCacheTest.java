@@ -0,0 +1,220 @@
+package com.app.backend.domain.group.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.repository.GroupMembershipRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MembershipDecisionCacheTest {
+
+    private static final MembershipDecision APPROVED_LEADER = new MembershipDecision(MembershipStatus.APPROVED,
+                                                                                     GroupRole.LEADER);
+
+    private GroupMembershipRepository              groupMembershipRepository;
+    private HashOperations<String, Object, Object> hashOperations;
+    private PlatformTransactionManager             transactionManager;
+    private SimpleMeterRegistry                    meterRegistry;
+    private MembershipDecisionCache                membershipDecisionCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        groupMembershipRepository = mock(GroupMembershipRepository.class);
+        hashOperations = mock(HashOperations.class);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(anyString(), anyList())).thenReturn(Arrays.asList(null, null));
+
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        membershipDecisionCache = new MembershipDecisionCache(groupMembershipRepository,
+                                                              redisTemplate,
+                                                              transactionManager,
+                                                              mock(RedisMessageListenerContainer.class),
+                                                              meterRegistry,
+                                                              true,
+                                                              1024,
+                                                              Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("[성공] 처음 조회는 DB, 이후 조회는 인스턴스 내 테이블에서 조회")
+    void get() {
+        //Given
+        when(groupMembershipRepository.findDecision(1L, 1L)).thenReturn(Optional.of(APPROVED_LEADER));
+
+        //When
+        MembershipDecision first  = membershipDecisionCache.get(1L, 1L);
+        MembershipDecision second = membershipDecisionCache.get(1L, 1L);
+
+        //Then
+        assertThat(first).isEqualTo(APPROVED_LEADER);
+        assertThat(second).isEqualTo(APPROVED_LEADER);
+        assertThat(second.isApprovedLeader()).isTrue();
+        verify(groupMembershipRepository, times(1)).findDecision(1L, 1L);
+        assertThat(lookupCount("local")).isEqualTo(1);
+        assertThat(lookupCount("database")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] DB 조회는 주 데이터베이스를 사용하도록 새 읽기 전용 트랜잭션에서 실행")
+    void get_primaryRead() {
+        //Given
+        when(groupMembershipRepository.findDecision(1L, 1L)).thenReturn(Optional.of(APPROVED_LEADER));
+
+        //When
+        membershipDecisionCache.get(1L, 1L);
+
+        //Then
+        verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("[성공] 쓰기 트랜잭션 중 DB 조회는 진행 중인 트랜잭션에서 실행하며 저장하지 않음")
+    void get_writeTransaction() {
+        //Given
+        when(groupMembershipRepository.findDecision(1L, 1L)).thenReturn(Optional.of(APPROVED_LEADER));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        //When
+        try {
+            membershipDecisionCache.get(1L, 1L);
+            membershipDecisionCache.get(1L, 1L);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        //Then
+        verify(groupMembershipRepository, times(2)).findDecision(1L, 1L);
+        verify(transactionManager, never()).getTransaction(any());
+        verify(hashOperations, never()).multiGet(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("[성공] DB 조회 중 멤버십이 변경된 경우 조회한 값을 인스턴스 내 테이블에 저장하지 않음")
+    void get_evictedWhileLoading() {
+        //Given
+        MembershipDecision pending  = new MembershipDecision(MembershipStatus.PENDING, GroupRole.PARTICIPANT);
+        MembershipDecision approved = new MembershipDecision(MembershipStatus.APPROVED, GroupRole.PARTICIPANT);
+        when(groupMembershipRepository.findDecision(1L, 1L))
+                .thenAnswer(invocation -> {
+                    membershipDecisionCache.handleMembershipChangedEvent(MembershipChangedEvent.of(1L, List.of(1L)));
+                    return Optional.of(pending);
+                })
+                .thenReturn(Optional.of(approved));
+
+        //When
+        MembershipDecision first  = membershipDecisionCache.get(1L, 1L);
+        MembershipDecision second = membershipDecisionCache.get(1L, 1L);
+
+        //Then
+        assertThat(first).isEqualTo(pending);
+        assertThat(second).isEqualTo(approved);
+        verify(groupMembershipRepository, times(2)).findDecision(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 멤버십이 없는 경우도 캐싱")
+    void get_none() {
+        //Given
+        when(groupMembershipRepository.findDecision(1L, 2L)).thenReturn(Optional.empty());
+
+        //When
+        MembershipDecision first  = membershipDecisionCache.get(1L, 2L);
+        MembershipDecision second = membershipDecisionCache.get(1L, 2L);
+
+        //Then
+        assertThat(first.exists()).isFalse();
+        assertThat(second).isEqualTo(MembershipDecision.NONE);
+        verify(groupMembershipRepository, times(1)).findDecision(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 에 저장된 판단은 DB 조회 없이 사용")
+    void get_redis() {
+        //Given
+        when(hashOperations.multiGet(anyString(), anyList()))
+                .thenReturn(Arrays.asList(String.valueOf(APPROVED_LEADER.encode()), "3"));
+
+        //When
+        MembershipDecision decision = membershipDecisionCache.get(1L, 1L);
+
+        //Then
+        assertThat(decision).isEqualTo(APPROVED_LEADER);
+        verify(groupMembershipRepository, never()).findDecision(any(), any());
+        assertThat(lookupCount("redis")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 멤버십 변경 이벤트 이후 다시 DB 조회")
+    void handleMembershipChangedEvent() {
+        //Given
+        MembershipDecision pending  = new MembershipDecision(MembershipStatus.PENDING, GroupRole.PARTICIPANT);
+        MembershipDecision approved = new MembershipDecision(MembershipStatus.APPROVED, GroupRole.PARTICIPANT);
+        when(groupMembershipRepository.findDecision(1L, 1L)).thenReturn(Optional.of(pending),
+                                                                       Optional.of(approved));
+        membershipDecisionCache.get(1L, 1L);
+
+        //When
+        membershipDecisionCache.handleMembershipChangedEvent(MembershipChangedEvent.of(1L, List.of(1L)));
+        MembershipDecision decision = membershipDecisionCache.get(1L, 1L);
+
+        //Then
+        assertThat(decision.isApproved()).isTrue();
+        verify(groupMembershipRepository, times(2)).findDecision(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 인스턴스에서 발행한 모임 전체 제거 메세지 처리")
+    void onMessage() {
+        //Given
+        when(groupMembershipRepository.findDecision(any(), any())).thenReturn(Optional.of(APPROVED_LEADER));
+        membershipDecisionCache.get(1L, 1L);
+        membershipDecisionCache.get(2L, 1L);
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn("1:*".getBytes(StandardCharsets.UTF_8));
+
+        //When
+        membershipDecisionCache.onMessage(message, null);
+        membershipDecisionCache.get(1L, 1L);
+        membershipDecisionCache.get(2L, 1L);
+
+        //Then
+        verify(groupMembershipRepository, times(2)).findDecision(1L, 1L);
+        verify(groupMembershipRepository, times(1)).findDecision(2L, 1L);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private double lookupCount(final String source) {
+        return meterRegistry.get("group.membership.decision").tag("source", source).counter().count();
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.app.backend.domain.group.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MembershipDecisionTableTest {
+
+    @Test
+    @DisplayName("[성공] 멤버십 상태와 권한의 모든 조합을 코드로 변환 후 복원")
+    void encode_decode() {
+        //Given
+        MembershipDecision none = MembershipDecision.NONE;
+
+        //When & Then
+        assertThat(MembershipDecision.decode(none.encode())).isEqualTo(none);
+        for (MembershipStatus status : MembershipStatus.values())
+            for (GroupRole groupRole : GroupRole.values()) {
+                MembershipDecision decision = new MembershipDecision(status, groupRole);
+                assertThat(decision.encode()).isBetween(1, 255);
+                assertThat(MembershipDecision.decode(decision.encode())).isEqualTo(decision);
+            }
+    }
+
+    @Test
+    @DisplayName("[성공] 저장한 판단 코드 조회 및 제거")
+    void put_get_remove() {
+        //Given
+        MembershipDecisionTable table = new MembershipDecisionTable(1024);
+
+        //When
+        table.put(1L, 2L, 5);
+        table.put(1L, 3L, 0);
+
+        //Then
+        assertThat(table.capacity()).isEqualTo(1024);
+        assertThat(table.get(1L, 2L)).isEqualTo(5);
+        assertThat(table.get(1L, 3L)).isZero();
+        assertThat(table.get(2L, 1L)).isEqualTo(-1);
+
+        table.remove(1L, 2L);
+        assertThat(table.get(1L, 2L)).isEqualTo(-1);
+        assertThat(table.get(1L, 3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장 직후 무효화된 것을 확인한 경우 저장한 값을 되돌림")
+    void putIfValid() {
+        //Given
+        MembershipDecisionTable table = new MembershipDecisionTable(1024);
+        AtomicInteger checks = new AtomicInteger();
+
+        //When
+        boolean kept        = table.putIfValid(1L, 2L, 5, () -> true);
+        boolean invalidated = table.putIfValid(1L, 3L, 5, () -> checks.incrementAndGet() == 1);
+        boolean rejected    = table.putIfValid(1L, 4L, 5, () -> false);
+
+        //Then
+        assertThat(kept).isTrue();
+        assertThat(invalidated).isFalse();
+        assertThat(rejected).isFalse();
+        assertThat(table.get(1L, 2L)).isEqualTo(5);
+        assertThat(table.get(1L, 3L)).isEqualTo(-1);
+        assertThat(table.get(1L, 4L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 슬롯에 매핑된 다른 키는 덮어쓰고 이전 키는 미스로 처리")
+    void put_collision() {
+        //Given
+        MembershipDecisionTable table = new MembershipDecisionTable(2);
+
+        //When
+        for (long memberId = 1; memberId <= 10; memberId++)
+            table.put(1L, memberId, (int) memberId);
+
+        //Then
+        int hits = 0;
+        for (long memberId = 1; memberId <= 10; memberId++) {
+            int code = table.get(1L, memberId);
+            if (code >= 0) {
+                assertThat(code).isEqualTo((int) memberId);
+                hits++;
+            }
+        }
+        assertThat(hits).isBetween(1, table.capacity());
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 단위 제거")
+    void removeGroup() {
+        //Given
+        MembershipDecisionTable table = new MembershipDecisionTable(1024);
+        table.put(1L, 1L, 1);
+        table.put(1L, 2L, 2);
+        table.put(2L, 1L, 3);
+
+        //When
+        table.removeGroup(1L);
+
+        //Then
+        assertThat(table.get(1L, 1L)).isEqualTo(-1);
+        assertThat(table.get(1L, 2L)).isEqualTo(-1);
+        assertThat(table.get(2L, 1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 28비트를 넘는 ID 는 저장하지 않음")
+    void put_notStorable() {
+        //Given
+        MembershipDecisionTable table = new MembershipDecisionTable(1024);
+        long largeId = MembershipDecisionTable.MAX_ID + 1;
+
+        //When
+        table.put(largeId, 1L, 1);
+        table.put(1L, largeId, 1);
+
+        //Then
+        assertThat(MembershipDecisionTable.isStorable(MembershipDecisionTable.MAX_ID, 1L)).isTrue();
+        assertThat(table.get(largeId, 1L)).isEqualTo(-1);
+        assertThat(table.get(1L, largeId)).isEqualTo(-1);
+        assertThat(table.get(largeId & MembershipDecisionTable.MAX_ID, 1L)).isEqualTo(-1);
+    }
+
+}
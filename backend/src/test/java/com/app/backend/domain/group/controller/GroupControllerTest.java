@@ -50,8 +50,9 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 
 class GroupControllerTest extends WebMvcTestSupporter {
 
-    GroupResponse.Detail response;
-    Page<ListInfo>       responsePage;
+    GroupResponse.Detail          response;
+    Page<ListInfo>                responsePage;
+    GroupResponse.ApproveJoinings approveJoiningsResponse;
 
     @BeforeEach
     void beforeEach() {
@@ -71,8 +72,11 @@ class GroupControllerTest extends WebMvcTestSupporter {
                            .build();
         ReflectionUtil.setPrivateFieldValue(Group.class, group, "createdAt", LocalDateTime.now());
 
-        response = GroupResponse.toDetail(group);
-        responsePage = new PageImpl<>(List.of(GroupResponse.toListInfo(group)), PageRequest.of(0, 10), 1);
+        response = GroupResponse.toDetail(group, List.of("testNickname"));
+        responsePage = new PageImpl<>(List.of(GroupResponse.toListInfo(group, List.of("testNickname"))),
+                                      PageRequest.of(0, 10),
+                                      1);
+        approveJoiningsResponse = GroupResponse.toApproveJoinings(List.of(1L, 2L), List.of(3L));
 
         when(groupService.createGroup(anyLong(), any(GroupRequest.Create.class))).thenReturn(1L);
         when(groupService.getGroup(anyLong(), anyLong())).thenReturn(response);
@@ -82,6 +86,8 @@ class GroupControllerTest extends WebMvcTestSupporter {
         when(groupService.deleteGroup(anyLong(), anyLong())).thenReturn(true);
         when(groupMembershipService.approveJoining(anyLong(), anyLong(), anyLong(), eq(true))).thenReturn(true);
         when(groupMembershipService.approveJoining(anyLong(), anyLong(), anyLong(), eq(false))).thenReturn(false);
+        when(groupMembershipService.approveJoinings(anyLong(), anyLong(), any(), eq(true)))
+                .thenReturn(approveJoiningsResponse);
         when(groupMembershipService.modifyGroupRole(anyLong(), anyLong(), anyLong())).thenReturn(true);
         when(groupMembershipService.leaveGroup(anyLong(), anyLong())).thenReturn(true);
     }
@@ -601,6 +607,74 @@ class GroupControllerTest extends WebMvcTestSupporter {
                      .andDo(print());
     }
 
+    @Test
+    @CustomWithMockUser
+    @DisplayName("[성공] 모임 관리자가 여러 모임 가입 신청을 일괄 승인")
+    void approveJoinings() throws Exception {
+        //Given
+        GroupRequest.ApproveJoinings requestDto = GroupRequest.ApproveJoinings.builder()
+                                                                              .memberIds(List.of(1L, 2L, 3L))
+                                                                              .isAccept(true)
+                                                                              .build();
+        String requestBody = objectMapper.writeValueAsString(requestDto);
+
+        //When
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/groups/{groupId}/approve/batch", 1)
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        //Then
+        ApiResponse<GroupResponse.ApproveJoinings> apiResponse = ApiResponse.of(
+                true,
+                HttpStatus.OK,
+                GroupMessageConstant.APPROVE_JOININGS_SUCCESS,
+                approveJoiningsResponse
+        );
+        String responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(GroupController.class))
+                     .andExpect(handler().methodName("approveJoinings"))
+                     .andExpect(status().isOk())
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+    }
+
+    @Test
+    @CustomWithMockUser
+    @DisplayName("[예외] 모임 가입 신청 일괄 승인/거절 DTO에 올바르지 않은 값 존재 시")
+    void approveJoinings_invalidValue() throws Exception {
+        //Given
+        GroupRequest.ApproveJoinings requestDto = GroupRequest.ApproveJoinings.builder()
+                                                                              .memberIds(List.of())
+                                                                              .isAccept(true)
+                                                                              .build();
+        String requestBody = objectMapper.writeValueAsString(requestDto);
+
+        //When
+        ResultActions resultActions = mockMvc.perform(post("/api/v1/groups/{groupId}/approve/batch", 1)
+                                                              .accept(MediaType.APPLICATION_JSON_VALUE)
+                                                              .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                                              .content(requestBody));
+
+        //Then
+        GlobalErrorCode errorCode = GlobalErrorCode.INVALID_INPUT_VALUE;
+        ApiResponse<Object> apiResponse = ApiResponse.of(false,
+                                                         errorCode.getCode(),
+                                                         errorCode.getMessage());
+        String responseBody = objectMapper.writeValueAsString(apiResponse);
+
+        resultActions.andExpect(handler().handlerType(GroupController.class))
+                     .andExpect(handler().methodName("approveJoinings"))
+                     .andExpect(status().isBadRequest())
+                     .andExpect(result -> {
+                         assertThat(result.getResolvedException() instanceof GroupMembershipException).isTrue();
+                         assertThat(result.getResolvedException().getMessage()).isEqualTo(errorCode.getMessage());
+                     })
+                     .andExpect(content().json(responseBody))
+                     .andDo(print());
+    }
+
     @Test
     @CustomWithMockUser
     @DisplayName("[성공] 모임 관리자가 모임 내 회원의 권한을 변경")
@@ -4,23 +4,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.app.backend.domain.category.entity.Category;
 import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
 import com.app.backend.domain.group.entity.RecruitStatus;
 import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
+import com.app.backend.domain.member.entity.Member;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
 class GroupRepositoryTest extends SpringBootTestSupporter {
 
+    @Autowired
+    private DataSource dataSource;
+
     private Category category;
 
     @BeforeEach
@@ -1390,4 +1402,99 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         assertThat(findGroup.getDisabled()).isTrue();
     }
 
+    @Test
+    @DisplayName("[성공] 활동 지역이 같고 삭제되지 않은 모임만 좌표 저장")
+    void updateLocation() {
+        //Given
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        Group deletedGroup = Group.builder()
+                                  .name("deleted")
+                                  .province("test province")
+                                  .city("test city")
+                                  .town("test town")
+                                  .description("test description")
+                                  .recruitStatus(RecruitStatus.RECRUITING)
+                                  .maxRecruitCount(10)
+                                  .category(category)
+                                  .build();
+        deletedGroup.delete();
+        em.persist(group);
+        em.persist(deletedGroup);
+        afterEach();
+
+        //When
+        int updated = groupRepository.updateLocation(group.getId(), "test province", "test city", "test town",
+                                                     37.5, 127.0, false);
+        int changedRegion = groupRepository.updateLocation(group.getId(), "test province", "test city", "other town",
+                                                           37.6, 127.1, false);
+        int deleted = groupRepository.updateLocation(deletedGroup.getId(), "test province", "test city", "test town",
+                                                     37.5, 127.0, false);
+
+        //Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(changedRegion).isZero();
+        assertThat(deleted).isZero();
+        assertThat(em.find(Group.class, group.getId()).getLatitude()).isEqualTo(37.5);
+        assertThat(em.find(Group.class, deletedGroup.getId()).getLatitude()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 백필 스크립트로 기존 모임의 가입 인원과 관리자 수 채움")
+    void backfillGroupMemberCounts() {
+        //Given
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        for (int i = 0; i < 4; i++) {
+            Member member = Member.builder()
+                                  .username("testUsername" + i)
+                                  .password("testPassword" + i)
+                                  .nickname("testNickname" + i)
+                                  .build();
+            em.persist(member);
+            GroupMembership groupMembership = GroupMembership.builder()
+                                                             .member(member)
+                                                             .group(group)
+                                                             .groupRole(i == 0 ? GroupRole.LEADER : GroupRole.PARTICIPANT)
+                                                             .build();
+            em.persist(groupMembership);
+            //관리자 1명, 가입 승인 1명, 가입 신청 1명, 탈퇴 1명
+            if (i == 1)
+                groupMembership.modifyStatus(MembershipStatus.APPROVED);
+            else if (i == 3)
+                groupMembership.modifyStatus(MembershipStatus.LEAVE);
+        }
+        em.flush();
+        //컬럼 추가 직후처럼 가입 인원, 관리자 수가 0인 모임
+        em.createNativeQuery("UPDATE tbl_groups SET approved_member_count = 0, leader_count = 0").executeUpdate();
+
+        //When
+        ScriptUtils.executeSqlScript(DataSourceUtils.getConnection(dataSource),
+                                     new ClassPathResource("sql/backfill_group_member_counts.sql"));
+        em.clear();
+
+        //Then
+        Group backfilled = em.find(Group.class, group.getId());
+
+        assertThat(backfilled.getApprovedMemberCount()).isEqualTo(2);
+        assertThat(backfilled.getLeaderCount()).isEqualTo(1);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.app.backend.domain.group.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.dto.response.GroupResponse;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GroupAutocompleteIndexTest {
+
+    private GroupRepository        groupRepository;
+    private GroupAutocompleteIndex groupAutocompleteIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenReturn(List.of(
+                createGroup(1L, "서초 조기 축구회", "서울특별시", "서초구", "서초동", 5),
+                createGroup(2L, "서울 축구 모임", "서울특별시", "강남구", "역삼동", 10),
+                createGroup(3L, "서핑 동호회", "부산광역시", "해운대구", "우동", 1)
+        ));
+
+        groupAutocompleteIndex = new GroupAutocompleteIndex(groupRepository, new SimpleMeterRegistry());
+        groupAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 이름 자동 완성 - 좋아요 수 내림차순")
+    void autocomplete() {
+        //When
+        GroupResponse.Autocomplete result = groupAutocompleteIndex.autocomplete("서", 10);
+
+        //Then
+        assertThat(result.getGroups()).extracting(GroupResponse.GroupSuggestion::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 이름 자동 완성 - 입력 중인 미완성 음절 및 단어 시작 위치 일치")
+    void autocomplete_partialSyllable() {
+        //When
+        GroupResponse.Autocomplete partial = groupAutocompleteIndex.autocomplete("섳", 10);
+        GroupResponse.Autocomplete word    = groupAutocompleteIndex.autocomplete("축ㄱ", 10);
+
+        //Then
+        assertThat(partial.getGroups()).extracting(GroupResponse.GroupSuggestion::getId).containsExactly(1L);
+        assertThat(word.getGroups()).extracting(GroupResponse.GroupSuggestion::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 지역 자동 완성")
+    void autocomplete_region() {
+        //When
+        GroupResponse.Autocomplete result = groupAutocompleteIndex.autocomplete("서초", 10);
+
+        //Then
+        assertThat(result.getRegions()).extracting(GroupResponse.RegionSuggestion::getTown)
+                                       .containsExactlyInAnyOrder(null, "서초동");
+        assertThat(result.getRegions()).allMatch(region -> region.getCity().equals("서초구"));
+    }
+
+    @Test
+    @DisplayName("[성공] 좋아요 수 변경 및 모임 삭제 이벤트 반영")
+    void handleGroupIndexEvent() {
+        //When
+        groupAutocompleteIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                createGroup(3L, "서핑 동호회", "부산광역시", "해운대구", "우동", 20)
+        ));
+        groupAutocompleteIndex.handleGroupIndexEvent(GroupIndexEvent.delete(1L));
+
+        //Then
+        assertThat(groupAutocompleteIndex.autocomplete("서", 10).getGroups())
+                .extracting(GroupResponse.GroupSuggestion::getId)
+                .containsExactly(3L, 2L);
+        assertThat(groupAutocompleteIndex.autocomplete("서초", 10).getRegions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 색인 재구축 중 증분 반영된 모임은 재구축이 읽은 이전 데이터로 덮어쓰지 않음")
+    void rebuild_ConcurrentUpdate() {
+        //Given
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenAnswer(invocation -> {
+            //재구축 중에도 기존 색인으로 조회 가능
+            assertThat(groupAutocompleteIndex.autocomplete("서", 10).getGroups()).hasSize(3);
+            //재구축이 모임을 읽은 후 커밋된 수정/삭제 사항
+            groupAutocompleteIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                    createGroup(3L, "서핑 동호회", "부산광역시", "해운대구", "우동", 20)
+            ));
+            groupAutocompleteIndex.handleGroupIndexEvent(GroupIndexEvent.delete(1L));
+            return List.of(
+                    createGroup(1L, "서초 조기 축구회", "서울특별시", "서초구", "서초동", 5),
+                    createGroup(2L, "서울 축구 모임", "서울특별시", "강남구", "역삼동", 10),
+                    createGroup(3L, "서핑 동호회", "부산광역시", "해운대구", "우동", 1)
+            );
+        });
+
+        //When
+        groupAutocompleteIndex.rebuild();
+
+        //Then
+        assertThat(groupAutocompleteIndex.autocomplete("서", 10).getGroups())
+                .extracting(GroupResponse.GroupSuggestion::getId)
+                .containsExactly(3L, 2L);
+        assertThat(groupAutocompleteIndex.autocomplete("서초", 10).getRegions()).isEmpty();
+    }
+
+    private Group createGroup(final Long id,
+                              final String name,
+                              final String province,
+                              final String city,
+                              final String town,
+                              final int likeCount) {
+        Group group = Group.builder()
+                           .id(id)
+                           .name(name)
+                           .province(province)
+                           .city(city)
+                           .town(town)
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(Category.builder().name("운동").build())
+                           .build();
+        for (int i = 0; i < likeCount; i++)
+            group.increaseLikeCount();
+        return group;
+    }
+
+}
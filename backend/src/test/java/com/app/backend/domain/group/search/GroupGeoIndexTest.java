@@ -0,0 +1,130 @@
+package com.app.backend.domain.group.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GroupGeoIndexTest {
+
+    //서초역 부근
+    private static final double LATITUDE  = 37.4919;
+    private static final double LONGITUDE = 127.0077;
+
+    private GroupRepository groupRepository;
+    private GroupGeoIndex   groupGeoIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenReturn(List.of(
+                createGroup(1L, "운동", RecruitStatus.RECRUITING, 37.4837, 127.0324),   //서초동, 약 2.4km
+                createGroup(2L, "운동", RecruitStatus.RECRUITING, 37.5006, 127.0366),   //역삼동, 약 2.7km
+                createGroup(3L, "독서", RecruitStatus.RECRUITING, 37.4920, 127.0080),   //서초역, 약 30m
+                createGroup(4L, "운동", RecruitStatus.CLOSED, 37.4925, 127.0090),       //모집 마감
+                createGroup(5L, "운동", RecruitStatus.RECRUITING, 35.1631, 129.1635),   //해운대구
+                createGroup(6L, "운동", RecruitStatus.RECRUITING, null, null)           //지오코딩 전
+        ));
+
+        groupGeoIndex = new GroupGeoIndex(groupRepository, new SimpleMeterRegistry());
+        groupGeoIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("[성공] 반경 내 모집 중인 모임을 가까운 순으로 조회")
+    void findNearby() {
+        //When
+        List<GroupGeoIndex.Nearby> result = groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 3000, null, 10);
+
+        //Then
+        assertThat(result).extracting(GroupGeoIndex.Nearby::groupId).containsExactly(3L, 1L, 2L);
+        assertThat(result).allMatch(nearby -> nearby.distance() <= 3000);
+    }
+
+    @Test
+    @DisplayName("[성공] 카테고리 및 반경, 결과 수 제한")
+    void findNearby_filter() {
+        //When
+        List<GroupGeoIndex.Nearby> category = groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 3000, "운동", 10);
+        List<GroupGeoIndex.Nearby> radius   = groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 2500, null, 10);
+        List<GroupGeoIndex.Nearby> size     = groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 3000, null, 1);
+
+        //Then
+        assertThat(category).extracting(GroupGeoIndex.Nearby::groupId).containsExactly(1L, 2L);
+        assertThat(radius).extracting(GroupGeoIndex.Nearby::groupId).containsExactly(3L, 1L);
+        assertThat(size).extracting(GroupGeoIndex.Nearby::groupId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 좌표 저장 및 모임 삭제 이벤트 반영")
+    void handleGroupIndexEvent() {
+        //When
+        groupGeoIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                createGroup(6L, "운동", RecruitStatus.RECRUITING, 37.4930, 127.0100)
+        ));
+        groupGeoIndex.handleGroupIndexEvent(GroupIndexEvent.delete(3L));
+
+        //Then
+        assertThat(groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 3000, null, 10))
+                .extracting(GroupGeoIndex.Nearby::groupId)
+                .containsExactly(6L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("[성공] 색인 재구축 중 증분 반영된 모임은 재구축이 읽은 이전 데이터로 덮어쓰지 않음")
+    void rebuild_ConcurrentUpdate() {
+        //Given
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenAnswer(invocation -> {
+            //재구축이 모임을 읽은 후 커밋된 지오코딩/삭제 사항
+            groupGeoIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                    createGroup(6L, "운동", RecruitStatus.RECRUITING, 37.4930, 127.0100)
+            ));
+            groupGeoIndex.handleGroupIndexEvent(GroupIndexEvent.delete(3L));
+            return List.of(
+                    createGroup(1L, "운동", RecruitStatus.RECRUITING, 37.4837, 127.0324),
+                    createGroup(2L, "운동", RecruitStatus.RECRUITING, 37.5006, 127.0366),
+                    createGroup(3L, "독서", RecruitStatus.RECRUITING, 37.4920, 127.0080),
+                    createGroup(6L, "운동", RecruitStatus.RECRUITING, null, null)
+            );
+        });
+
+        //When
+        groupGeoIndex.rebuild();
+
+        //Then
+        assertThat(groupGeoIndex.findNearby(LATITUDE, LONGITUDE, 3000, null, 10))
+                .extracting(GroupGeoIndex.Nearby::groupId)
+                .containsExactly(6L, 1L, 2L);
+    }
+
+    private Group createGroup(final Long id,
+                              final String categoryName,
+                              final RecruitStatus recruitStatus,
+                              final Double latitude,
+                              final Double longitude) {
+        Group group = Group.builder()
+                           .id(id)
+                           .name("test group " + id)
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(recruitStatus)
+                           .maxRecruitCount(10)
+                           .category(Category.builder().name(categoryName).build())
+                           .build();
+        if (latitude != null)
+            group.modifyLocation(latitude, longitude);
+        return group;
+    }
+
+}
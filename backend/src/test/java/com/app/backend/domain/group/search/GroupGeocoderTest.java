@@ -0,0 +1,105 @@
+package com.app.backend.domain.group.search;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.group.service.WebClientService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+class GroupGeocoderTest {
+
+    private static final String FIELD    = "서울특별시 서초구 없는동";
+    private static final String MISS_KEY = "group:geocode:miss:" + FIELD;
+
+    private GroupRepository                        groupRepository;
+    private WebClientService                       webClientService;
+    private RedisTemplate<String, Object>          redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private ValueOperations<String, Object>        valueOperations;
+    private GroupGeocoder                          groupGeocoder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void beforeEach() {
+        groupRepository = mock(GroupRepository.class);
+        webClientService = mock(WebClientService.class);
+        redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        groupGeocoder = new GroupGeocoder(groupRepository,
+                                          webClientService,
+                                          redisTemplate,
+                                          mock(TransactionTemplate.class),
+                                          mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("[성공] 검색 결과가 없는 지역은 만료 시간이 있는 부정 캐시로 기록")
+    void handleGroupIndexEvent_noResult() throws Exception {
+        //Given
+        when(redisTemplate.hasKey(MISS_KEY)).thenReturn(false);
+        when(webClientService.fetchKakaoAddressByKeyword("서울특별시", "서초구", "없는동"))
+                .thenReturn(Mono.just(new ObjectMapper().readTree("{\"documents\": []}")));
+
+        //When
+        groupGeocoder.handleGroupIndexEvent(GroupIndexEvent.upsert(createGroup()));
+
+        //Then
+        verify(valueOperations).set(eq(MISS_KEY), any(), eq(Duration.ofDays(1)));
+        verify(groupRepository, never()).updateLocation(anyLong(), anyString(), anyString(), anyString(),
+                                                        anyDouble(), anyDouble(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("[성공] 부정 캐시가 있는 지역은 카카오 API 를 호출하지 않음")
+    void handleGroupIndexEvent_cachedNoResult() {
+        //Given
+        when(redisTemplate.hasKey(MISS_KEY)).thenReturn(true);
+
+        //When
+        groupGeocoder.handleGroupIndexEvent(GroupIndexEvent.upsert(createGroup()));
+
+        //Then
+        verify(webClientService, never()).fetchKakaoAddressByKeyword(anyString(), anyString(), anyString());
+    }
+
+    private Group createGroup() {
+        return Group.builder()
+                    .id(1L)
+                    .name("test group")
+                    .province("서울특별시")
+                    .city("서초구")
+                    .town("없는동")
+                    .description("test description")
+                    .recruitStatus(RecruitStatus.RECRUITING)
+                    .maxRecruitCount(10)
+                    .category(Category.builder().name("운동").build())
+                    .build();
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.app.backend.domain.group.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.dto.request.GroupRequest;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.repository.GroupRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class GroupSearchIndexTest {
+
+    private GroupRepository  groupRepository;
+    private GroupSearchIndex groupSearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        Category football = Category.builder().name("축구").build();
+        Category reading  = Category.builder().name("독서").build();
+
+        groupRepository = mock(GroupRepository.class);
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenReturn(List.of(
+                createGroup(1L, "서초 조기 축구회", "서울특별시", "서초구", "서초동", football, RecruitStatus.RECRUITING),
+                createGroup(2L, "강남 축구 모임", "서울특별시", "강남구", "역삼동", football, RecruitStatus.RECRUITING),
+                createGroup(3L, "서초 풋살 축구", "서울특별시", "서초구", "반포동", football, RecruitStatus.CLOSED),
+                createGroup(4L, "서초 독서 모임", "서울특별시", "서초구", "서초동", reading, RecruitStatus.RECRUITING)
+        ));
+
+        groupSearchIndex = new GroupSearchIndex(groupRepository);
+        groupSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 이름 부분 일치 및 필터 검색")
+    void search() {
+        //Given
+        GroupRequest.Search dto = GroupRequest.Search.builder().name("축구").city("서초구").build();
+
+        //When
+        Page<Long> result = groupSearchIndex.search(dto, PageRequest.of(0, 10, Sort.by("name")));
+
+        //Then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 공백을 포함한 모임 이름 검색")
+    void search_withWhitespace() {
+        //Given
+        GroupRequest.Search dto = GroupRequest.Search.builder().name("축구 모임").build();
+
+        //When
+        Page<Long> result = groupSearchIndex.search(dto, PageRequest.of(0, 10));
+
+        //Then
+        assertThat(result.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("[성공] 패싯별 모임 수 집계")
+    void countFacets() {
+        //Given
+        GroupRequest.Search dto = GroupRequest.Search.builder()
+                                                     .categoryName("축구")
+                                                     .recruitStatus("RECRUITING")
+                                                     .city("서초구")
+                                                     .build();
+
+        //When
+        GroupFacetCounts facetCounts = groupSearchIndex.countFacets(dto);
+        GroupFacetCounts allFacetCounts = groupSearchIndex.countFacets(GroupRequest.Search.builder().build());
+
+        //Then
+        assertThat(facetCounts.total()).isEqualTo(1);
+        assertThat(allFacetCounts.total()).isEqualTo(4);
+        assertThat(allFacetCounts.categories()).containsEntry("축구", 3).containsEntry("독서", 1);
+        assertThat(allFacetCounts.recruitStatuses()).containsEntry("RECRUITING", 3).containsEntry("CLOSED", 1);
+        assertThat(allFacetCounts.cities()).containsEntry("서초구", 3).containsEntry("강남구", 1);
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 수정/삭제 이벤트 반영")
+    void handleGroupIndexEvent() {
+        //Given
+        Group modified = createGroup(2L, "강남 독서 모임", "서울특별시", "강남구", "역삼동",
+                                     Category.builder().name("독서").build(), RecruitStatus.RECRUITING);
+
+        //When
+        groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(modified));
+        groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.delete(1L));
+
+        //Then
+        assertThat(groupSearchIndex.search(GroupRequest.Search.builder().name("축구").build(), PageRequest.of(0, 10))
+                                   .getContent()).containsExactly(3L);
+        assertThat(groupSearchIndex.countFacets(GroupRequest.Search.builder().build()).categories())
+                .containsEntry("축구", 1)
+                .containsEntry("독서", 2);
+    }
+
+    @Test
+    @DisplayName("[성공] 색인 재구축 중 증분 반영된 모임은 재구축이 읽은 이전 데이터로 덮어쓰지 않음")
+    void rebuild_ConcurrentUpdate() {
+        //Given
+        Category football = Category.builder().name("축구").build();
+        when(groupRepository.findAllWithCategoryByDisabled(false)).thenAnswer(invocation -> {
+            //재구축이 모임을 읽은 후 커밋된 수정/삭제/생성 사항
+            groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                    createGroup(2L, "강남 풋살 모임", "서울특별시", "강남구", "역삼동", football, RecruitStatus.RECRUITING)
+            ));
+            groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.delete(3L));
+            groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(
+                    createGroup(5L, "반포 축구 클럽", "서울특별시", "서초구", "반포동", football, RecruitStatus.RECRUITING)
+            ));
+            return List.of(
+                    createGroup(1L, "서초 조기 축구회", "서울특별시", "서초구", "서초동", football, RecruitStatus.RECRUITING),
+                    createGroup(2L, "강남 축구 모임", "서울특별시", "강남구", "역삼동", football, RecruitStatus.RECRUITING),
+                    createGroup(3L, "서초 풋살 축구", "서울특별시", "서초구", "반포동", football, RecruitStatus.CLOSED)
+            );
+        });
+
+        //When
+        groupSearchIndex.rebuild();
+
+        //Then
+        assertThat(groupSearchIndex.search(GroupRequest.Search.builder().name("축구").build(), PageRequest.of(0, 10))
+                                   .getContent()).containsExactly(5L, 1L);
+        assertThat(groupSearchIndex.search(GroupRequest.Search.builder().name("풋살").build(), PageRequest.of(0, 10))
+                                   .getContent()).containsExactly(2L);
+        assertThat(groupSearchIndex.countFacets(GroupRequest.Search.builder().build()).total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] int 범위를 넘는 모임 ID 색인")
+    void handleGroupIndexEvent_largeId() {
+        //Given
+        long groupId = Integer.MAX_VALUE + 10L;
+        Group group = createGroup(groupId, "판교 축구 클럽", "경기도", "성남시 분당구", "삼평동",
+                                  Category.builder().name("축구").build(), RecruitStatus.RECRUITING);
+
+        //When
+        groupSearchIndex.handleGroupIndexEvent(GroupIndexEvent.upsert(group));
+
+        //Then
+        assertThat(groupSearchIndex.search(GroupRequest.Search.builder().name("판교").build(), PageRequest.of(0, 10))
+                                   .getContent()).containsExactly(groupId);
+        assertThat(groupSearchIndex.search(GroupRequest.Search.builder().name("축구").build(), PageRequest.of(0, 10))
+                                   .getContent()).containsExactly(groupId, 3L, 2L, 1L);
+    }
+
+    private Group createGroup(final Long id,
+                              final String name,
+                              final String province,
+                              final String city,
+                              final String town,
+                              final Category category,
+                              final RecruitStatus recruitStatus) {
+        return Group.builder()
+                    .id(id)
+                    .name(name)
+                    .province(province)
+                    .city(city)
+                    .town(town)
+                    .description("test description")
+                    .recruitStatus(recruitStatus)
+                    .maxRecruitCount(10)
+                    .category(category)
+                    .build();
+    }
+
+}
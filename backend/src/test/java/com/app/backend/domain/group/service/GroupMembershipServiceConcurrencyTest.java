@@ -15,6 +15,7 @@ import com.app.backend.domain.member.entity.Member;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -116,6 +117,7 @@ class GroupMembershipServiceConcurrencyTest extends SpringBootTestSupporter {
                                                                  .build();
                 em.persist(groupMembership);
 
+                syncMemberCount(group.getId());
                 transactionManager.commit(transactionStatus);
             } catch (Exception e) {
                 transactionManager.rollback(transactionStatus);
@@ -256,6 +258,7 @@ class GroupMembershipServiceConcurrencyTest extends SpringBootTestSupporter {
                 groupMembership.modifyStatus(MembershipStatus.APPROVED);
                 em.persist(groupMembership);
 
+                syncMemberCount(group.getId());
                 transactionManager.commit(transactionStatus);
             } catch (Exception e) {
                 transactionManager.rollback(transactionStatus);
@@ -318,6 +321,8 @@ class GroupMembershipServiceConcurrencyTest extends SpringBootTestSupporter {
 
             assertThat(updatedGroupMembership.getGroupRole())
                     .isEqualTo(methodCallSuccessThreads.size() % 2 == 0 ? GroupRole.PARTICIPANT : GroupRole.LEADER);
+            assertThat(em.find(Group.class, groupId).getLeaderCount())
+                    .isEqualTo(leaderIds.size() + (updatedGroupMembership.getGroupRole() == GroupRole.LEADER ? 1 : 0));
             transactionManager.commit(transactionStatus);
         } catch (Exception e) {
             transactionManager.rollback(transactionStatus);
@@ -383,6 +388,7 @@ class GroupMembershipServiceConcurrencyTest extends SpringBootTestSupporter {
                 groupMembership.modifyStatus(MembershipStatus.APPROVED);
                 em.persist(groupMembership);
 
+                syncMemberCount(group.getId());
                 transactionManager.commit(transactionStatus);
             } catch (Exception e) {
                 transactionManager.rollback(transactionStatus);
@@ -452,4 +458,354 @@ class GroupMembershipServiceConcurrencyTest extends SpringBootTestSupporter {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    @Order(4)
+    @DisplayName("[Normal] approveJoining(): 여러 클라이언트에서 동시에 서로 다른 회원의 모임 신청 허가 시 최대 인원을 초과하지 않음")
+    void approveJoining_capacity() throws Exception {
+        //Given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        CountDownLatch  countDownLatch  = new CountDownLatch(THREAD_COUNT);
+
+        int maxRecruitCount = 10;
+
+        AtomicReference<Member> leaderRef = new AtomicReference<>();
+        AtomicReference<Group>  groupRef  = new AtomicReference<>();
+        List<Long>              memberIds = new CopyOnWriteArrayList<>();
+
+        Future<?> future = executorService.submit(() -> {
+            TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+            try {
+                Category category = Category.builder().name("category").build();
+                em.persist(category);
+
+                Group group = Group.builder()
+                                   .name("test")
+                                   .province("test province")
+                                   .city("test city")
+                                   .town("test town")
+                                   .description("test description")
+                                   .recruitStatus(RecruitStatus.RECRUITING)
+                                   .maxRecruitCount(maxRecruitCount)
+                                   .category(category)
+                                   .build();
+                em.persist(group);
+                groupRef.set(group);
+
+                Member leader = Member.builder()
+                                      .username("testLeaderUsername")
+                                      .password("testLeaderPassword")
+                                      .nickname("testLeaderNickname")
+                                      .build();
+                em.persist(leader);
+                leaderRef.set(leader);
+                em.persist(GroupMembership.builder().member(leader).group(group).groupRole(GroupRole.LEADER).build());
+
+                for (int i = 1; i <= THREAD_COUNT; i++) {
+                    Member member = Member.builder()
+                                          .username("testUsername%d".formatted(i))
+                                          .password("testPassword%d".formatted(i))
+                                          .nickname("testNickname%d".formatted(i))
+                                          .build();
+                    em.persist(member);
+                    em.persist(GroupMembership.builder()
+                                              .member(member)
+                                              .group(group)
+                                              .groupRole(GroupRole.PARTICIPANT)
+                                              .build());
+                    memberIds.add(member.getId());
+                }
+
+                syncMemberCount(group.getId());
+                transactionManager.commit(transactionStatus);
+            } catch (Exception e) {
+                transactionManager.rollback(transactionStatus);
+                throw e;
+            }
+        });
+        future.get();
+
+        Long groupId  = groupRef.get().getId();
+        Long leaderId = leaderRef.get().getId();
+
+        //When
+        Set<Integer> approvedThreads = ConcurrentHashMap.newKeySet();
+
+        for (int i = 1; i <= THREAD_COUNT; i++) {
+            int threadIndex = i;
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(100);
+                    if (groupMembershipService.approveJoining(leaderId, groupId, memberIds.get(threadIndex - 1), true))
+                        approvedThreads.add(threadIndex);
+                } catch (RuntimeException e) {
+                    log.info("[{}-thread] Approve failed: {}", threadIndex, e.getMessage());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //Then
+        log.info("Total successfully approved count: {}", approvedThreads.size());
+
+        TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            Group group = em.find(Group.class, groupId);
+            int approvedMemberships = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
+                                                                                                  MembershipStatus.APPROVED,
+                                                                                                  false);
+
+            assertThat(approvedMemberships).isLessThanOrEqualTo(maxRecruitCount);
+            assertThat(group.getApprovedMemberCount()).isEqualTo(approvedMemberships);
+            assertThat(approvedThreads).hasSize(approvedMemberships - 1);
+            if (approvedMemberships == maxRecruitCount)
+                assertThat(group.getRecruitStatus()).isEqualTo(RecruitStatus.CLOSED);
+            transactionManager.commit(transactionStatus);
+        } catch (Exception e) {
+            transactionManager.rollback(transactionStatus);
+            throw e;
+        }
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("[Normal] modifyGroupRole(), leaveGroup(): 서로 다른 회원의 관리자 권한 부여와 관리자 탈퇴가 동시에 실행되어도 관리자 수가 유지됨")
+    void modifyGroupRole_leaveGroup() throws Exception {
+        //Given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+
+        int leaderCount      = 10;
+        int participantCount = 10;
+
+        AtomicReference<Group> groupRef       = new AtomicReference<>();
+        List<Long>             leaderIds      = new CopyOnWriteArrayList<>();
+        List<Long>             participantIds = new CopyOnWriteArrayList<>();
+
+        Future<?> future = executorService.submit(() -> {
+            TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+            try {
+                Category category = Category.builder().name("category").build();
+                em.persist(category);
+
+                Group group = Group.builder()
+                                   .name("test")
+                                   .province("test province")
+                                   .city("test city")
+                                   .town("test town")
+                                   .description("test description")
+                                   .recruitStatus(RecruitStatus.RECRUITING)
+                                   .maxRecruitCount(leaderCount + participantCount)
+                                   .category(category)
+                                   .build();
+                em.persist(group);
+                groupRef.set(group);
+
+                for (int i = 1; i <= leaderCount + participantCount; i++) {
+                    boolean isLeader = i <= leaderCount;
+                    Member member = Member.builder()
+                                          .username("testUsername%d".formatted(i))
+                                          .password("testPassword%d".formatted(i))
+                                          .nickname("testNickname%d".formatted(i))
+                                          .build();
+                    em.persist(member);
+                    GroupMembership groupMembership = GroupMembership.builder()
+                                                                     .member(member)
+                                                                     .group(group)
+                                                                     .groupRole(isLeader ? GroupRole.LEADER
+                                                                                         : GroupRole.PARTICIPANT)
+                                                                     .build();
+                    groupMembership.modifyStatus(MembershipStatus.APPROVED);
+                    em.persist(groupMembership);
+                    (isLeader ? leaderIds : participantIds).add(member.getId());
+                }
+
+                syncMemberCount(group.getId());
+                transactionManager.commit(transactionStatus);
+            } catch (Exception e) {
+                transactionManager.rollback(transactionStatus);
+                throw e;
+            }
+        });
+        future.get();
+
+        Long groupId  = groupRef.get().getId();
+        Long promoter = leaderIds.get(0);
+
+        //When
+        CountDownLatch countDownLatch = new CountDownLatch(leaderCount - 1 + participantCount);
+
+        for (int i = 1; i < leaderCount; i++) {
+            Long leaderId = leaderIds.get(i);
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(100);
+                    groupMembershipService.leaveGroup(groupId, leaderId);
+                } catch (RuntimeException e) {
+                    log.info("[{}-leader] Leave failed: {}", leaderId, e.getMessage());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        for (Long participantId : participantIds) {
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(100);
+                    groupMembershipService.modifyGroupRole(promoter, groupId, participantId);
+                } catch (RuntimeException e) {
+                    log.info("[{}-participant] Promote failed: {}", participantId, e.getMessage());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //Then
+        TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            Group group = em.find(Group.class, groupId);
+            long leaders = em.createQuery("SELECT COUNT(gm) FROM GroupMembership gm WHERE gm.groupId = :groupId "
+                                          + "AND gm.status = :approved AND gm.groupRole = :leader", Long.class)
+                             .setParameter("groupId", groupId)
+                             .setParameter("approved", MembershipStatus.APPROVED)
+                             .setParameter("leader", GroupRole.LEADER)
+                             .getSingleResult();
+            int approvedMemberships = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
+                                                                                                  MembershipStatus.APPROVED,
+                                                                                                  false);
+
+            assertThat(leaders).isGreaterThanOrEqualTo(1);
+            assertThat(group.getLeaderCount().longValue()).isEqualTo(leaders);
+            assertThat(group.getApprovedMemberCount()).isEqualTo(approvedMemberships);
+            transactionManager.commit(transactionStatus);
+        } catch (Exception e) {
+            transactionManager.rollback(transactionStatus);
+            throw e;
+        }
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("[Normal] approveJoinings(): 여러 클라이언트에서 동시에 서로 다른 회원들의 모임 신청을 일괄 승인 시 남은 인원만큼만 승인")
+    void approveJoinings_capacity() throws Exception {
+        //Given
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+
+        int maxRecruitCount = 10;
+        int batchCount      = 10;
+        int batchSize       = 3;
+
+        AtomicReference<Member> leaderRef = new AtomicReference<>();
+        AtomicReference<Group>  groupRef  = new AtomicReference<>();
+        List<Long>              memberIds = new CopyOnWriteArrayList<>();
+
+        Future<?> future = executorService.submit(() -> {
+            TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+            try {
+                Category category = Category.builder().name("category").build();
+                em.persist(category);
+
+                Group group = Group.builder()
+                                   .name("test")
+                                   .province("test province")
+                                   .city("test city")
+                                   .town("test town")
+                                   .description("test description")
+                                   .recruitStatus(RecruitStatus.RECRUITING)
+                                   .maxRecruitCount(maxRecruitCount)
+                                   .category(category)
+                                   .build();
+                em.persist(group);
+                groupRef.set(group);
+
+                Member leader = Member.builder()
+                                      .username("testLeaderUsername")
+                                      .password("testLeaderPassword")
+                                      .nickname("testLeaderNickname")
+                                      .build();
+                em.persist(leader);
+                leaderRef.set(leader);
+                em.persist(GroupMembership.builder().member(leader).group(group).groupRole(GroupRole.LEADER).build());
+
+                for (int i = 1; i <= batchCount * batchSize; i++) {
+                    Member member = Member.builder()
+                                          .username("testUsername%d".formatted(i))
+                                          .password("testPassword%d".formatted(i))
+                                          .nickname("testNickname%d".formatted(i))
+                                          .build();
+                    em.persist(member);
+                    em.persist(GroupMembership.builder()
+                                              .member(member)
+                                              .group(group)
+                                              .groupRole(GroupRole.PARTICIPANT)
+                                              .build());
+                    memberIds.add(member.getId());
+                }
+
+                syncMemberCount(group.getId());
+                transactionManager.commit(transactionStatus);
+            } catch (Exception e) {
+                transactionManager.rollback(transactionStatus);
+                throw e;
+            }
+        });
+        future.get();
+
+        Long groupId  = groupRef.get().getId();
+        Long leaderId = leaderRef.get().getId();
+
+        //When
+        CountDownLatch countDownLatch = new CountDownLatch(batchCount);
+        AtomicInteger  processedCount = new AtomicInteger();
+
+        for (int i = 0; i < batchCount; i++) {
+            List<Long> batch = memberIds.subList(i * batchSize, (i + 1) * batchSize);
+            executorService.execute(() -> {
+                try {
+                    Thread.sleep(100);
+                    processedCount.addAndGet(groupMembershipService.approveJoinings(leaderId, groupId, batch, true)
+                                                                   .getProcessedMemberIds()
+                                                                   .size());
+                } catch (RuntimeException e) {
+                    log.info("Approve batch failed: {}", e.getMessage());
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        countDownLatch.await();
+        executorService.shutdown();
+
+        //Then
+        log.info("Total successfully approved count: {}", processedCount.get());
+
+        TransactionStatus transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            Group group = em.find(Group.class, groupId);
+            int approvedMemberships = groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
+                                                                                                  MembershipStatus.APPROVED,
+                                                                                                  false);
+
+            assertThat(approvedMemberships).isLessThanOrEqualTo(maxRecruitCount);
+            assertThat(group.getApprovedMemberCount()).isEqualTo(approvedMemberships);
+            assertThat(processedCount).hasValue(approvedMemberships - 1);
+            transactionManager.commit(transactionStatus);
+        } catch (Exception e) {
+            transactionManager.rollback(transactionStatus);
+            throw e;
+        }
+    }
+
+}
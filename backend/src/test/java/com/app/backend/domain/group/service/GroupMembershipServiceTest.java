@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.dto.response.GroupResponse;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.GroupMembership;
 import com.app.backend.domain.group.entity.GroupMembershipId;
@@ -16,6 +17,8 @@ import com.app.backend.domain.group.exception.GroupMembershipErrorCode;
 import com.app.backend.domain.group.exception.GroupMembershipException;
 import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
 import com.app.backend.domain.member.entity.Member;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -90,6 +93,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                                 .build();
         em.persist(groupLeaderMembership);
         em.persist(groupJoiningMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -104,6 +108,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
 
         assertThat(flag).isTrue();
         assertThat(updatedGroupMembership.getStatus()).isEqualTo(MembershipStatus.APPROVED);
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(2);
     }
 
     @Test
@@ -150,6 +155,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                                 .build();
         em.persist(groupLeaderMembership);
         em.persist(groupJoiningMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -245,6 +251,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupJoiningMembership);
 
         group.modifyRecruitStatus(RecruitStatus.CLOSED);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -302,6 +309,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                                 .build();
         em.persist(groupLeaderMembership);
         em.persist(groupJoiningMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -359,6 +367,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                                 .build();
         em.persist(groupFakeLeaderMembership);
         em.persist(groupJoiningMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -418,6 +427,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupJoiningMembership);
 
         groupJoiningMembership.modifyStatus(MembershipStatus.APPROVED);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -431,6 +441,186 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                 .hasMessage(errorCode.getMessage());
     }
 
+    @Test
+    @DisplayName("[성공] 여러 모임 가입 신청을 일괄 승인, 남은 인원을 초과한 신청과 이미 가입된 회원은 처리하지 않음")
+    void approveJoinings() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        em.persist(memberLeader);
+        Long leaderId = memberLeader.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(3)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        em.persist(GroupMembership.builder().member(memberLeader).group(group).groupRole(GroupRole.LEADER).build());
+
+        List<Long> joiningIds = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Member member = Member.builder()
+                                  .username("testUsername%d".formatted(i))
+                                  .password("testPassword%d".formatted(i))
+                                  .nickname("testNickname%d".formatted(i))
+                                  .build();
+            em.persist(member);
+            GroupMembership groupMembership = GroupMembership.builder()
+                                                             .member(member)
+                                                             .group(group)
+                                                             .groupRole(GroupRole.PARTICIPANT)
+                                                             .build();
+            em.persist(groupMembership);
+            joiningIds.add(member.getId());
+        }
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+        GroupResponse.ApproveJoinings result = groupMembershipService.approveJoinings(
+                leaderId, groupId, List.of(leaderId, joiningIds.get(0), joiningIds.get(1), joiningIds.get(2)), true
+        );
+        afterEach();
+
+        //Then
+        Group updatedGroup = em.find(Group.class, groupId);
+
+        assertThat(result.getProcessedMemberIds()).containsExactly(joiningIds.get(0), joiningIds.get(1));
+        assertThat(result.getSkippedMemberIds()).containsExactly(leaderId, joiningIds.get(2));
+        assertThat(updatedGroup.getApprovedMemberCount()).isEqualTo(3);
+        assertThat(updatedGroup.getRecruitStatus()).isEqualTo(RecruitStatus.CLOSED);
+        assertThat(em.find(GroupMembership.class, GroupMembershipId.builder()
+                                                                   .groupId(groupId)
+                                                                   .memberId(joiningIds.get(2))
+                                                                   .build()).getStatus())
+                .isEqualTo(MembershipStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("[성공] 남은 인원이 없는 모임의 가입 신청을 일괄 승인하면 예외 없이 모두 처리하지 않음")
+    void approveJoinings_noSeats() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        em.persist(memberLeader);
+        Long leaderId = memberLeader.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(1)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        em.persist(GroupMembership.builder().member(memberLeader).group(group).groupRole(GroupRole.LEADER).build());
+
+        List<Long> joiningIds = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Member member = Member.builder()
+                                  .username("testUsername%d".formatted(i))
+                                  .password("testPassword%d".formatted(i))
+                                  .nickname("testNickname%d".formatted(i))
+                                  .build();
+            em.persist(member);
+            em.persist(GroupMembership.builder().member(member).group(group).groupRole(GroupRole.PARTICIPANT).build());
+            joiningIds.add(member.getId());
+        }
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+        GroupResponse.ApproveJoinings result = groupMembershipService.approveJoinings(leaderId,
+                                                                                      groupId,
+                                                                                      joiningIds,
+                                                                                      true);
+        afterEach();
+
+        //Then
+        assertThat(result.getProcessedMemberIds()).isEmpty();
+        assertThat(result.getSkippedMemberIds()).containsExactlyElementsOf(joiningIds);
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(1);
+        assertThat(groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
+                                                                                 MembershipStatus.PENDING,
+                                                                                 false)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 모임 가입 신청을 일괄 거절")
+    void approveJoinings_reject() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        em.persist(memberLeader);
+        Long leaderId = memberLeader.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        em.persist(GroupMembership.builder().member(memberLeader).group(group).groupRole(GroupRole.LEADER).build());
+
+        List<Long> joiningIds = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Member member = Member.builder()
+                                  .username("testUsername%d".formatted(i))
+                                  .password("testPassword%d".formatted(i))
+                                  .nickname("testNickname%d".formatted(i))
+                                  .build();
+            em.persist(member);
+            em.persist(GroupMembership.builder().member(member).group(group).groupRole(GroupRole.PARTICIPANT).build());
+            joiningIds.add(member.getId());
+        }
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+        GroupResponse.ApproveJoinings result = groupMembershipService.approveJoinings(leaderId,
+                                                                                      groupId,
+                                                                                      joiningIds,
+                                                                                      false);
+        afterEach();
+
+        //Then
+        assertThat(result.getProcessedMemberIds()).containsExactlyElementsOf(joiningIds);
+        assertThat(result.getSkippedMemberIds()).isEmpty();
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(1);
+        assertThat(groupMembershipRepository.countByGroupIdAndStatusAndDisabled(groupId,
+                                                                                 MembershipStatus.REJECTED,
+                                                                                 false)).isEqualTo(3);
+    }
+
     @Test
     @DisplayName("[성공] 모임의 관리자가 모임 내 특정 회원의 권한을 변경(LEADER <-> PARTICIPANT)")
     void modifyGroupRole() {
@@ -477,6 +667,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupMembership);
 
         groupMembership.modifyStatus(MembershipStatus.APPROVED);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -491,6 +682,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
 
         assertThat(updatedGroupMembership.getGroupRole()).isNotEqualTo(GroupRole.PARTICIPANT);
         assertThat(updatedGroupMembership.getGroupRole()).isEqualTo(GroupRole.LEADER);
+        assertThat(em.find(Group.class, groupId).getLeaderCount()).isEqualTo(2);
     }
 
     @Test
@@ -571,6 +763,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupMembership);
 
         groupMembership.modifyStatus(MembershipStatus.APPROVED);
+        syncMemberCount(groupId);
         afterEach();
 
         Long unknownLeaderId = 1234567890L;
@@ -630,6 +823,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                          .build();
         em.persist(groupFakeLeaderMembership);
         em.persist(groupMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -688,6 +882,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupMembership);
 
         groupMembership.modifyStatus(MembershipStatus.APPROVED);
+        syncMemberCount(groupId);
         afterEach();
 
         Long unknownMemberId = 1234567890L;
@@ -747,6 +942,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                          .build();
         em.persist(groupLeaderMembership);
         em.persist(groupMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -760,6 +956,52 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                 .hasMessage(errorCode.getMessage());
     }
 
+    @Test
+    @DisplayName("[예외] 모임의 마지막 관리자가 자신의 관리자 권한 해제 시도")
+    void modifyGroupRole_lastLeader() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        em.persist(memberLeader);
+        Long leaderId = memberLeader.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        GroupMembership groupLeaderMembership = GroupMembership.builder()
+                                                               .member(memberLeader)
+                                                               .group(group)
+                                                               .groupRole(GroupRole.LEADER)
+                                                               .build();
+        em.persist(groupLeaderMembership);
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+
+        //Then
+        GroupMembershipErrorCode errorCode = GroupMembershipErrorCode.GROUP_MEMBERSHIP_GROUP_ROLE_NOT_CHANGEABLE_STATE;
+
+        assertThatThrownBy(() -> groupMembershipService.modifyGroupRole(leaderId, groupId, leaderId))
+                .isInstanceOf(GroupMembershipException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", errorCode)
+                .hasMessage(errorCode.getMessage());
+        assertThat(em.find(Group.class, groupId).getLeaderCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("[성공] 모임에서 탈퇴")
     void leaveGroup() {
@@ -805,6 +1047,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
         em.persist(groupMembership);
 
         groupMembership.modifyStatus(MembershipStatus.APPROVED);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -819,6 +1062,8 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
 
         assertThat(flag).isTrue();
         assertThat(leaveGroupMembership.getStatus()).isEqualTo(MembershipStatus.LEAVE);
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(1);
+        assertThat(em.find(Group.class, groupId).getLeaderCount()).isEqualTo(1);
     }
 
     @Test
@@ -869,6 +1114,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                            .build();
         em.persist(group);
         Long groupId = group.getId();
+        syncMemberCount(groupId);
         afterEach();
 
         Long unknownMemberId = 1234567890L;
@@ -914,6 +1160,7 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                                                                .groupRole(GroupRole.LEADER)
                                                                .build();
         em.persist(groupLeaderMembership);
+        syncMemberCount(groupId);
         afterEach();
 
         //When
@@ -926,4 +1173,109 @@ class GroupMembershipServiceTest extends SpringBootTestSupporter {
                 .hasMessage(errorCode.getMessage());
     }
 
+    @Test
+    @DisplayName("[성공] 가입 승인 전인 회원이 모임에서 탈퇴, 가입 인원은 변경 없음")
+    void leaveGroup_pending() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        Member memberParticipant = Member.builder()
+                                         .username("testUsernameParticipant")
+                                         .password("testPasswordParticipant")
+                                         .nickname("testNicknameParticipant")
+                                         .build();
+        em.persist(memberLeader);
+        em.persist(memberParticipant);
+        Long memberId = memberParticipant.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        em.persist(GroupMembership.builder().member(memberLeader).group(group).groupRole(GroupRole.LEADER).build());
+        em.persist(GroupMembership.builder().member(memberParticipant).group(group).groupRole(GroupRole.PARTICIPANT).build());
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+        boolean flag = groupMembershipService.leaveGroup(groupId, memberId);
+        afterEach();
+
+        //Then
+        GroupMembership leaveGroupMembership = em.find(GroupMembership.class, GroupMembershipId.builder()
+                                                                                               .groupId(groupId)
+                                                                                               .memberId(memberId)
+                                                                                               .build());
+
+        assertThat(flag).isTrue();
+        assertThat(leaveGroupMembership.getStatus()).isEqualTo(MembershipStatus.LEAVE);
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(1);
+        assertThat(em.find(Group.class, groupId).getLeaderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 이미 탈퇴한 회원이 다시 탈퇴, 가입 인원을 중복으로 차감하지 않음")
+    void leaveGroup_alreadyLeft() {
+        //Given
+        Member memberLeader = Member.builder()
+                                    .username("testUsernameLeader")
+                                    .password("testPasswordLeader")
+                                    .nickname("testNicknameLeader")
+                                    .build();
+        Member memberParticipant = Member.builder()
+                                         .username("testUsernameParticipant")
+                                         .password("testPasswordParticipant")
+                                         .nickname("testNicknameParticipant")
+                                         .build();
+        em.persist(memberLeader);
+        em.persist(memberParticipant);
+        Long memberId = memberParticipant.getId();
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        Long groupId = group.getId();
+
+        GroupMembership groupMembership = GroupMembership.builder()
+                                                         .member(memberParticipant)
+                                                         .group(group)
+                                                         .groupRole(GroupRole.PARTICIPANT)
+                                                         .build();
+        em.persist(GroupMembership.builder().member(memberLeader).group(group).groupRole(GroupRole.LEADER).build());
+        em.persist(groupMembership);
+        groupMembership.modifyStatus(MembershipStatus.APPROVED);
+        groupMembership.modifyStatus(MembershipStatus.LEAVE);
+        syncMemberCount(groupId);
+        afterEach();
+
+        //When
+        boolean flag = groupMembershipService.leaveGroup(groupId, memberId);
+        afterEach();
+
+        //Then
+        assertThat(flag).isTrue();
+        assertThat(em.find(Group.class, groupId).getApprovedMemberCount()).isEqualTo(1);
+        assertThat(em.find(Group.class, groupId).getLeaderCount()).isEqualTo(1);
+    }
+
 }
\ No newline at end of file
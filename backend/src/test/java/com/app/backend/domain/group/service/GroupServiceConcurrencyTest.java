@@ -105,6 +105,7 @@ class GroupServiceConcurrencyTest extends SpringBootTestSupporter {
                     memberRefs.get(i - 1).set(member);
                 }
 
+                syncMemberCount(group.getId());
                 transactionManager.commit(transactionStatus);
             } catch (Exception e) {
                 transactionManager.rollback(transactionStatus);
@@ -246,6 +247,7 @@ class GroupServiceConcurrencyTest extends SpringBootTestSupporter {
                     memberRefs.get(i - 1).set(member);
                 }
 
+                syncMemberCount(group.getId());
                 transactionManager.commit(transactionStatus);
             } catch (Exception e) {
                 transactionManager.rollback(transactionStatus);
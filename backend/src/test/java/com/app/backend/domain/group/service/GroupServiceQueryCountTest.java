@@ -0,0 +1,129 @@
+package com.app.backend.domain.group.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.dto.request.GroupRequest;
+import com.app.backend.domain.group.dto.response.GroupResponse;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
+import com.app.backend.domain.member.entity.Member;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class GroupServiceQueryCountTest extends SpringBootTestSupporter {
+
+    private static final int GROUP_SIZE = 20;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        Category category = Category.builder()
+                                    .name("category")
+                                    .build();
+        em.persist(category);
+
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            Group group = Group.builder()
+                               .name("test%d".formatted(i))
+                               .province("test province")
+                               .city("test city")
+                               .town("test town")
+                               .description("test description")
+                               .recruitStatus(RecruitStatus.RECRUITING)
+                               .maxRecruitCount(10)
+                               .category(category)
+                               .build();
+            em.persist(group);
+
+            //모임 관리자 1명, 승인된 회원 2명, 대기 중인 회원 1명
+            for (int j = 0; j < 4; j++) {
+                Member member = Member.builder()
+                                      .username("testUsername%d_%d".formatted(i, j))
+                                      .password("testPassword")
+                                      .nickname("testNickname%d_%d".formatted(i, j))
+                                      .build();
+                em.persist(member);
+
+                GroupMembership groupMembership = GroupMembership.builder()
+                                                                 .member(member)
+                                                                 .group(group)
+                                                                 .groupRole(j == 0 ? GroupRole.LEADER
+                                                                                   : GroupRole.PARTICIPANT)
+                                                                 .build();
+                if (j == 1 || j == 2)
+                    groupMembership.modifyStatus(MembershipStatus.APPROVED);
+                em.persist(groupMembership);
+            }
+            syncMemberCount(group.getId());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 목록 조회 시 페이지 크기와 무관하게 일정한 쿼리 수로 회원 수와 모임 관리자 조회")
+    void getGroupsBySearch_constantQueryCount() {
+        //Given
+        GroupRequest.Search dto = GroupRequest.Search.builder()
+                                                     .categoryName("category")
+                                                     .recruitStatus("RECRUITING")
+                                                     .name("test")
+                                                     .build();
+
+        //When
+        long smallPageQueryCount = countQueries(() -> groupService.getGroupsBySearch(dto, PageRequest.of(0, 5)));
+        long largePageQueryCount = countQueries(() -> groupService.getGroupsBySearch(dto, PageRequest.of(0, 15)));
+        statistics.clear();
+        Page<GroupResponse.ListInfo> responsePage = groupService.getGroupsBySearch(dto, PageRequest.of(0, 15));
+
+        //Then
+        assertThat(smallPageQueryCount).isEqualTo(largePageQueryCount);
+        assertThat(largePageQueryCount).isLessThanOrEqualTo(3);
+        assertThat(responsePage.getContent()).hasSize(15);
+        assertThat(responsePage.getContent()).allSatisfy(listInfo -> {
+            assertThat(listInfo.getCurrentMemberCount()).isEqualTo(3);
+            assertThat(listInfo.getGroupLeaders()).hasSize(1);
+            assertThat(listInfo.getGroupLeaders().get(0)).endsWith("_0");
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 모임 전체 목록 조회 시 페이지 크기와 무관하게 일정한 쿼리 수")
+    void getGroups_constantQueryCount() {
+        //When
+        long smallPageQueryCount = countQueries(() -> groupService.getGroups(PageRequest.of(0, 5)));
+        long largePageQueryCount = countQueries(() -> groupService.getGroups(PageRequest.of(0, 15)));
+
+        //Then
+        assertThat(smallPageQueryCount).isEqualTo(largePageQueryCount);
+        assertThat(largePageQueryCount).isLessThanOrEqualTo(3);
+    }
+
+    private long countQueries(final Runnable runnable) {
+        em.clear();
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
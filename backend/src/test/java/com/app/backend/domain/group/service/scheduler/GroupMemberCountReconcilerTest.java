@@ -0,0 +1,130 @@
+package com.app.backend.domain.group.service.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.entity.GroupMembership;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
+import com.app.backend.domain.group.entity.RecruitStatus;
+import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
+import com.app.backend.domain.member.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class GroupMemberCountReconcilerTest extends SpringBootTestSupporter {
+
+    @Autowired
+    private GroupMemberCountReconciler groupMemberCountReconciler;
+
+    @Test
+    @DisplayName("[성공] 모임 회원 수를 조건부 UPDATE 로 갱신하고 음수가 되는 경우 갱신하지 않음")
+    void addMemberCount() {
+        //Given
+        Group group = createGroup();
+        em.flush();
+
+        //When
+        int increased = groupRepository.addMemberCount(group.getId(), 2, 1);
+        int decreased = groupRepository.addMemberCount(group.getId(), -1, -1);
+        int rejected  = groupRepository.addMemberCount(group.getId(), 0, -1);
+
+        //Then
+        Group findGroup = em.find(Group.class, group.getId());
+        assertThat(increased).isEqualTo(1);
+        assertThat(decreased).isEqualTo(1);
+        assertThat(rejected).isZero();
+        assertThat(findGroup.getApprovedMemberCount()).isEqualTo(1);
+        assertThat(findGroup.getLeaderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 회원 수를 읽은 이후의 모임/멤버십 엔티티 변경은 동시에 갱신된 회원 수를 덮어쓰지 않음")
+    void modifyEntity_notOverwriteMemberCount() {
+        //Given
+        Group group = createGroup();
+        GroupMembership participantMembership = createMembership(group, "participant", GroupRole.PARTICIPANT);
+        em.flush();
+
+        //When
+        em.createQuery("UPDATE Group g SET g.approvedMemberCount = 3, g.leaderCount = 1 WHERE g.id = :groupId")
+          .setParameter("groupId", group.getId())
+          .executeUpdate();
+        group.modifyName("modified");
+        participantMembership.modifyStatus(MembershipStatus.APPROVED);
+        em.flush();
+        em.clear();
+
+        //Then
+        Group findGroup = em.find(Group.class, group.getId());
+        assertThat(findGroup.getName()).isEqualTo("modified");
+        assertThat(findGroup.getApprovedMemberCount()).isEqualTo(3);
+        assertThat(findGroup.getLeaderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 멤버십 테이블과 어긋난 모임 회원 수 보정")
+    void reconcile() {
+        //Given
+        Group group = createGroup();
+        createMembership(group, "leader", GroupRole.LEADER);
+        createMembership(group, "participant", GroupRole.PARTICIPANT).modifyStatus(MembershipStatus.APPROVED);
+        createMembership(group, "pending", GroupRole.PARTICIPANT);
+        em.flush();
+        em.createQuery("UPDATE Group g SET g.approvedMemberCount = 10, g.leaderCount = 0 WHERE g.id = :groupId")
+          .setParameter("groupId", group.getId())
+          .executeUpdate();
+        em.clear();
+
+        //When
+        groupMemberCountReconciler.reconcile();
+        em.clear();
+
+        //Then
+        Group findGroup = em.find(Group.class, group.getId());
+        assertThat(findGroup.getApprovedMemberCount()).isEqualTo(2);
+        assertThat(findGroup.getLeaderCount()).isEqualTo(1);
+    }
+
+    private Group createGroup() {
+        Category category = Category.builder()
+                                    .name("category")
+                                    .build();
+        em.persist(category);
+
+        Group group = Group.builder()
+                           .name("test")
+                           .province("test province")
+                           .city("test city")
+                           .town("test town")
+                           .description("test description")
+                           .recruitStatus(RecruitStatus.RECRUITING)
+                           .maxRecruitCount(10)
+                           .category(category)
+                           .build();
+        em.persist(group);
+        return group;
+    }
+
+    private GroupMembership createMembership(final Group group, final String name, final GroupRole groupRole) {
+        Member member = Member.builder()
+                              .username("testUsername_" + name)
+                              .password("testPassword")
+                              .nickname("testNickname_" + name)
+                              .build();
+        em.persist(member);
+
+        GroupMembership groupMembership = GroupMembership.builder()
+                                                         .member(member)
+                                                         .group(group)
+                                                         .groupRole(groupRole)
+                                                         .build();
+        em.persist(groupMembership);
+        return groupMembership;
+    }
+
+}
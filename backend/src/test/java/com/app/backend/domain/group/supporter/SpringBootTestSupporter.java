@@ -2,6 +2,8 @@ package com.app.backend.domain.group.supporter;
 
 import com.app.backend.domain.category.repository.CategoryRepository;
 import com.app.backend.domain.chat.room.repository.ChatRoomRepository;
+import com.app.backend.domain.group.entity.GroupRole;
+import com.app.backend.domain.group.entity.MembershipStatus;
 import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.group.service.GroupMembershipService;
@@ -9,6 +11,7 @@ import com.app.backend.domain.group.service.GroupService;
 import com.app.backend.domain.meetingApplication.repository.MeetingApplicationRepository;
 import com.app.backend.domain.member.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -44,4 +47,14 @@ public abstract class SpringBootTestSupporter {
     @Autowired
     protected GroupMembershipService groupMembershipService;
 
+    /**
+     * 엔티티로 직접 저장한 모임 회원 기준으로 모임의 승인 회원 수, 관리자 수 동기화
+     *
+     * @param groupId - 모임 ID
+     */
+    protected void syncMemberCount(final Long groupId) {
+        em.flush();
+        groupRepository.reconcileMemberCount(List.of(groupId), MembershipStatus.APPROVED, GroupRole.LEADER);
+    }
+
 }
@@ -2,6 +2,8 @@ package com.app.backend.domain.meetingApplication.meetingApplicationServiceTest;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +12,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.app.backend.domain.category.entity.Category;
 import com.app.backend.domain.category.repository.CategoryRepository;
@@ -21,6 +26,7 @@ import com.app.backend.domain.group.entity.RecruitStatus;
 import com.app.backend.domain.group.repository.GroupMembershipRepository;
 import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.meetingApplication.dto.MeetingApplicationReqBody;
+import com.app.backend.domain.meetingApplication.dto.response.MeetingApplicationResponse;
 import com.app.backend.domain.meetingApplication.entity.MeetingApplication;
 import com.app.backend.domain.meetingApplication.exception.MeetingApplicationErrorCode;
 import com.app.backend.domain.meetingApplication.exception.MeetingApplicationException;
@@ -28,6 +34,7 @@ import com.app.backend.domain.meetingApplication.repository.MeetingApplicationRe
 import com.app.backend.domain.meetingApplication.service.MeetingApplicationService;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
+import com.app.backend.global.dto.response.CursorResponse;
 
 @SpringBootTest
 public class MeetingApplicationServiceTest {
@@ -50,6 +57,9 @@ public class MeetingApplicationServiceTest {
 	@Autowired
 	private CategoryRepository categoryRepository;
 
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
 	private Group group;
 	private Member member;
 	private Category category;
@@ -119,6 +129,7 @@ public class MeetingApplicationServiceTest {
 			.member(member1)
 			.groupRole(GroupRole.LEADER)
 			.build());
+		transactionTemplate.executeWithoutResult(status -> groupRepository.addMemberCount(limitedGroup.getId(), 1, 1));
 
 		MeetingApplicationReqBody request = new MeetingApplicationReqBody("Test Application");
 
@@ -223,9 +234,100 @@ public class MeetingApplicationServiceTest {
 		assertThat(application.getContext()).isEqualTo(request.context());
 	}
 
-}
+	@Test
+	@DisplayName("Success : 가입 신청 목록을 요청한 페이지 크기만큼 최신순으로 조회하고 멤버십 상태 플래그를 함께 반환")
+	void t5() {
+		// Given
+		Member leader = saveLeader();
+		List<Long> applicationIds = saveApplications(5);
+
+		// When
+		Page<MeetingApplicationResponse.Detail> page = meetingApplicationService.getMeetingApplications(
+			group.getId(), leader.getId(), PageRequest.of(0, 2));
+
+		// Then
+		assertThat(page.getContent().size()).isEqualTo(2);
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(page.getContent().get(0).getId()).isEqualTo(applicationIds.get(4));
+		assertThat(page.getContent().get(1).getId()).isEqualTo(applicationIds.get(3));
+
+		// 첫 번째 신청자만 REJECTED
+		Page<MeetingApplicationResponse.Detail> lastPage = meetingApplicationService.getMeetingApplications(
+			group.getId(), leader.getId(), PageRequest.of(2, 2));
+		MeetingApplicationResponse.Detail first = lastPage.getContent().get(0);
+		assertThat(first.getId()).isEqualTo(applicationIds.get(0));
+		assertThat(first.getRejected()).isTrue();
+		assertThat(first.getIsMember()).isFalse();
+		assertThat(first.getIsAdmin()).isFalse();
+		assertThat(page.getContent().get(0).getRejected()).isFalse();
+	}
+
+	@Test
+	@DisplayName("Success : 커서로 가입 신청 목록을 최신순으로 끝까지 조회")
+	void t6() {
+		// Given
+		Member leader = saveLeader();
+		List<Long> applicationIds = saveApplications(5);
 
+		// When
+		List<Long> fetchedIds = new ArrayList<>();
+		String cursor = null;
+		CursorResponse<MeetingApplicationResponse.Detail> response;
+		do {
+			response = meetingApplicationService.getMeetingApplicationsWithCursor(
+				group.getId(), leader.getId(), cursor, 2);
+			response.getContent().forEach(detail -> fetchedIds.add(detail.getId()));
+			cursor = response.getNextCursor();
+		} while (response.getHasNext());
 
+		// Then
+		List<Long> expectedIds = new ArrayList<>(applicationIds);
+		Collections.reverse(expectedIds);
+		assertThat(fetchedIds).isEqualTo(expectedIds);
+	}
 
+	private Member saveLeader() {
+		Member leader = memberRepository.save(Member.builder()
+			.username("leader")
+			.nickname("leaderNickname")
+			.role("USER")
+			.disabled(false)
+			.build());
+		groupMembershipRepository.save(GroupMembership.builder()
+			.group(group)
+			.member(leader)
+			.groupRole(GroupRole.LEADER)
+			.build());
+		transactionTemplate.executeWithoutResult(status -> groupRepository.addMemberCount(group.getId(), 1, 1));
+		return leader;
+	}
 
+	// count 명의 신청자와 가입 신청 생성, 첫 번째 신청자의 멤버십은 REJECTED
+	private List<Long> saveApplications(int count) {
+		List<Long> applicationIds = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			Member applicant = memberRepository.save(Member.builder()
+				.username("applicant%d".formatted(i))
+				.nickname("applicantNickname%d".formatted(i))
+				.role("USER")
+				.disabled(false)
+				.build());
+			GroupMembership membership = groupMembershipRepository.save(GroupMembership.builder()
+				.group(group)
+				.member(applicant)
+				.groupRole(GroupRole.PARTICIPANT)
+				.build());
+			if (i == 1) {
+				membership.modifyStatus(MembershipStatus.REJECTED);
+				groupMembershipRepository.save(membership);
+			}
+			applicationIds.add(meetingApplicationRepository.save(MeetingApplication.builder()
+				.group(group)
+				.member(applicant)
+				.context("Test Application %d".formatted(i))
+				.build()).getId());
+		}
+		return applicationIds;
+	}
 
+}
@@ -12,7 +12,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.entity.MemberDetails;
 import com.app.backend.domain.post.dto.req.PostReqDto;
+import com.app.backend.domain.post.dto.resp.PostDetail;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.dto.resp.PostSummary;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.exception.PostErrorCode;
@@ -79,7 +81,10 @@ public class PostControllerTest {
 
         MemberDetails mockUser = new MemberDetails(member);
 
-        PostRespDto.GetPostDto responseDto = PostRespDto.toGetPost(post, member, null, null, true);
+        PostDetail detail = new PostDetail(post.getId(), post.getTitle(), post.getContent(), post.getPostStatus(),
+                                           member.getId(), member.getNickname(), post.getGroupId(),
+                                           post.getCreatedAt(), post.getModifiedAt(), post.getLikeCount(), null, null);
+        PostRespDto.GetPostDto responseDto = PostRespDto.toGetPost(detail, null, null, true);
 
         given(postService.getPost(eq(post.getId()), eq(mockUser.getId()))).willReturn(responseDto);
 
@@ -151,7 +156,10 @@ public class PostControllerTest {
         MemberDetails mockUser = new MemberDetails(member);
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
-        Page<PostRespDto.GetPostListDto> mockPage = new PageImpl<>(List.of(PostRespDto.toGetPostList(post)), pageable, 1);
+        PostSummary summary = new PostSummary(post.getId(), post.getTitle(), post.getPostStatus(), post.getMemberId(),
+                                              post.getNickName(), post.getCreatedAt(), post.getModifiedAt(),
+                                              post.getTodayViewCount());
+        Page<PostRespDto.GetPostListDto> mockPage = new PageImpl<>(List.of(PostRespDto.toGetPostList(summary, "")), pageable, 1);
 
         given(postService.getPostsBySearch(any(), any(), any(), any())).willReturn(mockPage);
 
@@ -308,7 +316,10 @@ public class PostControllerTest {
         MemberDetails mockUser = new MemberDetails(member);
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
-        Page<PostRespDto.GetPostListDto> mockPage = new PageImpl<>(List.of(PostRespDto.toGetPostList(post)), pageable, 1);
+        PostSummary summary = new PostSummary(post.getId(), post.getTitle(), post.getPostStatus(), post.getMemberId(),
+                                              post.getNickName(), post.getCreatedAt(), post.getModifiedAt(),
+                                              post.getTodayViewCount());
+        Page<PostRespDto.GetPostListDto> mockPage = new PageImpl<>(List.of(PostRespDto.toGetPostList(summary, "")), pageable, 1);
 
         given(postService.getPostsByUser(any(), any(), any())).willReturn(mockPage);
 
@@ -1,5 +1,6 @@
 package com.app.backend.domain.post.service.post;
 
+import com.app.backend.domain.attachment.entity.FileType;
 import com.app.backend.domain.attachment.exception.FileErrorCode;
 import com.app.backend.domain.attachment.exception.FileException;
 import com.app.backend.domain.group.entity.*;
@@ -9,6 +10,7 @@ import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.post.dto.req.PostReqDto;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.dto.resp.PostSummary;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
 import com.app.backend.domain.post.entity.PostStatus;
@@ -18,6 +20,7 @@ import com.app.backend.domain.post.repository.post.PostRepository;
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
 import com.app.backend.domain.post.service.scheduler.PostScheduler;
 import com.app.backend.global.annotation.CustomWithMockUser;
+import com.app.backend.global.dto.response.CursorResponse;
 import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.GlobalErrorCode;
 import jakarta.persistence.EntityManager;
@@ -38,6 +41,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -95,7 +99,6 @@ public class PostServiceTest {
         em.createNativeQuery("ALTER TABLE tbl_posts ALTER COLUMN post_id RESTART WITH 1").executeUpdate();
         em.createNativeQuery("ALTER TABLE tbl_members ALTER COLUMN member_id RESTART WITH 1").executeUpdate();
         em.createNativeQuery("ALTER TABLE tbl_groups ALTER COLUMN group_id RESTART WITH 1").executeUpdate();
-        em.createNativeQuery("ALTER TABLE tbl_post_attachments ALTER COLUMN attachment_id RESTART WITH 1").executeUpdate();
         redisTemplate.delete("post:postid:1");
         redisTemplate.delete("post:postid:1:user:1");
         redisTemplate.delete("viewCount:post:postid:1");
@@ -119,6 +122,26 @@ public class PostServiceTest {
         groupMembershipRepository.save(GroupMembership.builder().member(member2).group(group).groupRole(GroupRole.PARTICIPANT).build());
     }
 
+    private Long firstAttachmentId(Long postId) {
+        //첨부파일 ID 는 저장 순서대로 증가하는 TSID
+        return postAttachmentRepository.findByPostIdAndDisabled(postId, false)
+                                       .stream()
+                                       .map(PostAttachment::getId)
+                                       .min(Long::compare)
+                                       .orElseThrow();
+    }
+
+    private Post createPost(String title) {
+        return Post.builder()
+                .title(title)
+                .content("테스트 내용")
+                .postStatus(PostStatus.PUBLIC)
+                .groupId(1L)
+                .memberId(1L)
+                .nickName("테스트 닉")
+                .build();
+    }
+
     private byte[] generateRandomBytes(int size) {
         byte[] bytes = new byte[size];
         new SecureRandom().nextBytes(bytes);
@@ -314,7 +337,7 @@ public class PostServiceTest {
         };
 
         List<Long> removeList = new ArrayList<>();
-        removeList.add(1L);
+        removeList.add(firstAttachmentId(1L));
 
         PostReqDto.ModifyPostDto modifyPostDto =
                 new PostReqDto.ModifyPostDto(1L, "수정된 제목", "수정된 내용", PostStatus.PRIVATE, 0L, null, removeList);
@@ -355,7 +378,7 @@ public class PostServiceTest {
         };
 
         List<Long> removeList = new ArrayList<>();
-        removeList.add(1L);
+        removeList.add(firstAttachmentId(1L));
 
         PostReqDto.ModifyPostDto modifyPostDto =
                 new PostReqDto.ModifyPostDto(1L, "수정된 제목", "수정된 내용", PostStatus.PRIVATE, 0L, null, removeList);
@@ -390,7 +413,7 @@ public class PostServiceTest {
         };
 
         List<Long> removeList = new ArrayList<>();
-        removeList.add(1L);
+        removeList.add(firstAttachmentId(1L));
 
         PostReqDto.ModifyPostDto modifyPostDto =
                 new PostReqDto.ModifyPostDto(1L, "수정된 제목", "수정된 내용", PostStatus.PRIVATE, 0L, null, removeList);
@@ -433,7 +456,7 @@ public class PostServiceTest {
         };
 
         List<Long> removeList = new ArrayList<>();
-        removeList.add(1L);
+        removeList.add(firstAttachmentId(1L));
 
         PostReqDto.ModifyPostDto modifyPostDto =
                 new PostReqDto.ModifyPostDto(1L, "수정된 제목", "수정된 내용", PostStatus.PRIVATE, 0L, null, removeList);
@@ -991,6 +1014,27 @@ public class PostServiceTest {
         assertEquals(2, respDto.getImages().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 불러오기 - 작성자 정보")
+    @CustomWithMockUser(id = 2L, username = "Test member2", nickname = "Test Nickname 2")
+    void getPost_Success5() {
+        // Given
+        PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+
+        Post savedPost = postService.savePost(1L, savePostDto, null);
+        em.flush();
+        em.clear();
+
+        // When
+        PostRespDto.GetPostDto respDto = postService.getPost(savedPost.getId(), 2L);
+
+        // Then
+        assertEquals(1L, respDto.getMemberId());
+        assertEquals(savedPost.getNickName(), respDto.getNickName());
+        assertEquals(0, respDto.getImages().size());
+        assertEquals(0, respDto.getDocuments().size());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 불러오기 - MembershipStatus.PENDING")
     @CustomWithMockUser(id = 2L, username = "Test member2", nickname = "Test Nickname 2")
@@ -1112,12 +1156,12 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostSummary> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(10, result.getContent().size()); // 첫 페이지 10개
-        assertEquals("1 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("1 테스트 제목", result.getContent().get(0).title()); // 제목 확인
     }
 
     @Test
@@ -1139,12 +1183,12 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostSummary> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(9, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(9, result.getContent().size()); // 첫 페이지 10개
-        assertEquals("9 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("9 테스트 제목", result.getContent().get(0).title()); // 제목 확인
     }
 
     @Test
@@ -1166,12 +1210,12 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostSummary> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
         assertEquals(5, result.getContent().size()); // 2 페이지 5개
-        assertEquals("13 테스트 제목", result.getContent().get(0).getTitle()); // 제목 확인
+        assertEquals("13 테스트 제목", result.getContent().get(0).title()); // 제목 확인
     }
 
     @Test
@@ -1193,12 +1237,49 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "test", PostStatus.ALL, false, pageable);
+        Page<PostSummary> result = postRepository.findAllBySearchStatus(1L, "test", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(0, result.getContent().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [페이징] - 첨부파일 수, 대표 이미지 집계")
+    public void getPosts_Success5() {
+        Post post = postRepository.save(Post.builder()
+                .title("첨부 게시글")
+                .content("테스트 내용")
+                .postStatus(PostStatus.PUBLIC)
+                .groupId(1L)
+                .memberId(1L)
+                .nickName("테스트 닉")
+                .build());
+        postRepository.save(Post.builder()
+                .title("첨부 없는 게시글")
+                .content("테스트 내용")
+                .postStatus(PostStatus.PUBLIC)
+                .groupId(1L)
+                .memberId(1L)
+                .nickName("테스트 닉")
+                .build());
+        postAttachmentRepository.save(new PostAttachment("a.png", "a.png", "a.png", 1L, "image/png", FileType.IMAGE, post.getId()));
+        postAttachmentRepository.save(new PostAttachment("b.png", "b.png", "b.png", 1L, "image/png", FileType.IMAGE, post.getId()));
+        postAttachmentRepository.save(new PostAttachment("c.pdf", "c.pdf", "c.pdf", 1L, "application/pdf", FileType.DOCUMENT, post.getId()));
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"));
+
+        Page<PostSummary> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals(3, result.getContent().get(0).attachmentCount());
+        assertEquals("b.png", result.getContent().get(0).thumbnailPath()); // 최신 이미지
+        assertEquals(0, result.getContent().get(1).attachmentCount());
+        assertNull(result.getContent().get(1).thumbnailPath());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 목록 불러오기 [페이징]")
     public void getPosts_Fail1() {
@@ -1225,6 +1306,97 @@ public class PostServiceTest {
                 .hasMessage(GlobalErrorCode.INVALID_INPUT_VALUE.getMessage());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [커서] - 첫 페이지와 다음 커서로 이어서 조회")
+    public void getPostsWithCursor_Success1() {
+        for (int i = 1; i <= 5; i++) {
+            postRepository.save(createPost(i + " 테스트 제목"));
+        }
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "title"));
+
+        CursorResponse<PostRespDto.GetPostListDto> first = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, null, pageable);
+        CursorResponse<PostRespDto.GetPostListDto> second = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, first.getNextCursor(), pageable);
+
+        // Then
+        assertEquals(List.of("1 테스트 제목", "2 테스트 제목"), first.getContent().stream().map(PostRespDto.GetPostListDto::getTitle).toList());
+        assertTrue(first.getHasNext());
+        assertNotNull(first.getNextCursor());
+        assertEquals(List.of("3 테스트 제목", "4 테스트 제목"), second.getContent().stream().map(PostRespDto.GetPostListDto::getTitle).toList());
+        assertTrue(second.getHasNext());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [커서] - 정렬 값이 같은 게시글은 post_id 로 구분하여 누락, 중복 없이 조회")
+    public void getPostsWithCursor_Success2() {
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            postIds.add(postRepository.save(createPost("같은 제목")).getId());
+        }
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "title"));
+
+        List<Long> result = new ArrayList<>();
+        String cursor = null;
+        CursorResponse<PostRespDto.GetPostListDto> page;
+        do {
+            page = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, cursor, pageable);
+            page.getContent().forEach(post -> result.add(post.getPostId()));
+            cursor = page.getNextCursor();
+        } while (page.getHasNext());
+
+        // Then
+        Collections.reverse(postIds);
+        assertEquals(postIds, result);
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [커서] - 마지막 페이지는 다음 커서 없음")
+    public void getPostsWithCursor_Success3() {
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(createPost(i + " 테스트 제목"));
+        }
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "title"));
+
+        CursorResponse<PostRespDto.GetPostListDto> first = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, null, pageable);
+        CursorResponse<PostRespDto.GetPostListDto> last = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, first.getNextCursor(), pageable);
+        CursorResponse<PostRespDto.GetPostListDto> exact = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, null, PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "title")));
+
+        // Then
+        assertEquals(1, last.getSize());
+        assertEquals("3 테스트 제목", last.getContent().get(0).getTitle());
+        assertFalse(last.getHasNext());
+        assertNull(last.getNextCursor());
+        assertEquals(3, exact.getSize()); // 페이지 크기와 남은 게시글 수가 같은 경우
+        assertFalse(exact.getHasNext());
+        assertNull(exact.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Fail : 게시글 목록 불러오기 [커서] - 다른 정렬 조건으로 발급된 커서")
+    public void getPostsWithCursor_Fail1() {
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(createPost(i + " 테스트 제목"));
+        }
+        em.flush();
+        em.clear();
+
+        String cursor = postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, null, PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "title"))).getNextCursor();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "title"));
+
+        // Then
+        assertThatThrownBy(() -> postService.getPostsBySearchWithCursor(1L, "", PostStatus.ALL, cursor, pageable))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
     @Test
     @DisplayName("Success : 같은 사용자 게시물 조회수 적용 제한")
     @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
@@ -14,6 +14,7 @@ import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.post.dto.req.PostReqDto;
+import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
@@ -63,6 +64,9 @@ public class PostAttachmentServiceTest {
 
     private static String BASE_DIR;
 
+    private Long publicAttachmentId;
+    private Long privateAttachmentId;
+
     @BeforeAll
     static void setUpAll(@Value("${spring.file.base-dir}") String baseDir) {
         BASE_DIR = baseDir;
@@ -80,7 +84,6 @@ public class PostAttachmentServiceTest {
         em.createNativeQuery("ALTER TABLE tbl_posts ALTER COLUMN post_id RESTART WITH 1").executeUpdate();
         em.createNativeQuery("ALTER TABLE tbl_members ALTER COLUMN member_id RESTART WITH 1").executeUpdate();
         em.createNativeQuery("ALTER TABLE tbl_groups ALTER COLUMN group_id RESTART WITH 1").executeUpdate();
-        em.createNativeQuery("ALTER TABLE tbl_post_attachments ALTER COLUMN attachment_id RESTART WITH 1").executeUpdate();
     }
 
     private void dataSetting() {
@@ -106,15 +109,18 @@ public class PostAttachmentServiceTest {
         PostReqDto.SavePostDto savePostDto1 = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
         PostReqDto.SavePostDto savePostDto2 = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PRIVATE, 1L);
 
-        postService.savePost(1L, savePostDto1, files1);
-        postService.savePost(1L, savePostDto2, files2);
+        Post publicPost = postService.savePost(1L, savePostDto1, files1);
+        Post privatePost = postService.savePost(1L, savePostDto2, files2);
+
+        publicAttachmentId = postAttachmentRepository.findByPostIdAndDisabled(publicPost.getId(), false).get(0).getId();
+        privateAttachmentId = postAttachmentRepository.findByPostIdAndDisabled(privatePost.getId(), false).get(0).getId();
     }
 
     @Test
     @DisplayName("Success : 파일이 정상적으로 존재하는 경우")
     void downloadFile_Success1() {
         // when
-        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(1L,1L);
+        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(publicAttachmentId, 1L);
 
         // Then
         assertNotNull(downloadFile.getResource());
@@ -126,7 +132,7 @@ public class PostAttachmentServiceTest {
     @DisplayName("Success : public 게시물 - 그룹 멤버 x")
     void downloadFile_Success2() {
         // when
-        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(1L,2L);
+        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(publicAttachmentId, 2L);
 
         // Then
         assertNotNull(downloadFile.getResource());
@@ -138,7 +144,7 @@ public class PostAttachmentServiceTest {
     @DisplayName("Success : private 게시물 - 그룹 멤버 O")
     void downloadFile_Success3() {
         // when
-        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(2L,1L);
+        FileRespDto.downloadDto downloadFile = postAttachmentService.downloadFile(privateAttachmentId, 1L);
 
         // Then
         assertNotNull(downloadFile.getResource());
@@ -150,7 +156,7 @@ public class PostAttachmentServiceTest {
     @DisplayName("Fail : private 게시물 - 그룹 멤버 x")
     void downloadFile_Fail1() {
         // Then
-        assertThatThrownBy(() -> postAttachmentService.downloadFile(2L,2L))
+        assertThatThrownBy(() -> postAttachmentService.downloadFile(privateAttachmentId, 2L))
                 .isInstanceOf(GroupMembershipException.class)
                 .hasFieldOrPropertyWithValue("domainErrorCode", GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND)
                 .hasMessage(GroupMembershipErrorCode.GROUP_MEMBERSHIP_NOT_FOUND.getMessage());
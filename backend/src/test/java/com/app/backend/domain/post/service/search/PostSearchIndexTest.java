@@ -0,0 +1,169 @@
+package com.app.backend.domain.post.service.search;
+
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        postRepository = mock(PostRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        postSearchIndex = new PostSearchIndex(postRepository, meterRegistry);
+        ReflectionTestUtils.setField(postSearchIndex, "indexDir", "");
+        postSearchIndex.init();
+        //기본적으로 색인된 게시글은 모두 DB 에 삭제되지 않은 상태로 존재
+        when(postRepository.findIdsByIdInAndDisabled(anyCollection(), eq(false)))
+                .thenAnswer(invocation -> List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+
+        postSearchIndex.indexAfterCommit(createPost(1L, 1L, 10L, "스프링 스터디 모집", "매주 토요일 모임", PostStatus.PUBLIC));
+        postSearchIndex.indexAfterCommit(createPost(2L, 1L, 11L, "자유 게시판", "스프링 부트 질문 있습니다", PostStatus.PUBLIC));
+        postSearchIndex.indexAfterCommit(createPost(3L, 1L, 10L, "공지사항", "스프링 스터디 장소 변경", PostStatus.NOTICE));
+        postSearchIndex.indexAfterCommit(createPost(4L, 2L, 10L, "스프링 스터디", "다른 모임 게시글", PostStatus.PUBLIC));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        postSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 전문 검색 - 제목 일치 게시글이 먼저 조회")
+    void search() {
+        PostSearchResult result = postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 10));
+
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.postIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.postIds().get(0)).isEqualTo(1L);
+        assertThat(meterRegistry.get("post.search.query").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 전문 검색 - 상태 및 작성자 필터")
+    void search_Filter() {
+        PostSearchResult notice = postSearchIndex.search(1L, null, "스터디", PostStatus.NOTICE, PageRequest.of(0, 10));
+        PostSearchResult member = postSearchIndex.search(1L, 11L, "스프링", PostStatus.ALL, PageRequest.of(0, 10));
+
+        assertThat(notice.postIds()).containsExactly(3L);
+        assertThat(member.postIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 전문 검색 - 페이징")
+    void search_Paging() {
+        PostSearchResult result = postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(1, 2));
+
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.postIds()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 삭제 시 색인에서 제외")
+    void deleteAfterCommit() {
+        postSearchIndex.deleteAfterCommit(1L);
+
+        PostSearchResult result = postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 10));
+
+        assertThat(result.postIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 인스턴스에서 삭제되어 색인에 남은 게시글은 결과와 전체 일치 수에서 제외 후 색인에서 제거")
+    void search_StaleDocument() {
+        when(postRepository.findIdsByIdInAndDisabled(anyCollection(), eq(false)))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0)
+                                                    .stream()
+                                                    .filter(postId -> postId != 1L)
+                                                    .toList());
+
+        PostSearchResult first = postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 2));
+        PostSearchResult second = postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 2));
+
+        assertThat(first.totalHits()).isEqualTo(2);
+        assertThat(first.postIds()).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(second.totalHits()).isEqualTo(2);
+        assertThat(second.postIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("[실패] 분석 후 남는 토큰이 없는 불용어 검색어는 색인 검색 불가")
+    void search_StopwordOnly() {
+        assertThat(postSearchIndex.isSearchable("the and")).isFalse();
+        assertThat(postSearchIndex.isSearchable("스프링")).isTrue();
+        assertThatThrownBy(() -> postSearchIndex.search(1L, null, "the and", PostStatus.ALL, PageRequest.of(0, 10)))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("[성공] DB 로부터 색인 재구축")
+    void rebuild() {
+        when(postRepository.findByIdGreaterThanAndDisabledOrderByIdAsc(anyLong(), eq(false), any(Limit.class)))
+                .thenReturn(List.of(createPost(5L, 1L, 10L, "재구축 게시글", "내용", PostStatus.PUBLIC)));
+
+        long count = postSearchIndex.rebuild();
+
+        assertThat(count).isEqualTo(1);
+        assertThat(postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 10)).totalHits()).isZero();
+        assertThat(postSearchIndex.search(1L, null, "재구축", PostStatus.ALL, PageRequest.of(0, 10)).postIds()).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("[성공] 색인 재구축 중 증분 반영된 게시글은 재구축이 읽은 이전 데이터로 덮어쓰지 않음")
+    void rebuild_ConcurrentUpdate() {
+        when(postRepository.findByIdGreaterThanAndDisabledOrderByIdAsc(anyLong(), eq(false), any(Limit.class)))
+                .thenAnswer(invocation -> {
+                    //재구축 중에도 기존 색인으로 검색 가능
+                    assertThat(postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 10))
+                                              .totalHits()).isEqualTo(3);
+                    //재구축이 게시글을 읽은 후 커밋된 수정 사항
+                    postSearchIndex.indexAfterCommit(createPost(2L, 1L, 11L, "수정된 게시글", "내용", PostStatus.PUBLIC));
+                    return List.of(createPost(2L, 1L, 11L, "자유 게시판", "스프링 부트 질문 있습니다", PostStatus.PUBLIC));
+                });
+
+        long count = postSearchIndex.rebuild();
+
+        assertThat(count).isEqualTo(1);
+        assertThat(postSearchIndex.search(1L, null, "스프링", PostStatus.ALL, PageRequest.of(0, 10)).totalHits()).isZero();
+        assertThat(postSearchIndex.search(1L, null, "수정된", PostStatus.ALL, PageRequest.of(0, 10)).postIds()).containsExactly(2L);
+    }
+
+    private Post createPost(Long id, Long groupId, Long memberId, String title, String content, PostStatus postStatus) {
+        return Post.builder()
+                .id(id)
+                .groupId(groupId)
+                .memberId(memberId)
+                .nickName("user" + memberId)
+                .title(title)
+                .content(content)
+                .postStatus(postStatus)
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.app.backend.global.advice;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.app.backend.global.annotation.CustomPageJsonSerializer;
+import com.app.backend.global.dto.response.ApiResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+class PageJsonResponseBodyAdviceTest {
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mvc = MockMvcBuilders.standaloneSetup(new TestController())
+                             .setControllerAdvice(new PageJsonResponseBodyAdvice())
+                             .build();
+    }
+
+    @Test
+    @DisplayName("[성공] Page 응답 본문은 어노테이션에서 제외한 필드 없이 직렬화")
+    void page() throws Exception {
+        //When & Then
+        mvc.perform(get("/test/page"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.content.length()").value(2))
+           .andExpect(jsonPath("$.content[0].name").value("first"))
+           .andExpect(jsonPath("$.totalElements").value(3))
+           .andExpect(jsonPath("$.hasNext").value(true))
+           .andExpect(jsonPath("$.sort").doesNotExist())
+           .andExpect(jsonPath("$.empty").doesNotExist())
+           .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("[성공] ResponseEntity 의 ApiResponse 내 Page 는 상태 코드를 유지한 채 직렬화")
+    void apiResponse() throws Exception {
+        //When & Then
+        mvc.perform(get("/test/api-response"))
+           .andExpect(status().isCreated())
+           .andExpect(jsonPath("$.isSuccess").value(true))
+           .andExpect(jsonPath("$.code").value("201"))
+           .andExpect(jsonPath("$.data.content.length()").value(2))
+           .andExpect(jsonPath("$.data.content[0].createdAt").isArray())
+           .andExpect(jsonPath("$.data.totalPages").value(2))
+           .andExpect(jsonPath("$.data.sort").doesNotExist())
+           .andExpect(jsonPath("$.data.pageable").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("[성공] 어노테이션이 없는 핸들러의 Page 는 기본 직렬화")
+    void page_withoutAnnotation() throws Exception {
+        //When & Then
+        mvc.perform(get("/test/plain"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.content.length()").value(2))
+           .andExpect(jsonPath("$.pageable").exists());
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private static Page<Item> createPage() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        return new PageImpl<>(List.of(new Item("first", now), new Item("second", now)), PageRequest.of(0, 2), 3);
+    }
+
+    record Item(String name, LocalDateTime createdAt) {
+    }
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/test/page")
+        @CustomPageJsonSerializer(sort = false, empty = false)
+        public Page<Item> page() {
+            return createPage();
+        }
+
+        @GetMapping("/test/api-response")
+        @CustomPageJsonSerializer(sort = false)
+        public ResponseEntity<ApiResponse<Page<Item>>> apiResponse() {
+            return ResponseEntity.status(HttpStatus.CREATED)
+                                 .body(ApiResponse.of(true, HttpStatus.CREATED, "created", createPage()));
+        }
+
+        @GetMapping("/test/plain")
+        public Page<Item> plain() {
+            return createPage();
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.app.backend.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.global.entity.CacheRegion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheConfigTest {
+
+    private Statistics          statistics;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory       sessionFactory       = mock(SessionFactory.class);
+        statistics = mock(Statistics.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+
+        meterRegistry = new SimpleMeterRegistry();
+        new EntityCacheConfig().entityCacheHitRatioMetrics(entityManagerFactory).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("[성공] 2차 캐시 영역별 적중률 게이지 등록")
+    void entityCacheHitRatioMetrics() {
+        //Given
+        CacheRegionStatistics memberStatistics = mock(CacheRegionStatistics.class);
+        when(memberStatistics.getHitCount()).thenReturn(3L);
+        when(memberStatistics.getMissCount()).thenReturn(1L);
+        when(statistics.getCacheRegionStatistics(CacheRegion.MEMBER)).thenReturn(memberStatistics);
+
+        //When
+        double memberRatio = meterRegistry.get("hibernate.cache.hit.ratio").tag("region", CacheRegion.MEMBER)
+                                          .gauge().value();
+
+        //Then
+        assertThat(meterRegistry.find("hibernate.cache.hit.ratio").gauges()).hasSize(4);
+        assertThat(memberRatio).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("[성공] 요청이 없거나 아직 생성되지 않은 영역의 적중률은 NaN")
+    void entityCacheHitRatioMetrics_noRequest() {
+        //Given
+        CacheRegionStatistics categoryStatistics = mock(CacheRegionStatistics.class);
+        when(statistics.getCacheRegionStatistics(CacheRegion.CATEGORY)).thenReturn(categoryStatistics);
+        when(statistics.getCacheRegionStatistics(CacheRegion.CATEGORY_QUERY))
+                .thenThrow(new IllegalArgumentException("영역 없음"));
+
+        //When & Then
+        assertThat(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", CacheRegion.CATEGORY)
+                                .gauge().value()).isNaN();
+        assertThat(meterRegistry.get("hibernate.cache.hit.ratio").tag("region", CacheRegion.CATEGORY_QUERY)
+                                .gauge().value()).isNaN();
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.app.backend.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 주 데이터베이스와 복제본을 각각 H2 인메모리 데이터베이스로 대신하여 라우팅 검증
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-1";
+
+    private SimpleMeterRegistry    meterRegistry;
+    private ReplicationDataSources dataSources;
+    private ReplicaLagMonitor             lagMonitor;
+    private LazyConnectionDataSourceProxy dataSource;
+    private JdbcTemplate                  jdbcTemplate;
+    private TransactionTemplate    writeTransaction;
+    private TransactionTemplate    readOnlyTransaction;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        replicas.put(REPLICA, createPool(REPLICA));
+        dataSources = new ReplicationDataSources(createPool(ReplicationDataSources.PRIMARY), replicas);
+        lagMonitor = new ReplicaLagMonitor(dataSources, Duration.ofSeconds(5), meterRegistry);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(dataSources,
+                                                                                          lagMonitor,
+                                                                                          meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+        dataSources.close();
+    }
+
+    @Test
+    @DisplayName("[성공] 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 데이터베이스로 라우팅")
+    void routing() {
+        //Given
+        replicateHeartbeat(0);
+        lagMonitor.heartbeat();
+
+        //When
+        String readTarget = readOnlyTransaction.execute(status -> currentTarget());
+        String writeTarget = writeTransaction.execute(status -> currentTarget());
+
+        //Then
+        assertThat(readTarget).isEqualTo(REPLICA);
+        assertThat(writeTarget).isEqualTo(ReplicationDataSources.PRIMARY);
+        assertThat(meterRegistry.get("datasource.routing").tag("target", REPLICA).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("target", REPLICA).gauge().value())
+                .isBetween(0.0, 5.0);
+    }
+
+    @Test
+    @DisplayName("[성공] 복제 지연이 허용 범위를 초과한 경우 주 데이터베이스로 라우팅")
+    void routing_lagging() {
+        //Given
+        replicateHeartbeat(Duration.ofMinutes(1).toMillis());
+        lagMonitor.heartbeat();
+
+        //When
+        String readTarget = readOnlyTransaction.execute(status -> currentTarget());
+
+        //Then
+        assertThat(lagMonitor.isAvailable(REPLICA)).isFalse();
+        assertThat(readTarget).isEqualTo(ReplicationDataSources.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("[성공] 복제 지연을 측정할 수 없는 경우 주 데이터베이스로 라우팅")
+    void routing_unknownLag() {
+        //Given
+        lagMonitor.heartbeat();   //복제본에 하트비트 테이블 없음
+
+        //When
+        String readTarget = readOnlyTransaction.execute(status -> currentTarget());
+
+        //Then
+        assertThat(lagMonitor.isAvailable(REPLICA)).isFalse();
+        assertThat(readTarget).isEqualTo(ReplicationDataSources.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 요청에서 쓰기 트랜잭션 이후의 읽기 전용 트랜잭션은 주 데이터베이스로 라우팅")
+    void routing_readYourWrites() {
+        //Given
+        replicateHeartbeat(0);
+        lagMonitor.heartbeat();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String beforeWrite = readOnlyTransaction.execute(status -> currentTarget());
+
+        //When
+        writeTransaction.executeWithoutResult(status -> currentTarget());
+        String afterWrite = readOnlyTransaction.execute(status -> currentTarget());
+
+        //Then
+        assertThat(beforeWrite).isEqualTo(REPLICA);
+        assertThat(afterWrite).isEqualTo(ReplicationDataSources.PRIMARY);
+
+        //다른 요청은 다시 복제본 사용
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String nextRequest = readOnlyTransaction.execute(status -> currentTarget());
+        assertThat(nextRequest).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("[성공] readFromPrimary 로 시작한 새 트랜잭션은 주 데이터베이스로 라우팅하되 요청을 고정하지 않음")
+    void routing_readFromPrimary() {
+        //Given
+        replicateHeartbeat(0);
+        lagMonitor.heartbeat();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TransactionTemplate primaryReadTransaction = new TransactionTemplate(readOnlyTransaction.getTransactionManager());
+        primaryReadTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        primaryReadTransaction.setReadOnly(true);
+
+        //When
+        String[] targets = readOnlyTransaction.execute(status -> new String[]{
+                currentTarget(),
+                ReplicationRoutingDataSource.readFromPrimary(() -> primaryReadTransaction.execute(s -> currentTarget()))
+        });
+        String nextRead = readOnlyTransaction.execute(status -> currentTarget());
+
+        //Then
+        assertThat(targets).containsExactly(REPLICA, ReplicationDataSources.PRIMARY);
+        assertThat(nextRead).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("[성공] 하나의 EntityManager 에서 읽기 전용 트랜잭션 이후 실행한 쓰기 트랜잭션은 주 데이터베이스로 라우팅")
+    void routing_jpaSharedEntityManager() {
+        //Given
+        replicateHeartbeat(0);
+        lagMonitor.heartbeat();
+        EntityManagerFactory  entityManagerFactory = createEntityManagerFactory();
+        JpaTransactionManager transactionManager   = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate   jpaWrite             = new TransactionTemplate(transactionManager);
+        TransactionTemplate   jpaReadOnly          = new TransactionTemplate(transactionManager);
+        jpaReadOnly.setReadOnly(true);
+
+        //요청 전체에서 하나의 EntityManager 를 사용하는 경우(Open Session In View)와 같이 스레드에 바인딩
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            //When
+            String readTarget  = jpaReadOnly.execute(status -> currentTarget(entityManager));
+            String writeTarget = jpaWrite.execute(status -> currentTarget(entityManager));
+
+            //Then
+            assertThat(readTarget).isEqualTo(REPLICA);
+            assertThat(writeTarget).isEqualTo(ReplicationDataSources.PRIMARY);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+            entityManagerFactory.close();
+        }
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private HikariDataSource createPool(final String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE tbl_target (name VARCHAR(20))");
+        template.update("INSERT INTO tbl_target (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * 주 데이터베이스의 하트비트가 지정한 지연만큼 늦게 복제된 상태를 복제본에 직접 기록
+     */
+    private void replicateHeartbeat(final long lagMillis) {
+        JdbcTemplate replica = new JdbcTemplate(dataSources.getReplicas().get(REPLICA));
+        replica.execute("CREATE TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE
+                        + " (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        replica.update("INSERT INTO " + ReplicaLagMonitor.HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, ?)",
+                       System.currentTimeMillis() - lagMillis);
+    }
+
+    private String currentTarget() {
+        return jdbcTemplate.queryForObject("SELECT name FROM tbl_target", String.class);
+    }
+
+    private String currentTarget(final EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM tbl_target").getSingleResult();
+    }
+
+    /**
+     * 애플리케이션과 같은 커넥션 반환 설정(DataSourceConfig)으로 라우팅 DataSource 를 사용하는 EntityManagerFactory 생성
+     */
+    private EntityManagerFactory createEntityManagerFactory() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.DIALECT, H2Dialect.class.getName());
+        new DataSourceConfig().connectionReleaseCustomizer().customize(properties);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReplicationRoutingDataSourceTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+}
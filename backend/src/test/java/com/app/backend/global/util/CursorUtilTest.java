@@ -0,0 +1,42 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorUtilTest {
+
+    @Test
+    @DisplayName("[성공] 구분자, 제어 문자, 빈 문자열이 포함된 구성 요소도 그대로 복원")
+    void encodeAndDecode() {
+        //Given
+        String[] parts = {"제목.\u001F.제목", "", "ASC", "123"};
+
+        //When
+        String cursor = CursorUtil.encode(parts);
+
+        //Then
+        assertThat(cursor).matches("[A-Za-z0-9_\\-.]*");
+        assertThat(CursorUtil.decode(cursor, parts.length)).containsExactly(parts);
+    }
+
+    @Test
+    @DisplayName("[예외] 구성 요소 수가 다르거나 Base64 형식이 아닌 커서")
+    void decode_invalidCursor() {
+        //Given
+        String cursor = CursorUtil.encode("createdAt", "123");
+
+        //When & Then
+        assertThatThrownBy(() -> CursorUtil.decode(cursor, 3))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+        assertThatThrownBy(() -> CursorUtil.decode("@@.@@", 2))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
+}
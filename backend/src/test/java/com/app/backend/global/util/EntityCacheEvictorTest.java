@@ -0,0 +1,95 @@
+package com.app.backend.global.util;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.app.backend.domain.member.entity.Member;
+import com.app.backend.global.entity.CacheRegion;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class EntityCacheEvictorTest {
+
+    private Cache              cache;
+    private EntityCacheEvictor entityCacheEvictor;
+
+    @BeforeEach
+    void beforeEach() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory       sessionFactory       = mock(SessionFactory.class);
+        cache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        entityCacheEvictor = new EntityCacheEvictor(entityManagerFactory);
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 중 요청한 캐시 제거는 커밋 이후에 실행")
+    void evictEntity_afterCommit() {
+        //Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        entityCacheEvictor.evictEntity(Member.class, 1L);
+        entityCacheEvictor.evictQueryRegion(CacheRegion.MEMBER_QUERY);
+
+        //Then
+        verify(cache, never()).evictEntityData(Member.class, 1L);
+        verify(cache, never()).evictQueryRegion(CacheRegion.MEMBER_QUERY);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(cache).evictEntityData(Member.class, 1L);
+        verify(cache).evictQueryRegion(CacheRegion.MEMBER_QUERY);
+    }
+
+    @Test
+    @DisplayName("[성공] 롤백된 트랜잭션의 캐시 제거는 실행하지 않음")
+    void evictEntity_rollback() {
+        //Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        entityCacheEvictor.evictEntities(Member.class);
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(synchronization -> synchronization.afterCompletion(
+                                                 TransactionSynchronization.STATUS_ROLLED_BACK
+                                         ));
+
+        //Then
+        verify(cache, never()).evictEntityData(Member.class);
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션이 없는 경우 즉시 제거, 제거 실패는 예외를 전파하지 않음")
+    void evictEntity_withoutTransaction() {
+        //Given
+        doThrow(new IllegalStateException("캐시 제거 실패")).when(cache).evictQueryRegion(CacheRegion.MEMBER_QUERY);
+
+        //When
+        entityCacheEvictor.evictEntity(Member.class, 1L);
+        entityCacheEvictor.evictQueryRegion(CacheRegion.MEMBER_QUERY);
+
+        //Then
+        verify(cache).evictEntityData(Member.class, 1L);
+        verify(cache).evictQueryRegion(CacheRegion.MEMBER_QUERY);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.app.backend.global.util.LockManager.LockWrapper;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+
+class LockManagerTest {
+
+    private static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void beforeAll() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://localhost:6380");
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        redissonClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("[성공] 임대 시간 만료 후 같은 키의 락을 획득한 클라이언트는 더 큰 펜싱 토큰 발급")
+    void acquireLock_fencingTokenOrder() throws Exception {
+        //Given
+        LockManager lockManager = new LockManager(Optional.of(redissonClient));
+        String      lockKey     = "test:lock:" + UUID.randomUUID();
+
+        //When
+        LockWrapper first  = acquireLockInOtherThread(lockManager, lockKey, 300);
+        LockWrapper second = lockManager.acquireLock(lockKey, 2000, 300);
+
+        //Then
+        assertThat(first.isLocked()).isTrue();
+        assertThat(first.isUsingRedisLock()).isTrue();
+        assertThat(second.isLocked()).isTrue();
+        assertThat(first.getFencingToken()).isNotNull().isPositive();
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("[성공] 서로 다른 키의 락도 하나의 카운터에서 획득한 순서대로 펜싱 토큰 발급")
+    void acquireLock_fencingTokenOrderAcrossKeys() {
+        //Given
+        LockManager lockManager = new LockManager(Optional.of(redissonClient));
+
+        //When
+        LockWrapper first  = lockManager.acquireLock("test:lock:" + UUID.randomUUID(), 1000, 1000);
+        LockWrapper second = lockManager.acquireLock("test:lock:" + UUID.randomUUID(), 1000, 1000);
+
+        //Then
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("[성공] 락 해제 후 같은 키의 락을 임대 시간 만료 전에 다시 획득")
+    void releaseLock() throws Exception {
+        //Given
+        LockManager lockManager = new LockManager(Optional.of(redissonClient));
+        String      lockKey     = "test:lock:" + UUID.randomUUID();
+        LockWrapper first       = lockManager.acquireLock(lockKey, 1000, 10_000);
+
+        //When
+        lockManager.releaseLock(first);
+        LockWrapper second = lockManager.acquireLock(lockKey, 1000, 10_000);
+
+        //Then
+        assertThat(second.isLocked()).isTrue();
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+    }
+
+    @Test
+    @DisplayName("[실패] 최대 대기 시간 내에 락을 획득하지 못한 경우 펜싱 토큰 미발급")
+    void acquireLock_timeout() throws Exception {
+        //Given
+        LockManager lockManager = new LockManager(Optional.of(redissonClient));
+        String      lockKey     = "test:lock:" + UUID.randomUUID();
+        acquireLockInOtherThread(lockManager, lockKey, 5000);
+
+        //When
+        LockWrapper lockWrapper = lockManager.acquireLock(lockKey, 300, 5000);
+
+        //Then
+        assertThat(lockWrapper.isLocked()).isFalse();
+        assertThat(lockWrapper.getFencingToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] Redis 를 사용할 수 없는 경우 로컬 락을 사용하고 펜싱 토큰 미발급")
+    void acquireLock_redisUnavailable() {
+        //Given
+        LockManager lockManager = new LockManager(Optional.empty());
+        String      lockKey     = "test:lock:" + UUID.randomUUID();
+
+        //When
+        LockWrapper lockWrapper = lockManager.acquireLock(lockKey, 1000, 1000);
+
+        //Then
+        assertThat(lockWrapper.isLocked()).isTrue();
+        assertThat(lockWrapper.isUsingRedisLock()).isFalse();
+        assertThat(lockWrapper.getLocalLock()).isNotNull();
+        assertThat(lockWrapper.getFencingToken()).isNull();
+    }
+
+    /**
+     * 다른 스레드에서 락 획득, 같은 스레드에서 같은 키로 다시 획득하는 경우 재진입으로 처리되므로 다른 요청을 흉내냄
+     */
+    private LockWrapper acquireLockInOtherThread(final LockManager lockManager,
+                                                 final String lockKey,
+                                                 final long leaseTime) throws Exception {
+        return CompletableFuture.supplyAsync(() -> lockManager.acquireLock(lockKey, 1000, leaseTime)).get();
+    }
+
+}
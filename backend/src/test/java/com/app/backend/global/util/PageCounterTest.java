@@ -0,0 +1,251 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.app.backend.global.annotation.CustomPageJsonSerializer;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PageCounterTest {
+
+    private static final String    QUERY_NAME = "post:search";
+    private static final Predicate PREDICATE  = Expressions.stringPath("title").eq("test");
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private PageCounter   pageCounter;
+    private AtomicInteger countQueryCount;
+
+    @BeforeEach
+    void beforeEach() {
+        pageCounter = new PageCounter(redisTemplate);
+        countQueryCount = new AtomicInteger();
+    }
+
+    @AfterEach
+    void afterEach() {
+        PageCounter.clearContext();
+    }
+
+    @Test
+    @DisplayName("[성공] EXACT 모드에서 가득 찬 페이지는 count 쿼리로 전체 개수 계산")
+    void getPage_exact() {
+        //Given
+        Pageable pageable = PageRequest.of(0, 10);
+
+        //When
+        long limit = pageCounter.getLimit(pageable);
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(10), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(limit).isEqualTo(10);
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(countQueryCount).hasValue(1);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[성공] EXACT 모드에서 마지막 페이지가 덜 찬 경우 count 쿼리 없이 전체 개수 계산")
+    void getPage_exact_lastPage() {
+        //Given
+        Pageable pageable = PageRequest.of(2, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(5), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(countQueryCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("[성공] CACHED 모드에서 캐시가 없으면 count 쿼리 결과를 TTL 과 함께 저장")
+    void getPage_cached_miss() {
+        //Given
+        PageCounter.setContext(annotation("cached"));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willReturn(null);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(10), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(countQueryCount).hasValue(1);
+        verify(valueOperations).set(startsWith("page-count:post:search:"), eq(25L), eq(30L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("[성공] CACHED 모드에서 조건이 같아도 쿼리 이름이 다르면 다른 캐시 키 사용")
+    void getPage_cached_queryName() {
+        //Given
+        PageCounter.setContext(annotation("cached"));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willReturn(null);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        //When
+        pageCounter.getPage("post:search", content(10), pageable, PREDICATE, countQuery(25L));
+        pageCounter.getPage("comment:post", content(10), pageable, PREDICATE, countQuery(7L));
+
+        //Then
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).set(keyCaptor.capture(), any(), eq(30L), eq(TimeUnit.SECONDS));
+        assertThat(keyCaptor.getAllValues().get(0)).startsWith("page-count:post:search:");
+        assertThat(keyCaptor.getAllValues().get(1)).startsWith("page-count:comment:post:");
+        assertThat(countQueryCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("[성공] CACHED 모드에서 캐시가 있으면 count 쿼리 없이 캐시된 전체 개수 사용")
+    void getPage_cached_hit() {
+        //Given
+        PageCounter.setContext(annotation("cached"));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willReturn(40);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(10), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(40);
+        assertThat(countQueryCount).hasValue(0);
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("[성공] CACHED 모드에서 마지막 페이지가 덜 찬 경우 캐시와 count 쿼리 모두 사용하지 않음")
+    void getPage_cached_lastPage() {
+        //Given
+        PageCounter.setContext(annotation("cached"));
+        Pageable pageable = PageRequest.of(2, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(3), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(23);
+        assertThat(countQueryCount).hasValue(0);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[성공] CACHED 모드에서 캐시 조회에 실패하면 count 쿼리로 전체 개수 계산")
+    void getPage_cached_redisFailure() {
+        //Given
+        PageCounter.setContext(annotation("cached"));
+        given(redisTemplate.opsForValue()).willThrow(new IllegalStateException("redis down"));
+        Pageable pageable = PageRequest.of(0, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(10), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(countQueryCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[성공] SKIP 모드에서 size + 1 조회 결과로 다음 페이지 존재 여부만 계산")
+    void getPage_skip() {
+        //Given
+        PageCounter.setContext(annotation("skip"));
+        Pageable pageable = PageRequest.of(1, 10);
+
+        //When
+        long limit = pageCounter.getLimit(pageable);
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(11), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(limit).isEqualTo(11);
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getTotalElements()).isEqualTo(21);
+        assertThat(countQueryCount).hasValue(0);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[성공] SKIP 모드에서 마지막 페이지가 덜 찬 경우 다음 페이지 없음")
+    void getPage_skip_lastPage() {
+        //Given
+        PageCounter.setContext(annotation("skip"));
+        Pageable pageable = PageRequest.of(2, 10);
+
+        //When
+        Page<Long> page = pageCounter.getPage(QUERY_NAME, content(5), pageable, PREDICATE, countQuery(25L));
+
+        //Then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getTotalElements()).isEqualTo(25);
+        assertThat(countQueryCount).hasValue(0);
+    }
+
+    //============================== 내부 메서드 ==============================//
+
+    private List<Long> content(final int size) {
+        return LongStream.rangeClosed(1, size).boxed().toList();
+    }
+
+    private Supplier<Long> countQuery(final long total) {
+        return () -> {
+            countQueryCount.incrementAndGet();
+            return total;
+        };
+    }
+
+    private CustomPageJsonSerializer annotation(final String methodName) {
+        try {
+            return PageCounterTest.class.getDeclaredMethod(methodName).getAnnotation(CustomPageJsonSerializer.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @CustomPageJsonSerializer(countMode = PageCountMode.CACHED, countTtl = 30L)
+    private void cached() {
+    }
+
+    @CustomPageJsonSerializer(countMode = PageCountMode.SKIP)
+    private void skip() {
+    }
+
+}
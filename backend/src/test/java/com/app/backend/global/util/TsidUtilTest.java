@@ -0,0 +1,80 @@
+package com.app.backend.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TsidUtilTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;    //자바스크립트 Number.MAX_SAFE_INTEGER
+
+    @AfterEach
+    void afterEach() {
+        TsidUtil.configure(0);
+    }
+
+    @Test
+    @DisplayName("[성공] 생성 순서대로 증가하는 ID 생성")
+    void next() {
+        //Given
+        TsidUtil.configure(7);
+        long before = System.currentTimeMillis();
+
+        //When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++)
+            ids.add(TsidUtil.next());
+
+        //Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(id).isPositive().isLessThanOrEqualTo(MAX_SAFE_INTEGER);
+            assertThat(TsidUtil.extractNodeId(id)).isEqualTo(7);
+        });
+        assertThat(TsidUtil.extractTimestamp(ids.get(0))).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("[성공] 동시에 생성해도 중복되지 않는 ID 생성")
+    void next_concurrency() throws Exception {
+        //Given
+        int threadCount = 8;
+        int countPerThread = 5_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        //When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++)
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < countPerThread; j++)
+                    ids.add(TsidUtil.next());
+            }));
+        for (Future<?> future : futures)
+            future.get();
+        executorService.shutdown();
+
+        //Then
+        assertThat(ids).hasSize(threadCount * countPerThread);
+    }
+
+    @Test
+    @DisplayName("[예외] 범위를 벗어난 노드 ID")
+    void configure_invalidNodeId() {
+        assertThatThrownBy(() -> TsidUtil.configure(TsidUtil.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TsidUtil.configure(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}